@@ -0,0 +1,424 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.nebulaframework.grid.cluster.manager.services.jobs.GridJobProfile;
+import org.nebulaframework.grid.cluster.manager.services.jobs.scheduler.FifoJobScheduler;
+import org.nebulaframework.grid.cluster.manager.services.jobs.scheduler.JobScheduler;
+import org.nebulaframework.grid.cluster.manager.services.jobs.scheduler.WeightedFairShareJobScheduler;
+import org.nebulaframework.grid.cluster.node.GridNodeProfile;
+import org.nebulaframework.grid.service.event.ServiceEventsSupport;
+
+/**
+ * Simulates the allocation of execution slots of a Grid to {@code GridJob}s
+ * of several owners, under a mixed workload, to compare {@link JobScheduler}
+ * implementations in terms of fairness and throughput.
+ * <p>
+ * The Grid is modelled in discrete ticks. Each execution slot of a 
+ * {@code GridNode} remains with a {@code GridJob} until the {@code GridJob}
+ * ends, and completes one unit of work of the {@code GridJob} per tick. 
+ * As in the {@code ClusterManager}, a free slot requests the started 
+ * {@code GridJob} when a {@code GridJob} starts, and requests any 
+ * {@code GridJob} when a {@code GridJob} ends.
+ * <p>
+ * The workload consists of,
+ * <ul>
+ * 	<li> <b>batch</b> : a few large {@code GridJob}s, submitted at start </li>
+ * 	<li> <b>interactive</b> : many small {@code GridJob}s, submitted over time </li>
+ * 	<li> <b>research</b> : medium {@code GridJob}s of an owner with weight 2 </li>
+ * </ul>
+ * <p>
+ * Fairness is reported as the mean Jain index of the weighted slot 
+ * allocation among owners with active {@code GridJob}s, over all
+ * ticks with more than one such owner (1.0 is perfectly fair).
+ * <p>
+ * Note that this is a stand-alone console application, which does not
+ * require a Grid.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ */
+public class JobSchedulerSimulation {
+
+	private static final String[] OWNERS = {"batch", "interactive", "research"};
+	private static final int[] WEIGHTS = {1, 1, 2};
+	
+	private final int nodeCount;
+	private final int slots;
+	private final JobScheduler scheduler;
+	
+	private final List<SimNode> nodes = new ArrayList<SimNode>();
+	private final Map<String, GridJobProfile> active = new LinkedHashMap<String, GridJobProfile>();
+	private final Map<GridJobProfile, SimJob> simJobs = new HashMap<GridJobProfile, SimJob>();
+	private final Map<UUID, Integer> weights = new HashMap<UUID, Integer>();
+	
+	/**
+	 * Command-Line Application Execution Point.
+	 * 
+	 * @param args [nodes] [slots per node]
+	 */
+	public static void main(String[] args) throws Exception {
+		
+		int nodes = (args.length > 0) ? Integer.parseInt(args[0]) : 16;
+		int slots = (args.length > 1) ? Integer.parseInt(args[1]) : 2;
+		
+		// Required by GridJobProfile
+		ServiceEventsSupport.initialize();
+		
+		System.err.println("Simulating " + nodes + " nodes x " + slots + " slots");
+		
+		WeightedFairShareJobScheduler fairShare = new WeightedFairShareJobScheduler();
+		Map<String, Integer> ownerWeights = new HashMap<String, Integer>();
+		for (int i = 0; i < OWNERS.length; i++) {
+			ownerWeights.put(ownerId(i).toString(), WEIGHTS[i]);
+		}
+		fairShare.setOwnerWeights(ownerWeights);
+		
+		new JobSchedulerSimulation(nodes, slots, new FifoJobScheduler()).run("FIFO");
+		new JobSchedulerSimulation(nodes, slots, fairShare).run("Weighted Fair-Share");
+	}
+	
+	/**
+	 * Constructs a simulation for the given Grid and {@code JobScheduler}.
+	 * 
+	 * @param nodeCount number of nodes
+	 * @param slots execution slots per node
+	 * @param scheduler {@code JobScheduler} to simulate
+	 */
+	public JobSchedulerSimulation(int nodeCount, int slots, JobScheduler scheduler) {
+		this.nodeCount = nodeCount;
+		this.slots = slots;
+		this.scheduler = scheduler;
+		
+		for (int i = 0; i < nodeCount; i++) {
+			nodes.add(new SimNode(new UUID(1, i), slots));
+		}
+		for (int i = 0; i < OWNERS.length; i++) {
+			weights.put(ownerId(i), WEIGHTS[i]);
+		}
+	}
+	
+	/**
+	 * Runs the simulation, and prints the report.
+	 * 
+	 * @param name name of {@code JobScheduler}
+	 */
+	public void run(String name) {
+		
+		List<SimJob> workload = createWorkload();
+		List<SimJob> pending = new ArrayList<SimJob>(workload);
+		
+		long busySlotTicks = 0;
+		long totalWork = 0;
+		double fairnessSum = 0;
+		int contendedTicks = 0;
+		int tick = 0;
+		
+		for (SimJob job : workload) {
+			totalWork += job.work;
+		}
+		
+		while (!pending.isEmpty() || !active.isEmpty()) {
+			
+			// Submissions : Free slots request the started job
+			while (!pending.isEmpty() && pending.get(0).submitted <= tick) {
+				SimJob job = pending.remove(0);
+				active.put(job.profile.getJobId(), job.profile);
+				simJobs.put(job.profile, job);
+				requestSlots(job.profile);
+			}
+			
+			// Execution
+			Map<UUID, Double> ownerSlots = new HashMap<UUID, Double>();
+			
+			for (GridJobProfile profile : active.values()) {
+				int workers = profile.getWorkerCount();
+				simJobs.get(profile).remaining -= workers;
+				busySlotTicks += workers;
+				
+				Double current = ownerSlots.get(profile.getOwner());
+				ownerSlots.put(profile.getOwner(), (current == null ? 0 : current) + workers);
+			}
+			
+			if (ownerSlots.size() > 1) {
+				fairnessSum += jainIndex(ownerSlots);
+				contendedTicks++;
+			}
+			
+			tick++;
+			
+			// Completions : Released slots request any job
+			List<GridJobProfile> finished = new ArrayList<GridJobProfile>();
+			for (GridJobProfile profile : active.values()) {
+				if (simJobs.get(profile).remaining <= 0) {
+					finished.add(profile);
+				}
+			}
+			
+			for (GridJobProfile profile : finished) {
+				active.remove(profile.getJobId());
+				simJobs.get(profile).completed = tick;
+				for (SimNode node : nodes) {
+					if (profile.isWorker(node.getId())) {
+						node.busy--;
+					}
+				}
+			}
+			
+			if (!finished.isEmpty()) {
+				requestSlots(null);
+			}
+		}
+		
+		report(name, workload, tick, busySlotTicks, totalWork, 
+		       contendedTicks > 0 ? fairnessSum / contendedTicks : 1.0);
+	}
+
+	/**
+	 * Lets each free slot request a {@code GridJob}, one slot of 
+	 * each node at a time, until no more slots are granted.
+	 * 
+	 * @param requested requested {@code GridJob}, or {@code null} for any
+	 */
+	private void requestSlots(GridJobProfile requested) {
+		
+		boolean granted = true;
+		
+		while (granted) {
+			granted = false;
+			for (SimNode node : nodes) {
+				if (node.busy < slots && schedule(node, requested) != null) {
+					node.busy++;
+					granted = true;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Selects and joins a {@code GridJob} for the given node, in the
+	 * same manner as {@code ClusterJobServiceImpl}.
+	 * 
+	 * @param node requesting node
+	 * @param requested requested {@code GridJob}, or {@code null} for any
+	 * @return joined {@code GridJobProfile}, or {@code null}
+	 */
+	private GridJobProfile schedule(SimNode node, GridJobProfile requested) {
+		
+		List<GridJobProfile> candidates = new ArrayList<GridJobProfile>();
+		
+		for (GridJobProfile p : active.values()) {
+			if (p.isWorker(node.getId()) || p.isBanned(node.getId())) {
+				continue;
+			}
+			candidates.add(p);
+		}
+		
+		GridJobProfile profile = scheduler.selectJob(node, requested, candidates, active.values());
+		
+		if (profile != null && profile.processRequest(node)) {
+			return profile;
+		}
+		return null;
+	}
+	
+	/**
+	 * Returns the Jain fairness index of the weighted allocation.
+	 * 
+	 * @param ownerSlots running slots against owner
+	 * @return fairness index, between 1/n and 1.0
+	 */
+	private double jainIndex(Map<UUID, Double> ownerSlots) {
+		
+		double sum = 0;
+		double sumOfSquares = 0;
+		
+		for (Map.Entry<UUID, Double> entry : ownerSlots.entrySet()) {
+			double x = entry.getValue() / weights.get(entry.getKey());
+			sum += x;
+			sumOfSquares += x * x;
+		}
+		
+		return (sumOfSquares == 0) ? 1.0 : (sum * sum) / (ownerSlots.size() * sumOfSquares);
+	}
+	
+	/**
+	 * Prints the results of the simulation.
+	 */
+	private void report(String name, List<SimJob> workload, int makespan, 
+			long busySlotTicks, long totalWork, double fairness) {
+		
+		System.err.println();
+		System.err.println("== " + name + " ==");
+		
+		for (int i = 0; i < OWNERS.length; i++) {
+			
+			int count = 0;
+			long total = 0;
+			int max = 0;
+			
+			for (SimJob job : workload) {
+				if (job.owner == i) {
+					int turnaround = job.completed - job.submitted;
+					count++;
+					total += turnaround;
+					max = Math.max(max, turnaround);
+				}
+			}
+			
+			System.err.println(String.format(
+					"  %-12s (weight %d) : %3d jobs, mean turnaround %7.1f, max %5d ticks", 
+					OWNERS[i], WEIGHTS[i], count, (double) total / count, max));
+		}
+		
+		System.err.println(String.format("  Fairness (Jain)   : %.3f", fairness));
+		System.err.println(String.format("  Makespan          : %d ticks", makespan));
+		System.err.println(String.format("  Throughput        : %.2f units / tick", 
+		                                 (double) totalWork / makespan));
+		System.err.println(String.format("  Utilization       : %.1f %%", 
+		                                 100.0 * busySlotTicks / ((long) makespan * nodeCount * slots)));
+	}
+	
+	/**
+	 * Creates the mixed workload, in the order of submission.
+	 * 
+	 * @return {@code SimJob}s
+	 */
+	private List<SimJob> createWorkload() {
+		
+		List<SimJob> workload = new ArrayList<SimJob>();
+		
+		// Batch : 4 large jobs at start
+		for (int i = 0; i < 4; i++) {
+			workload.add(new SimJob(workload.size(), 0, 0, 4000));
+		}
+		
+		// Research : 3 medium jobs, shortly after
+		for (int i = 0; i < 3; i++) {
+			workload.add(new SimJob(workload.size(), 2, 50, 1500));
+		}
+		
+		// Interactive : 20 small jobs over time
+		for (int i = 0; i < 20; i++) {
+			workload.add(new SimJob(workload.size(), 1, 60 + i * 25, 60));
+		}
+		
+		return workload;
+	}
+	
+	/**
+	 * Returns the NodeId of the given owner.
+	 */
+	private static UUID ownerId(int owner) {
+		return new UUID(0, owner);
+	}
+	
+	/**
+	 * A simulated {@code GridJob}.
+	 */
+	private static class SimJob {
+		
+		private final int owner;
+		private final int submitted;
+		private final long work;
+		private final GridJobProfile profile = new GridJobProfile();
+		
+		private long remaining;
+		private int completed;
+		
+		public SimJob(int id, int owner, int submitted, long work) {
+			this.owner = owner;
+			this.submitted = submitted;
+			this.work = work;
+			this.remaining = work;
+			this.profile.setJobId(new UUID(0, 0) + ".sim." + id);
+			this.profile.setOwner(ownerId(owner));
+		}
+	}
+	
+	/**
+	 * A simulated {@code GridNode}.
+	 */
+	private static class SimNode implements GridNodeProfile {
+		
+		private final UUID id;
+		private final int slots;
+		private int busy;
+		
+		public SimNode(UUID id, int slots) {
+			this.id = id;
+			this.slots = slots;
+		}
+
+		public UUID getId() {
+			return id;
+		}
+
+		public UUID getClusterId() {
+			return null;
+		}
+
+		public String getName() {
+			return "SimNode-" + id.getLeastSignificantBits();
+		}
+
+		public String getArhitecture() {
+			return System.getProperty("os.arch");
+		}
+
+		public String getOSName() {
+			return System.getProperty("os.name");
+		}
+
+		public String getIpAddress() {
+			return "127.0.0.1";
+		}
+
+		public String getJavaVersion() {
+			return System.getProperty("java.version");
+		}
+
+		public String getJavaVendor() {
+			return System.getProperty("java.vendor");
+		}
+
+		public int getJobSlots() {
+			return slots;
+		}
+		
+		public int getTaskCapacity() {
+			return slots;
+		}
+
+		public int getProcessors() {
+			return slots;
+		}
+
+		public long getMaxMemory() {
+			return Runtime.getRuntime().maxMemory();
+		}
+
+		public double getMflops() {
+			return 0;
+		}
+	}
+}
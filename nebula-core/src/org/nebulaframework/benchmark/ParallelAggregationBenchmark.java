@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.nebulaframework.core.job.splitaggregate.AssociativeAggregate;
+import org.nebulaframework.grid.cluster.manager.services.jobs.splitaggregate.ParallelReducer;
+
+/**
+ * Benchmarks the parallel aggregation of {@link AssociativeAggregate} 
+ * {@code GridJob}s by the {@link ParallelReducer} of the {@code ClusterManager}, 
+ * against the sequential aggregation of {@code SplitAggregateGridJob#aggregate(List)}.
+ * <p>
+ * The workload is a numeric merge similar to a Buddhabrot histogram
+ * accumulation, where each result is a {@code long[][]} histogram and 
+ * the aggregate is the element-wise sum of all results.
+ * <p>
+ * Note that this is a stand-alone console application, which does not
+ * require a Grid.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ */
+public class ParallelAggregationBenchmark {
+
+	/**
+	 * Command-Line Application Execution Point.
+	 * 
+	 * @param args [number of results] [histogram size] [threads]
+	 */
+	public static void main(String[] args) throws Exception {
+		
+		int count = (args.length > 0) ? Integer.parseInt(args[0]) : 2000;
+		int size = (args.length > 1) ? Integer.parseInt(args[1]) : 200;
+		int threads = (args.length > 2) ? Integer.parseInt(args[2]) 
+		                                : Runtime.getRuntime().availableProcessors();
+		
+		System.err.println("Generating " + count + " results of " + size + "x" + size);
+		
+		List<long[][]> results = new ArrayList<long[][]>(count);
+		Random random = new Random(42);
+		
+		for (int i = 0; i < count; i++) {
+			long[][] histogram = new long[size][size];
+			for (int y = 0; y < size; y++) {
+				for (int x = 0; x < size; x++) {
+					histogram[y][x] = random.nextInt(16);
+				}
+			}
+			results.add(histogram);
+		}
+		
+		HistogramSum aggregate = new HistogramSum(size);
+		ParallelReducer reducer = new ParallelReducer(threads);
+		
+		try {
+			// Warm Up
+			sequential(results, aggregate);
+			reducer.reduce(results, aggregate);
+			
+			long start = System.currentTimeMillis();
+			long[][] seq = sequential(results, aggregate);
+			long seqTime = System.currentTimeMillis() - start;
+			
+			start = System.currentTimeMillis();
+			long[][] par = reducer.reduce(results, aggregate);
+			long parTime = System.currentTimeMillis() - start;
+			
+			System.err.println("*********************************************");
+			System.err.println("Sequential Aggregation : " + seqTime + " ms");
+			System.err.println("Parallel Aggregation   : " + parTime + " ms (" + threads + " threads)");
+			System.err.println("Speed Up               : " 
+			                   + ((double) seqTime / Math.max(1, parTime)));
+			System.err.println("Results Match          : " 
+			                   + (aggregate.finish(seq).equals(aggregate.finish(par))));
+			System.err.println("*********************************************");
+			
+		} finally {
+			reducer.shutdown();
+		}
+	}
+
+	/**
+	 * Aggregates the given results sequentially, on the calling thread,
+	 * as an {@code aggregate(List)} implementation would.
+	 * 
+	 * @param results results
+	 * @param aggregate aggregate operation
+	 * @return aggregated value
+	 */
+	private static long[][] sequential(List<long[][]> results, HistogramSum aggregate) {
+		long[][] sum = aggregate.identity();
+		for (long[][] result : results) {
+			sum = aggregate.combine(sum, result);
+		}
+		return sum;
+	}
+	
+	/**
+	 * Element-wise sum of {@code long[][]} histograms. The final
+	 * result is the total of all elements.
+	 */
+	private static class HistogramSum implements AssociativeAggregate<long[][], Long> {
+
+		private int size;
+		
+		public HistogramSum(int size) {
+			super();
+			this.size = size;
+		}
+
+		public long[][] identity() {
+			return new long[size][size];
+		}
+		
+		public long[][] combine(long[][] left, long[][] right) {
+			for (int y = 0; y < size; y++) {
+				long[] l = left[y];
+				long[] r = right[y];
+				for (int x = 0; x < size; x++) {
+					l[x] += r[x];
+				}
+			}
+			return left;
+		}
+
+		public Long finish(long[][] combined) {
+			long total = 0;
+			for (long[] row : combined) {
+				for (long value : row) {
+					total += value;
+				}
+			}
+			return total;
+		}
+	}
+}
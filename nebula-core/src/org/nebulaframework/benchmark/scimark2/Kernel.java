@@ -69,8 +69,6 @@ public class Kernel {
 			cycles *= 2;
 		}
 		// approx Mflops
-		System.err.println("MC : Cycles " + cycles );
-		System.err.println("MC : Time " + Q.read() );
 		return MonteCarlo.num_flops(cycles) / Q.read() * 1.0e-6;
 	}
 
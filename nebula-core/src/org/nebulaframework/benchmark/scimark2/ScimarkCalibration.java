@@ -0,0 +1,278 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.benchmark.scimark2;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Properties;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Calibrates the compute capacity of the local host, using the SciMark2 
+ * kernels ({@link Kernel}). The SciMark2 composite score (the mean of 
+ * FFT, SOR, Monte Carlo, Sparse MatMult and LU, in MFLOPS) is measured 
+ * concurrently on each processor, within a bounded duration, and the 
+ * scores of the processors are summed.
+ * <p>
+ * As calibration delays the start-up of a {@code GridNode}, the score is
+ * cached on disk (in {@code ~/.nebula/calibration.properties}), against a
+ * fingerprint of the host (architecture, processors and JVM), so that 
+ * restarts of the {@code GridNode} skip the calibration. Calibrations
+ * which fail, or are interrupted, are not cached.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ */
+public class ScimarkCalibration {
+
+	private static Log log = LogFactory.getLog(ScimarkCalibration.class);
+	
+	/**
+	 * Default duration of calibration, per processor, in seconds (2 seconds).
+	 */
+	public static final double DEFAULT_DURATION = 2.0;
+	
+	// Number of SciMark2 kernels in composite
+	private static final int KERNELS = 5;
+	
+	// Kernels double their cycles until the minimum time is reached, 
+	// taking about three times the minimum time in total
+	private static final int MEASUREMENT_FACTOR = 3;
+	
+	/**
+	 * Returns the calibrated score of the local host, in MFLOPS, from
+	 * the cache if available, or by calibrating for the default duration.
+	 * 
+	 * @return score in MFLOPS
+	 */
+	public static double getScore() {
+		return getScore(DEFAULT_DURATION);
+	}
+	
+	/**
+	 * Returns the calibrated score of the local host, in MFLOPS, from
+	 * the cache if available, or by calibrating for the given duration.
+	 * 
+	 * @param duration duration of calibration per processor, in seconds
+	 * @return score in MFLOPS, or {@code 0} if calibration failed
+	 */
+	public static synchronized double getScore(double duration) {
+		
+		File file = getCacheFile();
+		String key = getFingerprint();
+		Properties cache = loadCache(file);
+		
+		String cached = cache.getProperty(key);
+		if (cached != null) {
+			try {
+				log.debug("[Calibration] Using cached score " + cached + " MFLOPS");
+				return Double.parseDouble(cached);
+			} catch (NumberFormatException e) {
+				log.warn("[Calibration] Ignored invalid cached score " + cached);
+			}
+		}
+		
+		double score = calibrate(duration);
+		
+		// Cache only successful calibrations
+		if (score > 0) {
+			cache.setProperty(key, String.valueOf(score));
+			storeCache(file, cache);
+		}
+		
+		return score;
+	}
+	
+	/**
+	 * Calibrates the local host for the given duration per processor,
+	 * and returns the score, in MFLOPS. The processors are calibrated
+	 * concurrently.
+	 * <p>
+	 * If the calling thread is interrupted, the calibration threads are
+	 * stopped (after their current kernel), the interrupted status is 
+	 * restored, and the score is {@code 0}. The score is also {@code 0} 
+	 * if calibration fails on any processor.
+	 * 
+	 * @param duration duration of calibration per processor, in seconds
+	 * @return score in MFLOPS, or {@code 0} if calibration failed
+	 */
+	public static double calibrate(double duration) {
+		
+		int processors = Runtime.getRuntime().availableProcessors();
+		final double minTime = duration / (KERNELS * MEASUREMENT_FACTOR);
+		final double[] scores = new double[processors];
+		
+		log.info("[Calibration] Calibrating " + processors + " processors");
+		
+		Thread[] threads = new Thread[processors];
+		for (int i = 0; i < processors; i++) {
+			
+			final int index = i;
+			threads[i] = new Thread(new Runnable() {
+				public void run() {
+					try {
+						scores[index] = measureComposite(minTime, 
+						                                 new Random(Constants.RANDOM_SEED + index));
+					} catch (RuntimeException e) {
+						log.warn("[Calibration] Calibration failed", e);
+					}
+				}
+			}, "ScimarkCalibration-" + i);
+			threads[i].setDaemon(true);
+			threads[i].start();
+		}
+		
+		double score = 0;
+		for (int i = 0; i < processors; i++) {
+			try {
+				threads[i].join();
+			} catch (InterruptedException e) {
+				log.warn("[Calibration] Interrupted, stopping calibration");
+				
+				// Stop remaining calibration threads
+				for (Thread t : threads) {
+					t.interrupt();
+				}
+				
+				Thread.currentThread().interrupt();
+				return 0;
+			}
+			
+			// Failed on processor
+			if (scores[i] <= 0) {
+				log.warn("[Calibration] No score for processor " + i);
+				return 0;
+			}
+			
+			score += scores[i];
+		}
+		
+		log.info("[Calibration] Score " + Math.round(score) + " MFLOPS");
+		return score;
+	}
+	
+	/**
+	 * Measures the SciMark2 composite score, running each kernel 
+	 * for at least the given time. Stops between kernels if the
+	 * thread is interrupted.
+	 * 
+	 * @param minTime minimum time per kernel, in seconds
+	 * @param r random number generator
+	 * @return composite score in MFLOPS, or {@code 0} if interrupted
+	 */
+	private static double measureComposite(double minTime, Random r) {
+		
+		double fft = Kernel.measureFFT(Constants.FFT_SIZE, minTime, r);
+		if (Thread.currentThread().isInterrupted()) return 0;
+		
+		double sor = Kernel.measureSOR(Constants.SOR_SIZE, minTime, r);
+		if (Thread.currentThread().isInterrupted()) return 0;
+		
+		double mc = Kernel.measureMonteCarlo(minTime, r);
+		if (Thread.currentThread().isInterrupted()) return 0;
+		
+		double sparse = Kernel.measureSparseMatmult(Constants.SPARSE_SIZE_M, 
+		                                            Constants.SPARSE_SIZE_nz, minTime, r);
+		if (Thread.currentThread().isInterrupted()) return 0;
+		
+		double lu = Kernel.measureLU(Constants.LU_SIZE, minTime, r);
+		
+		return (fft + sor + mc + sparse + lu) / KERNELS;
+	}
+	
+	/**
+	 * Returns the fingerprint of the local host, against which the
+	 * score is cached. 
+	 * 
+	 * @return fingerprint
+	 */
+	private static String getFingerprint() {
+		return System.getProperty("os.arch") + "."
+				+ Runtime.getRuntime().availableProcessors() + "."
+				+ System.getProperty("java.vm.name") + "."
+				+ System.getProperty("java.version");
+	}
+	
+	/**
+	 * Returns the calibration cache file.
+	 * 
+	 * @return cache file
+	 */
+	private static File getCacheFile() {
+		return new File(System.getProperty("user.home"), 
+		                ".nebula" + File.separator + "calibration.properties");
+	}
+	
+	/**
+	 * Loads the calibration cache, if exists.
+	 * 
+	 * @param file cache file
+	 * @return cached scores
+	 */
+	private static Properties loadCache(File file) {
+		
+		Properties cache = new Properties();
+		if (!file.exists()) return cache;
+		
+		InputStream in = null;
+		try {
+			in = new FileInputStream(file);
+			cache.load(in);
+		} catch (IOException e) {
+			log.warn("[Calibration] Unable to read cache " + file, e);
+		} finally {
+			if (in != null) {
+				try {
+					in.close();
+				} catch (IOException e) {
+					// Ignore
+				}
+			}
+		}
+		return cache;
+	}
+	
+	/**
+	 * Stores the calibration cache.
+	 * 
+	 * @param file cache file
+	 * @param cache cached scores
+	 */
+	private static void storeCache(File file, Properties cache) {
+		
+		OutputStream out = null;
+		try {
+			file.getParentFile().mkdirs();
+			out = new FileOutputStream(file);
+			cache.store(out, "Nebula Node Calibration (SciMark2 MFLOPS)");
+		} catch (IOException e) {
+			log.warn("[Calibration] Unable to write cache " + file, e);
+		} finally {
+			if (out != null) {
+				try {
+					out.close();
+				} catch (IOException e) {
+					// Ignore
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.nebulaframework.core.job.annotations.CallbackBatching;
+
+/**
+ * A {@link ResultCallback} which receives intermediate results in batches.
+ * <p>
+ * The {@code ClusterManager} delivers intermediate results to the 
+ * submitter in batches, without waiting for the callback to complete 
+ * (see {@link CallbackBatching}). If the {@code ResultCallback} given
+ * at submission implements this interface, each batch is passed to 
+ * {@link #onResults(List)}. Otherwise, {@link #onResult(Serializable)}
+ * is invoked for each result of the batch.
+ * <p>
+ * Note that this interface is only used for <b>Intermediate Result 
+ * Callbacks</b>. Final Result Callbacks are invoked through 
+ * {@link #onResult(Serializable)}.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see ResultCallback
+ */
+public interface BatchResultCallback extends ResultCallback {
+
+	/**
+	 * Invoked when a batch of intermediate results is available.
+	 * Results are in the order in which they were collected.
+	 * 
+	 * @param results results
+	 */
+	void onResults(List<Serializable> results);
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job;
+
+import org.nebulaframework.core.job.annotations.CallbackBatching;
+
+/**
+ * This interface defines the contract which allows {@code GridJob}s to specify
+ * how intermediate results are batched and buffered for delivery to the 
+ * {@link ResultCallback}.
+ * <p>
+ * Alternatively, consider using the {@link CallbackBatching} annotation for 
+ * the same purpose without implementing each and every method of this interface.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see CallbackBatching
+ */
+public interface CallbackBatchingAware {
+
+	/**
+	 * Maximum number of results delivered in a batch.
+	 * 
+	 * @return maximum number of results in a batch
+	 */
+	int maxCallbackResults();
+	
+	/**
+	 * Maximum time a result may wait before the batch 
+	 * is delivered (in milliseconds).
+	 * 
+	 * @return maximum linger time in milliseconds
+	 */
+	long maxCallbackLinger();
+	
+	/**
+	 * Maximum number of results buffered for delivery.
+	 * 
+	 * @return buffer size
+	 */
+	int callbackBufferSize();
+	
+	/**
+	 * Action taken when the buffer is full.
+	 * 
+	 * @return {@code CallbackOverflowPolicy}
+	 */
+	CallbackOverflowPolicy callbackOverflow();
+}
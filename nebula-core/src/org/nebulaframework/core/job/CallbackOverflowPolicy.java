@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job;
+
+/**
+ * Denotes the action taken when the buffer of intermediate results, 
+ * waiting to be delivered to the {@link ResultCallback} of a {@code GridJob},
+ * is full, as the submitter consumes results slower than they are collected.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ */
+public enum CallbackOverflowPolicy {
+
+	/**
+	 * Blocks result collection until the buffer has room, which
+	 * slows down the {@code GridJob} to the pace of the callback.
+	 */
+	BLOCK,
+	
+	/**
+	 * Discards the oldest buffered result, to make room
+	 * for the new result.
+	 */
+	DROP_OLDEST,
+	
+	/**
+	 * Discards the new result.
+	 */
+	DROP_NEWEST;
+	
+}
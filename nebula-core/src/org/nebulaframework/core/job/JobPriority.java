@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job;
+
+/**
+ * Denotes the scheduling priority of a {@code GridJob}. Execution slots
+ * of {@code GridNode}s are given to {@code GridJob}s of higher priority 
+ * first, and a {@code GridJob} of {@link #HIGH} priority preempts execution 
+ * slots of {@code GridJob}s of lower priority.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ */
+public enum JobPriority {
+
+	/**
+	 * Background (batch) {@code GridJob}s, which may be preempted.
+	 */
+	LOW,
+	
+	/**
+	 * Default priority of {@code GridJob}s.
+	 */
+	NORMAL,
+	
+	/**
+	 * Latency sensitive (interactive) {@code GridJob}s, which 
+	 * preempt {@code GridJob}s of lower priority.
+	 */
+	HIGH;
+	
+}
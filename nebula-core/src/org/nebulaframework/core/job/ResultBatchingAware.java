@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job;
+
+import org.nebulaframework.core.job.annotations.ResultBatching;
+
+/**
+ * This interface defines the contract which allows {@code GridJob}s to enable
+ * result batching. When enabled, {@code GridNode}s coalesce results of 
+ * the {@code GridJob} into a single message, instead of sending a message 
+ * per result.
+ * <p>
+ * Alternatively, consider using the {@link ResultBatching} annotation for 
+ * the same purpose without implementing each and every method of this interface.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see ResultBatching
+ */
+public interface ResultBatchingAware {
+
+	/**
+	 * Maximum number of results in a batch.
+	 * 
+	 * @return maximum number of results in a batch
+	 */
+	int maxBatchResults();
+	
+	/**
+	 * Maximum size of serialized result data in a batch, in bytes. 
+	 * A value of zero disables the size limit.
+	 * 
+	 * @return maximum size of a batch in bytes
+	 */
+	int maxBatchBytes();
+	
+	/**
+	 * Maximum time a result may wait in a batch before 
+	 * the batch is sent (in milliseconds).
+	 * 
+	 * @return maximum linger time in milliseconds
+	 */
+	long maxBatchLinger();
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.nebulaframework.core.job.splitaggregate.RangeTaskFactory;
+
+/**
+ * {@code AdaptiveChunking} specifies the target execution time of 
+ * {@code GridTask}s for {@code GridJob}s which are split adaptively,
+ * that is, {@code GridJob}s which implement {@link RangeTaskFactory}.
+ * <p>
+ * The size of the range of each {@code GridTask} is adjusted until
+ * the {@code GridTask}s execute between {@code minDuration} and 
+ * {@code maxDuration} milliseconds. This annotation is optional, and
+ * the default values are used for a {@code RangeTaskFactory} which
+ * is not annotated.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * @see RangeTaskFactory
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+public @interface AdaptiveChunking {
+
+	/**
+	 * Minimum target execution time of a {@code GridTask}, in milliseconds.
+	 * <p>
+	 * default value is 2000.
+	 * 
+	 * @return minimum execution time in milliseconds
+	 */
+	long minDuration() default 2000;
+	
+	/**
+	 * Maximum target execution time of a {@code GridTask}, in milliseconds.
+	 * <p>
+	 * default value is 5000.
+	 * 
+	 * @return maximum execution time in milliseconds
+	 */
+	long maxDuration() default 5000;
+	
+	/**
+	 * Size of the range of the first {@code GridTask}s, 
+	 * before any execution time has been observed.
+	 * <p>
+	 * default value is 1.
+	 * 
+	 * @return initial range size
+	 */
+	int initialChunkSize() default 1;
+}
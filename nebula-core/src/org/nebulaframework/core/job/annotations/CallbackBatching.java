@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.nebulaframework.core.job.BatchResultCallback;
+import org.nebulaframework.core.job.CallbackBatchingAware;
+import org.nebulaframework.core.job.CallbackOverflowPolicy;
+
+/**
+ * {@code CallbackBatching} specifies how intermediate results of a 
+ * {@code GridJob} are delivered to its {@code ResultCallback}. 
+ * <p>
+ * The {@code ClusterManager} buffers intermediate results, and delivers 
+ * them to the submitter in batches, as one-way messages, without waiting 
+ * for the callback to complete. A batch is delivered once it reaches 
+ * {@code maxResults} results, or once its first result has waited for 
+ * {@code maxLinger} milliseconds, whichever occurs first. If the callback
+ * falls behind, up to {@code bufferSize} results are buffered, after which
+ * the {@code overflow} policy applies.
+ * <p>
+ * Batches are passed to {@link BatchResultCallback#onResults(java.util.List)},
+ * if the callback is a {@link BatchResultCallback}.
+ * <p>
+ * The {@link CallbackBatchingAware} interface allows to specify these settings
+ * directly in the GridJob class itself, and to avoid this annotation.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * @see CallbackBatchingAware
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+public @interface CallbackBatching {
+
+	/**
+	 * Maximum number of results delivered in a batch.
+	 * <p>
+	 * default value is 100.
+	 * 
+	 * @return maximum number of results in a batch
+	 */
+	int maxResults() default 100;
+	
+	/**
+	 * Maximum time a result may wait before the batch 
+	 * is delivered (in milliseconds).
+	 * <p>
+	 * default value is 100.
+	 * 
+	 * @return maximum linger time in milliseconds
+	 */
+	long maxLinger() default 100;
+	
+	/**
+	 * Maximum number of results buffered for delivery.
+	 * <p>
+	 * default value is 10000.
+	 * 
+	 * @return buffer size
+	 */
+	int bufferSize() default 10000;
+	
+	/**
+	 * Action taken when the buffer is full.
+	 * <p>
+	 * default value is {@link CallbackOverflowPolicy#BLOCK}.
+	 * 
+	 * @return {@code CallbackOverflowPolicy}
+	 */
+	CallbackOverflowPolicy overflow() default CallbackOverflowPolicy.BLOCK;
+}
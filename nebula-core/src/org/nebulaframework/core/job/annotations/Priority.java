@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.nebulaframework.core.job.JobPriority;
+
+/**
+ * {@code Priority} specifies the scheduling priority of a {@code GridJob}.
+ * A priority given at submission overrides the annotation.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * @see JobPriority
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+public @interface Priority {
+
+	/**
+	 * Scheduling priority of the {@code GridJob}.
+	 * 
+	 * @return priority
+	 */
+	JobPriority value();
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.nebulaframework.core.job.ResultBatchingAware;
+
+/**
+ * {@code ResultBatching} enables result batching for a {@code GridJob}. When
+ * enabled, {@code GridNode}s coalesce {@code GridTaskResult}s of the 
+ * {@code GridJob} into a single message, instead of sending a message per
+ * {@code GridTaskResult}, which reduces the load on the {@code ResultQueue}
+ * for {@code GridJob}s with large number of small {@code GridTask}s.
+ * <p>
+ * A batch is sent once it reaches {@code maxResults} results, or
+ * {@code maxBytes} of (serialized) result data, or once the first 
+ * result of the batch has waited for {@code maxLinger} milliseconds,
+ * whichever occurs first.
+ * <p>
+ * The {@link ResultBatchingAware} interface allows to specify these settings
+ * directly in the GridJob class itself, and to avoid this annotation.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * @see ResultBatchingAware
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+public @interface ResultBatching {
+
+	/**
+	 * Maximum number of results in a batch.
+	 * <p>
+	 * default value is 100.
+	 * 
+	 * @return maximum number of results in a batch
+	 */
+	int maxResults() default 100;
+	
+	/**
+	 * Maximum size of serialized result data in a batch, in bytes,
+	 * as estimated from a sample of results. A value of zero disables
+	 * the size limit, and avoids the cost of measuring result sizes.
+	 * <p>
+	 * default value is 1048576 (1 MB).
+	 * 
+	 * @return maximum size of a batch in bytes
+	 */
+	int maxBytes() default 1048576;
+	
+	/**
+	 * Maximum time a result may wait in a batch before 
+	 * the batch is sent (in milliseconds).
+	 * <p>
+	 * default value is 500.
+	 * 
+	 * @return maximum linger time in milliseconds
+	 */
+	long maxLinger() default 500;
+}
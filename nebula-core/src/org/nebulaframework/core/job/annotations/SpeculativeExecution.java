@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@code SpeculativeExecution} specifies the settings of speculative
+ * execution of straggling {@code GridTask}s for a {@code GridJob}.
+ * <p>
+ * Once no {@code GridTask} awaits a free {@code GridNode}, a 
+ * {@code GridTask} which has been executing for longer than the given 
+ * {@code percentile} of execution times of completed {@code GridTask}s 
+ * is enqueued once more, to be picked by a {@code GridNode} which has 
+ * finished its {@code GridTask}s. The first result received is accepted, 
+ * and the other copy is cancelled at its {@code GridNode}.
+ * <p>
+ * This annotation is optional. Speculative execution is enabled with
+ * the default values for {@code GridJob}s which are not annotated.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+public @interface SpeculativeExecution {
+
+	/**
+	 * Whether speculative execution is enabled.
+	 * <p>
+	 * default value is {@code true}.
+	 * 
+	 * @return if enabled {@code true}, {@code false} otherwise
+	 */
+	boolean enabled() default true;
+	
+	/**
+	 * Percentile of execution times of completed {@code GridTask}s,
+	 * beyond which a {@code GridTask} is considered to be straggling,
+	 * between {@code 0} and {@code 1}.
+	 * <p>
+	 * default value is 0.9.
+	 * 
+	 * @return percentile
+	 */
+	double percentile() default 0.9;
+}
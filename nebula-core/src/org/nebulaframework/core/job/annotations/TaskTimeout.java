@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.nebulaframework.core.task.CancellationToken;
+import org.nebulaframework.core.task.TimeoutAware;
+
+/**
+ * {@code TaskTimeout} specifies the maximum execution time of the 
+ * {@code GridTask}s of a {@code GridJob}. A {@code GridTask} which exceeds 
+ * the timeout is cancelled at its {@code GridNode} (refer to 
+ * {@link CancellationToken}), and reported as failed, in which case it 
+ * is re-enqueued by the {@code ClusterManager}.
+ * <p>
+ * {@code GridTask}s may override the timeout individually, by implementing
+ * {@link TimeoutAware}.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * @see TimeoutAware
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+public @interface TaskTimeout {
+
+	/**
+	 * Maximum execution time of a {@code GridTask}, in milliseconds.
+	 * 
+	 * @return timeout in milliseconds
+	 */
+	long value();
+}
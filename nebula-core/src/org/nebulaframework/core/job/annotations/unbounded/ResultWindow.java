@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job.annotations.unbounded;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.nebulaframework.core.job.unbounded.ResultWindowAware;
+import org.nebulaframework.core.job.unbounded.WindowedAggregate;
+
+/**
+ * {@code ResultWindow} specifies the result windows of an 
+ * {@code UnboundedGridJob} which is a {@link WindowedAggregate}. 
+ * Processed results are aggregated over each window on the 
+ * {@code ClusterManager}, and only window aggregates are delivered 
+ * to the {@code ResultCallback}.
+ * <p>
+ * Windows are defined by number of results, or by duration, in 
+ * which case windows are closed by a timer. A window of {@code size}
+ * is delivered every {@code slide}, so windows overlap if the slide is
+ * smaller than the size (sliding windows), and do not overlap if the 
+ * slide is equal to the size (tumbling windows).
+ * <p>
+ * For example, {@code @ResultWindow(time=true, size=60000, slide=5000)}
+ * delivers the aggregate of the last minute, every five seconds.
+ * <p>
+ * The {@link ResultWindowAware} interface allows to specify these settings
+ * directly in the GridJob class itself, and to avoid this annotation.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * @see WindowedAggregate
+ * @see ResultWindowAware
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+public @interface ResultWindow {
+
+	/**
+	 * Indicates whether windows are defined by duration (in milliseconds),
+	 * instead of by number of results.
+	 * <p>
+	 * default value is {@code false}.
+	 * 
+	 * @return {@code true} if windows are time based
+	 */
+	boolean time() default false;
+	
+	/**
+	 * Size of a window, as number of results, or in 
+	 * milliseconds for time based windows.
+	 * <p>
+	 * default value is 100.
+	 * 
+	 * @return size of window
+	 */
+	long size() default 100;
+	
+	/**
+	 * Interval at which windows are delivered, as number of results,
+	 * or in milliseconds for time based windows. The size should be a 
+	 * multiple of the slide. A value of zero indicates tumbling windows, 
+	 * where the slide is equal to the size.
+	 * <p>
+	 * default value is 0.
+	 * 
+	 * @return slide of window
+	 */
+	long slide() default 0;
+}
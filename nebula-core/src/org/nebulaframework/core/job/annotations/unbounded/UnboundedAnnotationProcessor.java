@@ -59,10 +59,14 @@ public class UnboundedAnnotationProcessor extends AbstractAnnotationProcessor {
 		// Extract settings if specified in original Job
 		if (obj.getClass().isAnnotationPresent(UnboundedProcessingSettings.class)) {
 			UnboundedProcessingSettings settings = obj.getClass().getAnnotation(UnboundedProcessingSettings.class);
-			job.setMaxTasksInQueue(settings.maxTasksInQueue());
+			job.setTargetLatency(settings.targetLatency());
+			job.setTargetBacklog(settings.targetBacklog());
 			job.setMutuallyExclusiveTasks(settings.mutuallyExclusiveTasks());
-			job.setReductionFactor(settings.reductionFactor());
 			job.setStopOnNull(settings.stopOnNullTask());
+			job.setThreadSafe(settings.threadSafe());
+			job.setGeneratorThreads(settings.generatorThreads());
+			job.setProcessorThreads(settings.processorThreads());
+			job.setOrderedCallback(settings.orderedCallback());
 			
 		}
 		
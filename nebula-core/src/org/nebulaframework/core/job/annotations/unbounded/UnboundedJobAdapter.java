@@ -24,10 +24,14 @@ public class UnboundedJobAdapter implements UnboundedGridJob<Serializable>, Unbo
 	private String taskGenerator;
 	private String resultProcessor;
 	private String taskMethod;
-	private int maxTasksInQueue = 100;
+	private long targetLatency = 2000;
+	private int targetBacklog = 100;
 	private boolean mutuallyExclusiveTasks = false;
-	private int reductionFactor = 50;
 	private boolean stopOnNull = true;
+	private boolean threadSafe = false;
+	private int generatorThreads = 1;
+	private int processorThreads = 1;
+	private boolean orderedCallback = false;
 	
 	/**
 	 * Constructs an UnboundedJobAdapter for given adaptee with the specified
@@ -91,24 +95,24 @@ public class UnboundedJobAdapter implements UnboundedGridJob<Serializable>, Unbo
 	
 	
 	/**
-	 * Sets the maximum number of allowed tasks in queue.
+	 * Sets the target latency of tasks, in milliseconds.
 	 */
-	public void setMaxTasksInQueue(int maxTasksInQueue) {
-		this.maxTasksInQueue = maxTasksInQueue;
+	public void setTargetLatency(long targetLatency) {
+		this.targetLatency = targetLatency;
 	}
 
 	/**
-	 * Sets whether tasks are mutually exclusive.
+	 * Sets the maximum number of outstanding tasks.
 	 */
-	public void setMutuallyExclusiveTasks(boolean mutuallyExclusiveTasks) {
-		this.mutuallyExclusiveTasks = mutuallyExclusiveTasks;
+	public void setTargetBacklog(int targetBacklog) {
+		this.targetBacklog = targetBacklog;
 	}
 
 	/**
-	 * Sets the reduction factor for task generation.
+	 * Sets whether tasks are mutually exclusive.
 	 */
-	public void setReductionFactor(int reductionFactor) {
-		this.reductionFactor = reductionFactor;
+	public void setMutuallyExclusiveTasks(boolean mutuallyExclusiveTasks) {
+		this.mutuallyExclusiveTasks = mutuallyExclusiveTasks;
 	}
 
 	/**
@@ -118,12 +122,48 @@ public class UnboundedJobAdapter implements UnboundedGridJob<Serializable>, Unbo
 		this.stopOnNull = stopOnNull;
 	}
 
+	/**
+	 * Specifies whether the adaptee is thread-safe.
+	 */
+	public void setThreadSafe(boolean threadSafe) {
+		this.threadSafe = threadSafe;
+	}
+
+	/**
+	 * Sets the number of task generator threads.
+	 */
+	public void setGeneratorThreads(int generatorThreads) {
+		this.generatorThreads = generatorThreads;
+	}
+
+	/**
+	 * Sets the number of result processor threads.
+	 */
+	public void setProcessorThreads(int processorThreads) {
+		this.processorThreads = processorThreads;
+	}
+
+	/**
+	 * Specifies whether results are delivered in order.
+	 */
+	public void setOrderedCallback(boolean orderedCallback) {
+		this.orderedCallback = orderedCallback;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long targetLatency() {
+		return targetLatency;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public int maxTasksInQueue() {
-		return maxTasksInQueue;
+	public int targetBacklog() {
+		return targetBacklog;
 	}
 
 	/**
@@ -138,16 +178,40 @@ public class UnboundedJobAdapter implements UnboundedGridJob<Serializable>, Unbo
 	 * {@inheritDoc}
 	 */
 	@Override
-	public int reductionFactor() {
-		return reductionFactor;
+	public boolean stopOnNullTask() {
+		return stopOnNull;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public boolean stopOnNullTask() {
-		return stopOnNull;
+	public boolean threadSafe() {
+		return threadSafe;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int generatorThreads() {
+		return generatorThreads;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int processorThreads() {
+		return processorThreads;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean orderedCallback() {
+		return orderedCallback;
 	}
 	
 	
@@ -40,34 +40,29 @@ import org.nebulaframework.core.job.unbounded.UnboundedSettingsAware;
 public @interface UnboundedProcessingSettings {
 
 	/**
-	 * Maximum number of tasks in TaskQueue at a given time, without slowing
-	 * task generation. Note that this does not define the maximum possible
-	 * tasks in queue. However, once this amount is reached, future task 
-	 * generation will be gradually slowed down, to avoid overloading the
-	 * task queue.
+	 * Target time (in milliseconds) a generated task should spend 
+	 * between being enqueued and its result being received. The number 
+	 * of outstanding tasks (the task window) is adjusted to the measured 
+	 * result rate of the Grid multiplied by this latency, so that the
+	 * TaskQueue holds just enough tasks to keep the workers busy.
 	 * <p>
-	 * default value is 100.
+	 * default value is 2000.
 	 * 
-	 * @return maximum allowed tasks in queue without reduction
+	 * @return target task latency in milliseconds
 	 */
-	int maxTasksInQueue() default 100;
+	long targetLatency() default 2000;
 
 	/**
-	 * Factor (time) by which the task generation is slowed per task which is
-	 * over {@code maxTasksInQueue} (in milliseconds). When the task queue exceeds
-	 * {@code maxTasksInQueue}, the next task generation will be delayed by <i>n</i> 
-	 * milliseconds where <i>n</i> is  the multiplication of this factor into 
-	 * tasks above limit.
-	 * <p>
-	 * For example, if reductionFactor is 50, {@code maxTasksInQueue} is 100, 
-	 * and if current number of tasks in queue are 105, the next task generation 
-	 * will be slowed by (105-100) * 50 milliseconds.
+	 * Maximum number of outstanding tasks (enqueued, without results) 
+	 * at a given time. Task generation blocks once this amount is 
+	 * reached, until a result is received. The task window is never 
+	 * grown beyond this value.
 	 * <p>
-	 * default value is 50.
+	 * default value is 100.
 	 * 
-	 * @return reduction factor in milliseconds
+	 * @return maximum outstanding tasks
 	 */
-	int reductionFactor() default 50;
+	int targetBacklog() default 100;
 
 	/**
 	 * Indicates whether to stop task generation if a null task is returned
@@ -89,4 +84,49 @@ public @interface UnboundedProcessingSettings {
 	 *         exclusive
 	 */
 	boolean mutuallyExclusiveTasks() default false;
+	
+	/**
+	 * Indicates whether the {@code task()} and {@code processResult()} 
+	 * methods of the {@code UnboundedGridJob} are thread-safe, that is,
+	 * they may be invoked concurrently by multiple threads. Unless
+	 * thread-safe, the {@code generatorThreads} and {@code processorThreads}
+	 * settings are ignored, and each method is invoked by a single thread.
+	 * <p>
+	 * default value is {@code false}.
+	 * 
+	 * @return a boolean indicating whether the job is thread-safe
+	 */
+	boolean threadSafe() default false;
+	
+	/**
+	 * Number of threads which generate tasks concurrently, by invoking
+	 * {@code task()}, for a thread-safe {@code UnboundedGridJob}.
+	 * <p>
+	 * default value is 1.
+	 * 
+	 * @return number of task generator threads
+	 */
+	int generatorThreads() default 1;
+	
+	/**
+	 * Number of threads which process results concurrently, by invoking
+	 * {@code processResult()}, for a thread-safe {@code UnboundedGridJob}.
+	 * <p>
+	 * default value is 1.
+	 * 
+	 * @return number of result processor threads
+	 */
+	int processorThreads() default 1;
+	
+	/**
+	 * Indicates whether the processed results should be delivered to the
+	 * {@code ResultCallback} in the order in which the results were received,
+	 * when results are processed by multiple threads. Otherwise, results
+	 * are delivered as soon as they are processed.
+	 * <p>
+	 * default value is {@code false}.
+	 * 
+	 * @return a boolean indicating whether results are delivered in order
+	 */
+	boolean orderedCallback() default false;
 }
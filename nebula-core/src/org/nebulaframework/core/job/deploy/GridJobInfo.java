@@ -41,6 +41,19 @@ public class GridJobInfo implements Serializable {
 	private String jobId;
 	private String jobName;
 	private GridArchive archive;
+	private int weight = 1;
+	
+	// Result Batching (Disabled if maxResults < 2)
+	private int batchMaxResults = 0;
+	private int batchMaxBytes = 0;
+	private long batchMaxLinger = 0;
+	
+	// Result Combining (Disabled if null)
+	private byte[] combiner;
+	private long combineInterval = 0;
+	
+	// Task Timeout (ms), zero for none
+	private long taskTimeout = 0;
 
 	/**
 	 * Constructs a {@code GridJobInfo} instance for
@@ -81,6 +94,143 @@ public class GridJobInfo implements Serializable {
 		this.archive = archive;
 	}
 
+	/**
+	 * Returns the relative weight of this {@code GridJob}, which
+	 * is used by {@code GridNode}s to share their execution slots
+	 * among concurrently executed {@code GridJob}s. This is set by the
+	 * {@code ClusterManager}, from the priority of the {@code GridJob}
+	 * and the weight of its owner. Defaults to 1.
+	 * 
+	 * @return weight of {@code GridJob}
+	 */
+	public int getWeight() {
+		return weight;
+	}
+
+	/**
+	 * Sets the relative weight of this {@code GridJob}.
+	 * 
+	 * @param weight weight of {@code GridJob}, should be at least 1
+	 */
+	public void setWeight(int weight) {
+		this.weight = Math.max(1, weight);
+	}
+
+	/**
+	 * Returns {@code true} if {@code GridTaskResult}s of this
+	 * {@code GridJob} should be sent in batches.
+	 * 
+	 * @return if batching enabled {@code true}, {@code false} otherwise
+	 */
+	public boolean isResultBatching() {
+		return batchMaxResults > 1;
+	}
+	
+	/**
+	 * Enables result batching for this {@code GridJob}.
+	 * 
+	 * @param maxResults maximum number of results in a batch
+	 * @param maxBytes maximum size of a batch in bytes, or zero for no limit
+	 * @param maxLinger maximum time a result may wait in a batch (ms)
+	 */
+	public void setResultBatching(int maxResults, int maxBytes, long maxLinger) {
+		this.batchMaxResults = maxResults;
+		this.batchMaxBytes = maxBytes;
+		this.batchMaxLinger = maxLinger;
+	}
+	
+	/**
+	 * Returns the maximum number of results in a batch.
+	 * 
+	 * @return maximum number of results in a batch
+	 */
+	public int getBatchMaxResults() {
+		return batchMaxResults;
+	}
+
+	/**
+	 * Returns the maximum size of a batch, in bytes. Zero
+	 * indicates no limit.
+	 * 
+	 * @return maximum size of a batch in bytes
+	 */
+	public int getBatchMaxBytes() {
+		return batchMaxBytes;
+	}
+
+	/**
+	 * Returns the maximum time a result may wait in a batch
+	 * (in milliseconds).
+	 * 
+	 * @return maximum linger time in milliseconds
+	 */
+	public long getBatchMaxLinger() {
+		return batchMaxLinger;
+	}
+
+	/**
+	 * Returns {@code true} if {@code GridTaskResult}s of this
+	 * {@code GridJob} should be combined at {@code GridNode}s.
+	 * 
+	 * @return if combining enabled {@code true}, {@code false} otherwise
+	 */
+	public boolean isCombining() {
+		return combiner != null;
+	}
+	
+	/**
+	 * Enables result combining for this {@code GridJob}. The {@code Combiner}
+	 * is given in serialized form, as it has to be de-serialized using
+	 * the {@code ClassLoader} of the {@code GridJob} at {@code GridNode}s.
+	 * 
+	 * @param combiner serialized {@code Combiner}
+	 * @param combineInterval maximum time a partial result may be held (ms)
+	 */
+	public void setCombining(byte[] combiner, long combineInterval) {
+		this.combiner = combiner;
+		this.combineInterval = combineInterval;
+	}
+	
+	/**
+	 * Returns the serialized {@code Combiner}, or {@code null}
+	 * if combining is not enabled.
+	 * 
+	 * @return serialized {@code Combiner}
+	 */
+	public byte[] getCombiner() {
+		return combiner;
+	}
+	
+	/**
+	 * Returns the maximum time a partial result may be held
+	 * by a {@code GridNode} (in milliseconds).
+	 * 
+	 * @return combine interval in milliseconds
+	 */
+	public long getCombineInterval() {
+		return combineInterval;
+	}
+
+	/**
+	 * Returns the maximum execution time of a {@code GridTask} of 
+	 * this {@code GridJob} (in milliseconds). Zero indicates no timeout.
+	 * 
+	 * @return task timeout in milliseconds
+	 */
+	public long getTaskTimeout() {
+		return taskTimeout;
+	}
+	
+	/**
+	 * Sets the maximum execution time of a {@code GridTask} of 
+	 * this {@code GridJob}.
+	 * 
+	 * @param taskTimeout task timeout in milliseconds, zero for no timeout
+	 */
+	public void setTaskTimeout(long taskTimeout) {
+		this.taskTimeout = Math.max(0, taskTimeout);
+	}
+
 	/**
 	 * Returns the Job Identifier for this {@code GridJob}.
 	 * @return JobId of {@code GridJob}.
@@ -93,11 +93,25 @@ public interface GridJobFuture {
 	/**
 	 * Adds a {@link ResultCallback} which will be invoked
 	 * (with the final result) when the final result for the 
-	 * {@code GridJob} is available.
+	 * {@code GridJob} is available. If the {@code GridJob} failed,
+	 * or was canceled, the callback is invoked with a
+	 * {@code GridExecutionException}.
+	 * <p>
+	 * This method does not block, and no thread is kept waiting
+	 * for the result. If the final result is already available, the
+	 * callback is invoked immediately, in the calling thread. Otherwise,
+	 * it is invoked by the thread which receives the final result, and 
+	 * therefore should return quickly.
+	 * <p>
+	 * Some types of {@code GridJob}s, namely {@link UnboundedGridJob}, does not
+	 * support final results, and invoking this method on such a {@code GridJob}s 
+	 * future will result in {@code IllegalStateException}.
 	 * 
 	 * @param callback ResultCallback
+	 * 
+	 * @throws IllegalStateException if the job does not support final result
 	 */
-	public void addFinalResultCallback(ResultCallback callback);
+	public void addFinalResultCallback(ResultCallback callback) throws IllegalStateException;
 	
 	/**
 	 * Returns the exception attached to the execution of this {@code GridJob},
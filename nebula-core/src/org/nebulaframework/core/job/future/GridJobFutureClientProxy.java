@@ -11,13 +11,16 @@
  * See the License for the specific language governing permissions and 
  * limitations under the License.
  */
+
 package org.nebulaframework.core.job.future;
 
 import java.io.Serializable;
-import java.util.Date;
-import java.util.UUID;
-
-import javax.jms.ConnectionFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -25,13 +28,12 @@ import org.nebulaframework.core.job.GridJobState;
 import org.nebulaframework.core.job.ResultCallback;
 import org.nebulaframework.grid.GridExecutionException;
 import org.nebulaframework.grid.GridTimeoutException;
-import org.nebulaframework.grid.cluster.node.GridNode;
+import org.nebulaframework.grid.cluster.node.services.job.submission.ResultCallbackRouter;
 import org.nebulaframework.grid.service.event.ServiceEventsSupport;
 import org.nebulaframework.grid.service.event.ServiceHookCallback;
 import org.nebulaframework.grid.service.message.ServiceMessage;
 import org.nebulaframework.grid.service.message.ServiceMessageType;
-import org.nebulaframework.util.hashing.SHA1Generator;
-import org.nebulaframework.util.jms.JMSRemotingSupport;
+import org.springframework.util.Assert;
 
 /**
  * Client-side proxy for GridJobFuture. This proxy wraps the remote 
@@ -42,6 +44,13 @@ import org.nebulaframework.util.jms.JMSRemotingSupport;
  * provides additional support which is not supported by the remote 
  * service, such as {@code #getResult} methods. Furthermore, this proxy 
  * attempts to minimize the remote calls.
+ * <p>
+ * The final result is received once per {@code GridJob}, through the 
+ * {@link ResultCallbackRouter} of the {@code GridNode}, and is handed to
+ * any number of local {@code ResultCallback}s. No thread is kept waiting
+ * for the result, unless {@code #getResult} is invoked. If the final 
+ * result has not arrived {@link #FINAL_RESULT_GRACE} after the 
+ * {@code GridJob} ended, it is requested from the remote service instead.
  * 
  * @author Yohan Liyanage
  * @version 1.0
@@ -52,12 +61,29 @@ public class GridJobFutureClientProxy implements GridJobFuture {
 
 	private static Log log = LogFactory.getLog(GridJobFutureClientProxy.class);
 	
+	/**
+	 * Time (ms) to wait for the final result after the {@code GridJob}
+	 * ended, before requesting it from the remote service.
+	 */
+	public static final long FINAL_RESULT_GRACE = 10000L;
+	
+	// Shared Timer for Final Result requests
+	private static Timer timer = new Timer("GridJobFuture-FinalResult", true);
+	
 	// Subject of this Proxy
 	private InternalGridJobFuture future;
 	
-	private Object mutex = new Object();
-	private Serializable result = null;
-	private boolean jobFinished = false;
+	private boolean finalResultSupported;
+	
+	private ResultCallbackRouter router;
+	private String queueName;
+	
+	private CountDownLatch resultLatch = new CountDownLatch(1);
+	private volatile Serializable result = null;
+	private volatile boolean jobFinished = false;
+	
+	// Final Result Callbacks, null once result is available
+	private List<ResultCallback> callbacks = new ArrayList<ResultCallback>();
 	
 	/**
 	 * Constructs a {@code GridJobFutureClientProxy} which
@@ -65,27 +91,30 @@ public class GridJobFutureClientProxy implements GridJobFuture {
 	 * instance.
 	 * 
 	 * @param future subject of this proxy
+	 * @param router {@code ResultCallbackRouter} of {@code GridNode}
 	 */
-	public GridJobFutureClientProxy(InternalGridJobFuture future) {
+	public GridJobFutureClientProxy(InternalGridJobFuture future, final ResultCallbackRouter router) {
 		super();
+		
+		Assert.notNull(future);
+		Assert.notNull(router);
+		
 		this.future = future;
+		this.router = router;
+		this.finalResultSupported = future.isFinalResultSupported();
 		
-		// Attach a ResultCallback to track results
-		if (future.isFinalResultSupported()) {
+		// Register to receive the final result
+		if (finalResultSupported) {
 			
-			addFinalResultCallback(new ResultCallback () {
+			queueName = router.register(new ResultCallback () {
 				
 				public void onResult(Serializable result) {
-					GridJobFutureClientProxy.this.result = result;
-					jobFinished = true;
-					
-					// Notify all waiting threads
-					synchronized (mutex) {
-						mutex.notifyAll();
-					}
+					finalResultReceived(result);
 				}
 				
 			});
+			
+			future.addFinalResultCallback(queueName);
 		}
 		
 		// Job End / Cancel Hook to update finished flag
@@ -93,12 +122,103 @@ public class GridJobFutureClientProxy implements GridJobFuture {
 
 			@Override
 			public void onServiceEvent(ServiceMessage message) {
+				
 				jobFinished = true;
+				
+				// Request final result, if not received in time
+				if (finalResultSupported) {
+					timer.schedule(new TimerTask() {
+						public void run() {
+							requestFinalResult();
+						}
+					}, FINAL_RESULT_GRACE);
+				}
 			}
 			
 		}, future.getJobId() , ServiceMessageType.JOB_CANCEL, ServiceMessageType.JOB_END);
 	}
+	
+	/**
+	 * Requests the final result from the remote service, if it has
+	 * not been received through the result queue. If the remote
+	 * service is not available, the result is a
+	 * {@code GridExecutionException}.
+	 */
+	private void requestFinalResult() {
+		
+		// Already received
+		if (resultLatch.getCount() == 0) return;
+		
+		log.warn("[GridJobFuture] Final Result not received, requesting from ClusterManager");
+		
+		Serializable finalResult = null;
+		
+		try {
+			finalResult = future.getFinalResult();
+		} catch (RuntimeException e) {
+			log.warn("[GridJobFuture] Unable to obtain Final Result", e);
+			finalResult = new GridExecutionException("Final Result not available", e);
+		}
+		
+		finalResultReceived(finalResult);
+	}
+	
+	/**
+	 * Invoked when the final result of the {@code GridJob} is obtained,
+	 * either through the result queue or from the remote service. Removes
+	 * the route of the result queue, and makes the result available.
+	 * 
+	 * @param result final result, or {@code GridExecutionException}
+	 */
+	private void finalResultReceived(Serializable result) {
+		router.unregister(queueName);
+		resultAvailable(result);
+	}
 
+	/**
+	 * Invoked when the final result of the {@code GridJob} is received. 
+	 * Releases threads waiting on {@code #getResult}, and invokes 
+	 * each registered {@code ResultCallback}.
+	 * 
+	 * @param result final result, or {@code GridExecutionException}
+	 */
+	private void resultAvailable(Serializable result) {
+		
+		List<ResultCallback> pending = null;
+		
+		synchronized (this) {
+			
+			// Ignore duplicates
+			if (callbacks == null) return;
+			
+			this.result = result;
+			this.jobFinished = true;
+			
+			pending = callbacks;
+			callbacks = null;
+		}
+		
+		// Release waiting threads (getResult)
+		resultLatch.countDown();
+		
+		for (ResultCallback callback : pending) {
+			invokeCallback(callback);
+		}
+	}
+	
+	/**
+	 * Invokes the given {@code ResultCallback} with the final result.
+	 * 
+	 * @param callback {@code ResultCallback}
+	 */
+	private void invokeCallback(ResultCallback callback) {
+		try {
+			callback.onResult(result);
+		} catch (RuntimeException e) {
+			log.warn("[GridJobFuture] Exception in Final Result Callback", e);
+		}
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 */
@@ -137,53 +257,30 @@ public class GridJobFutureClientProxy implements GridJobFuture {
 			GridTimeoutException, IllegalStateException {
 		
 		// If final result is not supported, exception (i.e. Unbounded Jobs)
-		if (!future.isFinalResultSupported()) {
+		if (!finalResultSupported) {
 			 throw new IllegalStateException("GridJob does not support final results");
 		}
 		
-		// This sync block waits until result is available.
-		
-		// Note that in case of timeouts, our own time tracking is needed
-		// as a waking up due to unknown reasons may reset the timeouts
-		synchronized (mutex) {
-			try {
-				// If job is not finished, wait till it finishes
-				while (!isJobFinished()) {
-					
-					// Mark start time
-					long tStart = new Date().getTime();
-					
-					// Wait for result
-					mutex.wait(timeout);
-					
-					// Mark current time
-					long tNow = new Date().getTime();
-					
-					// Check for timeout
-					if (timeout > 0 && !isJobFinished()) {
-						
-						if ((tNow - tStart) > timeout ) {
-							// timeout has occurred
-							throw new GridTimeoutException("Timeout, Result Not Available");
-						}
-						else {
-							// notified before timeout, update timeout
-							timeout -= (tNow - tStart);
-						}
-					}
+		// Wait until result is available, or timeout
+		try {
+			if (timeout > 0) {
+				if (!resultLatch.await(timeout, TimeUnit.MILLISECONDS)) {
+					throw new GridTimeoutException("Timeout, Result Not Available");
 				}
-			} catch (InterruptedException e) {
-				log.error(e);
-				throw new RuntimeException(
-						"Interrupted while waiting for Result");
 			}
+			else {
+				resultLatch.await();
+			}
+		} catch (InterruptedException e) {
+			log.error(e);
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while waiting for Result");
 		}
 
-			if ( !(result instanceof Exception)) {
-				return result;
-			} else {
-				throw new GridExecutionException("Execution Failed", (Exception) result);
-
+		if ( !(result instanceof Exception)) {
+			return result;
+		} else {
+			throw new GridExecutionException("Execution Failed", (Exception) result);
 		}
 	}
 
@@ -214,32 +311,24 @@ public class GridJobFutureClientProxy implements GridJobFuture {
 	/**
 	 * {@inheritDoc}
 	 */
-	public void addFinalResultCallback(ResultCallback callback) {
-		// Remote Enable callback and add it
-		String queueName = exposeCallback(callback);
-		future.addFinalResultCallback(queueName);
-	}
-
-	/**
-	 * Exposes the given {@code ResultCallback} by remote
-	 * enabling it using JMS Remoting API.
-	 * 
-	 * @param callback {@code ResultCallback} to be remote 
-	 * enabled
-	 * 
-	 * @return Name of the Queue to be used for communication 
-	 * with callback
-	 */
-	private String exposeCallback(ResultCallback callback) {
-
-		// Generate QueueName [nebula.job.callback.<SHA1>]
-		String queueName = "nebula.job.callback."
-				+ SHA1Generator.generate("" + GridNode.getInstance().getClusterId()
-						+ GridNode.getInstance().getId() + UUID.randomUUID());
-
-		ConnectionFactory cf = GridNode.getInstance().getConnectionFactory();
-		JMSRemotingSupport.createService(cf, queueName, callback, ResultCallback.class);
+	public void addFinalResultCallback(ResultCallback callback) throws IllegalStateException {
+		
+		Assert.notNull(callback);
+		
+		// If final result is not supported, exception (i.e. Unbounded Jobs)
+		if (!finalResultSupported) {
+			 throw new IllegalStateException("GridJob does not support final results");
+		}
+		
+		synchronized (this) {
+			// If result is not available, invoke when available
+			if (callbacks != null) {
+				callbacks.add(callback);
+				return;
+			}
+		}
 		
-		return queueName;
+		// Result available, invoke now
+		invokeCallback(callback);
 	}
 }
@@ -20,8 +20,6 @@ import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
-import javax.jms.ConnectionFactory;
-
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.nebulaframework.core.job.GridJob;
@@ -35,7 +33,8 @@ import org.nebulaframework.grid.GridTimeoutException;
 import org.nebulaframework.grid.cluster.manager.ClusterManager;
 import org.nebulaframework.grid.cluster.manager.services.jobs.InternalClusterJobService;
 import org.nebulaframework.grid.cluster.manager.support.CleanUpSupport;
-import org.nebulaframework.util.jms.JMSRemotingSupport;
+import org.springframework.jms.JmsException;
+import org.springframework.jms.core.JmsTemplate;
 
 /**
  * Implementation of {@link GridJobFuture} interface, which represents the
@@ -47,6 +46,10 @@ import org.nebulaframework.util.jms.JMSRemotingSupport;
  * {@code GridJob}, blocking until result is available. A {@code GridJob} can
  * be requested to be canceled using the {@link #cancel()} method.
  * <p>
+ * The final result is pushed once to each registered result queue when the
+ * {@code GridJob} finishes, as a one-way JMS message. No thread is kept 
+ * waiting for the result of a {@code GridJob}.
+ * <p>
  * The implementation of this interface resides at the {@code ClusterManager}'s
  * JVM, and is exposed as a remote service to the submitter node, using proxy
  * classes.
@@ -62,6 +65,13 @@ public class GridJobFutureServerImpl implements InternalGridJobFuture, GridJobFu
 
 	private static Log log = LogFactory.getLog(GridJobFutureServerImpl.class);
 
+	/**
+	 * Time (ms) for which the final result remains available to
+	 * the submitter (through its result queue and this remote service)
+	 * after the {@code GridJob} has finished.
+	 */
+	public static final long FINAL_RESULT_EXPIRY = 60000L;
+
 	private String jobId; // GridJob Id
 	private Serializable result; // Final Result of GridJob
 	private Exception exception; // Exception, if failed due to one
@@ -76,6 +86,10 @@ public class GridJobFutureServerImpl implements InternalGridJobFuture, GridJobFu
 	// Server-side Listeners (in ClusterManager's VM)
 	private List<GridJobStateListener> serverListeners = Collections.synchronizedList(new ArrayList<GridJobStateListener>());
 	
+	// JMS Queues to which the final result is sent
+	private List<String> resultQueues = new ArrayList<String>();
+	
+	private JmsTemplate jmsTemplate;
 
 	// Synchronization Mutex
 	private Object mutex = new Object();
@@ -186,6 +200,8 @@ public class GridJobFutureServerImpl implements InternalGridJobFuture, GridJobFu
 			throw new IllegalStateException("Unable to change the state of GridJob.");
 		}
 		
+		List<String> queues = null;
+		
 		synchronized (mutex) {
 			
 			this.state = state;
@@ -194,8 +210,16 @@ public class GridJobFutureServerImpl implements InternalGridJobFuture, GridJobFu
 			notifyListeners(state);
 			
 			if (isJobFinished()) {
-				// Notify waiting threads (getResult)
-				mutex.notifyAll();
+				// Take registered result queues
+				queues = new ArrayList<String>(resultQueues);
+				resultQueues.clear();
+			}
+		}
+		
+		// Send Final Result, if finished
+		if (queues != null) {
+			for (String queueName : queues) {
+				sendFinalResult(queueName);
 			}
 		}
 	}
@@ -218,26 +242,26 @@ public class GridJobFutureServerImpl implements InternalGridJobFuture, GridJobFu
 	 *            new state
 	 */
 	private void notifyListeners(final GridJobState state) {
-		new Thread(new Runnable() {
-			public void run() {
-				// Invoke state changed on each listener
-				synchronized (serverListeners) {
-					for (final GridJobStateListener listener : serverListeners) {
-						executorService.execute(new Runnable() {
-	
-							public void run() {
-								try {
-									listener.stateChanged(state);
-								} catch (RuntimeException e) {
-									log.error("[StateListener] Exception on GridJobStateListener - " 
-									          + e.getMessage());
-								}
-							}
-						});
+		
+		List<GridJobStateListener> listeners = null;
+		synchronized (serverListeners) {
+			listeners = new ArrayList<GridJobStateListener>(serverListeners);
+		}
+		
+		// Invoke state changed on each listener
+		for (final GridJobStateListener listener : listeners) {
+			executorService.execute(new Runnable() {
+
+				public void run() {
+					try {
+						listener.stateChanged(state);
+					} catch (RuntimeException e) {
+						log.error("[StateListener] Exception on GridJobStateListener - " 
+						          + e.getMessage());
 					}
 				}
-			}
-		}).start();
+			});
+		}
 	}
 
 	/**
@@ -315,58 +339,74 @@ public class GridJobFutureServerImpl implements InternalGridJobFuture, GridJobFu
 			 throw new IllegalStateException("GridJob does not support final results");
 		}
 		
-		// Create Proxy for callback
-		ConnectionFactory cf = ClusterManager.getInstance().getConnectionFactory();
-		final ResultCallback callback = JMSRemotingSupport.createProxy (cf, queueName, ResultCallback.class);
+		synchronized (mutex) {
+			// If not finished, send when finished (setState)
+			if (!isJobFinished()) {
+				resultQueues.add(queueName);
+				return;
+			}
+		}
+		
+		// Already finished, send now
+		sendFinalResult(queueName);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public Serializable getFinalResult() throws IllegalStateException {
 		
-		// Clean Up Hook
-		CleanUpSupport.removeQueueWhenFinished(jobId, queueName);
+		if (!isJobFinished()) throw new IllegalStateException("Job still executing");
 		
-		Thread t = new Thread(new Runnable(){
-
-			public void run() {
-				
-				// This sync block waits until result is available.
-				synchronized (mutex) {
-					try {
-						// If job is not finished, wait till it finishes
-						while (!isJobFinished()) {
-							// Wait for result
-							mutex.wait();
-						}
-						
-						// Job Finished
-						if (state==GridJobState.COMPLETE) {
-							callback.onResult(result);
-						}
-						else {
-							Exception e = null;
-							
-							// If we got an exception while execution
-							if (exception!=null) {
-								e = new GridExecutionException("Execution Failed", exception);
-							}
-							else { // If failed for other reason
-								e = new GridExecutionException("Execution Failed (Job State : " + getState() + ")");
-								
-							}
-							// Send Exception 
-							callback.onResult(e);
-						}
-					} catch (InterruptedException e) {
-						log.error(e);
-						throw new RuntimeException("Interrupted while waiting for Result");
-					}
-				}				
-			}
-			
-		});
+		if (state==GridJobState.COMPLETE) {
+			return result;
+		}
+		else if (exception!=null) {
+			// If we got an exception while execution
+			return new GridExecutionException("Execution Failed", exception);
+		}
+		else { 
+			// If failed for other reason
+			return new GridExecutionException("Execution Failed (Job State : " + getState() + ")");
+		}
+	}
+	
+	/**
+	 * Sends the final result of the {@code GridJob}, or a 
+	 * {@code GridExecutionException} if it did not complete, 
+	 * to the given JMS Queue, as a single result batch. The
+	 * queue is removed after {@link #FINAL_RESULT_EXPIRY}.
+	 * 
+	 * @param queueName JMS Queue Name
+	 */
+	private void sendFinalResult(String queueName) {
 		
-		// Make the thread to be daemon, because if this thread never gets notified,
-		// we don't want the cluster manager to wait for this thread to finish.
-		t.setDaemon(true);
-		t.start();
+		ArrayList<Serializable> batch = new ArrayList<Serializable>(1);
+		batch.add(getFinalResult());
 		
+		try {
+			getJmsTemplate().convertAndSend(queueName, batch);
+		} catch (JmsException e) {
+			// Submitter falls back to getFinalResult
+			log.warn("[GridJobFuture] Unable to send Final Result to " + queueName, e);
+		} finally {
+			CleanUpSupport.removeQueueLater(queueName, FINAL_RESULT_EXPIRY);
+		}
+	}
+	
+	/**
+	 * Returns the {@code JmsTemplate} used to send final results,
+	 * creating it if necessary.
+	 * 
+	 * @return JmsTemplate
+	 */
+	private synchronized JmsTemplate getJmsTemplate() {
+		if (jmsTemplate == null) {
+			jmsTemplate = new JmsTemplate(ClusterManager.getInstance().getConnectionFactory());
+			jmsTemplate.setExplicitQosEnabled(true);
+			jmsTemplate.setDeliveryPersistent(false);
+		}
+		return jmsTemplate;
 	}
 
 	/**
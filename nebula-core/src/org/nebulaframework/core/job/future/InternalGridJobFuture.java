@@ -13,6 +13,8 @@
  */
 package org.nebulaframework.core.job.future;
 
+import java.io.Serializable;
+
 import org.nebulaframework.core.job.GridJobStateListener;
 import org.nebulaframework.core.job.ResultCallback;
 import org.nebulaframework.core.job.splitaggregate.SplitAggregateGridJob;
@@ -43,14 +45,28 @@ public interface InternalGridJobFuture extends GridJobFuture {
 	public String getJobId();
 	
 	/**
-	 * Creates a {@link ResultCallback} proxy using the specified JMS QueueName,
-	 * which will be invoked when the final result of the {@code GridJob} is
-	 * available.
+	 * Registers the specified JMS QueueName to receive the final result of 
+	 * the {@code GridJob}. When the {@code GridJob} finishes, the final result
+	 * (or a {@code GridExecutionException}) is sent once to the queue, as a
+	 * single element result batch, which is handled by the {@link ResultCallback}
+	 * listening on the queue. If the {@code GridJob} has already finished, the
+	 * final result is sent immediately.
 	 * 
 	 * @param queueName JMS QueueName
 	 */
 	public void addFinalResultCallback(String queueName);
 	
+	/**
+	 * Returns the final result of the finished {@code GridJob}, or a
+	 * {@code GridExecutionException} if it did not complete. This is
+	 * used by submitters which did not receive the final result through
+	 * their result queue.
+	 * 
+	 * @return final result, or {@code GridExecutionException}
+	 * @throws IllegalStateException if the {@code GridJob} has not finished
+	 */
+	public Serializable getFinalResult() throws IllegalStateException;
+	
 	/**
 	 * Adds the given {@code GridJobStateListener} as a listener to the
 	 * {@code GridJob} represented by this {@code GridJobFuture}.
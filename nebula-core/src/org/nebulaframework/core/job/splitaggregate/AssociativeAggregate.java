@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job.splitaggregate;
+
+import java.io.Serializable;
+
+/**
+ * An {@code AssociativeAggregate} aggregates the results of a 
+ * {@code SplitAggregateGridJob} using an associative {@link #combine(Serializable, Serializable)}
+ * operation with an {@link #identity()}, which allows the {@code ClusterManager}
+ * to aggregate the results in parallel, on all of its processors.
+ * <p>
+ * A {@link SplitAggregateGridJob} which implements this interface is
+ * aggregated as a tree reduction of its results, in the order of the 
+ * {@code GridTask}s, and the final result is calculated by {@link #finish(Serializable)}
+ * (the {@link SplitAggregateGridJob#aggregate(java.util.List)} method is not invoked).
+ * The {@code combine} operation need not be commutative, but should be
+ * safe to be invoked concurrently for different arguments.
+ * <p>
+ * If a {@code GridJob} implements both {@link IncrementalAggregate} and this
+ * interface, the results are aggregated incrementally.
+ * 
+ * @param <T> Type of intermediate results of {@code GridTask}s
+ * @param <R> Type of Final Result of the {@code GridJob}
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see SplitAggregateGridJob
+ */
+public interface AssociativeAggregate<T extends Serializable, R extends Serializable> {
+
+	/**
+	 * Returns a new identity value for {@link #combine(Serializable, Serializable)},
+	 * that is, a value {@code i} for which {@code combine(i, x)} is equal to {@code x}.
+	 * 
+	 * @return identity value
+	 */
+	public T identity();
+	
+	/**
+	 * Combines two values, where {@code left} precedes {@code right}, and 
+	 * returns the combined value. The {@code left} value is always a 
+	 * value derived from {@link #identity()}, and it may be updated and 
+	 * returned. The {@code right} value should not be updated.
+	 * 
+	 * @param left left value
+	 * @param right right value
+	 * 
+	 * @return combined value
+	 */
+	public T combine(T left, T right);
+	
+	/**
+	 * Calculates the final result of the {@code GridJob} from the
+	 * combined value of all results.
+	 * 
+	 * @param combined combined value of all results
+	 * 
+	 * @return Final result of {@code GridJob}
+	 */
+	public R finish(T combined);
+}
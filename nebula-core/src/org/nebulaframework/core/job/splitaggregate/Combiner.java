@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job.splitaggregate;
+
+import java.io.Serializable;
+
+/**
+ * A {@code Combiner} partially aggregates the results of {@code GridTask}s
+ * at the {@code GridNode} which executed them, before they are sent to the
+ * {@code ClusterManager}.
+ * <p>
+ * Each {@code GridNode} starts from {@link #initial()} and accumulates the 
+ * results of its {@code GridTask}s using {@link #accumulate(Serializable, Serializable)}.
+ * The partial aggregation state is periodically sent to the {@code ClusterManager}, 
+ * where it is merged into the aggregation state of the {@code GridJob} using 
+ * {@link IncrementalAggregate#merge(Serializable, Serializable)}.
+ * <p>
+ * A {@code Combiner} is transferred to {@code GridNode}s in serialized form,
+ * so it should not refer to large objects (such as the {@code GridJob}).
+ * If {@code accumulate} fails, it should leave the given state unchanged.
+ * 
+ * @param <T> Type of intermediate results of {@code GridTask}s
+ * @param <A> Type of aggregation state
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see CombinerAware
+ * @see IncrementalAggregate
+ */
+public interface Combiner<T extends Serializable, A extends Serializable> extends Serializable {
+
+	/**
+	 * Returns the initial (empty) partial aggregation state.
+	 * 
+	 * @return initial aggregation state
+	 */
+	public A initial();
+	
+	/**
+	 * Accumulates the given result into the partial aggregation state,
+	 * and returns the updated state. The given state may be updated 
+	 * and returned.
+	 * 
+	 * @param state partial aggregation state
+	 * @param result intermediate result of a {@code GridTask}
+	 * 
+	 * @return updated aggregation state
+	 */
+	public A accumulate(A state, T result);
+}
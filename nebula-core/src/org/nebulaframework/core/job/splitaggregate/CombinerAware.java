@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job.splitaggregate;
+
+import java.io.Serializable;
+
+/**
+ * Allows an {@link IncrementalAggregate} {@code GridJob} to combine
+ * results at {@code GridNode}s, using a {@link Combiner}.
+ * <p>
+ * {@code GridNode}s send a partial aggregation state, along with the
+ * {@code GridTask}s it covers, every {@link #combineInterval()} milliseconds, 
+ * and whenever they run out of {@code GridTask}s, instead of a message
+ * per result. The {@code ClusterManager} merges a partial aggregation
+ * state only if none of its {@code GridTask}s has been completed already. 
+ * Otherwise, the state is discarded, and its outstanding {@code GridTask}s are 
+ * re-enqueued, so that re-executed {@code GridTask}s are never counted twice.
+ * <p>
+ * This interface is ignored for {@code GridJob}s which do not implement
+ * {@link IncrementalAggregate}. Failed results and intermediate result 
+ * callbacks are not affected by combining, with the exception that callbacks 
+ * are not fired for combined results.
+ * 
+ * @param <T> Type of intermediate results of {@code GridTask}s
+ * @param <A> Type of aggregation state
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see Combiner
+ */
+public interface CombinerAware<T extends Serializable, A extends Serializable> {
+
+	/**
+	 * Returns the {@code Combiner} to be used by {@code GridNode}s.
+	 * 
+	 * @return {@code Combiner}
+	 */
+	public Combiner<T, A> getCombiner();
+	
+	/**
+	 * Maximum time a {@code GridNode} may hold a partial aggregation 
+	 * state before sending it (in milliseconds).
+	 * 
+	 * @return combine interval in milliseconds
+	 */
+	public long combineInterval();
+}
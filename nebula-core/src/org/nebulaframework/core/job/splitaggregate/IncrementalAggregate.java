@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job.splitaggregate;
+
+import java.io.Serializable;
+
+/**
+ * An {@code IncrementalAggregate} aggregates the results of a 
+ * {@code SplitAggregateGridJob} as they arrive, instead of collecting
+ * all results and aggregating them at the end.
+ * <p>
+ * A {@link SplitAggregateGridJob} which implements this interface is 
+ * aggregated by folding each result into an aggregation state, starting 
+ * from {@link #initial()}, using {@link #accumulate(Serializable, Serializable)}.
+ * Results are discarded once accumulated, and once the last result arrives, 
+ * the final result is calculated by {@link #finish(Serializable)} (the 
+ * {@link SplitAggregateGridJob#aggregate(java.util.List)} method is not invoked). 
+ * This keeps the memory required by the {@code ClusterManager} independent
+ * of the number of results, and avoids a long aggregation after the
+ * last result.
+ * <p>
+ * Results are accumulated in the order of arrival, which is not the order
+ * of the {@code GridTask}s, so accumulation should be commutative and 
+ * associative. Partial aggregation states, calculated separately, are 
+ * combined using {@link #merge(Serializable, Serializable)}.
+ * <p>
+ * The methods of this interface are never invoked concurrently for the 
+ * same {@code GridJob}.
+ * 
+ * @param <T> Type of intermediate results of {@code GridTask}s
+ * @param <A> Type of aggregation state
+ * @param <R> Type of Final Result of the {@code GridJob}
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see SplitAggregateGridJob
+ */
+public interface IncrementalAggregate<T extends Serializable, A extends Serializable, R extends Serializable> {
+
+	/**
+	 * Returns the initial (empty) aggregation state.
+	 * 
+	 * @return initial aggregation state
+	 */
+	public A initial();
+	
+	/**
+	 * Accumulates the given result into the aggregation state,
+	 * and returns the updated aggregation state. The given state 
+	 * may be updated and returned.
+	 * 
+	 * @param state aggregation state
+	 * @param result intermediate result of a {@code GridTask}
+	 * 
+	 * @return updated aggregation state
+	 */
+	public A accumulate(A state, T result);
+	
+	/**
+	 * Merges two aggregation states, and returns the merged aggregation
+	 * state. Either of the given states may be updated and returned.
+	 * 
+	 * @param state aggregation state
+	 * @param other aggregation state to be merged
+	 * 
+	 * @return merged aggregation state
+	 */
+	public A merge(A state, A other);
+	
+	/**
+	 * Calculates the final result of the {@code GridJob} from 
+	 * the aggregation state, after all results are accumulated.
+	 * 
+	 * @param state aggregation state
+	 * 
+	 * @return Final result of {@code GridJob}
+	 */
+	public R finish(A state);
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job.splitaggregate;
+
+import java.io.Serializable;
+
+import org.nebulaframework.core.task.GridTask;
+
+/**
+ * An {@code IndexedTaskFactory} deterministically creates the {@code GridTask}
+ * of a given index, for a {@code SplitAggregateGridJob} which consists of
+ * a known number of {@code GridTask}s.
+ * <p>
+ * A {@link SplitAggregateGridJob} which implements this interface is
+ * split by creating the {@code GridTask}s of indexes {@code 0} to 
+ * {@code getTaskCount() - 1} on demand (the {@link SplitAggregateGridJob#split()}
+ * method is not invoked), while the number of outstanding {@code GridTask}s
+ * is below a high-water mark. The {@code ClusterManager} keeps only a bit per
+ * outstanding {@code GridTask}, instead of the {@code GridTask} itself, and
+ * re-creates a {@code GridTask} using {@link #task(int)} if it has to be 
+ * re-enqueued.
+ * <p>
+ * {@link #task(int)} may be invoked more than once for the same index, and
+ * should return an equivalent {@code GridTask} each time. The results are
+ * passed to {@link SplitAggregateGridJob#aggregate(java.util.List)} in 
+ * the order of indexes.
+ * 
+ * @param <T> Type of intermediate results of {@code GridTask}s
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see SplitAggregateGridJob
+ */
+public interface IndexedTaskFactory<T extends Serializable> {
+
+	/**
+	 * Returns the number of {@code GridTask}s of the {@code GridJob}.
+	 * 
+	 * @return number of {@code GridTask}s
+	 */
+	public int getTaskCount();
+	
+	/**
+	 * Creates the {@code GridTask} of the given index.
+	 * 
+	 * @param index index of {@code GridTask}, from {@code 0} 
+	 * to {@code getTaskCount() - 1}
+	 * 
+	 * @return {@code GridTask} of index
+	 */
+	public GridTask<T> task(int index);
+}
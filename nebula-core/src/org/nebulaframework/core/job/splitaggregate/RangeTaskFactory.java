@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job.splitaggregate;
+
+import java.io.Serializable;
+
+import org.nebulaframework.core.job.annotations.AdaptiveChunking;
+import org.nebulaframework.core.task.GridTask;
+
+/**
+ * A {@code RangeTaskFactory} creates {@code GridTask}s for arbitrary 
+ * ranges of the work of a {@code SplitAggregateGridJob}. The work of
+ * the {@code GridJob} is viewed as a range of units, {@code [0, getRangeSize())},
+ * and any contiguous sub-range of it can be turned into a {@code GridTask}.
+ * <p>
+ * A {@link SplitAggregateGridJob} which implements this interface is 
+ * split adaptively (the {@link SplitAggregateGridJob#split()} method 
+ * is not invoked). The {@code ClusterManager} starts with small ranges, 
+ * and grows or shrinks the range of each subsequent {@code GridTask} based on 
+ * the observed execution times of the {@code GridTask}s, so that each 
+ * {@code GridTask} executes for a target duration. This amortizes the per 
+ * {@code GridTask} overhead of the framework, without having to tune 
+ * the split of the {@code GridJob} for the speed of the {@code GridNode}s.
+ * <p>
+ * The {@code GridTask}s are created for consecutive ranges, and the
+ * results are passed to {@link SplitAggregateGridJob#aggregate(java.util.List)}
+ * in the same order. The target duration can be specified using the
+ * {@link AdaptiveChunking} annotation.
+ * 
+ * @param <T> Type of intermediate results of {@code GridTask}s
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see AdaptiveChunking
+ */
+public interface RangeTaskFactory<T extends Serializable> {
+	
+	/**
+	 * Returns the total number of units of work of the {@code GridJob}.
+	 * 
+	 * @return number of units of work
+	 */
+	public int getRangeSize();
+	
+	/**
+	 * Creates a {@code GridTask} which processes the units of work
+	 * from {@code from} (inclusive) to {@code to} (exclusive).
+	 * 
+	 * @param from first unit of range (inclusive)
+	 * @param to last unit of range (exclusive)
+	 * 
+	 * @return {@code GridTask} for range
+	 */
+	public GridTask<T> createTask(int from, int to);
+}
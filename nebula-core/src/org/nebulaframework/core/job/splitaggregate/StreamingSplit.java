@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job.splitaggregate;
+
+import java.io.Serializable;
+import java.util.Iterator;
+
+import org.nebulaframework.core.task.GridTask;
+
+/**
+ * A {@code StreamingSplit} splits a {@code SplitAggregateGridJob} 
+ * lazily, through an {@code Iterator} of {@code GridTask}s, instead of a
+ * fully materialized {@code List}.
+ * <p>
+ * A {@link SplitAggregateGridJob} which implements this interface is 
+ * split using {@link #splitIterator()} (the {@link SplitAggregateGridJob#split()} 
+ * method is not invoked). The {@code ClusterManager} pulls {@code GridTask}s 
+ * from the {@code Iterator} only while the number of outstanding 
+ * {@code GridTask}s of the {@code GridJob} is below a high-water mark, 
+ * and {@code GridNode}s start executing {@code GridTask}s while the 
+ * {@code GridJob} is still being split. This allows {@code GridJob}s
+ * with a very large number of {@code GridTask}s to be executed without 
+ * holding all {@code GridTask}s in memory.
+ * <p>
+ * The {@code Iterator} should generate {@code GridTask}s on demand
+ * (in {@code next()}), and the results are passed to 
+ * {@link SplitAggregateGridJob#aggregate(java.util.List)} in the order
+ * of the {@code GridTask}s.
+ * 
+ * @param <T> Type of intermediate results of {@code GridTask}s
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see SplitAggregateGridJob
+ */
+public interface StreamingSplit<T extends Serializable> {
+	
+	/**
+	 * Logic to split this {@code GridJob} lazily into  
+	 * {@code GridTask}s.
+	 * 
+	 * @return An {@code Iterator} of {@link GridTask}s.
+	 */
+	public Iterator<? extends GridTask<T>> splitIterator();
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job.unbounded;
+
+import org.nebulaframework.core.job.annotations.unbounded.ResultWindow;
+
+/**
+ * This interface defines the contract which allows a {@link WindowedAggregate}
+ * {@code UnboundedGridJob} to specify its result windows.
+ * <p>
+ * Alternatively, consider using the {@link ResultWindow} annotation for 
+ * the same purpose without implementing each and every method of this interface.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see ResultWindow
+ */
+public interface ResultWindowAware {
+
+	/**
+	 * Indicates whether windows are defined by duration (in milliseconds),
+	 * instead of by number of results.
+	 * 
+	 * @return {@code true} if windows are time based
+	 */
+	boolean timeWindow();
+	
+	/**
+	 * Size of a window, as number of results, or in 
+	 * milliseconds for time based windows.
+	 * 
+	 * @return size of window
+	 */
+	long windowSize();
+	
+	/**
+	 * Interval at which windows are delivered, as number of results,
+	 * or in milliseconds for time based windows. The size of the window
+	 * should be a multiple of the slide. A value of zero indicates
+	 * tumbling windows, where the slide is equal to the size.
+	 * 
+	 * @return slide of window
+	 */
+	long windowSlide();
+}
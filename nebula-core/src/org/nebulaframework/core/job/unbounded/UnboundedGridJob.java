@@ -72,6 +72,11 @@ import org.nebulaframework.grid.cluster.manager.ClusterManager;
  * {@link GridJobFuture#getResult()} or its overloaded versions will result in
  * an {@link IllegalStateException}.
  * <p>
+ * For high volumes of results, an {@code UnboundedGridJob} may implement 
+ * {@link WindowedAggregate}, to aggregate the processed results over windows
+ * on the {@code ClusterManager}, in which case only the aggregate of each 
+ * window is notified through the {@code ResultCallback}.
+ * <p>
  * Some customization of the execution of {@code UnboundedGridJob} is allowed
  * through {@link UnboundedProcessingSettings} annotation.If a {@code UnboundedGridJob}
  * is annotated with {@code ProcessingSettings}, the framework will detect
@@ -17,30 +17,23 @@ import org.nebulaframework.core.job.annotations.unbounded.UnboundedProcessingSet
  */
 public interface UnboundedSettingsAware {
 	/**
-	 * Maximum number of tasks in TaskQueue at a given time, without slowing
-	 * task generation. Note that this does not define the maximum possible
-	 * tasks in queue. However, once this amount is reached, future task 
-	 * generation will be gradually slowed down, to avoid overloading the
-	 * task queue.
+	 * Target time (in milliseconds) a generated task should spend 
+	 * between being enqueued and its result being received. The number 
+	 * of outstanding tasks (the task window) is adjusted to the measured 
+	 * result rate of the Grid multiplied by this latency.
 	 * 
-	 * @return maximum allowed tasks in queue without reduction
+	 * @return target task latency in milliseconds
 	 */
-	int maxTasksInQueue();
+	long targetLatency();
 
 	/**
-	 * Factor (time) by which the task generation is slowed per task which is
-	 * over {@code maxTasksInQueue} (in milliseconds). When the task queue exceeds
-	 * {@code maxTasksInQueue}, the next task generation will be delayed by <i>n</i> 
-	 * milliseconds where <i>n</i> is  the multiplication of this factor into 
-	 * tasks above limit.
-	 * <p>
-	 * For example, if reductionFactor is 50, {@code maxTasksInQueue} is 100, 
-	 * and if current number of tasks in queue are 105, the next task generation 
-	 * will be slowed by (105-100) * 50 milliseconds.
+	 * Maximum number of outstanding tasks (enqueued, without results) 
+	 * at a given time. Task generation blocks once this amount is 
+	 * reached, until a result is received.
 	 * 
-	 * @return reduction factor in milliseconds
+	 * @return maximum outstanding tasks
 	 */
-	int reductionFactor();
+	int targetBacklog();
 
 	/**
 	 * Indicates whether to stop task generation if a null task is returned
@@ -59,4 +52,39 @@ public interface UnboundedSettingsAware {
 	 *         exclusive
 	 */
 	boolean mutuallyExclusiveTasks();
+	
+	/**
+	 * Indicates whether the {@code task()} and {@code processResult()} 
+	 * methods of the {@code UnboundedGridJob} are thread-safe, that is,
+	 * they may be invoked concurrently by multiple threads. Unless
+	 * thread-safe, each method is invoked by a single thread.
+	 * 
+	 * @return a boolean indicating whether the job is thread-safe
+	 */
+	boolean threadSafe();
+	
+	/**
+	 * Number of threads which generate tasks concurrently, by invoking
+	 * {@code task()}, for a thread-safe {@code UnboundedGridJob}.
+	 * 
+	 * @return number of task generator threads
+	 */
+	int generatorThreads();
+	
+	/**
+	 * Number of threads which process results concurrently, by invoking
+	 * {@code processResult()}, for a thread-safe {@code UnboundedGridJob}.
+	 * 
+	 * @return number of result processor threads
+	 */
+	int processorThreads();
+	
+	/**
+	 * Indicates whether the processed results should be delivered to the
+	 * {@code ResultCallback} in the order in which the results were received,
+	 * when results are processed by multiple threads.
+	 * 
+	 * @return a boolean indicating whether results are delivered in order
+	 */
+	boolean orderedCallback();
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.job.unbounded;
+
+import java.io.Serializable;
+
+import org.nebulaframework.core.job.ResultCallback;
+import org.nebulaframework.core.job.annotations.unbounded.ResultWindow;
+
+/**
+ * A {@code WindowedAggregate} aggregates the processed results of an
+ * {@code UnboundedGridJob} over windows, on the {@code ClusterManager}, 
+ * so that only the aggregate of each window is delivered to the
+ * {@link ResultCallback}, instead of each result.
+ * <p>
+ * An {@link UnboundedGridJob} which implements this interface has each
+ * result returned by {@link UnboundedGridJob#processResult(Serializable)}
+ * folded into an aggregation state, starting from {@link #initial()}, using
+ * {@link #accumulate(Serializable, Serializable)}. Once a window closes, the 
+ * aggregate of the window is calculated by {@link #finish(Serializable)}, 
+ * and it is delivered to the {@code ResultCallback}. Windows are defined by 
+ * a number of results, or a duration, and may be tumbling (consecutive windows 
+ * do not overlap) or sliding, as specified by the {@link ResultWindow} 
+ * annotation or the {@link ResultWindowAware} interface. By default, windows
+ * are tumbling windows of 100 results.
+ * <p>
+ * Sliding windows are aggregated in panes of one slide each, and the
+ * aggregation state of a window is obtained by merging the states of its
+ * panes, using {@link #merge(Serializable, Serializable)}, so that each
+ * result is accumulated only once. Windows which received no results 
+ * are not delivered.
+ * <p>
+ * Results are accumulated in the order of arrival, so accumulation should 
+ * be commutative and associative. The methods of this interface are never 
+ * invoked concurrently for the same {@code GridJob}.
+ * 
+ * @param <T> Type of processed results
+ * @param <A> Type of aggregation state
+ * @param <R> Type of window aggregate, delivered to {@code ResultCallback}
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see UnboundedGridJob
+ * @see ResultWindow
+ */
+public interface WindowedAggregate<T extends Serializable, A extends Serializable, R extends Serializable> {
+
+	/**
+	 * Returns a new initial (empty) aggregation state.
+	 * 
+	 * @return initial aggregation state
+	 */
+	public A initial();
+	
+	/**
+	 * Accumulates the given result into the aggregation state,
+	 * and returns the updated aggregation state. The given state 
+	 * may be updated and returned.
+	 * 
+	 * @param state aggregation state
+	 * @param result processed result
+	 * 
+	 * @return updated aggregation state
+	 */
+	public A accumulate(A state, T result);
+	
+	/**
+	 * Merges the aggregation state of a pane into the given aggregation
+	 * state, and returns the merged aggregation state. The given state may
+	 * be updated and returned, but the state of the pane should not be 
+	 * updated, as it is merged into more than one window.
+	 * 
+	 * @param state aggregation state
+	 * @param pane aggregation state of pane
+	 * 
+	 * @return merged aggregation state
+	 */
+	public A merge(A state, A pane);
+	
+	/**
+	 * Calculates the aggregate of a window from its aggregation state.
+	 * 
+	 * @param state aggregation state of window
+	 * 
+	 * @return window aggregate
+	 */
+	public R finish(A state);
+}
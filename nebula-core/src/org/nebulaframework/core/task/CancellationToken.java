@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.task;
+
+import org.nebulaframework.grid.GridExecutionException;
+
+/**
+ * A {@code CancellationToken} signals the cancellation of a {@code GridTask}
+ * in execution, to the {@code GridTask} itself. 
+ * <p>
+ * A {@code GridTask} is cancelled when its {@code GridJob} ends or is cancelled,
+ * when its timeout elapses, or when a result has already been received for it
+ * from another {@code GridNode}. The execution thread of the {@code GridTask}
+ * is interrupted on cancellation, which stops blocking operations. 
+ * {@code GridTask}s which execute long computations without blocking should poll
+ * {@link #isCancellationRequested()} (or invoke {@link #checkCancelled()})
+ * periodically, and return as soon as it is cancelled, so that the processor
+ * is released for other {@code GridTask}s. The result of a cancelled 
+ * {@code GridTask} is discarded.
+ * <p>
+ * The token of the {@code GridTask} in execution is bound to the execution
+ * thread by the {@code GridNode}. If no token is bound (for example, when
+ * a {@code GridTask} is executed locally), a token which is never cancelled
+ * is returned by {@link #current()}.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see GridTask
+ */
+public final class CancellationToken {
+
+	// Token for threads without a bound token
+	private static final CancellationToken NONE = new CancellationToken(null);
+	
+	// Token of GridTask in execution, per thread
+	private static final ThreadLocal<CancellationToken> current = new ThreadLocal<CancellationToken>();
+	
+	private Thread thread;
+	private volatile boolean cancelled = false;
+	private volatile boolean timedOut = false;
+	
+	/**
+	 * Constructs a {@code CancellationToken} for the given
+	 * execution thread.
+	 * 
+	 * @param thread execution thread, to be interrupted on cancellation
+	 */
+	public CancellationToken(Thread thread) {
+		super();
+		this.thread = thread;
+	}
+	
+	/**
+	 * Returns the {@code CancellationToken} of the {@code GridTask} executed by
+	 * the current thread.
+	 * 
+	 * @return {@code CancellationToken}
+	 */
+	public static CancellationToken current() {
+		CancellationToken token = current.get();
+		return (token != null) ? token : NONE;
+	}
+	
+	/**
+	 * Returns {@code true} if the {@code GridTask} executed by the current
+	 * thread has been cancelled.
+	 * 
+	 * @return if cancelled {@code true}, {@code false} otherwise
+	 */
+	public static boolean isCancellationRequested() {
+		return current().isCancelled();
+	}
+	
+	/**
+	 * Throws a {@code GridExecutionException} if the {@code GridTask} 
+	 * executed by the current thread has been cancelled.
+	 * 
+	 * @throws GridExecutionException if cancelled
+	 */
+	public static void checkCancelled() throws GridExecutionException {
+		if (isCancellationRequested()) {
+			throw new GridExecutionException("GridTask Cancelled");
+		}
+	}
+	
+	/**
+	 * Binds the given {@code CancellationToken} to the current thread.
+	 * <p>
+	 * <b>Note : </b>This method is intended for {@code GridNode}s, 
+	 * and should not be invoked by {@code GridTask}s.
+	 * 
+	 * @param token {@code CancellationToken}
+	 */
+	public static void bind(CancellationToken token) {
+		current.set(token);
+	}
+	
+	/**
+	 * Unbinds the {@code CancellationToken} of the current thread. Once 
+	 * unbound, the cancellation of the token does not interrupt the thread.
+	 * <p>
+	 * <b>Note : </b>This method is intended for {@code GridNode}s, 
+	 * and should not be invoked by {@code GridTask}s.
+	 */
+	public static void unbind() {
+		
+		CancellationToken token = current.get();
+		
+		if (token != null) {
+			synchronized (token) {
+				token.thread = null;
+			}
+		}
+		
+		current.remove();
+	}
+	
+	/**
+	 * Cancels the {@code GridTask}, interrupting its execution thread,
+	 * if still bound.
+	 */
+	public void cancel() {
+		
+		cancelled = true;
+		
+		synchronized (this) {
+			if (thread != null) {
+				thread.interrupt();
+			}
+		}
+	}
+	
+	/**
+	 * Cancels the {@code GridTask}, as its timeout has elapsed.
+	 */
+	public void timeout() {
+		timedOut = true;
+		cancel();
+	}
+	
+	/**
+	 * Returns {@code true} if the {@code GridTask} has been cancelled.
+	 * 
+	 * @return if cancelled {@code true}, {@code false} otherwise
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+	
+	/**
+	 * Returns {@code true} if the {@code GridTask} has been cancelled 
+	 * as its timeout elapsed.
+	 * 
+	 * @return if timed out {@code true}, {@code false} otherwise
+	 */
+	public boolean isTimedOut() {
+		return timedOut;
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.task;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Holds a contiguous range of {@link GridTask}s of a {@code GridJob}, which
+ * are sent to the {@code TaskQueue} as a single message. This allows 
+ * {@code GridJob}s which split into a large number of fine grained 
+ * {@code GridTask}s to avoid the overhead of a message per {@code GridTask}.
+ * <p>
+ * The {@code GridTask}s of a {@code GridTaskPack} have consecutive Task Ids,
+ * starting from {@link #getFirstTaskId()}. The {@code GridTask}s are 
+ * executed, and their results are tracked, individually by their Task Ids.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see GridTask
+ */
+public class GridTaskPack implements Serializable {
+
+	private static final long serialVersionUID = 6071843392834569047L;
+	
+	private int firstTaskId;
+	private List<GridTask<? extends Serializable>> tasks;
+	
+	/**
+	 * Constructs a {@code GridTaskPack} for the given {@code GridTask}s,
+	 * of which the first {@code GridTask} has Task Id {@code firstTaskId}.
+	 * 
+	 * @param firstTaskId Task Id of first {@code GridTask}
+	 * @param tasks {@code GridTask}s with consecutive Task Ids
+	 * @throws IllegalArgumentException if {@code tasks} is {@code null}
+	 */
+	public GridTaskPack(int firstTaskId, List<? extends GridTask<? extends Serializable>> tasks) 
+			throws IllegalArgumentException {
+		
+		super();
+		
+		Assert.notNull(tasks);
+		
+		this.firstTaskId = firstTaskId;
+		this.tasks = new ArrayList<GridTask<? extends Serializable>>(tasks);
+	}
+
+	/**
+	 * Returns the Task Id of the first {@code GridTask} 
+	 * of this {@code GridTaskPack}.
+	 * 
+	 * @return Task Id of first {@code GridTask}
+	 */
+	public int getFirstTaskId() {
+		return firstTaskId;
+	}
+
+	/**
+	 * Returns the {@code GridTask}s of this {@code GridTaskPack}. The Task Id 
+	 * of a {@code GridTask} is {@code firstTaskId} plus its index.
+	 * 
+	 * @return unmodifiable {@code List} of {@code GridTask}s
+	 */
+	public List<GridTask<? extends Serializable>> getTasks() {
+		return Collections.unmodifiableList(tasks);
+	}
+
+	/**
+	 * Returns the number of {@code GridTask}s of this {@code GridTaskPack}.
+	 * 
+	 * @return number of {@code GridTask}s
+	 */
+	public int size() {
+		return tasks.size();
+	}
+}
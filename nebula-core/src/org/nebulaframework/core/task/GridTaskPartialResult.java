@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.task;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import org.springframework.util.Assert;
+
+/**
+ * Holds a partial aggregation state, calculated by a {@code GridNode} 
+ * from the results of a set of {@code GridTask}s, when the results of 
+ * a {@code GridJob} are combined at {@code GridNode}s.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see org.nebulaframework.core.job.splitaggregate.Combiner
+ */
+public class GridTaskPartialResult implements Serializable {
+
+	private static final long serialVersionUID = 4452716003287491723L;
+	
+	private String jobId;
+	private UUID workerId;
+	private int[] taskIds;
+	private Serializable state;
+	private long executionTime;
+	
+	/**
+	 * Constructs a {@code GridTaskPartialResult} for the given
+	 * {@code GridTask}s of a {@code GridJob}.
+	 * 
+	 * @param jobId JobId of {@code GridJob}
+	 * @param workerId Worker Node Id
+	 * @param taskIds TaskIds of combined {@code GridTask}s
+	 * @param state partial aggregation state
+	 * @param executionTime total execution time of {@code GridTask}s (ms)
+	 * @throws IllegalArgumentException if {@code jobId} or {@code taskIds} is {@code null}
+	 */
+	public GridTaskPartialResult(String jobId, UUID workerId, int[] taskIds,
+			Serializable state, long executionTime) throws IllegalArgumentException {
+		
+		super();
+		
+		Assert.notNull(jobId);
+		Assert.notNull(taskIds);
+		
+		this.jobId = jobId;
+		this.workerId = workerId;
+		this.taskIds = taskIds;
+		this.state = state;
+		this.executionTime = executionTime;
+	}
+
+	/**
+	 * Returns the JobId of {@code GridJob}.
+	 * 
+	 * @return String JobId
+	 */
+	public String getJobId() {
+		return jobId;
+	}
+
+	/**
+	 * Returns the Node Id of the worker which combined the results.
+	 * 
+	 * @return Worker Node Id
+	 */
+	public UUID getWorkerId() {
+		return workerId;
+	}
+
+	/**
+	 * Returns the TaskIds of the {@code GridTask}s of which the
+	 * results are combined into this partial result.
+	 * 
+	 * @return TaskIds
+	 */
+	public int[] getTaskIds() {
+		return taskIds;
+	}
+
+	/**
+	 * Returns the partial aggregation state.
+	 * 
+	 * @return aggregation state
+	 */
+	public Serializable getState() {
+		return state;
+	}
+
+	/**
+	 * Returns the total execution time of the combined 
+	 * {@code GridTask}s, in milliseconds.
+	 * 
+	 * @return execution time
+	 */
+	public long getExecutionTime() {
+		return executionTime;
+	}
+	
+	/**
+	 * Returns the number of {@code GridTask}s combined.
+	 * 
+	 * @return number of {@code GridTask}s
+	 */
+	public int size() {
+		return taskIds.length;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return this.jobId + "> Partial:" + this.taskIds.length;
+	}
+}
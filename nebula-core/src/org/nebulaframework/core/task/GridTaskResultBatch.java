@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.task;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Holds a batch of {@link GridTaskResult}s of a {@code GridJob}, which 
+ * are sent to the {@code ResultQueue} as a single message, when
+ * result batching is enabled for the {@code GridJob}.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see GridTaskResult
+ */
+public class GridTaskResultBatch implements Serializable {
+
+	private static final long serialVersionUID = -2395476283746013514L;
+	
+	private String jobId;
+	private List<GridTaskResult> results;
+	
+	/**
+	 * Constructs a {@code GridTaskResultBatch} for the 
+	 * given results of a {@code GridJob}.
+	 * 
+	 * @param jobId JobId of {@code GridJob}
+	 * @param results {@code GridTaskResult}s 
+	 * @throws IllegalArgumentException if any argument is {@code null}
+	 */
+	public GridTaskResultBatch(String jobId, List<? extends GridTaskResult> results) 
+			throws IllegalArgumentException {
+		
+		super();
+		
+		Assert.notNull(jobId);
+		Assert.notNull(results);
+		
+		this.jobId = jobId;
+		this.results = new ArrayList<GridTaskResult>(results);
+	}
+
+	/**
+	 * Returns the JobId of {@code GridJob}, to which this 
+	 * batch belongs.
+	 * 
+	 * @return String JobId
+	 */
+	public String getJobId() {
+		return jobId;
+	}
+
+	/**
+	 * Returns the {@code GridTaskResult}s of this batch.
+	 * 
+	 * @return unmodifiable {@code List} of results
+	 */
+	public List<GridTaskResult> getResults() {
+		return Collections.unmodifiableList(results);
+	}
+	
+	/**
+	 * Returns the number of {@code GridTaskResult}s in this batch.
+	 * 
+	 * @return number of results
+	 */
+	public int size() {
+		return results.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return this.jobId + "> Batch:" + this.results.size();
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.core.task;
+
+import org.nebulaframework.core.job.annotations.TaskTimeout;
+
+/**
+ * {@code GridTask}s may implement this interface to specify the maximum 
+ * execution time of each {@code GridTask} individually, overriding the 
+ * {@link TaskTimeout} of its {@code GridJob}, if any.
+ * <p>
+ * A {@code GridTask} which exceeds its timeout is cancelled (refer to
+ * {@link CancellationToken}), and reported as failed.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see TaskTimeout
+ * @see CancellationToken
+ */
+public interface TimeoutAware {
+
+	/**
+	 * Returns the maximum execution time of the {@code GridTask}, 
+	 * in milliseconds. A value of zero indicates no timeout.
+	 * 
+	 * @return timeout in milliseconds
+	 */
+	public long getTimeout();
+}
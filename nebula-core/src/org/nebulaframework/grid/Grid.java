@@ -26,6 +26,7 @@ import org.apache.commons.logging.LogFactory;
 import org.nebulaframework.configuration.ConfigurationKeys;
 import org.nebulaframework.configuration.ConfigurationSupport;
 import org.nebulaframework.core.job.GridJob;
+import org.nebulaframework.core.job.JobPriority;
 import org.nebulaframework.core.job.ResultCallback;
 import org.nebulaframework.core.job.archive.GridArchive;
 import org.nebulaframework.core.job.exceptions.GridJobRejectionException;
@@ -505,5 +506,16 @@ public class Grid implements JobSubmissionService {
 		return GridNode.getInstance().getJobSubmissionService().submitJob(job, callback);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public GridJobFuture submitJob(GridJob<?, ?> job, ResultCallback callback,
+			JobPriority priority, long deadline) throws GridJobRejectionException, 
+			IllegalStateException {
+		return GridNode.getInstance().getJobSubmissionService().submitJob(job, callback, 
+		                                                                  priority, deadline);
+	}
+
 	
 }
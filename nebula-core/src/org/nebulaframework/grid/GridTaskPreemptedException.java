@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid;
+
+/**
+ * Denotes that the execution of a {@code GridTask} was abandoned by its
+ * {@code GridNode}, as the execution slot of the {@code GridNode} was 
+ * preempted by a {@code GridJob} of higher priority. Such {@code GridTask}s
+ * are re-enqueued, without being accounted as failures of the {@code GridNode}.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ */
+public class GridTaskPreemptedException extends GridExecutionException {
+
+	private static final long serialVersionUID = 2391823470912834509L;
+
+	/**
+	 * Create a GridTaskPreemptedException with the given message.
+	 * 
+	 * @param message
+	 *            Message
+	 */
+	public GridTaskPreemptedException(String message) {
+		super(message);
+	}
+
+}
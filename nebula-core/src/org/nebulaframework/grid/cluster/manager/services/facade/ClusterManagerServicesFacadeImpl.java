@@ -14,14 +14,17 @@
 
 package org.nebulaframework.grid.cluster.manager.services.facade;
 
+import java.util.List;
 import java.util.UUID;
 
+import org.nebulaframework.core.job.JobPriority;
 import org.nebulaframework.core.job.archive.GridArchive;
 import org.nebulaframework.core.job.deploy.GridJobInfo;
 import org.nebulaframework.core.job.exceptions.GridJobPermissionDeniedException;
 import org.nebulaframework.core.job.exceptions.GridJobRejectionException;
 import org.nebulaframework.grid.cluster.manager.ClusterManager;
 import org.nebulaframework.grid.cluster.manager.services.jobs.ClusterJobService;
+import org.nebulaframework.grid.cluster.manager.services.jobs.NodeSpeed;
 import org.nebulaframework.grid.cluster.node.GridNodeProfile;
 
 /**
@@ -100,6 +103,22 @@ public class ClusterManagerServicesFacadeImpl implements
 		return this.cluster.getJobService().submitJob(owner, className, classData, archive, resultCallbackQueue);
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Delegates to {@code ClusterManager}'s {@code ClusterJobService} to
+	 * submit a given {@code GridJob}, with the given priority and deadline.
+	 * 
+	 * @see ClusterJobService#submitJob(UUID, String, byte[], GridArchive, String, JobPriority, long)
+	 */
+	@Override
+	public String submitJob(UUID owner, String className, byte[] classData, GridArchive archive,
+			String resultCallbackQueue, JobPriority priority, long deadline) 
+			throws GridJobRejectionException {
+		return this.cluster.getJobService().submitJob(owner, className, classData, archive, 
+		                                              resultCallbackQueue, priority, deadline);
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * <p>
@@ -142,6 +161,26 @@ public class ClusterManagerServicesFacadeImpl implements
 		return this.cluster.getJobService().requestNextJob(nodeProfile);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Delegates to {@code ClusterManager}'s {@code ClusterJobService}.
+	 */
+	@Override
+	public List<NodeSpeed> getNodeSpeeds() {
+		return this.cluster.getJobService().getNodeSpeeds();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Delegates to {@code ClusterManager}'s {@code ClusterJobService}.
+	 */
+	@Override
+	public long getCallbackLag(String jobId) {
+		return this.cluster.getJobService().getCallbackLag(jobId);
+	}
+
 
 
 }
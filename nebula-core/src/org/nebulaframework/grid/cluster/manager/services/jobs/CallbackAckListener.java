@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.nebulaframework.util.jms.JMSNamingSupport;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+import org.springframework.util.Assert;
+
+/**
+ * Receives the acknowledgements of result batches, sent by submitter
+ * {@code GridNode}s once their {@code ResultCallback} has processed a 
+ * batch, and passes each to the {@link ResultCallbackDispatcher} of 
+ * the {@code GridJob}.
+ * <p>
+ * A single listener serves all {@code GridJob}s of the {@code ClusterManager},
+ * on the queue given by {@link JMSNamingSupport#getCallbackAckQueueName()}.
+ * Each acknowledgement carries the JobId as its correlation id, and the
+ * sequence number of the batch as the {@code batch} property.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see ResultCallbackDispatcher
+ */
+public class CallbackAckListener implements MessageListener {
+
+	private static Log log = LogFactory.getLog(CallbackAckListener.class);
+	
+	private DefaultMessageListenerContainer container;
+	
+	// Dispatchers, against JobId
+	private Map<String, ResultCallbackDispatcher> dispatchers = new ConcurrentHashMap<String, ResultCallbackDispatcher>();
+	
+	/**
+	 * Constructs a {@code CallbackAckListener}, and starts 
+	 * listening on the acknowledgement queue.
+	 * 
+	 * @param connectionFactory JMS {@code ConnectionFactory}
+	 */
+	public CallbackAckListener(ConnectionFactory connectionFactory) {
+		super();
+		
+		Assert.notNull(connectionFactory);
+		
+		container = new DefaultMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.setDestinationName(JMSNamingSupport.getCallbackAckQueueName());
+		container.setMessageListener(this);
+		container.afterPropertiesSet();
+	}
+	
+	/**
+	 * Registers the given {@code ResultCallbackDispatcher} to
+	 * receive acknowledgements for its {@code GridJob}.
+	 * 
+	 * @param dispatcher {@code ResultCallbackDispatcher}
+	 */
+	public void register(ResultCallbackDispatcher dispatcher) {
+		dispatchers.put(dispatcher.getJobId(), dispatcher);
+	}
+	
+	/**
+	 * Removes the {@code ResultCallbackDispatcher} of the given 
+	 * {@code GridJob}. Further acknowledgements are discarded.
+	 * 
+	 * @param jobId JobId
+	 */
+	public void unregister(String jobId) {
+		dispatchers.remove(jobId);
+	}
+
+	/**
+	 * Invoked by the Message Listener Container for each 
+	 * acknowledgement.
+	 * 
+	 * @param message JMS Message
+	 */
+	public void onMessage(Message message) {
+		try {
+			ResultCallbackDispatcher dispatcher = dispatchers.get(message.getJMSCorrelationID());
+			if (dispatcher != null) {
+				dispatcher.acknowledged(message.getLongProperty("batch"));
+			}
+		} catch (JMSException e) {
+			log.warn("[CallbackAckListener] Exception while reading Acknowledgement", e);
+		}
+	}
+	
+	/**
+	 * Stops listening for acknowledgements.
+	 */
+	public void shutdown() {
+		container.shutdown();
+		dispatchers.clear();
+	}
+}
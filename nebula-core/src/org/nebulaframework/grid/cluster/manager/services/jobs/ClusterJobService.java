@@ -14,9 +14,11 @@
 
 package org.nebulaframework.grid.cluster.manager.services.jobs;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.nebulaframework.core.job.GridJob;
+import org.nebulaframework.core.job.JobPriority;
 import org.nebulaframework.core.job.ResultCallback;
 import org.nebulaframework.core.job.archive.GridArchive;
 import org.nebulaframework.core.job.deploy.GridJobInfo;
@@ -122,6 +124,34 @@ public interface ClusterJobService {
 	public String submitJob(UUID owner,
 			 String className, byte[] classData, GridArchive archive, String resultCallbackQueue) throws GridJobRejectionException;
 	
+	/**
+	 * Submits a {@code GridJob} with the given scheduling priority and 
+	 * deadline, to the {@code ClusterManager}, which results in job enqueue 
+	 * and infrastructure allocation.
+	 * <p>
+	 * The given priority and deadline override the {@code Priority} and 
+	 * {@code Deadline} annotations of the {@code GridJob} class, if any.
+	 * 
+	 * @param owner Owner of Job (Node Id)
+	 * @param className GridJob Class Name
+	 * @param classData Serialized GridJob Object Data
+	 * @param archive GridArchive, if applicable. This may be {@code null}.
+	 * @param resultCallbackQueue JMS QueueName used for ResultCallback 
+	 * communication. This may be {@code null}.
+	 * @param priority Scheduling priority. If {@code null}, the annotated 
+	 * priority, or {@code JobPriority.NORMAL} is used.
+	 * @param deadline Time within which the Job is expected to finish, in
+	 * milliseconds after submission. If zero, the annotated deadline, if any,
+	 * is used.
+	 * 
+	 * @return String JobId assigned for the submitted Job
+	 * 
+	 * @throws GridJobRejectionException if job is rejected
+	 */
+	public String submitJob(UUID owner, String className, byte[] classData, 
+			GridArchive archive, String resultCallbackQueue, 
+			JobPriority priority, long deadline) throws GridJobRejectionException;
+	
 	/**
 	 * Requests permission for the invoking {@code GridNode} 
 	 * to participate in specified {@code GridJob}.
@@ -136,7 +166,8 @@ public interface ClusterJobService {
 	public GridJobInfo requestJob(String jobId, GridNodeProfile nodeProfile) throws GridJobPermissionDeniedException;
 	
 	/**
-	 * Requests next available {@code GridJob}. If no {@code GridJob} is available,
+	 * Requests next available {@code GridJob}, in which the invoking {@code GridNode}
+	 * does not already participate. If no {@code GridJob} is available,
 	 * this method will return {@code null}.
 	 * 
 	 * @param nodeProfile {@code GridNode}s profile
@@ -145,4 +176,25 @@ public interface ClusterJobService {
 	 * is available for which the given node can participate.
 	 */
 	public GridJobInfo requestNextJob(GridNodeProfile nodeProfile);
+	
+	/**
+	 * Returns the speed table of the {@code GridNode}s of this cluster, 
+	 * fastest node first. Each entry holds the capacity reported by the
+	 * node at registration, and the throughput measured from its results.
+	 * 
+	 * @return {@code NodeSpeed}s of registered nodes
+	 */
+	public List<NodeSpeed> getNodeSpeeds();
+	
+	/**
+	 * Returns the lag of intermediate result delivery to the 
+	 * {@code ResultCallback} of the given {@code GridJob}, that is,
+	 * the time the oldest undelivered result has waited, in milliseconds.
+	 * 
+	 * @param jobId JobId of {@code GridJob}
+	 * 
+	 * @return callback lag (ms), or {@code -1} if the {@code GridJob}
+	 * is not active, or has no {@code ResultCallback}
+	 */
+	public long getCallbackLag(String jobId);
 }
\ No newline at end of file
@@ -17,28 +17,60 @@ package org.nebulaframework.grid.cluster.manager.services.jobs;
 import java.io.IOException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
+import java.util.Set;
+import java.util.Timer;
+import java.util.TimerTask;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.nebulaframework.core.job.CallbackBatchingAware;
+import org.nebulaframework.core.job.CallbackOverflowPolicy;
 import org.nebulaframework.core.job.GridJob;
-import org.nebulaframework.core.job.ResultCallback;
+import org.nebulaframework.core.job.JobPriority;
+import org.nebulaframework.core.job.ResultBatchingAware;
+import org.nebulaframework.core.job.annotations.CallbackBatching;
+import org.nebulaframework.core.job.annotations.Deadline;
+import org.nebulaframework.core.job.annotations.Priority;
+import org.nebulaframework.core.job.annotations.ResultBatching;
+import org.nebulaframework.core.job.annotations.TaskTimeout;
 import org.nebulaframework.core.job.archive.GridArchive;
 import org.nebulaframework.core.job.deploy.GridJobInfo;
 import org.nebulaframework.core.job.exceptions.GridJobPermissionDeniedException;
 import org.nebulaframework.core.job.exceptions.GridJobRejectionException;
 import org.nebulaframework.core.job.future.GridJobFutureServerImpl;
+import org.nebulaframework.core.job.splitaggregate.CombinerAware;
+import org.nebulaframework.core.job.splitaggregate.IncrementalAggregate;
 import org.nebulaframework.deployment.classloading.GridArchiveClassLoader;
 import org.nebulaframework.deployment.classloading.GridNodeClassLoader;
 import org.nebulaframework.deployment.classloading.service.ClassLoadingService;
 import org.nebulaframework.grid.cluster.manager.ClusterManager;
 import org.nebulaframework.grid.cluster.manager.services.jobs.remote.RemoteClusterJobService;
+import org.nebulaframework.grid.cluster.manager.services.jobs.scheduler.DeadlineReport;
+import org.nebulaframework.grid.cluster.manager.services.jobs.scheduler.JobScheduler;
+import org.nebulaframework.grid.cluster.manager.services.jobs.scheduler.PriorityJobScheduler;
+import org.nebulaframework.grid.cluster.manager.services.jobs.scheduler.WeightedFairShareJobScheduler;
+import org.nebulaframework.grid.cluster.manager.services.jobs.store.ObjectResultStoreFactory;
+import org.nebulaframework.grid.cluster.manager.services.jobs.store.ResultStore;
+import org.nebulaframework.grid.cluster.manager.services.jobs.store.ResultStoreFactory;
+import org.nebulaframework.grid.cluster.manager.support.CleanUpSupport;
 import org.nebulaframework.grid.cluster.manager.services.jobs.splitaggregate.AggregatorService;
 import org.nebulaframework.grid.cluster.manager.services.jobs.splitaggregate.SplitterService;
 import org.nebulaframework.grid.cluster.node.GridNodeProfile;
+import org.nebulaframework.grid.cluster.node.delegate.GridNodeDelegate;
 import org.nebulaframework.grid.service.event.ServiceEventsSupport;
 import org.nebulaframework.grid.service.event.ServiceHookCallback;
 import org.nebulaframework.grid.service.message.ServiceMessage;
@@ -70,6 +102,9 @@ public class ClusterJobServiceImpl implements ClusterJobService,
 
 	private static Log log = LogFactory.getLog(ClusterJobServiceImpl.class);
 	private static int finished = 0;
+	
+	// Number of leases awaiting replies at a time
+	private static final int LEASE_THREADS = 8;
 
 	private ClusterManager cluster;
 	private JobServiceJmsSupport jmsSupport;
@@ -78,6 +113,22 @@ public class ClusterJobServiceImpl implements ClusterJobService,
 	private Map<Class<? extends GridJob>, JobExecutionManager> executors = new HashMap<Class<? extends GridJob>, JobExecutionManager>();
 
 	private RemoteClusterJobService remoteJobServiceProxy;
+	
+	private ResultStoreFactory resultStoreFactory = new ObjectResultStoreFactory();
+	
+	private JobScheduler jobScheduler = new PriorityJobScheduler();
+	private DeadlineReport deadlineReport = new DeadlineReport();
+	
+	// Preemption of lower priority slots by HIGH priority GridJobs
+	private boolean preemptionEnabled = true;
+	private long preemptionDelay = 2000;
+	private Timer preemptionTimer = new Timer("ClusterJobService-Preemption", true);
+	
+	// Leasing of GridJobs to idle nodes, instead of JOB_START broadcast
+	private boolean jobLeasing = true;
+	private NodeStateRegistry nodeRegistry;
+	private ExecutorService leaseExecutor = Executors.newFixedThreadPool(LEASE_THREADS);
+	private ExecutorService leaseCoordinator = Executors.newCachedThreadPool();
 
 	// Holds GridJobProfiles of all active GridJobs, against its JobId
 	// A LinkedHashMap is used to ensure insertion order iteration
@@ -93,6 +144,7 @@ public class ClusterJobServiceImpl implements ClusterJobService,
 	public ClusterJobServiceImpl(ClusterManager cluster) {
 		super();
 		this.cluster = cluster;
+		this.nodeRegistry = new NodeStateRegistry(cluster);
 	}
 
 	/**
@@ -139,13 +191,25 @@ public class ClusterJobServiceImpl implements ClusterJobService,
 		return submitJob(owner, className, classData, null, resultCallbackQueue);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String submitJob(UUID owner, String className, byte[] classData,
+			GridArchive archive, String resultCallbackQueue)
+			throws GridJobRejectionException {
+		return submitJob(owner, className, classData, archive,
+				resultCallbackQueue, null, 0);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public String submitJob(final UUID owner, final String className,
 			final byte[] classData, GridArchive archive,
-			String resultCallbackQueue) throws GridJobRejectionException {
+			String resultCallbackQueue, JobPriority priority, long deadline)
+			throws GridJobRejectionException {
 
 		// Create JobId [ClusterID.OwnerID.RandomUUID]
 		final String jobId = this.cluster.getClusterId() + "." + owner + "."
@@ -180,6 +244,14 @@ public class ClusterJobServiceImpl implements ClusterJobService,
 			log.warn("[JobService] Unable to de-serialize Job", e);
 			throw new GridJobRejectionException("Unable to de-serialize Job", e);
 		}
+		
+		// Scheduling Priority and Deadline
+		extractSchedulingSettings(profile, priority, deadline);
+		
+		// Create ResultStore for GridJob
+		ResultStore store = resultStoreFactory.createResultStore(jobId, classLoader);
+		profile.setResultStore(store);
+		CleanUpSupport.disposeResultStoreWhenFinished(jobId, store);
 
 		synchronized (this) {
 			// Insert GridJob to active jobs map
@@ -187,8 +259,7 @@ public class ClusterJobServiceImpl implements ClusterJobService,
 		}
 
 		if (resultCallbackQueue != null) {
-			ResultCallback proxy = jmsSupport.createResultCallbackProxy(jobId, resultCallbackQueue);
-			profile.setResultCallback(proxy);
+			profile.setCallbackDispatcher(createCallbackDispatcher(profile, resultCallbackQueue));
 		}
 
 		if (archive != null) {
@@ -212,9 +283,143 @@ public class ClusterJobServiceImpl implements ClusterJobService,
 
 		// Notify Job Start to Workers
 		notifyJobStart(jobId);
+		
+		// Preempt lower priority slots, for HIGH priority Jobs
+		if (preemptionEnabled && profile.getPriority() == JobPriority.HIGH) {
+			schedulePreemption(profile);
+		}
 
 		return jobId;
 	}
+	
+	/**
+	 * Sets the scheduling priority and deadline of the given 
+	 * {@code GridJob}, from the given values, or if not given, 
+	 * from the {@link Priority} and {@link Deadline} annotations
+	 * of the class, if available.
+	 * 
+	 * @param profile
+	 *            {@code GridJobProfile} of Job
+	 * @param priority
+	 *            priority given at submission, or {@code null}
+	 * @param deadline
+	 *            deadline given at submission (ms after submission), or zero
+	 */
+	private void extractSchedulingSettings(GridJobProfile profile,
+			JobPriority priority, long deadline) {
+
+		Class<?> jobClass = profile.getJob().getClass();
+
+		if (priority == null) {
+			Priority annotation = jobClass.getAnnotation(Priority.class);
+			priority = (annotation != null) ? annotation.value()
+					: JobPriority.NORMAL;
+		}
+
+		if (deadline <= 0) {
+			Deadline annotation = jobClass.getAnnotation(Deadline.class);
+			deadline = (annotation != null) ? annotation.value() : 0;
+		}
+
+		profile.setPriority(priority);
+
+		if (deadline > 0) {
+			profile.setDeadline(System.currentTimeMillis() + deadline);
+		}
+	}
+	
+	/**
+	 * Schedules the preemption of execution slots of lower priority
+	 * {@code GridJob}s, for the given {@code GridJob}, once the
+	 * preemption delay has elapsed. The delay allows free execution
+	 * slots to join the {@code GridJob} first, upon {@code JOB_START}.
+	 * 
+	 * @param profile
+	 *            {@code GridJobProfile} of preempting Job
+	 */
+	private void schedulePreemption(final GridJobProfile profile) {
+
+		preemptionTimer.schedule(new TimerTask() {
+
+			@Override
+			public void run() {
+				try {
+					preemptSlots(profile);
+				} catch (RuntimeException e) {
+					log.warn("[ClusterJobService] Preemption Failed for Job {"
+							+ profile.getJobId() + "}", e);
+				}
+			}
+
+		}, preemptionDelay);
+	}
+
+	/**
+	 * Preempts execution slots of {@code GridJob}s of lower priority than
+	 * the given {@code GridJob}, at most one on each {@code GridNode} which
+	 * does not participate in the given {@code GridJob}, and no more than
+	 * the slots requested by the given {@code GridJob}, that is, its 
+	 * outstanding {@code GridTask}s in excess of its workers. The slot of
+	 * the {@code GridJob} of lowest priority, and latest submission is 
+	 * chosen.
+	 * <p>
+	 * Each chosen {@code GridNode} is removed from the workers of the
+	 * preempted {@code GridJob}, and notified through a {@code JOB_PREEMPT}
+	 * message (<tt>jobId#nodeId</tt>). The {@code GridNode} reports the
+	 * {@code GridTask}s it abandons, which are re-enqueued, and requests
+	 * another {@code GridJob} for the released slot.
+	 * 
+	 * @param profile
+	 *            {@code GridJobProfile} of preempting Job
+	 */
+	private synchronized void preemptSlots(GridJobProfile profile) {
+
+		// Job Finished meanwhile
+		if (!jobs.containsKey(profile.getJobId())) return;
+		
+		// Slots requested, beyond current workers
+		int requested = profile.getTaskCount() - profile.getWorkerCount();
+		if (requested <= 0) return;
+
+		Set<UUID> preempted = new HashSet<UUID>();
+		List<GridJobProfile> active = new ArrayList<GridJobProfile>(jobs.values());
+
+		for (int p = 0; p < profile.getPriority().ordinal() 
+				&& preempted.size() < requested; p++) {
+
+			// Latest submitted first
+			ListIterator<GridJobProfile> it = active.listIterator(active.size());
+
+			while (it.hasPrevious() && preempted.size() < requested) {
+
+				GridJobProfile victim = it.previous();
+
+				if (victim.getPriority().ordinal() != p) continue;
+
+				for (UUID nodeId : victim.getWorkerNodes()) {
+					
+					if (preempted.size() >= requested) break;
+
+					if (profile.isWorker(nodeId) || profile.isBanned(nodeId)
+							|| preempted.contains(nodeId)) {
+						continue;
+					}
+
+					preempted.add(nodeId);
+					victim.preemptWorker(nodeId);
+
+					ServiceMessage message = new ServiceMessage(victim.getJobId()
+							+ "#" + nodeId, ServiceMessageType.JOB_PREEMPT);
+					cluster.getServiceMessageSender().sendServiceMessage(message);
+				}
+			}
+		}
+
+		if (!preempted.isEmpty()) {
+			log.info("[ClusterJobService] Preempted " + preempted.size()
+					+ " slots for Job {" + profile.getJobId() + "}");
+		}
+	}
 
 	/**
 	 * De-serializes and returns the {@link GridJob} instance, from the byte[].
@@ -423,9 +628,13 @@ public class ClusterJobServiceImpl implements ClusterJobService,
 	/**
 	 * Implementation of {@link ClusterJobService#requestJob(String)}.
 	 * <p>
+	 * The {@code GridJob} in which the node participates is decided
+	 * by the {@code JobScheduler}, and may differ from the requested
+	 * {@code GridJob}, if another {@code GridJob} has a higher claim
+	 * on the execution slot of the node.
+	 * <p>
 	 * {@inheritDoc}
 	 */
-	// FIXME currently allows all nodes to participate
 	public GridJobInfo requestJob(String jobId, GridNodeProfile nodeProfile)
 			throws GridJobPermissionDeniedException, IllegalArgumentException {
 
@@ -447,7 +656,9 @@ public class ClusterJobServiceImpl implements ClusterJobService,
 				throw new NullPointerException("Job Not Found");
 			}
 
-			if (!profile.processRequest(nodeProfile)) {
+			profile = scheduleJob(nodeProfile, profile);
+			
+			if (profile == null) {
 				throw new GridJobPermissionDeniedException("Permission Denied");
 			}
 
@@ -484,23 +695,69 @@ public class ClusterJobServiceImpl implements ClusterJobService,
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * The {@code GridJob} is selected by the {@code JobScheduler}.
 	 */
 	public GridJobInfo requestNextJob(GridNodeProfile nodeProfile) {
 
-		GridJobProfile profile = null;
+		GridJobProfile profile = scheduleJob(nodeProfile, null);
+
+		// If job is available, return profile, or else null
+		return (profile != null) ? createInfo(profile) : null;
+	}
+	
+	/**
+	 * Selects a {@code GridJob} for the given node, using the 
+	 * {@code JobScheduler}, and registers the node as a worker
+	 * of the selected {@code GridJob}.
+	 * 
+	 * @param nodeProfile
+	 *            {@code GridNodeProfile} of requesting node
+	 * @param requested
+	 *            {@code GridJobProfile} of requested {@code GridJob}, or
+	 *            {@code null} for any {@code GridJob}
+	 * @return {@code GridJobProfile} of selected {@code GridJob}, or
+	 *         {@code null} if not available
+	 */
+	private synchronized GridJobProfile scheduleJob(GridNodeProfile nodeProfile,
+			GridJobProfile requested) {
+
+		List<GridJobProfile> candidates = new ArrayList<GridJobProfile>();
+		
+		// Speed of node, evaluated once if any Job is in tail
+		Boolean slow = null;
 
-		// For each job, try to get permission
 		for (GridJobProfile p : jobs.values()) {
 
-			// If Allowed to Participate
-			if (p.processRequest(nodeProfile)) {
-				profile = p;
-				break;
+			// Skip Jobs which the node already participates, or is banned
+			if (p.isWorker(nodeProfile.getId()) || p.isBanned(nodeProfile.getId())) {
+				continue;
+			}
+			
+			// Keep slow nodes away from the tail tasks of Jobs
+			if (p.isInTail()) {
+				if (slow == null) {
+					slow = nodeRegistry.isSlow(nodeProfile.getId());
+				}
+				if (slow) continue;
 			}
+			candidates.add(p);
 		}
 
-		// If job is available, return profile, or else null
-		return (profile != null) ? createInfo(profile) : null;
+		GridJobProfile profile = jobScheduler.selectJob(nodeProfile, requested,
+				candidates, jobs.values());
+
+		// If Allowed to Participate
+		if (profile != null && profile.processRequest(nodeProfile)) {
+			if (profile != requested) {
+				log.debug("[ClusterJobService] Scheduled Node "
+						+ nodeProfile.getId() + " to Job {"
+						+ profile.getJobId() + "}");
+			}
+			return profile;
+		}
+
+		return null;
 	}
 
 	/**
@@ -524,8 +781,139 @@ public class ClusterJobServiceImpl implements ClusterJobService,
 			// If Archived Job, include Archive
 			info.setArchive(profile.getArchive());
 		}
+		
+		// Result Batching Settings, if any
+		extractBatchingSettings(profile.getJob(), info);
+		
+		// Result Combining Settings, if any
+		extractCombinerSettings(profile.getJob(), info);
+		
+		// Task Timeout, if any
+		TaskTimeout timeout = profile.getJob().getClass().getAnnotation(TaskTimeout.class);
+		if (timeout != null) {
+			info.setTaskTimeout(timeout.value());
+		}
+		
+		// Weight for sharing execution threads at GridNodes
+		info.setWeight(getWeight(profile));
+		
 		return info;
 	}
+	
+	/**
+	 * Returns the weight of the given {@code GridJob}, used by 
+	 * {@code GridNode}s to share their execution threads among 
+	 * concurrently executed {@code GridJob}s. The weight doubles 
+	 * with each level of {@link JobPriority}, and is multiplied
+	 * by the weight of the owner in the {@code JobScheduler}
+	 * (refer to {@link JobScheduler#getWeight(UUID)}).
+	 * 
+	 * @param profile {@code GridJobProfile} of Job
+	 * @return weight of the {@code GridJob}
+	 */
+	private int getWeight(GridJobProfile profile) {
+		
+		int weight = 1 << profile.getPriority().ordinal();
+		return weight * Math.max(1, jobScheduler.getWeight(profile.getOwner()));
+	}
+	
+	/**
+	 * Extracts result batching settings for a given {@code GridJob}
+	 * from the {@link ResultBatchingAware} interface or the 
+	 * {@link ResultBatching} annotation of the class, if available,
+	 * into the given {@code GridJobInfo}.
+	 * 
+	 * @param job {@code GridJob}
+	 * @param info {@code GridJobInfo} for Job
+	 */
+	private void extractBatchingSettings(GridJob<?, ?> job, GridJobInfo info) {
+		
+		if (job instanceof ResultBatchingAware) {
+			ResultBatchingAware settings = (ResultBatchingAware) job;
+			info.setResultBatching(settings.maxBatchResults(), 
+			                       settings.maxBatchBytes(), 
+			                       settings.maxBatchLinger());
+			return;
+		}
+		
+		// Get reference to ResultBatching annotation
+		ResultBatching settings = job.getClass().getAnnotation(ResultBatching.class);
+		
+		// If not annotated, return
+		if (settings == null) return;
+		
+		info.setResultBatching(settings.maxResults(), 
+		                       settings.maxBytes(), 
+		                       settings.maxLinger());
+	}
+
+	/**
+	 * Creates the {@code ResultCallbackDispatcher} which delivers intermediate
+	 * results of the given {@code GridJob} to the given callback queue, using 
+	 * the settings from the {@link CallbackBatchingAware} interface or the 
+	 * {@link CallbackBatching} annotation of the class, if available.
+	 * 
+	 * @param profile {@code GridJobProfile} of Job
+	 * @param resultCallbackQueue callback queue of submitter
+	 * @return {@code ResultCallbackDispatcher}
+	 */
+	private ResultCallbackDispatcher createCallbackDispatcher(GridJobProfile profile, 
+			String resultCallbackQueue) {
+		
+		GridJob<?, ?> job = profile.getJob();
+		
+		// Defaults
+		int maxResults = 100;
+		long maxLinger = 100;
+		int bufferSize = 10000;
+		CallbackOverflowPolicy overflow = CallbackOverflowPolicy.BLOCK;
+		
+		if (job instanceof CallbackBatchingAware) {
+			CallbackBatchingAware settings = (CallbackBatchingAware) job;
+			maxResults = settings.maxCallbackResults();
+			maxLinger = settings.maxCallbackLinger();
+			bufferSize = settings.callbackBufferSize();
+			overflow = settings.callbackOverflow();
+		}
+		else if (job.getClass().isAnnotationPresent(CallbackBatching.class)) {
+			CallbackBatching settings = job.getClass().getAnnotation(CallbackBatching.class);
+			maxResults = settings.maxResults();
+			maxLinger = settings.maxLinger();
+			bufferSize = settings.bufferSize();
+			overflow = settings.overflow();
+		}
+		
+		return jmsSupport.createResultCallbackDispatcher(profile.getJobId(), resultCallbackQueue, 
+		                                                 maxResults, maxLinger, bufferSize, overflow);
+	}
+
+	/**
+	 * Extracts result combining settings for a given {@code GridJob}
+	 * from the {@link CombinerAware} interface, if available, into the
+	 * given {@code GridJobInfo}. Combining is only supported for 
+	 * {@link IncrementalAggregate} {@code GridJob}s.
+	 * 
+	 * @param job {@code GridJob}
+	 * @param info {@code GridJobInfo} for Job
+	 */
+	private void extractCombinerSettings(GridJob<?, ?> job, GridJobInfo info) {
+		
+		if (!(job instanceof CombinerAware)) return;
+		
+		if (!(job instanceof IncrementalAggregate)) {
+			log.warn("[ClusterJobService] Combiner ignored, GridJob is not an IncrementalAggregate");
+			return;
+		}
+		
+		CombinerAware<?, ?> settings = (CombinerAware<?, ?>) job;
+		
+		try {
+			info.setCombining(IOSupport.serializeToBytes(settings.getCombiner()), 
+			                  settings.combineInterval());
+		} catch (IOException e) {
+			log.warn("[ClusterJobService] Unable to serialize Combiner, combining disabled", e);
+		}
+	}
 
 	/**
 	 * Cancels execution of the given {@code GridJob} on the Grid.
@@ -553,15 +941,36 @@ public class ClusterJobServiceImpl implements ClusterJobService,
 	}
 
 	/**
-	 * Notifies that a Job has started to all nodes in this cluster.
+	 * Notifies that a Job has started to the nodes in this cluster.
+	 * <p>
+	 * If job leasing is enabled, the {@code GridJob} is leased directly
+	 * to the idle nodes (refer to {@link #leaseJob(String)}). The 
+	 * {@code JOB_START} notification is broadcasted to all nodes only
+	 * if leasing is not possible, or if a lease was not accepted and no
+	 * idle node is left to lease the slot to.
 	 * 
 	 * @param jobId
 	 *            JobId of started Job.
 	 */
-	protected void notifyJobStart(String jobId) {
+	protected void notifyJobStart(final String jobId) {
 
 		log.info("[JobService] Starting GridJob " + jobId);
 
+		if (!jobLeasing || !leaseJob(jobId)) {
+			broadcastJobStart(jobId);
+		}
+	}
+	
+	/**
+	 * Broadcasts the {@code JOB_START} notification of a {@code GridJob}
+	 * to all nodes, which request the {@code GridJob} if they have a 
+	 * free execution slot.
+	 * 
+	 * @param jobId
+	 *            JobId of started Job.
+	 */
+	private void broadcastJobStart(String jobId) {
+		
 		// Create ServiceMessage for Job Start Notification
 		ServiceMessage message = new ServiceMessage(jobId,
 				ServiceMessageType.JOB_START);
@@ -570,6 +979,235 @@ public class ClusterJobServiceImpl implements ClusterJobService,
 		cluster.getServiceMessageSender().sendServiceMessage(message);
 		log.debug("[ClusterJobService] Notified Job Start {" + jobId + "}");
 	}
+	
+	/**
+	 * Leases the given {@code GridJob} to the idle nodes of this cluster,
+	 * which are known by the {@code NodeStateRegistry}. As in a request 
+	 * from the node, the {@code JobScheduler} decides the {@code GridJob}
+	 * leased to each node, and the node is registered as a worker before
+	 * the lease is sent. Leases are sent by a bounded pool of threads,
+	 * one message per node.
+	 * <p>
+	 * Returns {@code false} if no lease could be scheduled, or if nodes of 
+	 * peer clusters may participate, as such nodes are only reachable by 
+	 * the {@code JOB_START} broadcast. If a lease is not accepted, the
+	 * slot is leased to the next idle node, and the {@code JOB_START} 
+	 * notification is broadcasted only if no idle node is left.
+	 * 
+	 * @param jobId
+	 *            JobId of started Job.
+	 * @return if leases were scheduled {@code true}, {@code false} otherwise
+	 */
+	private boolean leaseJob(final String jobId) {
+		
+		// Nodes of Peer Clusters
+		if (cluster.getPeerService() != null 
+				&& cluster.getPeerService().getPeerCount() > 0) {
+			return false;
+		}
+		
+		// Nodes to which a lease was scheduled
+		final Set<UUID> tried = new HashSet<UUID>();
+		
+		final Map<GridNodeDelegate, GridJobProfile> leases = scheduleLeases(jobId, tried, Integer.MAX_VALUE);
+		
+		if (leases.isEmpty()) return false;
+		
+		log.debug("[ClusterJobService] Leasing Job {" + jobId + "} to " 
+		          + leases.size() + " nodes");
+		
+		leaseCoordinator.execute(new Runnable() {
+			public void run() {
+				coordinateLeases(jobId, leases, tried);
+			}
+		});
+		
+		return true;
+	}
+	
+	/**
+	 * Schedules leases of the given {@code GridJob} to idle nodes, 
+	 * which have not been tried yet, up to the given number of nodes.
+	 * 
+	 * @param jobId
+	 *            JobId of started Job.
+	 * @param tried
+	 *            NodeIds of nodes tried already, updated by this method
+	 * @param count
+	 *            maximum number of leases
+	 * @return {@code GridJobProfile}s scheduled, against nodes
+	 */
+	private synchronized Map<GridNodeDelegate, GridJobProfile> scheduleLeases(String jobId, 
+			Set<UUID> tried, int count) {
+		
+		Map<GridNodeDelegate, GridJobProfile> leases = new LinkedHashMap<GridNodeDelegate, GridJobProfile>();
+		
+		GridJobProfile requested = jobs.get(jobId);
+		if (requested == null) return leases;
+		
+		for (GridNodeDelegate node : nodeRegistry.getIdleNodes(jobs.values())) {
+			
+			if (leases.size() >= count) break;
+			
+			if (!tried.add(node.getNodeId())) continue;
+			
+			GridJobProfile profile = scheduleJob(node.getProfile(), requested);
+			if (profile != null) {
+				leases.put(node, profile);
+			}
+		}
+		
+		return leases;
+	}
+	
+	/**
+	 * Sends the given leases, and awaits their replies. The slot of
+	 * each lease which is not accepted is leased to the next idle node.
+	 * Once all leases are accepted, only local hooks are notified of the
+	 * {@code JOB_START}. If no idle node is left for a slot, the 
+	 * {@code JOB_START} notification is broadcasted.
+	 * 
+	 * @param jobId
+	 *            JobId of started Job.
+	 * @param leases
+	 *            {@code GridJobProfile}s scheduled, against nodes
+	 * @param tried
+	 *            NodeIds of nodes tried already
+	 */
+	private void coordinateLeases(String jobId, Map<GridNodeDelegate, GridJobProfile> leases, 
+			Set<UUID> tried) {
+		
+		CompletionService<Boolean> replies = new ExecutorCompletionService<Boolean>(leaseExecutor);
+		
+		int outstanding = submitLeases(replies, leases);
+		boolean broadcast = false;
+		
+		while (outstanding > 0) {
+			
+			boolean accepted = false;
+			
+			try {
+				accepted = replies.take().get();
+			} catch (ExecutionException e) {
+				accepted = false;
+			} catch (InterruptedException e) {
+				log.warn("[ClusterJobService] Interrupted while Leasing Job {" + jobId + "}");
+				Thread.currentThread().interrupt();
+				broadcast = true;
+				break;
+			}
+			
+			outstanding--;
+			
+			if (accepted) continue;
+			
+			// Lease the slot to the next idle node
+			Map<GridNodeDelegate, GridJobProfile> next = scheduleLeases(jobId, tried, 1);
+			
+			if (next.isEmpty()) {
+				broadcast = true;
+			} else {
+				outstanding += submitLeases(replies, next);
+			}
+		}
+		
+		if (!broadcast) {
+			// Notify Local Hooks only
+			ServiceEventsSupport.getInstance().onServiceMessage(
+					new ServiceMessage(jobId, ServiceMessageType.JOB_START));
+		} else {
+			// Fallback
+			broadcastJobStart(jobId);
+		}
+	}
+	
+	/**
+	 * Submits the given leases to be sent by the lease pool.
+	 * 
+	 * @param replies
+	 *            {@code CompletionService} which receives the replies
+	 * @param leases
+	 *            {@code GridJobProfile}s scheduled, against nodes
+	 * @return number of leases submitted
+	 */
+	private int submitLeases(CompletionService<Boolean> replies, 
+			Map<GridNodeDelegate, GridJobProfile> leases) {
+		
+		for (final GridNodeDelegate node : leases.keySet()) {
+			final GridJobProfile profile = leases.get(node);
+			replies.submit(new Callable<Boolean>() {
+				public Boolean call() throws Exception {
+					return sendLease(node, profile);
+				}
+			});
+		}
+		
+		return leases.size();
+	}
+	
+	/**
+	 * Sends a lease of the given {@code GridJob} to the given node. If
+	 * the lease is not accepted, the node is released from the workers
+	 * of the {@code GridJob}. If the node did not reply in time, the 
+	 * lease is revoked, as the node may still accept it.
+	 * 
+	 * @param node
+	 *            {@code GridNodeDelegate} of node
+	 * @param profile
+	 *            {@code GridJobProfile} of leased {@code GridJob}
+	 * @return if accepted {@code true}, {@code false} otherwise
+	 */
+	private boolean sendLease(GridNodeDelegate node, GridJobProfile profile) {
+		
+		try {
+			if (node.getJobLeaseService().acceptLease(createInfo(profile))) {
+				log.debug("[ClusterJobService] Leased Job {" + profile.getJobId() 
+				          + "} to Node " + node.getNodeId());
+				return true;
+			}
+			log.debug("[ClusterJobService] Lease Refused by Node " + node.getNodeId());
+		} catch (Exception e) {
+			log.warn("[ClusterJobService] Lease Failed for Node " 
+			         + node.getNodeId() + " : " + e.getMessage());
+			nodeRegistry.leaseFailed(node.getNodeId());
+			
+			profile.releaseWorker(node.getNodeId());
+			revokeLease(node, profile);
+			return false;
+		}
+		
+		profile.releaseWorker(node.getNodeId());
+		return false;
+	}
+	
+	/**
+	 * Revokes the lease of the given {@code GridJob} from the given node,
+	 * unless the node has become a worker of the {@code GridJob} since.
+	 * The revocation is sent by the lease pool, after pending leases.
+	 * 
+	 * @param node
+	 *            {@code GridNodeDelegate} of node
+	 * @param profile
+	 *            {@code GridJobProfile} of leased {@code GridJob}
+	 */
+	private void revokeLease(final GridNodeDelegate node, final GridJobProfile profile) {
+		
+		leaseExecutor.execute(new Runnable() {
+			public void run() {
+				
+				if (profile.isWorker(node.getNodeId())) return;
+				
+				try {
+					node.getJobLeaseService().revokeLease(profile.getJobId());
+					log.debug("[ClusterJobService] Revoked Lease of Job {" + profile.getJobId() 
+					          + "} from Node " + node.getNodeId());
+				} catch (Exception e) {
+					log.debug("[ClusterJobService] Unable to Revoke Lease from Node " 
+					          + node.getNodeId() + " : " + e.getMessage());
+				}
+			}
+		});
+	}
 
 	/**
 	 * Notifies to GridNodes that a particular GridJob has finished execution.
@@ -580,6 +1218,15 @@ public class ClusterJobServiceImpl implements ClusterJobService,
 	public void notifyJobEnd(String jobId) {
 
 		finished++;
+		
+		// Record Deadline Outcome
+		GridJobProfile profile = null;
+		synchronized (this) {
+			profile = jobs.get(jobId);
+		}
+		if (profile != null) {
+			deadlineReport.jobFinished(profile, System.currentTimeMillis());
+		}
 
 		// Remove GridJob from Active GridJobs map
 		removeJob(jobId);
@@ -605,6 +1252,16 @@ public class ClusterJobServiceImpl implements ClusterJobService,
 	public void notifyJobCancel(String jobId) {
 
 		finished++;
+		
+		// Record Deadline Outcome
+		GridJobProfile profile = null;
+		synchronized (this) {
+			profile = jobs.get(jobId);
+		}
+		if (profile != null) {
+			deadlineReport.jobFinished(profile, System.currentTimeMillis(), true);
+		}
+		
 		// Remove GridJob from Active GridJobs map
 		removeJob(jobId);
 
@@ -629,6 +1286,7 @@ public class ClusterJobServiceImpl implements ClusterJobService,
 	 */
 	protected synchronized void removeJob(String jobId) {
 		this.jobs.remove(jobId);
+		nodeRegistry.jobFinished(jobId);
 	}
 
 	/**
@@ -679,6 +1337,127 @@ public class ClusterJobServiceImpl implements ClusterJobService,
 	public void setJmsSupport(JobServiceJmsSupport jmsSupport) {
 		this.jmsSupport = jmsSupport;
 	}
+	
+	/**
+	 * Sets the {@code ResultStoreFactory} which creates the {@code ResultStore}
+	 * for each {@code GridJob}, to hold its results until aggregation. By
+	 * default, results are held on the heap ({@link ObjectResultStoreFactory}).
+	 * <p>
+	 * <i>Spring Injected</i>
+	 * 
+	 * @param resultStoreFactory
+	 *            {@code ResultStoreFactory} instance
+	 */
+	public void setResultStoreFactory(ResultStoreFactory resultStoreFactory) {
+		Assert.notNull(resultStoreFactory);
+		this.resultStoreFactory = resultStoreFactory;
+	}
+
+	/**
+	 * Sets the {@code JobScheduler} which decides the {@code GridJob} in
+	 * which a requesting node participates. By default, {@code GridJob}s
+	 * are scheduled by priority, earliest deadline first if a deadline is
+	 * at risk, and otherwise execution slots are shared among owners of {@code GridJob}s 
+	 * ({@link PriorityJobScheduler}, {@link WeightedFairShareJobScheduler}).
+	 * <p>
+	 * <i>Spring Injected</i>
+	 * 
+	 * @param jobScheduler
+	 *            {@code JobScheduler} instance
+	 */
+	public void setJobScheduler(JobScheduler jobScheduler) {
+		Assert.notNull(jobScheduler);
+		this.jobScheduler = jobScheduler;
+	}
+	
+	/**
+	 * Sets whether {@code GridJob}s of {@code JobPriority.HIGH} preempt
+	 * execution slots of {@code GridJob}s of lower priority. Enabled by 
+	 * default.
+	 * <p>
+	 * <i>Spring Injected</i>
+	 * 
+	 * @param preemptionEnabled
+	 *            if enabled {@code true}, {@code false} otherwise
+	 */
+	public void setPreemptionEnabled(boolean preemptionEnabled) {
+		this.preemptionEnabled = preemptionEnabled;
+	}
+
+	/**
+	 * Sets the time to wait after the start of a {@code GridJob} of
+	 * {@code JobPriority.HIGH}, before preempting slots of lower priority
+	 * {@code GridJob}s, which allows free slots to join first. 
+	 * Defaults to 2 seconds.
+	 * <p>
+	 * <i>Spring Injected</i>
+	 * 
+	 * @param preemptionDelay
+	 *            delay in milliseconds
+	 * @throws IllegalArgumentException
+	 *             if delay is negative
+	 */
+	public void setPreemptionDelay(long preemptionDelay)
+			throws IllegalArgumentException {
+		Assert.isTrue(preemptionDelay >= 0, "Delay should not be negative");
+		this.preemptionDelay = preemptionDelay;
+	}
+	
+	/**
+	 * Sets whether {@code GridJob}s are leased directly to idle nodes,
+	 * instead of broadcasting the {@code JOB_START} notification to all
+	 * nodes. Enabled by default. The broadcast is still used as a fallback,
+	 * if leasing is not possible.
+	 * <p>
+	 * <i>Spring Injected</i>
+	 * 
+	 * @param jobLeasing
+	 *            if enabled {@code true}, {@code false} otherwise
+	 */
+	public void setJobLeasing(boolean jobLeasing) {
+		this.jobLeasing = jobLeasing;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public NodeStateRegistry getNodeStateRegistry() {
+		return nodeRegistry;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<NodeSpeed> getNodeSpeeds() {
+		return nodeRegistry.getNodeSpeeds();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getCallbackLag(String jobId) {
+		
+		GridJobProfile profile = null;
+		
+		synchronized (this) {
+			profile = jobs.get(jobId);
+		}
+		
+		// Not active
+		if (profile == null) return -1;
+		
+		return profile.getCallbackLag();
+	}
+	
+	/**
+	 * Returns the {@code DeadlineReport}, which reports how often 
+	 * {@code GridJob}s met their deadlines.
+	 * 
+	 * @return {@code DeadlineReport}
+	 */
+	public DeadlineReport getDeadlineReport() {
+		return deadlineReport;
+	}
 
 	/**
 	 * Sets the {@code RemoteClusterJobService} proxy to be used by the
@@ -15,6 +15,7 @@
 package org.nebulaframework.grid.cluster.manager.services.jobs;
 
 import java.io.Serializable;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -22,20 +23,25 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.nebulaframework.core.job.GridJob;
 import org.nebulaframework.core.job.GridJobState;
+import org.nebulaframework.core.job.JobPriority;
 import org.nebulaframework.core.job.ResultCallback;
 import org.nebulaframework.core.job.archive.GridArchive;
+import org.nebulaframework.core.job.exceptions.AggregateException;
 import org.nebulaframework.core.job.future.GridJobFutureServerImpl;
+import org.nebulaframework.core.job.splitaggregate.IncrementalAggregate;
+import org.nebulaframework.core.job.splitaggregate.IndexedTaskFactory;
 import org.nebulaframework.core.job.unbounded.UnboundedGridJob;
 import org.nebulaframework.core.task.GridTask;
 import org.nebulaframework.core.task.GridTaskResult;
 import org.nebulaframework.grid.GridExecutionException;
+import org.nebulaframework.grid.cluster.manager.services.jobs.store.ObjectResultStore;
+import org.nebulaframework.grid.cluster.manager.services.jobs.store.ResultStore;
 import org.nebulaframework.grid.cluster.manager.services.jobs.tracking.GridJobTaskTracker;
 import org.nebulaframework.grid.cluster.node.GridNodeProfile;
 import org.nebulaframework.grid.service.event.ServiceEventsSupport;
@@ -49,6 +55,10 @@ import org.nebulaframework.grid.service.message.ServiceMessageType;
  * the {@code GridJob}, and its meta data, as well as execution details such as
  * tasks and results.
  * <p>
+ * For {@code GridJob}s which implement {@link IndexedTaskFactory}, outstanding
+ * tasks are tracked as a {@code BitSet} of TaskIds, and tasks are re-created
+ * on demand, instead of being retained.
+ * <p>
  * This class is not a part of the Public API of the Nebula Framework, and it is
  * intended to be used internally with in the {@code ClusterManager} only.
  * 
@@ -61,6 +71,8 @@ public class GridJobProfile {
 
 	private String jobId; // JobId of GridJob
 	private UUID owner; // Owner Node Id (Submitter)
+	private JobPriority priority = JobPriority.NORMAL; // Scheduling Priority
+	private long deadline = 0; // Deadline (absolute ms), zero for none
 	private GridJob<? extends Serializable, ? extends Serializable> job; 
 	
 	private GridJobFutureServerImpl future; // GridJobFuture for the Job
@@ -70,27 +82,45 @@ public class GridJobProfile {
 	private GridJobTaskTracker taskTracker;
 	
 	private boolean stopped;
+	
+	private volatile boolean splitComplete; // All Tasks created and enqueued
 
-	private ResultCallback callbackProxy; // Intermediate Results Callback
-	private ExecutorService callbackExecutor; // Thread Pool Executor for callbacks
+	private ResultCallbackDispatcher callbackDispatcher; // Intermediate Results Callback
 	
 	// Tasks of GridJob, against TaskId (Sequence Number)
 	private Map<Integer, GridTask<?>> taskMap = Collections
 			.synchronizedMap(new HashMap<Integer, GridTask<?>>());
 
+	// Outstanding TaskIds, for GridJobs which are IndexedTaskFactories
+	private IndexedTaskFactory<?> taskFactory;
+	private BitSet outstanding;
+	private volatile int outstandingCount = 0;
+	
 	// Results for GridTasks, against TaskId (Sequence Number)
-	private Map<Integer, GridTaskResult> resultMap = Collections
-			.synchronizedMap(new HashMap<Integer, GridTaskResult>());
+	private ResultStore resultStore = new ObjectResultStore();
 
+	// Aggregation State, for Incremental Aggregation
+	private Serializable aggregateState;
+	private boolean aggregateInitialized = false;
+	
+	// Number of results accumulated, for Incremental Aggregation
+	private int aggregatedCount = 0;
+	
 	// Contains the set of banned nodes (not allowed to participate for this job)
 	private Set<UUID> bannedNodes = Collections.synchronizedSet(new HashSet<UUID>());
 	
 	// Contains the set of nodes which are executing this job
 	private Set<UUID> workerNodes = Collections.synchronizedSet(new HashSet<UUID>());
 	
+	// Task capacity of each node, against NodeId
+	private Map<UUID, Integer> taskCapacities = new ConcurrentHashMap<UUID, Integer>();
+	
 	// Failed Task Count
 	private int failedCount = 0;
 	
+	// Preempted Execution Slot Count
+	private int preemptedCount = 0;
+	
 	// Total # of Tasks (for percentage calculation)
 	private int totalTasks = -1;
 	
@@ -127,6 +157,7 @@ public class GridJobProfile {
 			return false;
 		}
 		workerNodes.add(nodeProfile.getId());
+		taskCapacities.put(nodeProfile.getId(), Math.max(1, nodeProfile.getTaskCapacity()));
 		
 		// Add Node Failure Hook to remove workers
 		ServiceEventsSupport.addServiceHook(new ServiceHookCallback() {
@@ -170,6 +201,17 @@ public class GridJobProfile {
 		bannedNodes.remove(nodeId);
 	}
 	
+	/**
+	 * Returns {@code true} if the given node is banned
+	 * from participating for this Job.
+	 * 
+	 * @param nodeId Node Id
+	 * @return if banned {@code true}, {@code false} otherwise
+	 */
+	public boolean isBanned(UUID nodeId) {
+		return bannedNodes.contains(nodeId);
+	}
+	
 	/**
 	 * Returns JobId of the Job
 	 * 
@@ -197,6 +239,55 @@ public class GridJobProfile {
 		return owner;
 	}
 
+	/**
+	 * Returns the scheduling priority of this Job.
+	 * 
+	 * @return priority
+	 */
+	public JobPriority getPriority() {
+		return priority;
+	}
+
+	/**
+	 * Sets the scheduling priority of this Job.
+	 * 
+	 * @param priority
+	 *            priority
+	 */
+	public void setPriority(JobPriority priority) {
+		this.priority = priority;
+	}
+
+	/**
+	 * Returns the deadline of this Job, as an absolute time 
+	 * in milliseconds, or zero if the Job has no deadline.
+	 * 
+	 * @return deadline
+	 */
+	public long getDeadline() {
+		return deadline;
+	}
+
+	/**
+	 * Sets the deadline of this Job, as an absolute time 
+	 * in milliseconds, or zero for no deadline.
+	 * 
+	 * @param deadline
+	 *            deadline
+	 */
+	public void setDeadline(long deadline) {
+		this.deadline = deadline;
+	}
+
+	/**
+	 * Returns {@code true} if this Job has a deadline.
+	 * 
+	 * @return if deadline {@code true}, {@code false} otherwise
+	 */
+	public boolean hasDeadline() {
+		return deadline > 0;
+	}
+
 	/**
 	 * Returns the start time of this Job.
 	 * @return Start time, as long
@@ -232,6 +323,12 @@ public class GridJobProfile {
 	 */
 	public void setJob(GridJob<?, ?> job) {
 		this.job = job;
+		
+		// Track outstanding Tasks by index, if supported
+		if (job instanceof IndexedTaskFactory) {
+			this.taskFactory = (IndexedTaskFactory<?>) job;
+			this.outstanding = new BitSet();
+		}
 	}
 
 	/**
@@ -258,62 +355,195 @@ public class GridJobProfile {
 	 * to the Results collection and removes the {@code GridTask} from
 	 * active tasks collection.
 	 * <p>
-	 * Returns the outstanding task count.
+	 * Returns the outstanding task count, or {@code -1} if the 
+	 * {@code GridTask} is not outstanding, that is, a result has already
+	 * been received for it (as for a speculatively executed {@code GridTask}),
+	 * in which case the result is ignored.
 	 * 
 	 * @param taskId taskId
 	 * @param result {@code GridTaskResult}
 	 * 
-	 * @return Outstanding task count
+	 * @return Outstanding task count, or {@code -1} if duplicate
 	 */
 	public synchronized int addResultAndRemoveTask(int taskId,
 			GridTaskResult result) {
 
-		// If no such taskId in taskMap
-		if (!this.taskMap.containsKey(taskId)) {
-			throw new IllegalArgumentException(
-					"No such Task in TaskMap for Task Id :" + taskId);
+		// If no such taskId in taskMap (duplicate result)
+		if (!isOutstanding(taskId)) {
+			return -1;
 		}
 		
 		// Remove Task from Task Map
-		this.taskMap.remove(taskId);
+		removeOutstanding(taskId);
 		
-		// Add result to Result Map
-		this.resultMap.put(taskId, result);
+		// Add result to Result Store
+		this.resultStore.put(taskId, result);
+
+		// Fire intermediate result callback
+		if (result != null) {
+			fireCallback(result.getResult());
+		}
+		
+		// return outstanding task count
+		return outstandingCount;
+	}
+
+	/**
+	 * Accumulates the {@code GridTaskResult} for the given {@code taskId}
+	 * into the aggregation state of an {@link IncrementalAggregate} 
+	 * {@code GridJob}, and removes the {@code GridTask} from active 
+	 * tasks collection. The {@code GridTaskResult} itself is not retained.
+	 * <p>
+	 * Returns the outstanding task count, or {@code -1} if the 
+	 * {@code GridTask} is not outstanding, in which case the result 
+	 * is ignored.
+	 * 
+	 * @param taskId taskId
+	 * @param result {@code GridTaskResult}
+	 * 
+	 * @return Outstanding task count, or {@code -1} if duplicate
+	 * @throws AggregateException if accumulation fails
+	 */
+	public synchronized int accumulateAndRemoveTask(int taskId,
+			GridTaskResult result) throws AggregateException {
+
+		// If no such taskId in taskMap (duplicate result)
+		if (!isOutstanding(taskId)) {
+			return -1;
+		}
+		
+		// Accumulate result
+		try {
+			this.aggregateState = getIncrementalAggregate().accumulate(
+					getAggregateState(), result.getResult());
+		} catch (RuntimeException e) {
+			throw new AggregateException("Exception while accumulating result of Task " + taskId, e);
+		}
+		
+		// Remove Task from Task Map
+		removeOutstanding(taskId);
+		this.aggregatedCount++;
 
 		// Fire intermediate result callback
 		fireCallback(result.getResult());
 		
 		// return outstanding task count
-		return taskMap.size();
+		return outstandingCount;
+	}
+	
+	/**
+	 * Merges the given partial aggregation state, which covers the 
+	 * {@code GridTask}s of the given {@code taskIds}, into the aggregation
+	 * state of an {@link IncrementalAggregate} {@code GridJob}, and removes
+	 * the {@code GridTask}s from active tasks collection.
+	 * <p>
+	 * The partial state is merged only if all of the {@code GridTask}s 
+	 * are outstanding. Otherwise, at least one of them has been 
+	 * accounted for already (for example, by a re-enqueued execution),
+	 * and nothing is changed.
+	 * <p>
+	 * Returns the outstanding task count, or -1 if not merged.
+	 * 
+	 * @param taskIds TaskIds of {@code GridTask}s covered by partial state
+	 * @param state partial aggregation state
+	 * 
+	 * @return Outstanding task count, or -1 if not merged
+	 * @throws AggregateException if merge fails
+	 */
+	public synchronized int mergeAndRemoveTasks(int[] taskIds, 
+			Serializable state) throws AggregateException {
+		
+		// Check whether all Tasks are outstanding
+		for (int taskId : taskIds) {
+			if (!isOutstanding(taskId)) {
+				return -1;
+			}
+		}
+		
+		// Merge state
+		try {
+			this.aggregateState = getIncrementalAggregate().merge(getAggregateState(), state);
+		} catch (RuntimeException e) {
+			throw new AggregateException("Exception while merging partial result", e);
+		}
+		
+		// Remove Tasks from Task Map
+		for (int taskId : taskIds) {
+			removeOutstanding(taskId);
+		}
+		this.aggregatedCount += taskIds.length;
+		
+		// return outstanding task count
+		return outstandingCount;
+	}
+	
+	/**
+	 * Returns the current aggregation state of an {@link IncrementalAggregate} 
+	 * {@code GridJob}. If no results have been accumulated yet, the initial
+	 * state is returned.
+	 * 
+	 * @return aggregation state
+	 */
+	public synchronized Serializable getAggregateState() {
+		if (!aggregateInitialized) {
+			aggregateState = getIncrementalAggregate().initial();
+			aggregateInitialized = true;
+		}
+		return aggregateState;
+	}
+	
+	/**
+	 * Returns the {@code GridJob} as an {@code IncrementalAggregate}.
+	 * 
+	 * @return {@code IncrementalAggregate} {@code GridJob}
+	 */
+	@SuppressWarnings("unchecked")
+	private IncrementalAggregate<Serializable, Serializable, ?> getIncrementalAggregate() {
+		return (IncrementalAggregate<Serializable, Serializable, ?>) job;
+	}
+	
+	/**
+	 * Returns {@code true} if the results of the {@code GridJob} are 
+	 * aggregated incrementally, that is, the {@code GridJob} is an
+	 * {@link IncrementalAggregate}.
+	 * 
+	 * @return if results are aggregated incrementally
+	 */
+	public boolean isIncrementalAggregate() {
+		return job instanceof IncrementalAggregate;
 	}
 
 	/**
-	 * Fires the intermediate result callback (proxy), with
-	 * the result value, if it is available.
+	 * Fires the intermediate result callback, with the result 
+	 * value, if it is available. The result is buffered by the
+	 * {@code ResultCallbackDispatcher}, which delivers results 
+	 * to the client in batches.
 	 * 
 	 * @param result new result
 	 */
-	public void fireCallback(final Serializable result) {
+	public void fireCallback(Serializable result) {
 
 		// If no callback registered, return
-		if (callbackProxy == null)
+		if (callbackDispatcher == null)
 			return;
 
-		// Invoke onResult on callback with result
-		callbackExecutor.submit(new Runnable() {
-			public void run() {
-				try {
-					callbackProxy.onResult(result);
-					
-				} catch (Exception e) {
-					// Ignore if Job has been stopped
-					if (!stopped) {
-						log.warn("[ResultCallback] Exception on Client Side", e);
-					}
-				}
-			}
-		});
+		callbackDispatcher.offer(result);
+	}
+	
+	/**
+	 * Returns the intermediate result callback lag, that is, the 
+	 * time the oldest result not yet delivered to the client has
+	 * waited, in milliseconds, or {@code -1} if no callback is 
+	 * registered.
+	 * 
+	 * @return callback lag (ms)
+	 */
+	public long getCallbackLag() {
+		
+		if (callbackDispatcher == null)
+			return -1;
 		
+		return callbackDispatcher.getLag();
 	}
 
 	/**
@@ -334,12 +564,24 @@ public class GridJobProfile {
 
 	/**
 	 * Adds a {@code GridTask} to the outstanding Tasks collection.
+	 * If the {@code GridJob} is an {@link IndexedTaskFactory}, only
+	 * the {@code taskId} is recorded.
 	 * 
 	 * @param taskId taskId
 	 * @param task {@code GridTask}
 	 */
 	public synchronized void addTask(int taskId, GridTask<?> task) {
+		
+		if (taskFactory != null) {
+			if (!outstanding.get(taskId)) {
+				outstanding.set(taskId);
+				outstandingCount++;
+			}
+			return;
+		}
+		
 		this.taskMap.put(taskId, task);
+		outstandingCount = taskMap.size();
 	}
 
 	/**
@@ -351,18 +593,63 @@ public class GridJobProfile {
 	 * @return removed {@code GridTask} 
 	 */
 	public synchronized GridTask<?> removeTask(int taskId) {
-		return this.taskMap.remove(taskId);
+		GridTask<?> task = getTask(taskId);
+		removeOutstanding(taskId);
+		return task;
 	}
 
 	/**
-	 * Returns the {@code GridTask} for given {@code taskId}.
+	 * Returns the {@code GridTask} for given {@code taskId}. If the 
+	 * {@code GridJob} is an {@link IndexedTaskFactory}, the {@code GridTask}
+	 * is re-created, if it is outstanding.
 	 * 
 	 * @param taskId taskId
 	 * @return GridTask for given taskId
 	 */
 	public GridTask<?> getTask(int taskId) {
+		
+		if (taskFactory != null) {
+			return isOutstanding(taskId) ? taskFactory.task(taskId) : null;
+		}
+		
 		return this.taskMap.get(taskId);
 	}
+	
+	/**
+	 * Returns {@code true} if the {@code GridTask} for the given 
+	 * {@code taskId} is outstanding, that is, it is in the Tasks 
+	 * collection, without a result.
+	 * 
+	 * @param taskId taskId
+	 * @return if outstanding {@code true}, {@code false} otherwise
+	 */
+	public synchronized boolean isOutstanding(int taskId) {
+		
+		if (taskFactory != null) {
+			return outstanding.get(taskId);
+		}
+		
+		return this.taskMap.containsKey(taskId);
+	}
+	
+	/**
+	 * Removes the given {@code taskId} from the outstanding Tasks.
+	 * 
+	 * @param taskId taskId
+	 */
+	private synchronized void removeOutstanding(int taskId) {
+		
+		if (taskFactory != null) {
+			if (outstanding.get(taskId)) {
+				outstanding.clear(taskId);
+				outstandingCount--;
+			}
+			return;
+		}
+		
+		this.taskMap.remove(taskId);
+		outstandingCount = taskMap.size();
+	}
 
 	/**
 	 * Returns the outstanding Task Count.
@@ -372,7 +659,7 @@ public class GridJobProfile {
 	 * @return outstanding task count
 	 */
 	public int getTaskCount() {
-		return this.taskMap.size();
+		return outstandingCount;
 	}
 
 	/**
@@ -381,7 +668,7 @@ public class GridJobProfile {
 	 * @return number of results collected
 	 */
 	public int getResultCount() {
-		return this.resultMap.size();
+		return this.resultStore.size() + this.aggregatedCount;
 	}
 
 	
@@ -396,18 +683,18 @@ public class GridJobProfile {
 		if (totalTasks < 0) {
 			
 			if (job instanceof UnboundedGridJob) {
-				return taskMap.size() + resultMap.size();
+				return getTaskCount() + getResultCount();
 			} 
 			else {
 				
 				// Job is not deployed completely, return current value
 				if ((!future.isJobFinished()) && (future.getState()!= GridJobState.EXECUTING)) {
-					return taskMap.size() + resultMap.size();
+					return getTaskCount() + getResultCount();
 				}
 				
 				// Job is enqueued, cache result for faster access
 				synchronized (this) {
-					totalTasks = taskMap.size() + resultMap.size();
+					totalTasks = getTaskCount() + getResultCount();
 				}
 			}
 		}
@@ -421,7 +708,48 @@ public class GridJobProfile {
 	 * @return results
 	 */
 	public synchronized Collection<GridTaskResult> getResults() {
-		return this.resultMap.values();
+		return this.resultStore.getResults();
+	}
+	
+	/**
+	 * Returns the {@code ResultStore} which holds the results
+	 * of the {@code GridJob}.
+	 * 
+	 * @return {@code ResultStore}
+	 */
+	public ResultStore getResultStore() {
+		return resultStore;
+	}
+
+	/**
+	 * Sets the {@code ResultStore} which holds the results of
+	 * the {@code GridJob}. Should be set before any result is
+	 * received.
+	 * 
+	 * @param resultStore {@code ResultStore}
+	 */
+	public void setResultStore(ResultStore resultStore) {
+		this.resultStore = resultStore;
+	}
+	
+	/**
+	 * Returns the number of bytes held in memory for the results 
+	 * of the {@code GridJob}, or -1 if not measured.
+	 * 
+	 * @return bytes held in memory
+	 */
+	public long getResultBytesHeld() {
+		return this.resultStore.getBytesHeld();
+	}
+	
+	/**
+	 * Returns the number of bytes of results of the {@code GridJob}
+	 * which have been spilled to disk.
+	 * 
+	 * @return bytes spilled to disk
+	 */
+	public long getResultBytesSpilled() {
+		return this.resultStore.getBytesSpilled();
 	}
 
 	/**
@@ -462,6 +790,25 @@ public class GridJobProfile {
 	public boolean isStopped() {
 		return stopped;
 	}
+	
+	/**
+	 * Marks that all {@code GridTask}s of this {@code GridJob} have been
+	 * created and enqueued. Until then, the {@code GridJob} is not finished
+	 * even if no {@code GridTask} remains without a result.
+	 */
+	public void markSplitComplete() {
+		this.splitComplete = true;
+	}
+	
+	/**
+	 * Returns {@code true} if all {@code GridTask}s of this {@code GridJob}
+	 * have been created and enqueued.
+	 * 
+	 * @return value {@code true} if split complete, {@code false} otherwise
+	 */
+	public boolean isSplitComplete() {
+		return splitComplete;
+	}
 
 	/**
 	 * {@inheritDoc}
@@ -472,21 +819,26 @@ public class GridJobProfile {
 	}
 
 	/**
-	 * Sets the {@code ResultCallback} which is to be invoked
-	 * for each intermediate result received. This method 
-	 * accepts the proxy object which can be used to pass the
-	 * result to client.
-	 * <p>
-	 * This method also creates the {@code SingleThreadExecutor}
-	 * which is used to execute the notification process.
+	 * Sets the {@code ResultCallbackDispatcher} which delivers
+	 * intermediate results to the {@code ResultCallback} of the
+	 * client.
 	 * 
-	 * @param proxy {@code ResultCallback} proxy
+	 * @param dispatcher {@code ResultCallbackDispatcher}
 	 * 
 	 * @see ResultCallback
 	 */
-	public void setResultCallback(ResultCallback proxy) {
-		this.callbackProxy = proxy;
-		this.callbackExecutor = Executors.newSingleThreadExecutor();
+	public void setCallbackDispatcher(ResultCallbackDispatcher dispatcher) {
+		this.callbackDispatcher = dispatcher;
+	}
+	
+	/**
+	 * Returns the {@code ResultCallbackDispatcher} of this
+	 * {@code GridJob}, or {@code null} if no callback is registered.
+	 * 
+	 * @return {@code ResultCallbackDispatcher}
+	 */
+	public ResultCallbackDispatcher getCallbackDispatcher() {
+		return callbackDispatcher;
 	}
 
 	/**
@@ -572,6 +924,102 @@ public class GridJobProfile {
 		return this.workerNodes.size();
 	}
 
+	/**
+	 * Returns the number of tasks which the active worker
+	 * nodes of this GridJob may hold at once, in execution
+	 * or prefetched, as advertised by each node.
+	 * 
+	 * @return task capacity of worker nodes
+	 */
+	public int getWorkerTaskCapacity() {
+		
+		int capacity = 0;
+		
+		synchronized (workerNodes) {
+			for (UUID nodeId : workerNodes) {
+				Integer tasks = taskCapacities.get(nodeId);
+				capacity += (tasks != null) ? tasks : 1;
+			}
+		}
+		
+		return capacity;
+	}
+
+	/**
+	 * Returns {@code true} if this GridJob is at its tail, 
+	 * that is, all tasks are enqueued, and the remaining tasks
+	 * are not more than the worker nodes. Unbounded GridJobs
+	 * have no tail.
+	 * 
+	 * @return if at tail {@code true}, {@code false} otherwise
+	 */
+	public boolean isInTail() {
+		
+		if (job instanceof UnboundedGridJob || !splitComplete) {
+			return false;
+		}
+		
+		return getTaskCount() <= getWorkerCount();
+	}
+
+	/**
+	 * Returns {@code true} if the given node is an active
+	 * worker node of this GridJob.
+	 * 
+	 * @param nodeId Node Id
+	 * @return if worker {@code true}, {@code false} otherwise
+	 */
+	public boolean isWorker(UUID nodeId) {
+		return this.workerNodes.contains(nodeId);
+	}
+
+	/**
+	 * Returns a snapshot of the NodeIds of active
+	 * worker nodes of this GridJob.
+	 * 
+	 * @return NodeIds of worker nodes
+	 */
+	public Set<UUID> getWorkerNodes() {
+		synchronized (workerNodes) {
+			return new HashSet<UUID>(workerNodes);
+		}
+	}
+	
+	/**
+	 * Removes the given worker node from this GridJob,
+	 * as its execution slot has been preempted by a 
+	 * GridJob of higher priority.
+	 * 
+	 * @param nodeId Node Id
+	 */
+	public void preemptWorker(UUID nodeId) {
+		if (workerNodes.remove(nodeId)) {
+			synchronized (this) {
+				preemptedCount++;
+			}
+		}
+	}
+	
+	/**
+	 * Removes the given worker node from this GridJob,
+	 * as it did not accept a lease of this GridJob.
+	 * 
+	 * @param nodeId Node Id
+	 */
+	public void releaseWorker(UUID nodeId) {
+		workerNodes.remove(nodeId);
+	}
+	
+	/**
+	 * Returns the number of execution slots preempted
+	 * from this GridJob.
+	 * 
+	 * @return preempted slot count
+	 */
+	public synchronized int getPreemptedCount() {
+		return preemptedCount;
+	}
+
 
 
 
@@ -96,4 +96,12 @@ public interface InternalClusterJobService extends ClusterJobService {
 	 * @return Active Job Count
 	 */
 	public int getActiveJobCount();
+	
+	/**
+	 * Returns the {@code NodeStateRegistry}, which keeps track of 
+	 * the execution slots and the speed of the nodes of this cluster.
+	 * 
+	 * @return {@code NodeStateRegistry}
+	 */
+	public NodeStateRegistry getNodeStateRegistry();
 }
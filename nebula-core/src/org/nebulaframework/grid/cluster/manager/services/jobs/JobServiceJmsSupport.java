@@ -17,8 +17,8 @@ package org.nebulaframework.grid.cluster.manager.services.jobs;
 import javax.jms.ConnectionFactory;
 
 import org.apache.activemq.command.ActiveMQQueue;
+import org.nebulaframework.core.job.CallbackOverflowPolicy;
 import org.nebulaframework.core.job.GridJobState;
-import org.nebulaframework.core.job.ResultCallback;
 import org.nebulaframework.core.job.future.GridJobFutureServerImpl;
 import org.nebulaframework.core.job.future.InternalGridJobFuture;
 import org.nebulaframework.grid.cluster.manager.support.CleanUpSupport;
@@ -40,6 +40,9 @@ import org.springframework.beans.factory.annotation.Required;
 public class JobServiceJmsSupport {
 
 	private ConnectionFactory connectionFactory;
+	
+	// Acknowledgements of Callback Result Batches
+	private CallbackAckListener callbackAckListener;
 
 	/**
 	 * Sets the JMS {@code ConnectionFactory} used by this class to communicate
@@ -123,31 +126,57 @@ public class JobServiceJmsSupport {
 		// Export the Future to client side through Spring JMS Remoting
 		String queueName = createFutureQueue(jobId);
 
-		// Clean Up Hook
+		// Clean Up Hook (kept for a while, for late final result requests)
 		CleanUpSupport
 				.removeQueueWhenFinished(jobId, queueName, JMSRemotingSupport
 						.createService(connectionFactory, queueName, future,
-										InternalGridJobFuture.class));
+										InternalGridJobFuture.class),
+										GridJobFutureServerImpl.FINAL_RESULT_EXPIRY);
 
 		return future;
 	}
 	
 	/**
-	 * Creates and returns a {@code ResultCallback} proxy which can be used
-	 * to access the {@code ResultCallback} exposed through the given
-	 * JMS Queue Name.
+	 * Creates and returns a {@code ResultCallbackDispatcher} which delivers
+	 * intermediate results, in batches, to the {@code ResultCallback} 
+	 * listening on the given JMS Queue Name. The dispatcher removes the
+	 * queue once it is closed and its last batch is acknowledged.
 	 * 
 	 * @param jobId JobId of Result Queue
 	 * @param resultCallbackQueue JMS Queue Name
+	 * @param maxResults maximum results per batch
+	 * @param maxLinger maximum wait of a result (ms)
+	 * @param bufferSize maximum buffered results
+	 * @param overflow policy when buffer is full
 	 * 
-	 * @return proxy for {@code ResultCallback} 
+	 * @return {@code ResultCallbackDispatcher} 
 	 */
-	public  ResultCallback createResultCallbackProxy(String jobId, String resultCallbackQueue) {
+	public ResultCallbackDispatcher createResultCallbackDispatcher(String jobId, 
+			String resultCallbackQueue, int maxResults, long maxLinger, 
+			int bufferSize, CallbackOverflowPolicy overflow) {
+		
+		ResultCallbackDispatcher dispatcher = new ResultCallbackDispatcher(jobId, connectionFactory, 
+		                                                                   getCallbackAckListener(),
+		                                                                   resultCallbackQueue, maxResults, 
+		                                                                   maxLinger, bufferSize, overflow);
 		
 		// Clean Up Hook
-		CleanUpSupport.removeQueueWhenFinished(jobId, resultCallbackQueue);
+		CleanUpSupport.closeDispatcherWhenFinished(jobId, dispatcher);
 		
-		return JMSRemotingSupport.createProxy(connectionFactory, resultCallbackQueue, ResultCallback.class);
+		return dispatcher;
+	}
+	
+	/**
+	 * Returns the {@code CallbackAckListener} which receives the 
+	 * acknowledgements of result batches, creating it on first use.
+	 * 
+	 * @return {@code CallbackAckListener}
+	 */
+	private synchronized CallbackAckListener getCallbackAckListener() {
+		if (callbackAckListener == null) {
+			callbackAckListener = new CallbackAckListener(connectionFactory);
+		}
+		return callbackAckListener;
 	}
 	
 	
@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * An entry of the per-node speed table of a cluster, which holds the
+ * capacity reported by a {@code GridNode} at registration, and the
+ * throughput measured by the {@code ClusterManager} from the 
+ * {@code GridTask} results of the node.
+ * <p>
+ * The relative speed of a node compares the mean execution time of
+ * the node, against the mean execution time of all nodes, for each
+ * active {@code GridJob} in which the node participated. Until measured,
+ * it is estimated from the calibrated capacity of the node. A value 
+ * above {@code 1.0} denotes a node faster than average.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see NodeStateRegistry
+ * @see ClusterJobService#getNodeSpeeds()
+ */
+public class NodeSpeed implements Serializable {
+
+	private static final long serialVersionUID = 2284150742197034158L;
+	
+	private UUID nodeId;
+	private String name;
+	private int processors;
+	private long maxMemory;
+	private double mflops;
+	private long completedTasks;
+	private double tasksPerSecond;
+	private long meanExecutionTime;
+	private double relativeSpeed;
+	private Map<String, Long> jobExecutionTimes;
+	
+	/**
+	 * Constructs a {@code NodeSpeed} entry.
+	 * 
+	 * @param nodeId Node Id
+	 * @param name Node Name
+	 * @param processors number of processors of node
+	 * @param maxMemory maximum heap size of node, in bytes
+	 * @param mflops calibrated compute capacity of node, in MFLOPS
+	 * @param completedTasks number of results received from node
+	 * @param tasksPerSecond recent rate of results from node
+	 * @param meanExecutionTime mean execution time of node, in milliseconds
+	 * @param relativeSpeed relative speed of node
+	 * @param jobExecutionTimes mean execution time of node, per active Job
+	 */
+	public NodeSpeed(UUID nodeId, String name, int processors, long maxMemory,
+			double mflops, long completedTasks, double tasksPerSecond, long meanExecutionTime,
+			double relativeSpeed, Map<String, Long> jobExecutionTimes) {
+		super();
+		this.nodeId = nodeId;
+		this.name = name;
+		this.processors = processors;
+		this.maxMemory = maxMemory;
+		this.mflops = mflops;
+		this.completedTasks = completedTasks;
+		this.tasksPerSecond = tasksPerSecond;
+		this.meanExecutionTime = meanExecutionTime;
+		this.relativeSpeed = relativeSpeed;
+		this.jobExecutionTimes = jobExecutionTimes;
+	}
+
+	/**
+	 * Returns the Node Id.
+	 * 
+	 * @return Node Id
+	 */
+	public UUID getNodeId() {
+		return nodeId;
+	}
+
+	/**
+	 * Returns the user friendly name of the node.
+	 * 
+	 * @return Node Name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the number of processors reported by the node.
+	 * 
+	 * @return number of processors
+	 */
+	public int getProcessors() {
+		return processors;
+	}
+
+	/**
+	 * Returns the maximum heap size reported by the node.
+	 * 
+	 * @return maximum heap size, in bytes
+	 */
+	public long getMaxMemory() {
+		return maxMemory;
+	}
+
+	/**
+	 * Returns the compute capacity calibrated by the node at
+	 * start-up, which is zero if not calibrated.
+	 * 
+	 * @return compute capacity, in MFLOPS
+	 */
+	public double getMflops() {
+		return mflops;
+	}
+
+	/**
+	 * Returns the number of {@code GridTask} results received
+	 * from the node.
+	 * 
+	 * @return completed task count
+	 */
+	public long getCompletedTasks() {
+		return completedTasks;
+	}
+
+	/**
+	 * Returns the recent rate of {@code GridTask} results
+	 * received from the node.
+	 * 
+	 * @return tasks per second
+	 */
+	public double getTasksPerSecond() {
+		return tasksPerSecond;
+	}
+
+	/**
+	 * Returns the mean execution time of {@code GridTask}s
+	 * at the node, over all {@code GridJob}s.
+	 * 
+	 * @return mean execution time, in milliseconds
+	 */
+	public long getMeanExecutionTime() {
+		return meanExecutionTime;
+	}
+
+	/**
+	 * Returns the relative speed of the node, which is
+	 * {@code 1.0} if not known.
+	 * 
+	 * @return relative speed
+	 */
+	public double getRelativeSpeed() {
+		return relativeSpeed;
+	}
+
+	/**
+	 * Returns the mean execution time of {@code GridTask}s
+	 * at the node, against the JobId of each active {@code GridJob}.
+	 * 
+	 * @return mean execution times, in milliseconds, per JobId
+	 */
+	public Map<String, Long> getJobExecutionTimes() {
+		return Collections.unmodifiableMap(jobExecutionTimes);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return String.format("%s : %d CPU, %d MB, %.0f MFLOPS, %d tasks, %.2f tasks/s, %d ms/task, x%.2f", 
+		                     name, processors, maxMemory / (1024 * 1024), mflops, completedTasks, 
+		                     tasksPerSecond, meanExecutionTime, relativeSpeed);
+	}
+}
@@ -0,0 +1,600 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.nebulaframework.grid.cluster.manager.ClusterManager;
+import org.nebulaframework.grid.cluster.node.GridNodeProfile;
+import org.nebulaframework.grid.cluster.node.delegate.GridNodeDelegate;
+
+/**
+ * Keeps track of the execution slots and the speed of the {@code GridNode}s 
+ * of the cluster, which is used by the {@code ClusterJobService} to lease
+ * {@code GridJob}s directly to idle {@code GridNode}s, and to place 
+ * {@code GridJob}s according to the speed of nodes.
+ * <p>
+ * The registered {@code GridNode}s, and the execution slots and capacity
+ * advertised in their {@code GridNodeProfile}s, are obtained from the 
+ * {@code ClusterRegistrationService}. The used slots of a {@code GridNode}
+ * are the active {@code GridJob}s in which it is a worker. {@code GridNode}s
+ * which failed to reply to a lease are not leased again for 
+ * {@link #LEASE_PENALTY}, or until a result is received from them, and 
+ * meanwhile only participate upon {@code JOB_START} notifications.
+ * <p>
+ * The throughput of each {@code GridNode} is measured from the results of
+ * its {@code GridTask}s, as the rate of results, and the mean execution time 
+ * per {@code GridJob}. The relative speed of a node compares its mean 
+ * execution time against the mean of all nodes, for the same {@code GridJob}s,
+ * as {@code GridTask}s of different {@code GridJob}s are not comparable.
+ * Until the speed of a node is measured, it is estimated from the compute
+ * capacity calibrated by the node at start-up, per processor, against the
+ * average of the registered nodes.
+ * <p>
+ * Results are recorded without the lock of the registry, as they arrive 
+ * for every {@code GridTask}. Each node records its results under its own
+ * lock, and the execution times of all nodes per {@code GridJob} are kept
+ * in atomic counters. Relative speeds are aggregated from these when read.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see ClusterJobServiceImpl
+ * @see NodeSpeed
+ */
+public class NodeStateRegistry {
+
+	/**
+	 * Relative speed below which a {@code GridNode} is considered 
+	 * to be slow (0.5), that is, twice slower than average.
+	 */
+	public static final double SLOW_NODE_SPEED = 0.5;
+	
+	/**
+	 * Time for which a {@code GridNode} which failed to reply to 
+	 * a lease is not leased again, in milliseconds (1 minute).
+	 */
+	public static final long LEASE_PENALTY = 60000;
+	
+	// Period over which the rate of results is measured (ms)
+	private static final long RATE_PERIOD = 5000;
+	
+	// Weight of the latest observation, for rates and speeds
+	private static final double SMOOTHING = 0.5;
+	
+	private ClusterManager cluster;
+	
+	// Nodes which failed to reply to a lease, against end of penalty
+	private Map<UUID, Long> unleasable = new ConcurrentHashMap<UUID, Long>();
+	
+	// Throughput of nodes, against NodeId
+	private ConcurrentMap<UUID, Throughput> throughput = new ConcurrentHashMap<UUID, Throughput>();
+	
+	// Execution time of all nodes, against JobId
+	private ConcurrentMap<String, JobTotals> jobTotals = new ConcurrentHashMap<String, JobTotals>();
+	
+	/**
+	 * Constructs a {@code NodeStateRegistry} for the given 
+	 * {@code ClusterManager}.
+	 * 
+	 * @param cluster {@code ClusterManager}
+	 */
+	public NodeStateRegistry(ClusterManager cluster) {
+		super();
+		this.cluster = cluster;
+	}
+	
+	/**
+	 * Returns the {@code GridNodeDelegate}s of the {@code GridNode}s
+	 * which have at least one free execution slot, and accept leases,
+	 * fastest node first.
+	 * <p>
+	 * The caller should hold the lock which guards worker registration
+	 * of the given {@code GridJob}s.
+	 * 
+	 * @param jobs {@code GridJobProfile}s of active {@code GridJob}s
+	 * @return {@code GridNodeDelegate}s of idle {@code GridNode}s
+	 */
+	public synchronized List<GridNodeDelegate> getIdleNodes(Collection<GridJobProfile> jobs) {
+		
+		List<GridNodeDelegate> idle = new ArrayList<GridNodeDelegate>();
+		Set<UUID> registered = new HashSet<UUID>();
+		long now = System.currentTimeMillis();
+		
+		for (GridNodeDelegate node : cluster.getClusterRegistrationService().getGridNodeDelegates()) {
+			
+			registered.add(node.getNodeId());
+			
+			if (node.getJobLeaseService() == null || isPenalized(node.getNodeId(), now)) {
+				continue;
+			}
+			
+			if (getFreeSlots(node.getProfile(), jobs) > 0) {
+				idle.add(node);
+			}
+		}
+		
+		// Forget nodes which left the cluster
+		unleasable.keySet().retainAll(registered);
+		throughput.keySet().retainAll(registered);
+		
+		// Speeds of idle nodes, against the same calibrated average
+		double average = getCalibratedAverage();
+		final Map<UUID, Double> speeds = new HashMap<UUID, Double>();
+		for (GridNodeDelegate node : idle) {
+			speeds.put(node.getNodeId(), getRelativeSpeed(node.getProfile(), average));
+		}
+		
+		// Fastest First
+		Collections.sort(idle, new Comparator<GridNodeDelegate>() {
+			public int compare(GridNodeDelegate n1, GridNodeDelegate n2) {
+				return Double.compare(speeds.get(n2.getNodeId()), 
+				                      speeds.get(n1.getNodeId()));
+			}
+		});
+		
+		return idle;
+	}
+	
+	/**
+	 * Returns the number of free execution slots of the given 
+	 * {@code GridNode}.
+	 * 
+	 * @param node {@code GridNodeProfile} of node
+	 * @param jobs {@code GridJobProfile}s of active {@code GridJob}s
+	 * @return number of free execution slots
+	 */
+	public int getFreeSlots(GridNodeProfile node, Collection<GridJobProfile> jobs) {
+		
+		int used = 0;
+		for (GridJobProfile profile : jobs) {
+			if (profile.isWorker(node.getId())) {
+				used++;
+			}
+		}
+		
+		return Math.max(0, node.getJobSlots() - used);
+	}
+	
+	/**
+	 * Marks that the given {@code GridNode} failed to reply to a lease,
+	 * so that it is not leased again for {@link #LEASE_PENALTY}.
+	 * 
+	 * @param nodeId Node Id
+	 */
+	public void leaseFailed(UUID nodeId) {
+		unleasable.put(nodeId, System.currentTimeMillis() + LEASE_PENALTY);
+	}
+	
+	/**
+	 * Returns {@code true} if the given {@code GridNode} is not to be
+	 * leased, as it failed to reply to a lease recently. Expired 
+	 * penalties are removed.
+	 * 
+	 * @param nodeId Node Id
+	 * @param now current time
+	 * @return if penalized {@code true}, {@code false} otherwise
+	 */
+	private boolean isPenalized(UUID nodeId, long now) {
+		
+		Long until = unleasable.get(nodeId);
+		if (until == null) return false;
+		
+		if (until <= now) {
+			unleasable.remove(nodeId);
+			return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Records the result of a {@code GridTask}, executed by the 
+	 * given {@code GridNode}. Does not acquire the lock of the 
+	 * registry.
+	 * 
+	 * @param nodeId Node Id of worker
+	 * @param jobId JobId of {@code GridJob}
+	 * @param executionTime execution time of {@code GridTask}, in milliseconds
+	 */
+	public void resultReceived(UUID nodeId, String jobId, long executionTime) {
+		
+		if (nodeId == null) return;
+		
+		// Node is responsive
+		if (!unleasable.isEmpty()) {
+			unleasable.remove(nodeId);
+		}
+		
+		Throughput node = throughput.get(nodeId);
+		if (node == null) {
+			Throughput created = new Throughput();
+			node = throughput.putIfAbsent(nodeId, created);
+			if (node == null) node = created;
+		}
+		node.record(jobId, executionTime, System.currentTimeMillis());
+		
+		JobTotals totals = jobTotals.get(jobId);
+		if (totals == null) {
+			JobTotals created = new JobTotals();
+			totals = jobTotals.putIfAbsent(jobId, created);
+			if (totals == null) totals = created;
+		}
+		totals.add(executionTime);
+	}
+	
+	/**
+	 * Discards the execution times of the given {@code GridJob}, 
+	 * after updating the relative speed of its worker nodes.
+	 * 
+	 * @param jobId JobId of finished {@code GridJob}
+	 */
+	public synchronized void jobFinished(String jobId) {
+		
+		JobTotals removed = jobTotals.remove(jobId);
+		long[] totals = (removed != null) ? removed.get() : null;
+		
+		for (Throughput node : throughput.values()) {
+			
+			synchronized (node) {
+				
+				long[] own = node.jobs.remove(jobId);
+				double speed = getSpeed(own, totals);
+				
+				if (speed > 0) {
+					node.pastSpeed = (node.pastSpeed < 0) ? speed 
+							: SMOOTHING * speed + (1 - SMOOTHING) * node.pastSpeed;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Returns the relative speed of the given {@code GridNode}, which
+	 * is the mean over its active {@code GridJob}s, or if not available, 
+	 * the speed observed in past {@code GridJob}s. A node of unknown 
+	 * speed is considered to be of average speed ({@code 1.0}).
+	 * 
+	 * @param nodeId Node Id
+	 * @return relative speed
+	 */
+	public synchronized double getRelativeSpeed(UUID nodeId) {
+		
+		double speed = getMeasuredSpeed(throughput.get(nodeId));
+		return (speed > 0) ? speed : getCalibratedSpeed(nodeId);
+	}
+	
+	/**
+	 * Returns the relative speed of the given {@code GridNode}, as
+	 * {@link #getRelativeSpeed(UUID)}, estimating unmeasured nodes 
+	 * against the given calibrated average.
+	 * 
+	 * @param profile {@code GridNodeProfile} of node
+	 * @param average calibrated average (refer to {@link #getCalibratedAverage()})
+	 * @return relative speed
+	 */
+	private double getRelativeSpeed(GridNodeProfile profile, double average) {
+		
+		double speed = getMeasuredSpeed(throughput.get(profile.getId()));
+		return (speed > 0) ? speed : getCalibratedSpeed(profile, average);
+	}
+	
+	/**
+	 * Returns the measured relative speed of the given node, which is
+	 * the mean over its active {@code GridJob}s, or if not available, 
+	 * the speed observed in past {@code GridJob}s.
+	 * 
+	 * @param node {@code Throughput} of node, or {@code null}
+	 * @return relative speed, or negative if not measured
+	 */
+	private double getMeasuredSpeed(Throughput node) {
+		
+		if (node == null) return -1;
+		
+		double sum = 0;
+		int count = 0;
+		
+		synchronized (node) {
+			
+			for (String jobId : node.jobs.keySet()) {
+				
+				JobTotals totals = jobTotals.get(jobId);
+				double speed = getSpeed(node.jobs.get(jobId), 
+				                        (totals != null) ? totals.get() : null);
+				if (speed > 0) {
+					sum += speed;
+					count++;
+				}
+			}
+			
+			return (count > 0) ? sum / count : node.pastSpeed;
+		}
+	}
+	
+	/**
+	 * Returns the relative speed of the given {@code GridNode}, estimated
+	 * from the calibrated capacity per processor of the node, against the
+	 * average of the calibrated nodes. Returns {@code 1.0} if the node is
+	 * not calibrated.
+	 * 
+	 * @param nodeId Node Id
+	 * @return estimated relative speed
+	 */
+	private double getCalibratedSpeed(UUID nodeId) {
+		
+		double own = -1;
+		double sum = 0;
+		int count = 0;
+		
+		// Own capacity and average, in one pass
+		for (GridNodeDelegate node : cluster.getClusterRegistrationService().getGridNodeDelegates()) {
+			
+			GridNodeProfile profile = node.getProfile();
+			if (profile.getMflops() <= 0) continue;
+			
+			double perProcessor = getMflopsPerProcessor(profile);
+			if (node.getNodeId().equals(nodeId)) {
+				own = perProcessor;
+			}
+			sum += perProcessor;
+			count++;
+		}
+		
+		return (own > 0) ? own / (sum / count) : 1.0;
+	}
+	
+	/**
+	 * Returns the relative speed of the given {@code GridNode}, estimated
+	 * from the calibrated capacity per processor of the node, against the
+	 * given average of the calibrated nodes. Returns {@code 1.0} if the 
+	 * node is not calibrated.
+	 * 
+	 * @param profile {@code GridNodeProfile} of node
+	 * @param average calibrated average (refer to {@link #getCalibratedAverage()})
+	 * @return estimated relative speed
+	 */
+	private double getCalibratedSpeed(GridNodeProfile profile, double average) {
+		
+		if (profile.getMflops() <= 0 || average <= 0) return 1.0;
+		
+		return getMflopsPerProcessor(profile) / average;
+	}
+	
+	/**
+	 * Returns the average calibrated capacity per processor of the 
+	 * registered {@code GridNode}s, which are calibrated.
+	 * 
+	 * @return average MFLOPS per processor, or {@code 0} if no node
+	 * 		is calibrated
+	 */
+	private double getCalibratedAverage() {
+		
+		double sum = 0;
+		int count = 0;
+		
+		for (GridNodeDelegate node : cluster.getClusterRegistrationService().getGridNodeDelegates()) {
+			
+			GridNodeProfile profile = node.getProfile();
+			if (profile.getMflops() <= 0) continue;
+			
+			sum += getMflopsPerProcessor(profile);
+			count++;
+		}
+		
+		return (count > 0) ? sum / count : 0;
+	}
+	
+	/**
+	 * Returns the calibrated capacity per processor of the given node.
+	 * 
+	 * @param profile {@code GridNodeProfile} of node
+	 * @return MFLOPS per processor
+	 */
+	private double getMflopsPerProcessor(GridNodeProfile profile) {
+		return profile.getMflops() / Math.max(1, profile.getProcessors());
+	}
+	
+	/**
+	 * Returns the speed of a node for a {@code GridJob}, from the 
+	 * execution times of the node, and of all nodes. Returns a
+	 * negative value if no other node has results to compare with.
+	 * 
+	 * @param own execution times of node {count, total}
+	 * @param totals execution times of all nodes {count, total}
+	 * @return speed, or negative if not available
+	 */
+	private double getSpeed(long[] own, long[] totals) {
+		
+		if (own == null || totals == null || totals[0] <= own[0]) {
+			return -1;
+		}
+		
+		double nodeMean = Math.max(1.0, (double) own[1] / own[0]);
+		double jobMean = Math.max(1.0, (double) totals[1] / totals[0]);
+		
+		return jobMean / nodeMean;
+	}
+	
+	/**
+	 * Returns {@code true} if the given {@code GridNode} is known 
+	 * to be slow (refer to {@link #SLOW_NODE_SPEED}).
+	 * 
+	 * @param nodeId Node Id
+	 * @return if slow {@code true}, {@code false} otherwise
+	 */
+	public boolean isSlow(UUID nodeId) {
+		return getRelativeSpeed(nodeId) < SLOW_NODE_SPEED;
+	}
+	
+	/**
+	 * Returns the speed table of the {@code GridNode}s of the cluster,
+	 * fastest node first.
+	 * 
+	 * @return {@code NodeSpeed}s of registered nodes
+	 */
+	public synchronized List<NodeSpeed> getNodeSpeeds() {
+		
+		List<NodeSpeed> speeds = new ArrayList<NodeSpeed>();
+		long now = System.currentTimeMillis();
+		double average = getCalibratedAverage();
+		
+		for (GridNodeDelegate delegate : cluster.getClusterRegistrationService().getGridNodeDelegates()) {
+			
+			GridNodeProfile profile = delegate.getProfile();
+			Throughput node = throughput.get(delegate.getNodeId());
+			
+			Map<String, Long> jobTimes = new HashMap<String, Long>();
+			long completed = 0;
+			long mean = 0;
+			double rate = 0;
+			
+			if (node != null) {
+				synchronized (node) {
+					for (String jobId : node.jobs.keySet()) {
+						long[] own = node.jobs.get(jobId);
+						jobTimes.put(jobId, own[1] / own[0]);
+					}
+					completed = node.completed;
+					mean = node.totalTime / node.completed;
+					rate = node.getRate(now);
+				}
+			}
+			
+			speeds.add(new NodeSpeed(delegate.getNodeId(), profile.getName(), 
+			                         profile.getProcessors(), profile.getMaxMemory(), 
+			                         profile.getMflops(), completed, rate, mean, 
+			                         getRelativeSpeed(profile, average), jobTimes));
+		}
+		
+		Collections.sort(speeds, new Comparator<NodeSpeed>() {
+			public int compare(NodeSpeed s1, NodeSpeed s2) {
+				return Double.compare(s2.getRelativeSpeed(), s1.getRelativeSpeed());
+			}
+		});
+		
+		return speeds;
+	}
+	
+	/**
+	 * Execution time of all nodes for a {@code GridJob}.
+	 */
+	private static class JobTotals {
+		
+		private AtomicLong count = new AtomicLong();
+		private AtomicLong total = new AtomicLong();
+		
+		/**
+		 * Adds the execution time of a result.
+		 * 
+		 * @param executionTime execution time, in milliseconds
+		 */
+		public void add(long executionTime) {
+			total.addAndGet(executionTime);
+			count.incrementAndGet();
+		}
+		
+		/**
+		 * Returns the execution times {count, total}.
+		 * 
+		 * @return execution times
+		 */
+		public long[] get() {
+			// Count first, so that the total is never short of it
+			long c = count.get();
+			return new long[] {c, total.get()};
+		}
+	}
+	
+	/**
+	 * Measured throughput of a {@code GridNode}. Guarded by
+	 * its own lock.
+	 */
+	private static class Throughput {
+		
+		// Results and total execution time
+		private long completed;
+		private long totalTime;
+		
+		// Execution times {count, total}, against JobId
+		private Map<String, long[]> jobs = new HashMap<String, long[]>();
+		
+		// Smoothed rate of results, and current period
+		private double rate;
+		private long periodStart = -1;
+		private int periodCount;
+		
+		// Relative speed in finished Jobs, negative if unknown
+		private double pastSpeed = -1;
+		
+		/**
+		 * Records a result of the node.
+		 * 
+		 * @param jobId JobId
+		 * @param executionTime execution time, in milliseconds
+		 * @param now current time
+		 */
+		public synchronized void record(String jobId, long executionTime, long now) {
+			
+			completed++;
+			totalTime += executionTime;
+			
+			long[] own = jobs.get(jobId);
+			if (own == null) {
+				own = new long[2];
+				jobs.put(jobId, own);
+			}
+			own[0]++;
+			own[1] += executionTime;
+			
+			if (periodStart < 0) {
+				periodStart = now;
+			}
+			periodCount++;
+			
+			long elapsed = now - periodStart;
+			if (elapsed >= RATE_PERIOD) {
+				double current = periodCount * 1000.0 / elapsed;
+				rate = (rate == 0) ? current : SMOOTHING * current + (1 - SMOOTHING) * rate;
+				periodStart = now;
+				periodCount = 0;
+			}
+		}
+		
+		/**
+		 * Returns the rate of results, in tasks per second. Before
+		 * the first period elapses, the rate so far is returned.
+		 * 
+		 * @param now current time
+		 * @return tasks per second
+		 */
+		public synchronized double getRate(long now) {
+			if (rate == 0 && periodStart >= 0 && now > periodStart) {
+				return periodCount * 1000.0 / (now - periodStart);
+			}
+			return rate;
+		}
+	}
+}
@@ -0,0 +1,484 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedList;
+
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSException;
+import javax.jms.Message;
+
+import org.apache.activemq.command.ActiveMQQueue;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.nebulaframework.core.job.CallbackOverflowPolicy;
+import org.nebulaframework.core.job.ResultCallback;
+import org.nebulaframework.grid.cluster.manager.support.JMSResourceSupport;
+import org.nebulaframework.util.jms.JMSNamingSupport;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.MessagePostProcessor;
+import org.springframework.util.Assert;
+
+/**
+ * Delivers intermediate results of a {@code GridJob} to the 
+ * {@link ResultCallback} of the submitter, in batches.
+ * <p>
+ * Results are buffered, and a sender thread delivers them as one-way 
+ * (non-persistent) messages to the callback queue of the submitter,
+ * without waiting for the callback to complete. A batch is sent once it 
+ * reaches {@code maxResults} results, or once its first result has waited
+ * for {@code maxLinger} milliseconds.
+ * <p>
+ * The submitter acknowledges each batch once its callback has processed
+ * it (refer to {@link CallbackAckListener}). At most {@link #MAX_UNACKED_BATCHES}
+ * batches are sent ahead of acknowledgements, so that the backlog of a slow
+ * submitter remains in this dispatcher, instead of the broker. The buffered
+ * and unacknowledged results together are at most {@code bufferSize}, after
+ * which the {@link CallbackOverflowPolicy} applies. A batch which is not 
+ * acknowledged within {@link #ACK_TIMEOUT} is considered lost.
+ * <p>
+ * The callback lag, that is, the time the oldest result which is not 
+ * acknowledged has waited, measures how far the submitter is behind the
+ * {@code GridJob}.
+ * <p>
+ * Once closed, remaining results are sent, and the callback queue is
+ * removed after the last batch is acknowledged.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see GridJobProfile#fireCallback(Serializable)
+ */
+public class ResultCallbackDispatcher {
+
+	private static Log log = LogFactory.getLog(ResultCallbackDispatcher.class);
+	
+	/**
+	 * Maximum number of batches sent ahead of acknowledgements (4).
+	 */
+	public static final int MAX_UNACKED_BATCHES = 4;
+	
+	/**
+	 * Time after which a batch which is not acknowledged is 
+	 * considered lost, in milliseconds (30 seconds).
+	 */
+	public static final long ACK_TIMEOUT = 30000;
+	
+	private String jobId;
+	private String queueName;
+	private JmsTemplate jmsTemplate;
+	private CallbackAckListener acks;
+	
+	private int maxResults;
+	private long maxLinger;
+	private int bufferSize;
+	private CallbackOverflowPolicy overflow;
+	
+	// Buffered Results, oldest first
+	private LinkedList<Serializable> results = new LinkedList<Serializable>();
+	
+	// Time each buffered result was added, oldest first
+	private LinkedList<Long> times = new LinkedList<Long>();
+	
+	// Unacknowledged Batches {sequence, size, time of oldest result, time sent}
+	private LinkedList<long[]> unacked = new LinkedList<long[]>();
+	private int unackedResults = 0;
+	private long sequence = 0;
+	
+	private boolean closed = false;
+	
+	private long delivered = 0;		// Results acknowledged
+	private long dropped = 0;		// Results discarded on overflow, or lost
+	private long lastLag = 0;		// Lag of last batch acknowledged
+	
+	/**
+	 * Constructs a {@code ResultCallbackDispatcher} which delivers results
+	 * to the given callback queue, and starts its sender thread.
+	 * 
+	 * @param jobId JobId of {@code GridJob}
+	 * @param connectionFactory JMS {@code ConnectionFactory}
+	 * @param acks {@code CallbackAckListener} of {@code ClusterManager}
+	 * @param queueName callback queue of submitter
+	 * @param maxResults maximum results per batch
+	 * @param maxLinger maximum wait of a result (ms)
+	 * @param bufferSize maximum buffered results
+	 * @param overflow policy when buffer is full
+	 * 
+	 * @throws IllegalArgumentException if any argument is invalid
+	 */
+	public ResultCallbackDispatcher(String jobId, ConnectionFactory connectionFactory, 
+			CallbackAckListener acks, String queueName, int maxResults, long maxLinger, 
+			int bufferSize, CallbackOverflowPolicy overflow) throws IllegalArgumentException {
+		
+		super();
+		
+		Assert.notNull(connectionFactory);
+		Assert.notNull(acks);
+		Assert.notNull(queueName);
+		Assert.notNull(overflow);
+		Assert.isTrue(maxResults > 0, "Batch size must be positive");
+		Assert.isTrue(maxLinger >= 0, "Linger must not be negative");
+		Assert.isTrue(bufferSize >= maxResults, "Buffer must hold at least one batch");
+		
+		this.jobId = jobId;
+		this.acks = acks;
+		this.queueName = queueName;
+		this.maxResults = maxResults;
+		this.maxLinger = maxLinger;
+		this.bufferSize = bufferSize;
+		this.overflow = overflow;
+		
+		// One-way, Non-persistent Messages
+		this.jmsTemplate = new JmsTemplate(connectionFactory);
+		this.jmsTemplate.setExplicitQosEnabled(true);
+		this.jmsTemplate.setDeliveryPersistent(false);
+		
+		acks.register(this);
+		
+		Thread sender = new Thread(new Runnable() {
+			public void run() {
+				send();
+			}
+		}, "ResultCallbackDispatcher-" + jobId);
+		sender.setDaemon(true);
+		sender.start();
+		
+		log.debug("[ResultCallbackDispatcher] Batching Callbacks of Job {" + jobId + "} | Max Results : " 
+		          + maxResults + " | Max Linger : " + maxLinger + " | Buffer : " + bufferSize 
+		          + " | Overflow : " + overflow);
+	}
+	
+	/**
+	 * Returns the JobId of the {@code GridJob} of this dispatcher.
+	 * 
+	 * @return JobId
+	 */
+	public String getJobId() {
+		return jobId;
+	}
+
+	/**
+	 * Adds the given result to the buffer, for delivery. If the buffer
+	 * is full, blocks or discards a result, as per the overflow policy.
+	 * <p>
+	 * If interrupted while blocked, the result is discarded, and the
+	 * interrupt status of the thread is restored.
+	 * 
+	 * @param result intermediate result
+	 */
+	public synchronized void offer(Serializable result) {
+		
+		while (!closed && results.size() + unackedResults >= bufferSize) {
+			
+			if (overflow == CallbackOverflowPolicy.DROP_NEWEST) {
+				dropped++;
+				return;
+			}
+			else if (overflow == CallbackOverflowPolicy.DROP_OLDEST) {
+				
+				// All others are sent, this is the oldest unsent
+				if (results.isEmpty()) {
+					dropped++;
+					return;
+				}
+				
+				results.removeFirst();
+				times.removeFirst();
+				dropped++;
+				continue;
+			}
+			
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				dropped++;
+				log.warn("[ResultCallbackDispatcher] Interrupted while waiting for Buffer. " 
+				         + "Result of Job " + jobId + " discarded");
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+		
+		if (closed) return;
+		
+		results.addLast(result);
+		times.addLast(System.currentTimeMillis());
+		
+		// Wake sender for first result, or full batch
+		if (results.size() == 1 || results.size() >= maxResults) {
+			notifyAll();
+		}
+	}
+	
+	/**
+	 * Invoked when the submitter acknowledges the batch of the given
+	 * sequence number. Acknowledges all earlier batches as well.
+	 * 
+	 * @param batch sequence number of batch
+	 */
+	public synchronized void acknowledged(long batch) {
+		
+		long now = System.currentTimeMillis();
+		
+		while (!unacked.isEmpty() && unacked.getFirst()[0] <= batch) {
+			long[] sent = unacked.removeFirst();
+			unackedResults -= sent[1];
+			delivered += sent[1];
+			lastLag = now - sent[2];
+		}
+		
+		// Wake sender, and blocked producers
+		notifyAll();
+	}
+	
+	/**
+	 * Closes this dispatcher. Buffered results are still sent,
+	 * and further results are discarded.
+	 */
+	public synchronized void close() {
+		closed = true;
+		notifyAll();
+	}
+	
+	/**
+	 * Returns the callback lag, that is, the time the oldest 
+	 * result which is not acknowledged has waited, in milliseconds.
+	 * 
+	 * @return callback lag (ms)
+	 */
+	public synchronized long getLag() {
+		
+		long now = System.currentTimeMillis();
+		
+		if (!unacked.isEmpty()) return now - unacked.getFirst()[2];
+		if (!times.isEmpty()) return now - times.getFirst();
+		
+		return 0;
+	}
+	
+	/**
+	 * Returns the time the oldest result of the last acknowledged
+	 * batch had waited when it was acknowledged, in milliseconds.
+	 * 
+	 * @return lag of last batch (ms)
+	 */
+	public synchronized long getLastLag() {
+		return lastLag;
+	}
+	
+	/**
+	 * Returns the number of buffered results.
+	 * 
+	 * @return buffered results
+	 */
+	public synchronized int getBufferedCount() {
+		return results.size();
+	}
+	
+	/**
+	 * Returns the number of results sent, but not acknowledged.
+	 * 
+	 * @return unacknowledged results
+	 */
+	public synchronized int getUnacknowledgedCount() {
+		return unackedResults;
+	}
+	
+	/**
+	 * Returns the number of results acknowledged by the submitter.
+	 * 
+	 * @return results delivered
+	 */
+	public synchronized long getDeliveredCount() {
+		return delivered;
+	}
+	
+	/**
+	 * Returns the number of results discarded due to overflow,
+	 * or lost in delivery.
+	 * 
+	 * @return discarded results
+	 */
+	public synchronized long getDroppedCount() {
+		return dropped;
+	}
+	
+	/**
+	 * Sender loop. Sends batches until this dispatcher is closed,
+	 * the buffer is empty, and sent batches are acknowledged. The 
+	 * callback queue is removed afterwards.
+	 */
+	private void send() {
+		
+		Batch batch;
+		
+		while ((batch = nextBatch()) != null) {
+			
+			final long sequence = batch.sequence;
+			
+			try {
+				jmsTemplate.convertAndSend(queueName, batch.results, new MessagePostProcessor() {
+					public Message postProcessMessage(Message message) throws JMSException {
+						message.setJMSCorrelationID(jobId);
+						message.setLongProperty("batch", sequence);
+						message.setJMSReplyTo(new ActiveMQQueue(JMSNamingSupport.getCallbackAckQueueName()));
+						return message;
+					}
+				});
+			} catch (Exception e) {
+				log.warn("[ResultCallbackDispatcher] Unable to deliver " + batch.results.size() 
+				         + " results of Job " + jobId, e);
+				sendFailed(sequence);
+			}
+		}
+		
+		acks.unregister(jobId);
+		
+		try {
+			JMSResourceSupport.removeQueue(queueName);
+		} catch (Exception e) {
+			log.debug("[ResultCallbackDispatcher] Unable to remove Callback Queue " + queueName, e);
+		}
+		
+		log.debug("[ResultCallbackDispatcher] Closed for Job " + jobId);
+	}
+	
+	/**
+	 * Waits until a batch is due, and sending it is allowed by the 
+	 * unacknowledged batches, and removes it from the buffer.
+	 * 
+	 * @return next batch, or {@code null} if closed, empty and 
+	 * acknowledged
+	 */
+	private synchronized Batch nextBatch() {
+		
+		try {
+			while (true) {
+				
+				long now = System.currentTimeMillis();
+				expireUnacked(now);
+				
+				if (results.isEmpty()) {
+					if (closed && unacked.isEmpty()) return null;
+					wait(getAckWait(now));
+					continue;
+				}
+				
+				if (unacked.size() >= MAX_UNACKED_BATCHES) {
+					wait(getAckWait(now));
+					continue;
+				}
+				
+				if (closed || results.size() >= maxResults) break;
+				
+				// Wait until first result has lingered
+				long remaining = times.getFirst() + maxLinger - now;
+				if (remaining <= 0) break;
+				
+				wait(remaining);
+			}
+		} catch (InterruptedException e) {
+			log.warn("[ResultCallbackDispatcher] Interrupted", e);
+			return null;
+		}
+		
+		int size = Math.min(maxResults, results.size());
+		Batch batch = new Batch(++sequence, size);
+		
+		unacked.addLast(new long[] {batch.sequence, size, times.getFirst(), System.currentTimeMillis()});
+		unackedResults += size;
+		
+		for (int i = 0; i < size; i++) {
+			batch.results.add(results.removeFirst());
+			times.removeFirst();
+		}
+		
+		return batch;
+	}
+	
+	/**
+	 * Returns the time to wait for the oldest unacknowledged batch
+	 * to be acknowledged, or to expire, or zero to wait without limit.
+	 * 
+	 * @param now current time
+	 * @return time to wait (ms)
+	 */
+	private long getAckWait(long now) {
+		if (unacked.isEmpty()) return 0;
+		return Math.max(1, unacked.getFirst()[3] + ACK_TIMEOUT - now);
+	}
+	
+	/**
+	 * Discards unacknowledged batches which were sent before 
+	 * {@link #ACK_TIMEOUT}, as lost.
+	 * 
+	 * @param now current time
+	 */
+	private void expireUnacked(long now) {
+		
+		while (!unacked.isEmpty() && unacked.getFirst()[3] + ACK_TIMEOUT <= now) {
+			
+			long[] sent = unacked.removeFirst();
+			unackedResults -= sent[1];
+			dropped += sent[1];
+			
+			log.warn("[ResultCallbackDispatcher] No Acknowledgement for " + sent[1] 
+			         + " results of Job " + jobId + ", assuming lost");
+			
+			// Wake blocked producers
+			notifyAll();
+		}
+	}
+	
+	/**
+	 * Discards the given batch, which could not be sent.
+	 * 
+	 * @param batch sequence number of batch
+	 */
+	private synchronized void sendFailed(long batch) {
+		for (int i = 0; i < unacked.size(); i++) {
+			long[] sent = unacked.get(i);
+			if (sent[0] == batch) {
+				unacked.remove(i);
+				unackedResults -= sent[1];
+				dropped += sent[1];
+				notifyAll();
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * A batch of results, with its sequence number.
+	 */
+	private static class Batch {
+		
+		private long sequence;
+		private ArrayList<Serializable> results;
+		
+		/**
+		 * Constructs an empty batch.
+		 * 
+		 * @param sequence sequence number
+		 * @param size number of results
+		 */
+		public Batch(long sequence, int size) {
+			this.sequence = sequence;
+			this.results = new ArrayList<Serializable>(size);
+		}
+	}
+}
@@ -19,6 +19,9 @@ import java.util.UUID;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.nebulaframework.core.task.GridTaskResult;
+import org.nebulaframework.core.task.GridTaskPartialResult;
+import org.nebulaframework.core.task.GridTaskResultBatch;
 import org.nebulaframework.grid.cluster.manager.ClusterManager;
 import org.nebulaframework.grid.cluster.manager.services.messaging.ServiceMessageSender;
 import org.nebulaframework.grid.service.message.ServiceMessage;
@@ -39,11 +42,15 @@ import org.nebulaframework.grid.service.message.ServiceMessageType;
  * All result collection classes are extended from this
  * class, and uses the functionality of this to handle such
  * issues.
+ * <p>
+ * Furthermore, this class unpacks batches of results ({@link GridTaskResultBatch}),
+ * sent by {@code GridNode}s when result batching is enabled for a {@code GridJob},
+ * into the {@link #onResult(GridTaskResult)} method of the result collection class.
  * 
  * @author Yohan Liyanage
  * @version 1.0
  */
-public class ResultCollectionSupport {
+public abstract class ResultCollectionSupport {
 
 	/**
 	 * Maximum allowed consecutive fail results
@@ -63,6 +70,56 @@ public class ResultCollectionSupport {
 	 */
 	protected GridJobProfile profile;
 
+	/**
+	 * Invoked when a {@code GridTaskResult} arrives to the 
+	 * {@code ResultQueue} of the {@code GridJob}.
+	 * 
+	 * @param result {@code GridTaskResult}
+	 */
+	public abstract void onResult(GridTaskResult result);
+	
+	/**
+	 * Invoked when a batch of {@code GridTaskResult}s arrives to the 
+	 * {@code ResultQueue} of the {@code GridJob}. Each result of the
+	 * batch is passed to {@link #onResult(GridTaskResult)}, in order.
+	 * 
+	 * @param batch {@code GridTaskResultBatch}
+	 */
+	public void onResult(GridTaskResultBatch batch) {
+		
+		log.debug("[JobService] Received Result Batch : " + batch.size() + " results");
+		
+		for (GridTaskResult result : batch.getResults()) {
+			onResult(result);
+		}
+	}
+	
+	/**
+	 * Invoked when a partial aggregation state, combined by a 
+	 * {@code GridNode}, arrives to the {@code ResultQueue} of the
+	 * {@code GridJob}. Result collection classes which support
+	 * combining should override this method. The default 
+	 * implementation discards the partial result.
+	 * 
+	 * @param partial {@code GridTaskPartialResult}
+	 */
+	public void onResult(GridTaskPartialResult partial) {
+		log.warn("[JobService] Partial Results not supported, discarding " + partial);
+	}
+	
+	/**
+	 * Records the execution time of a {@code GridTask} executed by
+	 * the given worker node, in the {@code NodeStateRegistry} of the
+	 * cluster, which measures the throughput of nodes.
+	 * 
+	 * @param workerId Worker UUID
+	 * @param executionTime execution time, in milliseconds
+	 */
+	protected void recordThroughput(UUID workerId, long executionTime) {
+		ClusterManager.getInstance().getJobService().getNodeStateRegistry()
+				.resultReceived(workerId, profile.getJobId(), executionTime);
+	}
+	
 	/**
 	 * Clears any failure traces for a given worker node.
 	 * 
@@ -70,8 +127,10 @@ public class ResultCollectionSupport {
 	 */
 	protected void clearFailureTrace(UUID workerId) {
 		
-		if (failureTrace.containsKey(workerId)) {
-			failureTrace.remove(workerId);
+		synchronized (failureTrace) {
+			if (failureTrace.containsKey(workerId)) {
+				failureTrace.remove(workerId);
+			}
 		}
 	}
 	
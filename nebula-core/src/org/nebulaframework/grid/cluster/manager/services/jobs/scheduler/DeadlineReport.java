@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs.scheduler;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.nebulaframework.grid.cluster.manager.services.jobs.GridJobProfile;
+
+/**
+ * Keeps track of how often {@code GridJob}s with deadlines finish within 
+ * their deadlines, for each {@code GridJob} class, at the {@code ClusterManager}.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ */
+public class DeadlineReport {
+
+	private static Log log = LogFactory.getLog(DeadlineReport.class);
+	
+	// Outcomes against GridJob class name : {met, missed, total lateness of missed}
+	private Map<String, long[]> outcomes = new TreeMap<String, long[]>();
+	
+	/**
+	 * Records the outcome of the given finished {@code GridJob}, if
+	 * it has a deadline.
+	 * 
+	 * @param profile {@code GridJobProfile} of finished {@code GridJob}
+	 * @param finishTime time of finish, in milliseconds
+	 */
+	public void jobFinished(GridJobProfile profile, long finishTime) {
+		jobFinished(profile, finishTime, false);
+	}
+	
+	/**
+	 * Records the outcome of the given finished, or cancelled, 
+	 * {@code GridJob}, if it has a deadline. A cancelled 
+	 * {@code GridJob} has missed its deadline, as it did not
+	 * produce a result.
+	 * 
+	 * @param profile {@code GridJobProfile} of finished {@code GridJob}
+	 * @param finishTime time of finish, in milliseconds
+	 * @param cancelled if the {@code GridJob} was cancelled
+	 */
+	public synchronized void jobFinished(GridJobProfile profile, long finishTime, 
+	                                     boolean cancelled) {
+		
+		if (!profile.hasDeadline()) return;
+		
+		String jobName = profile.getJob().getClass().getName();
+		long lateness = finishTime - profile.getDeadline();
+		
+		long[] outcome = outcomes.get(jobName);
+		if (outcome == null) {
+			outcome = new long[3];
+			outcomes.put(jobName, outcome);
+		}
+		
+		if (cancelled) {
+			outcome[1]++;
+			outcome[2] += Math.max(0, lateness);
+			log.warn("[DeadlineReport] GridJob {" + profile.getJobId() + "} cancelled, missed deadline"
+			         + " | Met " + outcome[0] + " of " + (outcome[0] + outcome[1]));
+		} else if (lateness <= 0) {
+			outcome[0]++;
+			log.info("[DeadlineReport] GridJob {" + profile.getJobId() + "} met deadline, " 
+			         + (-lateness) + " ms ahead | Met " + outcome[0] + " of " 
+			         + (outcome[0] + outcome[1]));
+		} else {
+			outcome[1]++;
+			outcome[2] += lateness;
+			log.warn("[DeadlineReport] GridJob {" + profile.getJobId() + "} missed deadline by " 
+			         + lateness + " ms | Met " + outcome[0] + " of " 
+			         + (outcome[0] + outcome[1]));
+		}
+	}
+	
+	/**
+	 * Returns the number of {@code GridJob}s of the given class 
+	 * which finished within their deadlines.
+	 * 
+	 * @param jobClassName fully qualified class name of {@code GridJob}
+	 * @return number of deadlines met
+	 */
+	public synchronized int getMetCount(String jobClassName) {
+		long[] outcome = outcomes.get(jobClassName);
+		return (outcome == null) ? 0 : (int) outcome[0];
+	}
+	
+	/**
+	 * Returns the number of {@code GridJob}s of the given class 
+	 * which finished after their deadlines.
+	 * 
+	 * @param jobClassName fully qualified class name of {@code GridJob}
+	 * @return number of deadlines missed
+	 */
+	public synchronized int getMissedCount(String jobClassName) {
+		long[] outcome = outcomes.get(jobClassName);
+		return (outcome == null) ? 0 : (int) outcome[1];
+	}
+	
+	/**
+	 * Returns the ratio of deadlines met, for {@code GridJob}s of 
+	 * the given class, or {@code -1} if no such {@code GridJob} 
+	 * with a deadline has finished.
+	 * 
+	 * @param jobClassName fully qualified class name of {@code GridJob}
+	 * @return ratio of deadlines met, between 0 and 1
+	 */
+	public synchronized double getMetRatio(String jobClassName) {
+		long[] outcome = outcomes.get(jobClassName);
+		if (outcome == null) return -1;
+		return (double) outcome[0] / (outcome[0] + outcome[1]);
+	}
+	
+	/**
+	 * Returns a summary of deadlines met and missed,
+	 * for each {@code GridJob} class.
+	 * 
+	 * @return summary
+	 */
+	@Override
+	public synchronized String toString() {
+		
+		StringBuilder sb = new StringBuilder("DeadlineReport");
+		
+		for (Map.Entry<String, long[]> entry : outcomes.entrySet()) {
+			long[] outcome = entry.getValue();
+			sb.append("\n  ").append(entry.getKey())
+			  .append(" : met ").append(outcome[0])
+			  .append(" of ").append(outcome[0] + outcome[1]);
+			if (outcome[1] > 0) {
+				sb.append(", mean lateness ").append(outcome[2] / outcome[1]).append(" ms");
+			}
+		}
+		
+		return sb.toString();
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs.scheduler;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.nebulaframework.grid.cluster.manager.services.jobs.GridJobProfile;
+import org.nebulaframework.grid.cluster.node.GridNodeProfile;
+
+/**
+ * {@code JobScheduler} which selects the requested {@code GridJob}, or
+ * if any {@code GridJob} is requested, the earliest submitted {@code GridJob}.
+ * <p>
+ * Note that the earliest submitted {@code GridJob} receives all released
+ * execution slots, until it ends.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ */
+public class FifoJobScheduler implements JobScheduler {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public GridJobProfile selectJob(GridNodeProfile node, GridJobProfile requested,
+			List<GridJobProfile> candidates, Collection<GridJobProfile> active) {
+		
+		if (requested != null) {
+			return candidates.contains(requested) ? requested : null;
+		}
+		
+		return candidates.isEmpty() ? null : candidates.get(0);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Owners are not weighed, and the weight is always {@code 1}.
+	 */
+	public int getWeight(UUID owner) {
+		return 1;
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs.scheduler;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.nebulaframework.grid.cluster.manager.services.jobs.ClusterJobService;
+import org.nebulaframework.grid.cluster.manager.services.jobs.GridJobProfile;
+import org.nebulaframework.grid.cluster.node.GridNodeProfile;
+
+/**
+ * {@code JobScheduler} decides the {@code GridJob} in which a {@code GridNode}
+ * participates, whenever a {@code GridNode} with a free execution slot requests
+ * a {@code GridJob} from the {@code ClusterManager}, either in response to the
+ * start of a {@code GridJob} ({@link ClusterJobService#requestJob(String, GridNodeProfile)}),
+ * or after finishing a {@code GridJob} ({@link ClusterJobService#requestNextJob(GridNodeProfile)}).
+ * <p>
+ * Each execution slot of a {@code GridNode} remains with the selected 
+ * {@code GridJob} until the {@code GridJob} ends. Thus, the number of
+ * running slots of a {@code GridJob} is its number of worker nodes 
+ * ({@link GridJobProfile#getWorkerCount()}).
+ * <p>
+ * Implementations are invoked while the active {@code GridJob}s are locked,
+ * and should not block.
+ * <p>
+ * The weight of the owner of a {@code GridJob} ({@link #getWeight(UUID)}) is
+ * also sent to the worker {@code GridNode}s, which share their execution 
+ * threads among {@code GridJob}s by weight.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see PriorityJobScheduler
+ * @see WeightedFairShareJobScheduler
+ * @see FifoJobScheduler
+ */
+public interface JobScheduler {
+
+	/**
+	 * Selects the {@code GridJob} in which the given {@code GridNode} 
+	 * should participate.
+	 * 
+	 * @param node {@code GridNodeProfile} of requesting {@code GridNode}
+	 * @param requested {@code GridJobProfile} of the {@code GridJob} requested
+	 * by the {@code GridNode}, or {@code null} if any {@code GridJob} is requested
+	 * @param candidates {@code GridJob}s in which the {@code GridNode} is 
+	 * allowed to participate, in the order of submission
+	 * @param active all active {@code GridJob}s, in the order of submission
+	 * 
+	 * @return selected {@code GridJobProfile}, which should be one of 
+	 * {@code candidates}, or {@code null} if the {@code GridNode} 
+	 * should not participate in any {@code GridJob}
+	 */
+	public GridJobProfile selectJob(GridNodeProfile node, GridJobProfile requested,
+			List<GridJobProfile> candidates, Collection<GridJobProfile> active);
+	
+	/**
+	 * Returns the weight of the given owner, that is, its share of 
+	 * execution slots relative to other owners. Schedulers which do
+	 * not weigh owners return {@code 1}.
+	 * 
+	 * @param owner NodeId of owner
+	 * @return weight, at least {@code 1}
+	 */
+	public int getWeight(UUID owner);
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.nebulaframework.core.job.JobPriority;
+import org.nebulaframework.grid.cluster.manager.services.jobs.GridJobProfile;
+import org.nebulaframework.grid.cluster.node.GridNodeProfile;
+import org.springframework.util.Assert;
+
+/**
+ * {@code JobScheduler} which schedules {@code GridJob}s by priority, and
+ * among {@code GridJob}s of the same priority, earliest deadline first,
+ * for {@code GridJob}s of which the deadline is at risk.
+ * <p>
+ * Only the candidate {@code GridJob}s of the highest priority are considered.
+ * A deadline is at risk if the remaining time of the {@code GridJob}, 
+ * estimated from its rate of results so far, exceeds {@link #RISK_FACTOR}
+ * times the time left to the deadline, or if no result has been received
+ * yet. If any candidate is at risk, the {@code GridJob} with the earliest 
+ * deadline among them is selected (the requested {@code GridJob} is 
+ * preferred on a tie). Otherwise, the selection among all candidates, 
+ * including those with deadlines, is delegated to another 
+ * {@code JobScheduler}, which is by default a 
+ * {@link WeightedFairShareJobScheduler}. The weights
+ * of owners are configured on the delegate, which is given on construction
+ * (refer to {@code cluster-manager.xml}).
+ * <p>
+ * <i>Spring Managed</i>
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see JobPriority
+ */
+public class PriorityJobScheduler implements JobScheduler {
+
+	/**
+	 * Fraction of the time left to a deadline, beyond which the 
+	 * estimated remaining time of a {@code GridJob} puts the 
+	 * deadline at risk (0.75).
+	 */
+	public static final double RISK_FACTOR = 0.75;
+	
+	private JobScheduler delegate;
+	
+	/**
+	 * Constructs a {@code PriorityJobScheduler} which shares slots 
+	 * among {@code GridJob}s without deadlines using a 
+	 * {@link WeightedFairShareJobScheduler}.
+	 */
+	public PriorityJobScheduler() {
+		this(new WeightedFairShareJobScheduler());
+	}
+	
+	/**
+	 * Constructs a {@code PriorityJobScheduler} which delegates the 
+	 * selection among {@code GridJob}s without deadlines to the given
+	 * {@code JobScheduler}.
+	 * 
+	 * @param delegate {@code JobScheduler} for {@code GridJob}s without deadlines
+	 */
+	public PriorityJobScheduler(JobScheduler delegate) {
+		super();
+		Assert.notNull(delegate);
+		this.delegate = delegate;
+	}
+	
+	/**
+	 * Returns the {@code JobScheduler} to which the selection among
+	 * {@code GridJob}s without deadlines is delegated.
+	 * 
+	 * @return delegate {@code JobScheduler}
+	 */
+	public JobScheduler getDelegate() {
+		return delegate;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Returns the weight of the owner in the delegate {@code JobScheduler}.
+	 */
+	public int getWeight(UUID owner) {
+		return delegate.getWeight(owner);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public GridJobProfile selectJob(GridNodeProfile node, GridJobProfile requested,
+			List<GridJobProfile> candidates, Collection<GridJobProfile> active) {
+		
+		// Highest Priority of Candidates
+		JobPriority highest = null;
+		for (GridJobProfile profile : candidates) {
+			if (highest == null || profile.getPriority().compareTo(highest) > 0) {
+				highest = profile.getPriority();
+			}
+		}
+		
+		if (highest == null) return null;
+		
+		List<GridJobProfile> selectable = new ArrayList<GridJobProfile>();
+		GridJobProfile earliest = null;
+		long now = System.currentTimeMillis();
+		
+		for (GridJobProfile profile : candidates) {
+			
+			if (profile.getPriority() != highest) continue;
+			
+			selectable.add(profile);
+			
+			// Earliest Deadline First, if at risk
+			if (profile.hasDeadline() && isAtRisk(profile, now)) {
+				if (earliest == null || profile.getDeadline() < earliest.getDeadline()
+						|| (profile.getDeadline() == earliest.getDeadline() && profile == requested)) {
+					earliest = profile;
+				}
+			}
+		}
+		
+		if (earliest != null) {
+			return earliest;
+		}
+		
+		return delegate.selectJob(node, selectable.contains(requested) ? requested : null,
+		                          selectable, active);
+	}
+	
+	/**
+	 * Returns {@code true} if the deadline of the given {@code GridJob} is
+	 * at risk, that is, if its remaining time, estimated from its rate of 
+	 * results since start, exceeds {@link #RISK_FACTOR} times the time left
+	 * to the deadline. A {@code GridJob} without results is considered at
+	 * risk, as its remaining time is unknown.
+	 * 
+	 * @param profile {@code GridJobProfile} of {@code GridJob} with deadline
+	 * @param now current time
+	 * @return if at risk {@code true}, {@code false} otherwise
+	 */
+	private boolean isAtRisk(GridJobProfile profile, long now) {
+		
+		long slack = profile.getDeadline() - now;
+		if (slack <= 0) return true;
+		
+		int results = profile.getResultCount();
+		if (results <= 0) return true;
+		
+		double elapsed = Math.max(1, now - profile.getStartTime());
+		double remaining = profile.getTaskCount() * elapsed / results;
+		
+		return remaining > RISK_FACTOR * slack;
+	}
+
+}
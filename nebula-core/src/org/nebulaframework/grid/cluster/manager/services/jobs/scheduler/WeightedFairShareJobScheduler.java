@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs.scheduler;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.nebulaframework.grid.cluster.manager.services.jobs.GridJobProfile;
+import org.nebulaframework.grid.cluster.node.GridNodeProfile;
+import org.springframework.util.Assert;
+
+/**
+ * {@code JobScheduler} which shares the execution slots of the Grid among 
+ * the owners (submitters) of {@code GridJob}s, in proportion to the weight
+ * of each owner.
+ * <p>
+ * A {@code GridNode} is given to the {@code GridJob} of which the owner has 
+ * the lowest number of running slots per weight, counted over all active 
+ * {@code GridJob}s of the owner. Among the {@code GridJob}s of the same owner,
+ * the {@code GridJob} with the lowest number of running slots is selected, 
+ * and the requested {@code GridJob} is preferred on a tie. Any remaining tie
+ * is broken by the order of submission.
+ * <p>
+ * Owners are identified by the NodeId of the submitting {@code GridNode}.
+ * Owners without a configured weight have the default weight.
+ * <p>
+ * <i>Spring Managed</i>
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ */
+public class WeightedFairShareJobScheduler implements JobScheduler {
+
+	private Map<String, Integer> ownerWeights = new HashMap<String, Integer>();
+	private int defaultWeight = 1;
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public GridJobProfile selectJob(GridNodeProfile node, GridJobProfile requested,
+			List<GridJobProfile> candidates, Collection<GridJobProfile> active) {
+		
+		// Running Slots, per Owner
+		Map<UUID, Integer> ownerSlots = new HashMap<UUID, Integer>();
+		
+		for (GridJobProfile profile : active) {
+			Integer slots = ownerSlots.get(profile.getOwner());
+			ownerSlots.put(profile.getOwner(), 
+			               (slots == null ? 0 : slots) + profile.getWorkerCount());
+		}
+		
+		GridJobProfile selected = null;
+		double selectedShare = 0;
+		
+		for (GridJobProfile profile : candidates) {
+			
+			// Share of Owner, if given this slot
+			Integer slots = ownerSlots.get(profile.getOwner());
+			double share = ((slots == null ? 0 : slots) + 1.0) / getWeight(profile.getOwner());
+			
+			if (selected == null || share < selectedShare 
+					|| (share == selectedShare && isPreferred(profile, selected, requested))) {
+				selected = profile;
+				selectedShare = share;
+			}
+		}
+		
+		return selected;
+	}
+	
+	/**
+	 * Returns {@code true} if the given {@code GridJob} is preferred
+	 * over the currently selected {@code GridJob} of equal owner share.
+	 * 
+	 * @param profile {@code GridJobProfile} of {@code GridJob}
+	 * @param selected {@code GridJobProfile} of selected {@code GridJob}
+	 * @param requested {@code GridJobProfile} of requested {@code GridJob}, or {@code null}
+	 * @return if preferred {@code true}, {@code false} otherwise
+	 */
+	private boolean isPreferred(GridJobProfile profile, GridJobProfile selected, 
+			GridJobProfile requested) {
+		
+		if (profile.getWorkerCount() != selected.getWorkerCount()) {
+			return profile.getWorkerCount() < selected.getWorkerCount();
+		}
+		
+		return profile == requested;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Returns the configured weight of the owner, or the default weight.
+	 */
+	public int getWeight(UUID owner) {
+		
+		if (owner != null) {
+			Integer weight = ownerWeights.get(owner.toString());
+			if (weight != null) return weight;
+		}
+		
+		return defaultWeight;
+	}
+
+	/**
+	 * Sets the weights of owners, against the NodeId of each owner.
+	 * <p>
+	 * <i>Spring Injected</i>
+	 * 
+	 * @param ownerWeights weights against NodeId of owner
+	 * @throws IllegalArgumentException if any weight is less than 1
+	 */
+	public void setOwnerWeights(Map<String, Integer> ownerWeights) 
+			throws IllegalArgumentException {
+		
+		Assert.notNull(ownerWeights);
+		
+		for (Integer weight : ownerWeights.values()) {
+			Assert.isTrue(weight != null && weight > 0, "Weight should be at least 1");
+		}
+		
+		this.ownerWeights = new HashMap<String, Integer>(ownerWeights);
+	}
+
+	/**
+	 * Sets the weight of owners without a configured weight. 
+	 * Defaults to 1.
+	 * <p>
+	 * <i>Spring Injected</i>
+	 * 
+	 * @param defaultWeight default weight
+	 * @throws IllegalArgumentException if weight is less than 1
+	 */
+	public void setDefaultWeight(int defaultWeight) throws IllegalArgumentException {
+		Assert.isTrue(defaultWeight > 0, "Weight should be at least 1");
+		this.defaultWeight = defaultWeight;
+	}
+	
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs.splitaggregate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.nebulaframework.core.job.annotations.AdaptiveChunking;
+import org.nebulaframework.core.job.splitaggregate.RangeTaskFactory;
+import org.springframework.util.Assert;
+
+/**
+ * {@code AdaptiveChunkController} decides the size of the range of 
+ * each {@code GridTask} of an adaptively split {@code GridJob}
+ * (a {@link RangeTaskFactory}).
+ * <p>
+ * The controller keeps an exponentially weighted moving average of the
+ * execution time per unit of work, calculated from the execution times 
+ * reported by the {@code GridNode}s, and adjusts the chunk size 
+ * so that a {@code GridTask} executes for the mid point of the target 
+ * duration. The chunk size changes by at most a factor of 
+ * {@code MAX_GROWTH} per observation, to avoid oscillation caused by
+ * outliers.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see RangeTaskFactory
+ * @see AdaptiveChunking
+ */
+public class AdaptiveChunkController {
+
+	private static Log log = LogFactory.getLog(AdaptiveChunkController.class);
+	
+	/** Weight of latest observation in moving average */
+	private static final double SMOOTHING = 0.3;
+	
+	/** Maximum change factor of chunk size per observation */
+	private static final double MAX_GROWTH = 2.0;
+	
+	private long minDuration;
+	private long maxDuration;
+	private int chunkSize;
+	
+	/** Moving average of execution time per unit (ms), -1 if unknown */
+	private double unitTime = -1;
+	
+	/** Chunk Size of each outstanding Task, by TaskId */
+	private Map<Integer, Integer> chunks = new HashMap<Integer, Integer>();
+
+	/**
+	 * Constructs an {@code AdaptiveChunkController} with given settings.
+	 * 
+	 * @param minDuration minimum target execution time (ms)
+	 * @param maxDuration maximum target execution time (ms)
+	 * @param initialChunkSize initial chunk size
+	 * @throws IllegalArgumentException if any argument is invalid
+	 */
+	public AdaptiveChunkController(long minDuration, long maxDuration,
+			int initialChunkSize) throws IllegalArgumentException {
+		
+		super();
+		
+		Assert.isTrue(minDuration > 0, "Minimum duration should be positive");
+		Assert.isTrue(maxDuration >= minDuration, "Maximum duration should not be less than minimum");
+		Assert.isTrue(initialChunkSize > 0, "Initial chunk size should be at least 1");
+		
+		this.minDuration = minDuration;
+		this.maxDuration = maxDuration;
+		this.chunkSize = initialChunkSize;
+	}
+	
+	/**
+	 * Constructs an {@code AdaptiveChunkController} for the given
+	 * {@code RangeTaskFactory}, with the settings of its
+	 * {@link AdaptiveChunking} annotation, or the default settings 
+	 * if not annotated.
+	 * 
+	 * @param factory {@code RangeTaskFactory}
+	 * @return {@code AdaptiveChunkController} for factory
+	 */
+	public static AdaptiveChunkController forFactory(RangeTaskFactory<?> factory) {
+		
+		AdaptiveChunking settings = factory.getClass().getAnnotation(AdaptiveChunking.class);
+		
+		if (settings == null) {
+			return new AdaptiveChunkController(2000, 5000, 1);
+		}
+		
+		return new AdaptiveChunkController(settings.minDuration(), 
+		                                   settings.maxDuration(), 
+		                                   settings.initialChunkSize());
+	}
+	
+	/**
+	 * Returns the current chunk size.
+	 * 
+	 * @return chunk size
+	 */
+	public synchronized int getChunkSize() {
+		return chunkSize;
+	}
+	
+	/**
+	 * Records the chunk size of a newly created {@code GridTask}.
+	 * 
+	 * @param taskId TaskId
+	 * @param size chunk size of {@code GridTask}
+	 */
+	public synchronized void taskCreated(int taskId, int size) {
+		chunks.put(taskId, size);
+	}
+	
+	/**
+	 * Updates the controller with the execution time of a
+	 * {@code GridTask}, and adjusts the chunk size if the
+	 * expected execution time is outside the target.
+	 * 
+	 * @param taskId TaskId
+	 * @param executionTime execution time of {@code GridTask} (ms)
+	 */
+	public synchronized void resultReceived(int taskId, long executionTime) {
+		
+		Integer size = chunks.remove(taskId);
+		
+		// Unknown or already received (re-enqueued Task)
+		if (size == null) return;
+		
+		double observed = (double) Math.max(executionTime, 1) / size;
+		
+		if (unitTime < 0) {
+			unitTime = observed;
+		}
+		else {
+			unitTime = SMOOTHING * observed + (1 - SMOOTHING) * unitTime;
+		}
+		
+		double expected = unitTime * chunkSize;
+		
+		if (expected < minDuration || expected > maxDuration) {
+			
+			double target = (minDuration + maxDuration) / 2.0;
+			double desired = target / unitTime;
+			
+			// Limit change per observation
+			desired = Math.max(desired, chunkSize / MAX_GROWTH);
+			desired = Math.min(desired, chunkSize * MAX_GROWTH);
+			
+			chunkSize = (int) Math.max(1, Math.min(Integer.MAX_VALUE, Math.round(desired)));
+			
+			log.debug("[AdaptiveChunkController] Chunk Size adjusted to " + chunkSize);
+		}
+	}
+}
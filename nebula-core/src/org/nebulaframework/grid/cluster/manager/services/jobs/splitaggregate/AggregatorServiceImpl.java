@@ -17,6 +17,8 @@ package org.nebulaframework.grid.cluster.manager.services.jobs.splitaggregate;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import javax.jms.ConnectionFactory;
@@ -25,6 +27,8 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.nebulaframework.core.job.GridJobState;
 import org.nebulaframework.core.job.exceptions.AggregateException;
+import org.nebulaframework.core.job.splitaggregate.AssociativeAggregate;
+import org.nebulaframework.core.job.splitaggregate.IncrementalAggregate;
 import org.nebulaframework.core.job.splitaggregate.SplitAggregateGridJob;
 import org.nebulaframework.core.task.GridTaskResult;
 import org.nebulaframework.grid.cluster.manager.ClusterManager;
@@ -34,6 +38,7 @@ import org.nebulaframework.grid.cluster.manager.services.jobs.InternalClusterJob
 import org.nebulaframework.util.jms.JMSNamingSupport;
 import org.springframework.jms.listener.DefaultMessageListenerContainer;
 import org.springframework.jms.listener.adapter.MessageListenerAdapter;
+import org.springframework.util.Assert;
 
 /**
  * Implementation of {@code AggregatorService}.
@@ -42,6 +47,10 @@ import org.springframework.jms.listener.adapter.MessageListenerAdapter;
  * participating {@code GridNode}s and aggregates results to calculate
  * the final result for the {@code GridJob}.
  * <p>
+ * Results of {@code GridJob}s which implement {@link AssociativeAggregate} are
+ * aggregated in parallel, by a {@link ParallelReducer} of {@code aggregationThreads}
+ * threads (by default, one per available processor).
+ * <p>
  * <i>Spring Managed</i>
  * 
  * @author Yohan Liyanage
@@ -58,6 +67,9 @@ public class AggregatorServiceImpl implements AggregatorService {
 	private InternalClusterJobService jobService;
 	private boolean initialized = false;
 	
+	private int aggregationThreads = Runtime.getRuntime().availableProcessors();
+	private ParallelReducer reducer;
+	
 	/**
 	 * Constructs an AggregatorServiceImpl instance.
 	 */
@@ -66,6 +78,33 @@ public class AggregatorServiceImpl implements AggregatorService {
 
 	}
 	
+	/**
+	 * Sets the number of threads used to aggregate results of
+	 * {@link AssociativeAggregate} {@code GridJob}s. Default value is 
+	 * the number of available processors.
+	 * <p>
+	 * <i>Spring Injected</i>
+	 * 
+	 * @param aggregationThreads number of threads
+	 * @throws IllegalArgumentException if less than 1
+	 */
+	public synchronized void setAggregationThreads(int aggregationThreads) throws IllegalArgumentException {
+		Assert.isTrue(aggregationThreads > 0, "Aggregation threads should be at least 1");
+		this.aggregationThreads = aggregationThreads;
+	}
+	
+	/**
+	 * Returns the {@code ParallelReducer}, creating it if necessary.
+	 * 
+	 * @return {@code ParallelReducer}
+	 */
+	private synchronized ParallelReducer getReducer() {
+		if (reducer == null) {
+			reducer = new ParallelReducer(aggregationThreads);
+		}
+		return reducer;
+	}
+	
 	private synchronized void initialize() {
 		if (!initialized) {
 			ClusterManager manager = ClusterManager.getInstance();
@@ -164,20 +203,38 @@ public class AggregatorServiceImpl implements AggregatorService {
 		
 		Serializable jobResult = null;
 		
-		// Get GridTaskResults
-		Collection<GridTaskResult> taskResults = profile.getResults();
-		List<Serializable> results = new ArrayList<Serializable>();
-		
 		try {
 			log.info("[Aggregator] Aggregating Results for Job : {" + profile.getJobId() + "}");
 			
-			// Fetch the result from GridTaskResults
-			for (GridTaskResult result : taskResults) {
-				results.add(result.getResult());
+			if (profile.getResultBytesHeld() >= 0) {
+				log.debug("[Aggregator] Result Bytes Held : " + profile.getResultBytesHeld() 
+				          + " | Spilled : " + profile.getResultBytesSpilled());
 			}
 			
-			// Do Aggregation
-			jobResult = ((SplitAggregateGridJob<?, ?>)profile.getJob()).aggregate(results);
+			if (profile.isIncrementalAggregate()) {
+				
+				// Results already accumulated, finish Aggregation
+				jobResult = finishAggregate(profile);
+			}
+			else if (profile.getJob() instanceof AssociativeAggregate) {
+				
+				// Parallel Aggregation
+				jobResult = reduceAggregate(profile);
+			}
+			else {
+				
+				// Get GridTaskResults
+				Collection<GridTaskResult> taskResults = profile.getResults();
+				List<Serializable> results = new ArrayList<Serializable>();
+				
+				// Fetch the result from GridTaskResults
+				for (GridTaskResult result : taskResults) {
+					results.add(result.getResult());
+				}
+				
+				// Do Aggregation
+				jobResult = ((SplitAggregateGridJob<?, ?>)profile.getJob()).aggregate(results);
+			}
 			
 		} catch (SecurityException e) {
 			
@@ -224,6 +281,57 @@ public class AggregatorServiceImpl implements AggregatorService {
 		profile.getFuture().setState(GridJobState.COMPLETE);
 	}
 
+	/**
+	 * Calculates the final result of an {@link IncrementalAggregate} 
+	 * {@code GridJob}, from its aggregation state.
+	 * 
+	 * @param profile Job Profile
+	 * @return Final result
+	 */
+	@SuppressWarnings("unchecked")
+	private Serializable finishAggregate(GridJobProfile profile) {
+		IncrementalAggregate<?, Serializable, ?> aggregate = 
+			(IncrementalAggregate<?, Serializable, ?>) profile.getJob();
+		return aggregate.finish(profile.getAggregateState());
+	}
+	
+	/**
+	 * Calculates the final result of an {@link AssociativeAggregate} 
+	 * {@code GridJob}, by reducing its results (in the order of 
+	 * {@code GridTask}s) in parallel.
+	 * 
+	 * @param profile Job Profile
+	 * @return Final result
+	 * @throws Exception if aggregation fails
+	 */
+	@SuppressWarnings("unchecked")
+	private Serializable reduceAggregate(GridJobProfile profile) throws Exception {
+		
+		AssociativeAggregate<Serializable, ?> aggregate = 
+			(AssociativeAggregate<Serializable, ?>) profile.getJob();
+		
+		// Order GridTaskResults by TaskId
+		List<GridTaskResult> taskResults = new ArrayList<GridTaskResult>(profile.getResults());
+		Collections.sort(taskResults, new Comparator<GridTaskResult>() {
+			public int compare(GridTaskResult r1, GridTaskResult r2) {
+				return (r1.getTaskId() < r2.getTaskId()) ? -1 
+						: ((r1.getTaskId() == r2.getTaskId()) ? 0 : 1);
+			}
+		});
+		
+		List<Serializable> results = new ArrayList<Serializable>(taskResults.size());
+		for (GridTaskResult result : taskResults) {
+			results.add(result.getResult());
+		}
+		
+		ParallelReducer reducer = getReducer();
+		
+		log.debug("[Aggregator] Reducing " + results.size() + " Results on " 
+		          + reducer.getParallelism() + " Threads");
+		
+		return aggregate.finish(reducer.reduce(results, aggregate));
+	}
+	
 	/**
 	 * Withholds results if execution finished before minimum execution
 	 * duration, to avoid thread synchronization issues.
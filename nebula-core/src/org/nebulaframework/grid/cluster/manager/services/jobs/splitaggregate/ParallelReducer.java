@@ -0,0 +1,221 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs.splitaggregate;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.nebulaframework.core.job.splitaggregate.AssociativeAggregate;
+import org.springframework.util.Assert;
+
+/**
+ * {@code ParallelReducer} reduces a {@code List} of values using the 
+ * associative {@code combine} operation of an {@link AssociativeAggregate},
+ * on a pool of threads.
+ * <p>
+ * The values are divided into consecutive chunks (a few per thread), 
+ * each of which is reduced sequentially, and the partial values of the 
+ * chunks are then combined pairwise, level by level, as a balanced tree. 
+ * The order of values is preserved, so {@code combine} need not be 
+ * commutative. Small lists are reduced sequentially on the calling 
+ * thread.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see AssociativeAggregate
+ */
+public class ParallelReducer {
+
+	/** Number of chunks per thread, to balance uneven combine costs */
+	private static final int CHUNKS_PER_THREAD = 4;
+	
+	/** Lists below this size are reduced sequentially */
+	private static final int SEQUENTIAL_THRESHOLD = 64;
+	
+	private int parallelism;
+	private ExecutorService executor;
+	
+	/**
+	 * Constructs a {@code ParallelReducer} which uses 
+	 * {@code parallelism} threads.
+	 * 
+	 * @param parallelism number of threads
+	 * @throws IllegalArgumentException if less than 1
+	 */
+	public ParallelReducer(int parallelism) throws IllegalArgumentException {
+		
+		super();
+		
+		Assert.isTrue(parallelism > 0, "Parallelism should be at least 1");
+		
+		this.parallelism = parallelism;
+		this.executor = Executors.newFixedThreadPool(parallelism, new ThreadFactory() {
+			
+			private int count = 0;
+			
+			public synchronized Thread newThread(Runnable r) {
+				Thread t = new Thread(r, "Aggregator[Reduce]-" + (++count));
+				t.setDaemon(true);
+				return t;
+			}
+		});
+	}
+
+	/**
+	 * Returns the number of threads used by this {@code ParallelReducer}.
+	 * 
+	 * @return number of threads
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+	
+	/**
+	 * Reduces the given values, in order, using the given 
+	 * {@code AssociativeAggregate}.
+	 * <p>
+	 * This method should not be invoked from a thread of this
+	 * {@code ParallelReducer}.
+	 * 
+	 * @param <T> Type of values
+	 * @param values values to reduce
+	 * @param aggregate {@code AssociativeAggregate} 
+	 * @return reduced value
+	 * @throws Exception if {@code combine} fails
+	 */
+	public <T extends Serializable> T reduce(final List<? extends T> values, 
+			final AssociativeAggregate<T, ?> aggregate) throws Exception {
+		
+		final int size = values.size();
+		
+		if (parallelism == 1 || size < SEQUENTIAL_THRESHOLD) {
+			return reduce(values, 0, size, aggregate);
+		}
+		
+		// Reduce Chunks
+		int chunks = Math.min(size, parallelism * CHUNKS_PER_THREAD);
+		List<Callable<T>> leaves = new ArrayList<Callable<T>>(chunks);
+		
+		for (int i = 0; i < chunks; i++) {
+			
+			final int from = (int) ((long) size * i / chunks);
+			final int to = (int) ((long) size * (i + 1) / chunks);
+			
+			leaves.add(new Callable<T>() {
+				public T call() throws Exception {
+					return reduce(values, from, to, aggregate);
+				}
+			});
+		}
+		
+		List<T> partials = invokeAll(leaves);
+		
+		// Combine partial values pairwise, level by level
+		while (partials.size() > 1) {
+			
+			List<Callable<T>> level = new ArrayList<Callable<T>>(partials.size() / 2);
+			
+			for (int i = 0; i + 1 < partials.size(); i += 2) {
+				
+				final T left = partials.get(i);
+				final T right = partials.get(i + 1);
+				
+				level.add(new Callable<T>() {
+					public T call() throws Exception {
+						return aggregate.combine(left, right);
+					}
+				});
+			}
+			
+			List<T> combined = invokeAll(level);
+			
+			// Carry odd partial value to next level
+			if (partials.size() % 2 == 1) {
+				combined.add(partials.get(partials.size() - 1));
+			}
+			
+			partials = combined;
+		}
+		
+		return partials.get(0);
+	}
+	
+	/**
+	 * Shuts down the threads of this {@code ParallelReducer}.
+	 */
+	public void shutdown() {
+		executor.shutdown();
+	}
+	
+	/**
+	 * Sequentially reduces the values in the given range.
+	 * 
+	 * @param <T> Type of values
+	 * @param values values to reduce
+	 * @param from start of range (inclusive)
+	 * @param to end of range (exclusive)
+	 * @param aggregate {@code AssociativeAggregate} 
+	 * @return reduced value
+	 */
+	private static <T extends Serializable> T reduce(List<? extends T> values, 
+			int from, int to, AssociativeAggregate<T, ?> aggregate) {
+		
+		T result = aggregate.identity();
+		
+		for (int i = from; i < to; i++) {
+			result = aggregate.combine(result, values.get(i));
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Executes the given {@code Callable}s on the thread pool, and
+	 * returns their results, in order.
+	 * 
+	 * @param <T> Type of results
+	 * @param callables {@code Callable}s to execute
+	 * @return results
+	 * @throws Exception if any {@code Callable} fails
+	 */
+	private <T> List<T> invokeAll(List<Callable<T>> callables) throws Exception {
+		
+		List<Future<T>> futures = executor.invokeAll(callables);
+		List<T> results = new ArrayList<T>(futures.size() + 1);
+		
+		try {
+			for (Future<T> future : futures) {
+				results.add(future.get());
+			}
+		} catch (ExecutionException e) {
+			
+			// Unwrap cause
+			if (e.getCause() instanceof Exception) {
+				throw (Exception) e.getCause();
+			}
+			throw e;
+		}
+		
+		return results;
+	}
+}
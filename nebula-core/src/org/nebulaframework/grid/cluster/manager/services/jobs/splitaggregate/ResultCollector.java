@@ -18,8 +18,11 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.nebulaframework.core.job.GridJobState;
 import org.nebulaframework.core.job.GridJobStateListener;
+import org.nebulaframework.core.job.exceptions.AggregateException;
 import org.nebulaframework.core.job.exceptions.SecurityViolationException;
+import org.nebulaframework.core.task.GridTaskPartialResult;
 import org.nebulaframework.core.task.GridTaskResult;
+import org.nebulaframework.grid.GridTaskPreemptedException;
 import org.nebulaframework.grid.cluster.manager.services.jobs.GridJobProfile;
 import org.nebulaframework.grid.cluster.manager.services.jobs.ResultCollectionSupport;
 import org.nebulaframework.grid.cluster.manager.support.CleanUpSupport;
@@ -69,6 +72,8 @@ public class ResultCollector extends ResultCollectionSupport implements GridJobS
 		// Create Job End Service Hook for Clean Up
 		CleanUpSupport.shutdownContainerWhenFinished(profile.getJobId(), container);
 		
+		// Splitting may have completed before registration as listener
+		checkFinished();
 	}
 
 	/**
@@ -86,17 +91,46 @@ public class ResultCollector extends ResultCollectionSupport implements GridJobS
 			boolean finished = false;
 			int taskCount = -1;
 				
-			// Put result to ResultMap, and remove Task from TaskMap
-			taskCount = profile.addResultAndRemoveTask(result.getTaskId(), result);
+			if (profile.isIncrementalAggregate()) {
+				try {
+					// Accumulate result, and remove Task from TaskMap
+					taskCount = profile.accumulateAndRemoveTask(result.getTaskId(), result);
+				} catch (AggregateException e) {
+					log.warn("[ResultCollector] Accumulation Failed. Terminating GridJob " + 
+					         profile.getJobId(), e);
+					
+					// Fail the Job
+					profile.getFuture().fail(e);
+					return;
+				}
+			}
+			else {
+				// Put result to ResultMap, and remove Task from TaskMap
+				taskCount = profile.addResultAndRemoveTask(result.getTaskId(), result);
+			}
+			
+			// Duplicate result (speculatively executed Task), ignore
+			if (taskCount < 0) {
+				log.debug("[ResultCollector] Ignored Duplicate : Task " + result.getTaskId());
+				return;
+			}
 			
 			// Update Task Tracker
 			profile.getTaskTracker().resultReceived(result.getTaskId(), result.getExecutionTime());
 			
+			// Update Splitter (Adaptive Chunking)
+			jobManager.getSplitter().resultReceived(profile.getJobId(), 
+			                                        result.getTaskId(), 
+			                                        result.getExecutionTime());
+			
+			// Update Node Throughput
+			recordThroughput(result.getWorkerId(), result.getExecutionTime());
+			
 			// Clear Failure Traces (if any)
 			clearFailureTrace(result.getWorkerId());
 			
 			// Check if Job has finished
-			finished = (taskCount == 0)&&(profile.getFuture().getState()== GridJobState.EXECUTING);
+			finished = (taskCount == 0)&&(profile.isSplitComplete());
 
 			// If Job Finished
 			if (finished) { 
@@ -118,6 +152,17 @@ public class ResultCollector extends ResultCollectionSupport implements GridJobS
 				return;
 			}
 			
+			// Preempted Task (not a failure of node), re-enqueue
+			if (result.getException() instanceof GridTaskPreemptedException) {
+				
+				log.debug("[ResultCollector] Task Preempted, ReEnqueueing - " + result.getTaskId());
+				
+				if (profile.isOutstanding(result.getTaskId())) {
+					jobManager.reEnqueueTask(profile.getJobId(), result.getTaskId());
+				}
+				return;
+			}
+			
 			log.warn("[ResultCollector] Result Failed, ReEnqueueing - " + result.getException());
 			
 			// Update Profile
@@ -132,6 +177,87 @@ public class ResultCollector extends ResultCollectionSupport implements GridJobS
 		}
 	}
 
+	/**
+	 * Called by {@code DefaultMessageListenerContainer}, when a partial aggregation
+	 * state, combined by a {@code GridNode}, arrives to the {@code ResultQueue} for 
+	 * the {@code GridJob}.
+	 * <p>
+	 * If any of the {@code GridTask}s of the partial result has already been
+	 * accounted for, the partial result is discarded, and its outstanding
+	 * {@code GridTask}s are re-enqueued, so that no result is aggregated twice.
+	 * 
+	 * @param partial {@code GridTaskPartialResult}
+	 */
+	@Override
+	public void onResult(GridTaskPartialResult partial) {
+		
+		if (!profile.isIncrementalAggregate()) {
+			super.onResult(partial);
+			return;
+		}
+		
+		log.debug("[ResultCollector] Received : Partial Result of " + partial.size() + " Tasks");
+		
+		int taskCount = -1;
+		
+		try {
+			// Merge partial state, and remove Tasks from TaskMap
+			taskCount = profile.mergeAndRemoveTasks(partial.getTaskIds(), partial.getState());
+		} catch (AggregateException e) {
+			log.warn("[ResultCollector] Merge Failed. Terminating GridJob " + 
+			         profile.getJobId(), e);
+			
+			// Fail the Job
+			profile.getFuture().fail(e);
+			return;
+		}
+		
+		if (taskCount < 0) {
+			
+			log.debug("[ResultCollector] Partial Result overlaps completed Tasks, ReEnqueueing");
+			
+			// Re-enqueue outstanding Tasks of discarded partial result
+			for (int taskId : partial.getTaskIds()) {
+				if (profile.isOutstanding(taskId)) {
+					jobManager.getSplitter().reEnqueueTask(profile.getJobId(), taskId);
+				}
+			}
+			return;
+		}
+		
+		// Update Task Tracker and Splitter, with average execution time
+		long executionTime = partial.getExecutionTime() / partial.size();
+		
+		for (int taskId : partial.getTaskIds()) {
+			profile.getTaskTracker().resultReceived(taskId, executionTime);
+			jobManager.getSplitter().resultReceived(profile.getJobId(), taskId, executionTime);
+			recordThroughput(partial.getWorkerId(), executionTime);
+		}
+		
+		// Clear Failure Traces (if any)
+		clearFailureTrace(partial.getWorkerId());
+		
+		// If Job Finished, Aggregate result
+		if ((taskCount == 0)&&(profile.isSplitComplete())) {
+			doAggregate();
+		}
+	}
+	
+	/**
+	 * Invokes {@link #doAggregate()} if all {@code GridTask}s have
+	 * been enqueued, and no {@code GridTask} remains without a result.
+	 * <p>
+	 * The splitter marks the split as complete before the remaining
+	 * task count is checked here, and a result removes its task before
+	 * the split state is checked by {@link #onResult(GridTaskResult)},
+	 * so that at least one of them finishes the {@code GridJob}.
+	 */
+	private void checkFinished() {
+		if (profile.isSplitComplete() && profile.getTaskCount()==0) {
+			doAggregate();
+		}
+	}
+	
 	/**
 	 * Invokes the aggregation process by calling
 	 * the {@code aggregateResults} method of the
@@ -199,7 +325,8 @@ public class ResultCollector extends ResultCollectionSupport implements GridJobS
 	 * Invoked when {@code GridJob}'s state has changed.
 	 * <p>
 	 * If the new state is executing and remaining task count 
-	 * is zero, this will invoke {@link #doAggregate()}.
+	 * is zero, this will invoke {@link #doAggregate()}, through
+	 * {@link #checkFinished()}.
 	 * <p>
 	 * The reason for this is to guard against situations where the
 	 * result collection completes before the {@link SplitterService}
@@ -214,8 +341,8 @@ public class ResultCollector extends ResultCollectionSupport implements GridJobS
 	 * @param newState New State of the {@code GridJob}
 	 */
 	public synchronized void stateChanged(GridJobState newState) {
-		if ((newState==GridJobState.EXECUTING) && (profile.getTaskCount()==0)) {
-			doAggregate();
+		if (newState==GridJobState.EXECUTING) {
+			checkFinished();
 		}
 	}
 
@@ -46,4 +46,16 @@ public interface SplitterService {
 	 * @param taskId TaskId of Task to be re-enqueued
 	 */
 	public void reEnqueueTask(final String jobId, final int taskId);
+	
+	/**
+	 * Notifies the Splitter that the result of a {@code GridTask} has been
+	 * received, along with the execution time of the {@code GridTask}. This
+	 * is used to adapt the size of {@code GridTask}s of adaptively split
+	 * {@code GridJob}s.
+	 * 
+	 * @param jobId JobId of GridJob
+	 * @param taskId TaskId of Task
+	 * @param executionTime execution time of Task (ms)
+	 */
+	public void resultReceived(String jobId, int taskId, long executionTime);
 }
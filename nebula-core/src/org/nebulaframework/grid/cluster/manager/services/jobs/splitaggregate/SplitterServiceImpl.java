@@ -14,7 +14,13 @@
 
 package org.nebulaframework.grid.cluster.manager.services.jobs.splitaggregate;
 
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javax.jms.JMSException;
 import javax.jms.Message;
@@ -23,14 +29,20 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.nebulaframework.core.job.GridJobState;
 import org.nebulaframework.core.job.exceptions.SplitException;
+import org.nebulaframework.core.job.splitaggregate.IndexedTaskFactory;
+import org.nebulaframework.core.job.splitaggregate.RangeTaskFactory;
 import org.nebulaframework.core.job.splitaggregate.SplitAggregateGridJob;
+import org.nebulaframework.core.job.splitaggregate.StreamingSplit;
 import org.nebulaframework.core.task.GridTask;
+import org.nebulaframework.core.task.GridTaskPack;
 import org.nebulaframework.grid.cluster.manager.ClusterManager;
 import org.nebulaframework.grid.cluster.manager.services.jobs.GridJobProfile;
 import org.nebulaframework.grid.cluster.manager.services.jobs.InternalClusterJobService;
 import org.nebulaframework.util.jms.JMSNamingSupport;
+import org.springframework.jms.JmsException;
 import org.springframework.jms.core.JmsTemplate;
 import org.springframework.jms.core.MessagePostProcessor;
+import org.springframework.util.Assert;
 
 /**
  * Implementation of {@code SplitterService}.
@@ -39,6 +51,30 @@ import org.springframework.jms.core.MessagePostProcessor;
  * executed on remote {@code GridNode}s. Furthermore, it enqueues the {@code GridTask}s in the
  * {@code TaskQueue} for the {@code GridJob}.
  * <p>
+ * If a {@code GridJob} splits into a large number of {@code GridTask}s, contiguous
+ * ranges of {@code GridTask}s are packed into a single message ({@link GridTaskPack}),
+ * to reduce the per message overhead. The number of {@code GridTask}s per message is
+ * chosen so that the {@code GridJob} still results in at least {@code minMessagesPerJob}
+ * messages, but never exceeds {@code maxTasksPerMessage}. Re-enqueued {@code GridTask}s 
+ * are always sent individually.
+ * <p>
+ * {@code GridJob}s which implement {@link RangeTaskFactory} are split adaptively. 
+ * {@code GridTask}s are created on demand, keeping at most {@code adaptiveWindow}
+ * {@code GridTask}s per worker outstanding, and the range of each {@code GridTask}
+ * is decided by an {@link AdaptiveChunkController}, based on the execution
+ * times of {@code GridTask}s executed so far.
+ * <p>
+ * {@code GridJob}s which implement {@link StreamingSplit} are split lazily. 
+ * {@code GridTask}s are pulled from the {@code Iterator} of the {@code GridJob}
+ * only while the number of outstanding {@code GridTask}s is below 
+ * {@code highWaterMark}, which bounds the number of {@code GridTask}s held 
+ * in memory by the {@code ClusterManager} and by the {@code TaskQueue}.
+ * <p>
+ * {@code GridJob}s which implement {@link IndexedTaskFactory} are split
+ * on demand in the same manner, by index. The {@code ClusterManager} does
+ * not retain such {@code GridTask}s, and re-creates them by index if they 
+ * have to be re-enqueued.
+ * <p>
  * <i>Spring Managed</i>
  *  
  * @author Yohan Liyanage
@@ -53,6 +89,20 @@ public class SplitterServiceImpl implements SplitterService {
 	private JmsTemplate jmsTemplate;
 	private InternalClusterJobService jobServiceImpl;
 	
+	private int maxTasksPerMessage = 100;
+	private int minMessagesPerJob = 1000;
+	private int adaptiveWindow = 4;
+	private int highWaterMark = 10000;
+	
+	/** Minimum number of outstanding Tasks for adaptive splitting */
+	private static final int MIN_ADAPTIVE_OUTSTANDING = 8;
+	
+	/** Interval to check outstanding Tasks for lazy splitting (ms) */
+	private static final long OUTSTANDING_POLL_INTERVAL = 100;
+	
+	private Map<String, AdaptiveChunkController> controllers = 
+		Collections.synchronizedMap(new HashMap<String, AdaptiveChunkController>());
+	
 	/**
 	 * Constructor for {@code SplitterServiceImpl}.
 	 * 
@@ -62,6 +112,68 @@ public class SplitterServiceImpl implements SplitterService {
 
 	}
 	
+	/**
+	 * Sets the maximum number of {@code GridTask}s packed into a single
+	 * message. A value of 1 disables packing. Default value is 100.
+	 * <p>
+	 * <i>Spring Injected</i>
+	 * 
+	 * @param maxTasksPerMessage maximum number of {@code GridTask}s per message
+	 * @throws IllegalArgumentException if less than 1
+	 */
+	public void setMaxTasksPerMessage(int maxTasksPerMessage) throws IllegalArgumentException {
+		Assert.isTrue(maxTasksPerMessage > 0, "Tasks per message should be at least 1");
+		this.maxTasksPerMessage = maxTasksPerMessage;
+	}
+
+	/**
+	 * Sets the minimum number of messages a {@code GridJob} should
+	 * be enqueued as, which bounds the packing of {@code GridTask}s to
+	 * keep the distribution of work among {@code GridNode}s even. Default
+	 * value is 1000.
+	 * <p>
+	 * <i>Spring Injected</i>
+	 * 
+	 * @param minMessagesPerJob minimum number of messages per {@code GridJob}
+	 * @throws IllegalArgumentException if less than 1
+	 */
+	public void setMinMessagesPerJob(int minMessagesPerJob) throws IllegalArgumentException {
+		Assert.isTrue(minMessagesPerJob > 0, "Messages per job should be at least 1");
+		this.minMessagesPerJob = minMessagesPerJob;
+	}
+	
+	/**
+	 * Sets the number of outstanding {@code GridTask}s per worker 
+	 * {@code GridNode}, for adaptively split {@code GridJob}s. A larger
+	 * window keeps {@code GridNode}s busy, while a smaller window lets 
+	 * more {@code GridTask}s benefit from the adapted chunk size. Default 
+	 * value is 4.
+	 * <p>
+	 * <i>Spring Injected</i>
+	 * 
+	 * @param adaptiveWindow outstanding {@code GridTask}s per worker
+	 * @throws IllegalArgumentException if less than 1
+	 */
+	public void setAdaptiveWindow(int adaptiveWindow) throws IllegalArgumentException {
+		Assert.isTrue(adaptiveWindow > 0, "Adaptive window should be at least 1");
+		this.adaptiveWindow = adaptiveWindow;
+	}
+	
+	/**
+	 * Sets the maximum number of outstanding {@code GridTask}s 
+	 * (enqueued or executing) of a lazily split {@code GridJob}. 
+	 * Default value is 10000.
+	 * <p>
+	 * <i>Spring Injected</i>
+	 * 
+	 * @param highWaterMark maximum number of outstanding {@code GridTask}s
+	 * @throws IllegalArgumentException if less than 1
+	 */
+	public void setHighWaterMark(int highWaterMark) throws IllegalArgumentException {
+		Assert.isTrue(highWaterMark > 0, "High-water mark should be at least 1");
+		this.highWaterMark = highWaterMark;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -95,25 +207,35 @@ public class SplitterServiceImpl implements SplitterService {
 
 		// Update Future state to 'Initializing'
 		profile.getFuture().setState(GridJobState.INITIALIZING);
+		
+		// Start Task Tracker, as Tasks may execute while splitting
+		profile.getTaskTracker().start();
 
 		try {
-			SplitAggregateGridJob<?,?> job = (SplitAggregateGridJob<?, ?>) profile.getJob();
-
-			// Split to Tasks
-			log.debug("[Splitter] Splitting Tasks");
 			
-			List<? extends GridTask<?>> taskList = job.split();
-
-			//Enqueue Tasks in TaskQueue
-			log.debug("[Splitter] Enqueueing Tasks");
-			
-			
-			for (int i = 0; i < taskList.size(); i++) {
-				if (profile.isStopped()) return;
-				GridTask<?> task = (GridTask<?>) taskList.get(i);
-				profile.addTask(i, task);					// Put copy to TaskMap in Profile
-				enqueueTask(profile, i, task); 	// Put to Task Queue
-			}	
+			// Adaptive Split
+			if (profile.getJob() instanceof RangeTaskFactory) {
+				if (!doAdaptiveSplit(profile, (RangeTaskFactory<?>) profile.getJob())) {
+					return;		// Stopped
+				}
+			}
+			// Indexed Split
+			else if (profile.getJob() instanceof IndexedTaskFactory) {
+				if (!doIndexedSplit(profile, (IndexedTaskFactory<?>) profile.getJob())) {
+					return;		// Stopped
+				}
+			}
+			// Lazy Split
+			else if (profile.getJob() instanceof StreamingSplit) {
+				if (!doStreamingSplit(profile, (StreamingSplit<?>) profile.getJob())) {
+					return;		// Stopped
+				}
+			}
+			else {
+				if (!doSplit(profile)) {
+					return;		// Stopped
+				}
+			}
 			
 		} catch (SecurityException e) {
 			// Security Violation during Split
@@ -142,14 +264,235 @@ public class SplitterServiceImpl implements SplitterService {
 			return;
 		}
 
-		// Start Task Tracker
-		profile.getTaskTracker().start();
+		// All Tasks enqueued. ResultCollector finishes the Job
+		// once no Task remains, even if all results arrived already.
+		profile.markSplitComplete();
 		
 		// Update Future State to 'Executing'
 		profile.getFuture().setState(GridJobState.EXECUTING);
 		log.debug("[Splitter] Tasks enqueued. Waiting Execution");
 	}
 
+	/**
+	 * Splits the given {@code GridJob} using its {@code split()} method,
+	 * and enqueues the resulting {@code GridTask}s.
+	 * 
+	 * @param profile {@code GridJobProfile} of the {@code GridJob} to be splitted.
+	 * @return {@code false} if the {@code GridJob} was stopped while splitting
+	 */
+	private boolean doSplit(final GridJobProfile profile) {
+		
+		SplitAggregateGridJob<?,?> job = (SplitAggregateGridJob<?, ?>) profile.getJob();
+
+		// Split to Tasks
+		log.debug("[Splitter] Splitting Tasks");
+		
+		List<? extends GridTask<?>> taskList = job.split();
+
+		//Enqueue Tasks in TaskQueue
+		log.debug("[Splitter] Enqueueing Tasks");
+		
+		
+		int packSize = getPackSize(taskList.size());
+		
+		if (packSize > 1) {
+			log.debug("[Splitter] Packing " + packSize + " Tasks per Message");
+		}
+		
+		for (int i = 0; i < taskList.size(); i += packSize) {
+			
+			if (profile.isStopped()) return false;
+			
+			int end = Math.min(i + packSize, taskList.size());
+			
+			// Put copies to TaskMap in Profile
+			for (int j = i; j < end; j++) {
+				profile.addTask(j, (GridTask<?>) taskList.get(j));
+			}
+			
+			// Put to Task Queue
+			if (end - i == 1) {
+				enqueueTask(profile, i, (GridTask<?>) taskList.get(i));
+			} else {
+				enqueueTaskPack(profile, i, taskList.subList(i, end));
+			}
+		}	
+		
+		return true;
+	}
+	
+	/**
+	 * Splits the given {@code GridJob} adaptively, by creating {@code GridTask}s
+	 * for consecutive ranges through its {@link RangeTaskFactory}. The range of 
+	 * each {@code GridTask} is decided by the {@link AdaptiveChunkController}
+	 * of the {@code GridJob}, and new {@code GridTask}s are created only when
+	 * the number of outstanding {@code GridTask}s falls below the window, so that
+	 * later {@code GridTask}s are sized using the execution times of earlier ones.
+	 * 
+	 * @param profile {@code GridJobProfile} of the {@code GridJob} to be splitted.
+	 * @param factory {@code RangeTaskFactory} of {@code GridJob}
+	 * @return {@code false} if the {@code GridJob} was stopped while splitting
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	private boolean doAdaptiveSplit(final GridJobProfile profile, 
+			RangeTaskFactory<?> factory) throws InterruptedException {
+		
+		log.debug("[Splitter] Splitting Tasks Adaptively");
+		
+		AdaptiveChunkController controller = AdaptiveChunkController.forFactory(factory);
+		controllers.put(profile.getJobId(), controller);
+		
+		try {
+			int size = factory.getRangeSize();
+			int taskId = 0;
+			
+			for (int i = 0; i < size; taskId++) {
+				
+				// Wait till outstanding Tasks fall below window
+				if (!awaitOutstandingBelow(profile, getAdaptiveWindow(profile))) {
+					return false;
+				}
+				
+				int end = (int) Math.min((long) i + controller.getChunkSize(), size);
+				
+				GridTask<?> task = factory.createTask(i, end);
+				
+				controller.taskCreated(taskId, end - i);
+				profile.addTask(taskId, task);
+				enqueueTask(profile, taskId, task);
+				
+				i = end;
+			}
+			
+			log.debug("[Splitter] Created " + taskId + " Tasks Adaptively");
+			return true;
+			
+		} finally {
+			controllers.remove(profile.getJobId());
+		}
+	}
+	
+	/**
+	 * Splits the given {@code GridJob} by index, by creating {@code GridTask}s 
+	 * through its {@link IndexedTaskFactory}, while the number of outstanding 
+	 * {@code GridTask}s is below the high-water mark. {@code GridTask}s are packed
+	 * in the same manner as {@link #doSplit(GridJobProfile)}.
+	 * 
+	 * @param profile {@code GridJobProfile} of the {@code GridJob} to be splitted.
+	 * @param factory {@code IndexedTaskFactory} of {@code GridJob}
+	 * @return {@code false} if the {@code GridJob} was stopped while splitting
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	private boolean doIndexedSplit(final GridJobProfile profile, 
+			IndexedTaskFactory<?> factory) throws InterruptedException {
+		
+		log.debug("[Splitter] Splitting Tasks by Index");
+		
+		int count = factory.getTaskCount();
+		int packSize = getPackSize(count);
+		
+		for (int i = 0; i < count; i += packSize) {
+			
+			// Wait till outstanding Tasks fall below high-water mark
+			if (!awaitOutstandingBelow(profile, highWaterMark)) {
+				return false;
+			}
+			
+			int end = Math.min(i + packSize, count);
+			
+			List<GridTask<?>> tasks = new ArrayList<GridTask<?>>(end - i);
+			
+			for (int j = i; j < end; j++) {
+				GridTask<?> task = factory.task(j);
+				profile.addTask(j, task);
+				tasks.add(task);
+			}
+			
+			// Put to Task Queue
+			if (tasks.size() == 1) {
+				enqueueTask(profile, i, tasks.get(0));
+			} else {
+				enqueueTaskPack(profile, i, tasks);
+			}
+		}
+		
+		log.debug("[Splitter] Created " + count + " Tasks by Index");
+		return true;
+	}
+	
+	/**
+	 * Splits the given {@code GridJob} lazily, by pulling {@code GridTask}s
+	 * from the {@code Iterator} returned by its {@link StreamingSplit}, while
+	 * the number of outstanding {@code GridTask}s is below the high-water mark.
+	 * 
+	 * @param profile {@code GridJobProfile} of the {@code GridJob} to be splitted.
+	 * @param split {@code StreamingSplit} of {@code GridJob}
+	 * @return {@code false} if the {@code GridJob} was stopped while splitting
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	private boolean doStreamingSplit(final GridJobProfile profile, 
+			StreamingSplit<?> split) throws InterruptedException {
+		
+		log.debug("[Splitter] Splitting Tasks Lazily");
+		
+		Iterator<? extends GridTask<?>> it = split.splitIterator();
+		
+		if (it == null) {
+			throw new NullPointerException("Task iterator was null");
+		}
+		
+		int taskId = 0;
+		
+		while (it.hasNext()) {
+			
+			// Wait till outstanding Tasks fall below high-water mark
+			if (!awaitOutstandingBelow(profile, highWaterMark)) {
+				return false;
+			}
+			
+			GridTask<?> task = it.next();
+			
+			profile.addTask(taskId, task);
+			enqueueTask(profile, taskId, task);
+			
+			taskId++;
+		}
+		
+		log.debug("[Splitter] Created " + taskId + " Tasks Lazily");
+		return true;
+	}
+	
+	/**
+	 * Blocks until the number of outstanding {@code GridTask}s
+	 * of the given {@code GridJob} is below the given limit.
+	 * 
+	 * @param profile {@code GridJobProfile} of {@code GridJob}
+	 * @param limit maximum number of outstanding {@code GridTask}s
+	 * @return {@code false} if the {@code GridJob} was stopped while waiting
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	private boolean awaitOutstandingBelow(GridJobProfile profile, int limit) 
+			throws InterruptedException {
+		
+		while (profile.getTaskCount() >= limit) {
+			if (profile.isStopped()) return false;
+			Thread.sleep(OUTSTANDING_POLL_INTERVAL);
+		}
+		
+		return !profile.isStopped();
+	}
+	
+	/**
+	 * Returns the maximum number of outstanding {@code GridTask}s 
+	 * for an adaptively split {@code GridJob}.
+	 * 
+	 * @param profile {@code GridJobProfile} of {@code GridJob}
+	 * @return maximum number of outstanding {@code GridTask}s
+	 */
+	private int getAdaptiveWindow(GridJobProfile profile) {
+		return Math.max(MIN_ADAPTIVE_OUTSTANDING, profile.getWorkerCount() * adaptiveWindow);
+	}
+
 	/**
 	 * Enqueues a given Task with in the {@code TaskQueue}.
 	 * 
@@ -161,24 +504,96 @@ public class SplitterServiceImpl implements SplitterService {
 
 		final String jobId = profile.getJobId();
 		
-		// Send GridTask as a JMS Object Message to TaskQueue
-		jmsTemplate.convertAndSend(JMSNamingSupport.getTaskQueueName(jobId),
-				task, new MessagePostProcessor() {
-			
-					public Message postProcessMessage(Message message)
-							throws JMSException {
-						
-						// Post Process to include Meta Data
-						message.setJMSCorrelationID(jobId); 		// Set Correlation ID to Job Id
-						message.setIntProperty("taskId", taskId); 	// Put taskId as a property
-						log.debug("Enqueued Task : " + taskId);
-						return message;
-					}
-				});
+		// Track before sending, as the result may arrive before send returns
+		boolean added = profile.getTaskTracker().taskEnqueued(taskId);
 		
-		profile.getTaskTracker().taskEnqueued(taskId);
+		try {
+			// Send GridTask as a JMS Object Message to TaskQueue
+			jmsTemplate.convertAndSend(JMSNamingSupport.getTaskQueueName(jobId),
+					task, new MessagePostProcessor() {
+				
+						public Message postProcessMessage(Message message)
+								throws JMSException {
+							
+							// Post Process to include Meta Data
+							message.setJMSCorrelationID(jobId); 		// Set Correlation ID to Job Id
+							message.setIntProperty("taskId", taskId); 	// Put taskId as a property
+							log.debug("Enqueued Task : " + taskId);
+							return message;
+						}
+					});
+		} catch (JmsException e) {
+			profile.getTaskTracker().enqueueFailed(taskId, added);
+			throw e;
+		}
 	}
 
+	/**
+	 * Returns the number of {@code GridTask}s to be packed into a single 
+	 * message, for a {@code GridJob} of {@code taskCount} {@code GridTask}s.
+	 * 
+	 * @param taskCount number of {@code GridTask}s
+	 * @return number of {@code GridTask}s per message
+	 */
+	protected int getPackSize(int taskCount) {
+		return Math.max(1, Math.min(maxTasksPerMessage, taskCount / minMessagesPerJob));
+	}
+	
+	/**
+	 * Enqueues a given contiguous range of Tasks with in the {@code TaskQueue}, 
+	 * as a single {@link GridTaskPack} message.
+	 * 
+	 * @param profile {@code GridJobProfile} of Job
+	 * @param firstTaskId TaskId of first Task in range
+	 * @param tasks {@code GridTask}s of range
+	 */
+	private void enqueueTaskPack(final GridJobProfile profile, final int firstTaskId, 
+			List<? extends GridTask<?>> tasks) {
+		
+		final String jobId = profile.getJobId();
+		final int count = tasks.size();
+		
+		List<GridTask<? extends Serializable>> packed = new ArrayList<GridTask<? extends Serializable>>(tasks);
+		
+		// Tracking is per Task, admission per Pack (before sending, 
+		// as results may arrive before send returns)
+		profile.getTaskTracker().tasksEnqueued(firstTaskId, count);
+		
+		try {
+			// Send GridTaskPack as a JMS Object Message to TaskQueue
+			jmsTemplate.convertAndSend(JMSNamingSupport.getTaskQueueName(jobId),
+					new GridTaskPack(firstTaskId, packed), new MessagePostProcessor() {
+				
+						public Message postProcessMessage(Message message)
+								throws JMSException {
+							
+							// Post Process to include Meta Data
+							message.setJMSCorrelationID(jobId); 			// Set Correlation ID to Job Id
+							message.setIntProperty("taskId", firstTaskId); 	// Put first taskId as a property
+							message.setIntProperty("taskCount", count); 	// Put # of tasks as a property
+							log.debug("Enqueued Tasks : " + firstTaskId + " - " + (firstTaskId + count - 1));
+							return message;
+						}
+					});
+		} catch (JmsException e) {
+			profile.getTaskTracker().enqueueFailed(firstTaskId, count);
+			throw e;
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Updates the {@link AdaptiveChunkController} of the {@code GridJob},
+	 * if it is being split adaptively.
+	 */
+	public void resultReceived(String jobId, int taskId, long executionTime) {
+		AdaptiveChunkController controller = controllers.get(jobId);
+		if (controller != null) {
+			controller.resultReceived(taskId, executionTime);
+		}
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * <p>
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs.store;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.nebulaframework.core.task.GridTaskResult;
+
+/**
+ * {@code ResultStore} which holds {@code GridTaskResult} objects on 
+ * the heap, as received. This is the default {@code ResultStore}.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ */
+public class ObjectResultStore implements ResultStore {
+
+	// Results for GridTasks, against TaskId (Sequence Number)
+	private Map<Integer, GridTaskResult> resultMap = new TreeMap<Integer, GridTaskResult>();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized void put(int taskId, GridTaskResult result) {
+		resultMap.put(taskId, result);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized int size() {
+		return resultMap.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized Collection<GridTaskResult> getResults() {
+		
+		Collection<GridTaskResult> results = new ArrayList<GridTaskResult>(resultMap.size());
+		
+		for (GridTaskResult result : resultMap.values()) {
+			if (result != null) {
+				results.add(result);
+			}
+		}
+		
+		return results;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Not measured for {@code ObjectResultStore}.
+	 */
+	public long getBytesHeld() {
+		return -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getBytesSpilled() {
+		return 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized void dispose() {
+		resultMap.clear();
+	}
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs.store;
+
+/**
+ * Creates {@link ObjectResultStore}s, which hold results on the heap.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ */
+public class ObjectResultStoreFactory implements ResultStoreFactory {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public ResultStore createResultStore(String jobId, ClassLoader classLoader) {
+		return new ObjectResultStore();
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs.store;
+
+import java.util.Collection;
+
+import org.nebulaframework.core.task.GridTaskResult;
+import org.nebulaframework.grid.cluster.manager.services.jobs.GridJobProfile;
+
+/**
+ * {@code ResultStore} holds the {@code GridTaskResult}s of a {@code GridJob}
+ * at the {@code ClusterManager}, from the time they are received, until
+ * the {@code GridJob} is aggregated.
+ * <p>
+ * Implementations may keep results in serialized form, outside of the heap, 
+ * or on disk, in which case results are de-serialized lazily, when they are
+ * accessed through {@link #getResults()}.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see GridJobProfile
+ * @see ResultStoreFactory
+ */
+public interface ResultStore {
+
+	/**
+	 * Stores the {@code GridTaskResult} of the given {@code taskId}.
+	 * A {@code null} result is counted, but not stored.
+	 * 
+	 * @param taskId TaskId
+	 * @param result {@code GridTaskResult}, or {@code null}
+	 */
+	public void put(int taskId, GridTaskResult result);
+	
+	/**
+	 * Returns the number of results stored.
+	 * 
+	 * @return number of results
+	 */
+	public int size();
+	
+	/**
+	 * Returns the stored {@code GridTaskResult}s, in the order of TaskIds. 
+	 * The returned collection may de-serialize each {@code GridTaskResult} 
+	 * when it is iterated, in which case an {@code IllegalStateException} 
+	 * is thrown during iteration if a {@code GridTaskResult} cannot be read.
+	 * 
+	 * @return {@code GridTaskResult}s
+	 */
+	public Collection<GridTaskResult> getResults();
+	
+	/**
+	 * Returns the number of bytes held in memory (heap or off-heap) for
+	 * the stored results, or -1 if not measured.
+	 * 
+	 * @return bytes held in memory
+	 */
+	public long getBytesHeld();
+	
+	/**
+	 * Returns the number of bytes of stored results which have been
+	 * spilled to disk.
+	 * 
+	 * @return bytes spilled to disk
+	 */
+	public long getBytesSpilled();
+	
+	/**
+	 * Releases all resources held by this {@code ResultStore}. Results
+	 * are no longer available once disposed.
+	 */
+	public void dispose();
+}
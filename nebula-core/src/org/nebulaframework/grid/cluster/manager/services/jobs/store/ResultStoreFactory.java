@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs.store;
+
+/**
+ * Creates the {@link ResultStore} for each {@code GridJob} submitted 
+ * to the {@code ClusterManager}.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see ResultStore
+ */
+public interface ResultStoreFactory {
+
+	/**
+	 * Creates a {@code ResultStore} for the given {@code GridJob}.
+	 * 
+	 * @param jobId JobId of {@code GridJob}
+	 * @param classLoader {@code ClassLoader} of {@code GridJob}, to be 
+	 * used to de-serialize results
+	 * 
+	 * @return {@code ResultStore}
+	 */
+	public ResultStore createResultStore(String jobId, ClassLoader classLoader);
+}
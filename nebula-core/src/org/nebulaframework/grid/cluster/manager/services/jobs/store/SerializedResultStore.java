@@ -0,0 +1,328 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs.store;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.nebulaframework.core.task.GridTaskResult;
+import org.nebulaframework.util.io.IOSupport;
+import org.springframework.util.Assert;
+
+/**
+ * {@code ResultStore} which holds {@code GridTaskResult}s in serialized form.
+ * <p>
+ * Serialized results are kept in direct (off-heap) buffers, until the total
+ * size of results held in memory reaches the memory budget. Further results 
+ * are appended to a spill file, in the given spill directory. Results are 
+ * de-serialized one at a time, using the {@code ClassLoader} of the 
+ * {@code GridJob}, while the collection returned by {@link #getResults()}
+ * is iterated, so the heap only needs to hold the results which are 
+ * referred to by the aggregation.
+ * <p>
+ * The spill file is deleted when the {@code ResultStore} is disposed.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see SerializedResultStoreFactory
+ */
+public class SerializedResultStore implements ResultStore {
+
+	private static Log log = LogFactory.getLog(SerializedResultStore.class);
+	
+	private String jobId;
+	private ClassLoader classLoader;
+	private long memoryBudget;
+	private File spillDirectory;
+	
+	// Stored Results, against TaskId (Sequence Number)
+	private Map<Integer, Entry> entries = new TreeMap<Integer, Entry>();
+	
+	private long bytesHeld = 0;
+	private long bytesSpilled = 0;
+	
+	private File spillFile;
+	private RandomAccessFile spill;
+	private FileChannel spillChannel;
+	
+	/**
+	 * Constructs a {@code SerializedResultStore} for the given {@code GridJob}.
+	 * 
+	 * @param jobId JobId of {@code GridJob}
+	 * @param classLoader {@code ClassLoader} of {@code GridJob}
+	 * @param memoryBudget maximum bytes to be held in memory
+	 * @param spillDirectory directory for spill file
+	 * @throws IllegalArgumentException if any argument is invalid
+	 */
+	public SerializedResultStore(String jobId, ClassLoader classLoader, 
+			long memoryBudget, File spillDirectory) throws IllegalArgumentException {
+		
+		super();
+		
+		Assert.notNull(jobId);
+		Assert.notNull(spillDirectory);
+		Assert.isTrue(memoryBudget >= 0, "Memory budget should not be negative");
+		
+		this.jobId = jobId;
+		this.classLoader = classLoader;
+		this.memoryBudget = memoryBudget;
+		this.spillDirectory = spillDirectory;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @throws IllegalStateException if the result cannot be serialized or spilled
+	 */
+	public synchronized void put(int taskId, GridTaskResult result) throws IllegalStateException {
+		
+		// Place holder for null results
+		if (result == null) {
+			entries.put(taskId, null);
+			return;
+		}
+		
+		try {
+			byte[] bytes = IOSupport.serializeToBytes(result);
+			
+			if (bytesHeld + bytes.length <= memoryBudget) {
+				
+				// Keep Off-Heap
+				ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+				buffer.put(bytes);
+				
+				entries.put(taskId, new Entry(buffer, -1, bytes.length));
+				bytesHeld += bytes.length;
+			}
+			else {
+				
+				// Spill to Disk
+				long position = spill(bytes);
+				
+				entries.put(taskId, new Entry(null, position, bytes.length));
+				bytesSpilled += bytes.length;
+			}
+			
+		} catch (IOException e) {
+			throw new IllegalStateException("Unable to store result of Task " + taskId, e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The returned collection de-serializes each {@code GridTaskResult}
+	 * when it is iterated.
+	 */
+	public synchronized Collection<GridTaskResult> getResults() {
+		
+		// Snapshot of Stored Entries (ordered by TaskId)
+		final List<Entry> snapshot = new ArrayList<Entry>(entries.size());
+		
+		for (Entry entry : entries.values()) {
+			if (entry != null) {
+				snapshot.add(entry);
+			}
+		}
+		
+		return new AbstractCollection<GridTaskResult>() {
+
+			@Override
+			public Iterator<GridTaskResult> iterator() {
+				
+				final Iterator<Entry> it = snapshot.iterator();
+				
+				return new Iterator<GridTaskResult>() {
+					
+					public boolean hasNext() {
+						return it.hasNext();
+					}
+
+					public GridTaskResult next() {
+						if (!hasNext()) throw new NoSuchElementException();
+						return read(it.next());
+					}
+
+					public void remove() {
+						throw new UnsupportedOperationException();
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return snapshot.size();
+			}
+		};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized long getBytesHeld() {
+		return bytesHeld;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized long getBytesSpilled() {
+		return bytesSpilled;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized void dispose() {
+		
+		entries.clear();
+		bytesHeld = 0;
+		bytesSpilled = 0;
+		
+		if (spill != null) {
+			try {
+				spill.close();
+			} catch (IOException e) {
+				log.debug("[ResultStore] Unable to close spill file", e);
+			}
+			spill = null;
+			spillChannel = null;
+		}
+		
+		if (spillFile != null) {
+			if (!spillFile.delete()) {
+				log.warn("[ResultStore] Unable to delete spill file " + spillFile);
+			}
+			spillFile = null;
+		}
+	}
+	
+	/**
+	 * Appends the given bytes to the spill file, creating it 
+	 * if necessary, and returns the position of the bytes.
+	 * 
+	 * @param bytes bytes to spill
+	 * @return position in spill file
+	 * @throws IOException if writing fails
+	 */
+	private long spill(byte[] bytes) throws IOException {
+		
+		if (spill == null) {
+			spillFile = File.createTempFile("nebula-results-", ".spill", spillDirectory);
+			spillFile.deleteOnExit();
+			spill = new RandomAccessFile(spillFile, "rw");
+			spillChannel = spill.getChannel();
+			
+			log.info("[ResultStore] Job {" + jobId + "} exceeded memory budget, spilling results to " 
+			         + spillFile);
+		}
+		
+		long position = bytesSpilled;
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		
+		while (buffer.hasRemaining()) {
+			spillChannel.write(buffer, position + buffer.position());
+		}
+		
+		return position;
+	}
+	
+	/**
+	 * Reads and de-serializes the {@code GridTaskResult} of the given entry.
+	 * 
+	 * @param entry stored entry
+	 * @return {@code GridTaskResult}
+	 * @throws IllegalStateException if the result cannot be read
+	 */
+	private GridTaskResult read(Entry entry) throws IllegalStateException {
+		
+		byte[] bytes = new byte[entry.length];
+		
+		try {
+			if (entry.buffer != null) {
+				
+				// Off-Heap (duplicate for independent position)
+				ByteBuffer buffer = entry.buffer.duplicate();
+				buffer.clear();
+				buffer.get(bytes);
+			}
+			else {
+				
+				// Spilled
+				FileChannel channel = null;
+				synchronized (this) {
+					channel = spillChannel;
+				}
+				
+				if (channel == null) {
+					throw new IllegalStateException("ResultStore disposed");
+				}
+				
+				ByteBuffer buffer = ByteBuffer.wrap(bytes);
+				while (buffer.hasRemaining()) {
+					if (channel.read(buffer, entry.position + buffer.position()) < 0) {
+						throw new IOException("Unexpected end of spill file");
+					}
+				}
+			}
+			
+			return (GridTaskResult) IOSupport.deserializeFromBytes(bytes, classLoader);
+			
+		} catch (IOException e) {
+			throw new IllegalStateException("Unable to read result", e);
+		} catch (ClassNotFoundException e) {
+			throw new IllegalStateException("Unable to read result", e);
+		}
+	}
+	
+	/**
+	 * Location of a stored result, either in a direct buffer
+	 * or in the spill file.
+	 */
+	private static class Entry {
+		
+		private ByteBuffer buffer;
+		private long position;
+		private int length;
+		
+		public Entry(ByteBuffer buffer, long position, int length) {
+			super();
+			this.buffer = buffer;
+			this.position = position;
+			this.length = length;
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs.store;
+
+import java.io.File;
+
+import org.springframework.util.Assert;
+
+/**
+ * Creates {@link SerializedResultStore}s, which hold results in serialized
+ * form, off-heap up to a memory budget per {@code GridJob}, and spill further
+ * results to disk.
+ * <p>
+ * <i>Spring Managed</i>
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ */
+public class SerializedResultStoreFactory implements ResultStoreFactory {
+
+	private long memoryBudget = 64 * 1024 * 1024;
+	private File spillDirectory = new File(System.getProperty("java.io.tmpdir"));
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public ResultStore createResultStore(String jobId, ClassLoader classLoader) {
+		return new SerializedResultStore(jobId, classLoader, memoryBudget, spillDirectory);
+	}
+
+	/**
+	 * Sets the maximum number of bytes of serialized results held
+	 * in memory for a {@code GridJob}, before spilling to disk. 
+	 * Default value is 64 MB.
+	 * <p>
+	 * <i>Spring Injected</i>
+	 * 
+	 * @param memoryBudget memory budget in bytes
+	 * @throws IllegalArgumentException if negative
+	 */
+	public void setMemoryBudget(long memoryBudget) throws IllegalArgumentException {
+		Assert.isTrue(memoryBudget >= 0, "Memory budget should not be negative");
+		this.memoryBudget = memoryBudget;
+	}
+
+	/**
+	 * Sets the directory for spill files. Default value is the 
+	 * temporary directory of the JVM ({@code java.io.tmpdir}).
+	 * <p>
+	 * <i>Spring Injected</i>
+	 * 
+	 * @param spillDirectory spill directory
+	 * @throws IllegalArgumentException if {@code null}
+	 */
+	public void setSpillDirectory(File spillDirectory) throws IllegalArgumentException {
+		Assert.notNull(spillDirectory);
+		this.spillDirectory = spillDirectory;
+	}
+}
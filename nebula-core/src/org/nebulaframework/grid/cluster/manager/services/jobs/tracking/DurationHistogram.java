@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs.tracking;
+
+/**
+ * Histogram of {@code GridTask} execution durations, used to derive
+ * percentiles of the observed duration distribution.
+ * <p>
+ * Durations are kept in logarithmic buckets, each of which is 
+ * {@code 10%} wider than the previous one, so that percentiles are 
+ * accurate to within {@code 10%} for any duration, using constant 
+ * memory and constant time per recorded duration.
+ * <p>
+ * This class is not thread-safe.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ */
+class DurationHistogram {
+
+	private static final double BUCKET_GROWTH = 1.1;
+	private static final double LOG_GROWTH = Math.log(BUCKET_GROWTH);
+	private static final int BUCKETS = 256;
+	
+	private long[] counts = new long[BUCKETS];
+	private long count = 0;
+	
+	/**
+	 * Records the given duration.
+	 * 
+	 * @param duration duration, in milliseconds
+	 */
+	public void record(long duration) {
+		counts[bucketOf(duration)]++;
+		count++;
+	}
+	
+	/**
+	 * Returns the number of recorded durations.
+	 * 
+	 * @return number of durations
+	 */
+	public long getCount() {
+		return count;
+	}
+	
+	/**
+	 * Returns the given percentile of recorded durations, 
+	 * as the upper bound of the bucket which contains it.
+	 * 
+	 * @param percentile percentile, between {@code 0} and {@code 1}
+	 * @return duration, in milliseconds, or {@code -1} if no
+	 * duration has been recorded
+	 */
+	public long getPercentile(double percentile) {
+		
+		if (count == 0) return -1;
+		
+		long rank = (long) Math.ceil(percentile * count);
+		long seen = 0;
+		
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts[i];
+			if (seen >= rank && seen > 0) {
+				return upperBoundOf(i);
+			}
+		}
+		
+		return upperBoundOf(BUCKETS - 1);
+	}
+	
+	/**
+	 * Returns the bucket of the given duration.
+	 * 
+	 * @param duration duration, in milliseconds
+	 * @return bucket index
+	 */
+	private static int bucketOf(long duration) {
+		
+		if (duration <= 1) return 0;
+		
+		int bucket = (int) (Math.log(duration) / LOG_GROWTH);
+		return Math.min(bucket, BUCKETS - 1);
+	}
+	
+	/**
+	 * Returns the upper bound of the given bucket.
+	 * 
+	 * @param bucket bucket index
+	 * @return duration, in milliseconds
+	 */
+	private static long upperBoundOf(int bucket) {
+		return (long) Math.ceil(Math.pow(BUCKET_GROWTH, bucket + 1));
+	}
+}
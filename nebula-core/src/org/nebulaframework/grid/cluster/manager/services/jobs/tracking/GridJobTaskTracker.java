@@ -13,15 +13,17 @@
  */
 package org.nebulaframework.grid.cluster.manager.services.jobs.tracking;
 
-import java.util.LinkedList;
-import java.util.Queue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Timer;
+import java.util.TimerTask;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.nebulaframework.core.job.GridJobState;
-import org.nebulaframework.core.job.splitaggregate.SplitAggregateGridJob;
+import org.nebulaframework.core.job.annotations.SpeculativeExecution;
+import org.nebulaframework.core.job.annotations.TaskTimeout;
+import org.nebulaframework.grid.cluster.manager.ClusterManager;
 import org.nebulaframework.grid.cluster.manager.services.jobs.GridJobProfile;
 import org.nebulaframework.grid.cluster.manager.services.jobs.JobExecutionManager;
 import org.nebulaframework.grid.service.event.ServiceEventsSupport;
@@ -35,8 +37,34 @@ import org.nebulaframework.grid.service.message.ServiceMessageType;
  * <p>
  * Instance of this class monitors the task execution of
  * a GridJob, and re-enqueues potentially failed tasks.
- * The average execution duration for a task is constantly measured
- * by the 
+ * <p>
+ * Enqueued tasks are kept in the order of enqueueing, and are
+ * considered to be in execution only while the number of tasks 
+ * in execution is below the number of tasks the workers may hold
+ * at once (their execution threads and prefetched tasks, refer to
+ * {@code GridNodeProfile#getTaskCapacity()}, and the task packs being
+ * received), as workers consume tasks in that order. When a task is 
+ * considered to be in execution, a deadline is scheduled for it in 
+ * a {@link TaskTimerWheel}, derived from the {@code TIMEOUT_PERCENTILE}
+ * of observed execution durations, or from the {@link TaskTimeout} of
+ * the job (or {@code DEFAULT_TIMEOUT}) until durations are observed. A 
+ * task is re-enqueued only if its deadline expires before its result 
+ * is received. A task which has run for longer than expected no longer
+ * counts towards the tasks in execution, so that tasks lost with a 
+ * failed worker do not hold back others until their deadlines.
+ * <p>
+ * TaskIds are kept in primitive {@code int} collections, and receiving 
+ * a result takes constant time, regardless of the number of tasks.
+ * The trackers of all jobs are advanced by a shared timer thread.
+ * <p>
+ * Once no enqueued task awaits a worker, a task which has been in execution
+ * for longer than a percentile of observed execution durations (refer to 
+ * {@link SpeculativeExecution}) is enqueued once more, to be picked by
+ * a worker which has finished its tasks. When the first result of such
+ * a task is received, the other copy is cancelled at its worker 
+ * ({@code TASK_CANCEL}). The tail latency saved is estimated against the
+ * deadline at which the task would have been re-enqueued otherwise, and
+ * is reported when the tracker stops.
  * 
  * @author Yohan Liyanage
  * @version 1.0
@@ -45,31 +73,81 @@ public class GridJobTaskTracker {
 
 	private static final Log log = LogFactory.getLog(GridJobTaskTracker.class);
 	
+	// Duration of a Timer Wheel Tick (ms)
+	private static final long TICK_DURATION = 100;
+	
+	// Number of Timer Wheel Slots
+	private static final int WHEEL_SIZE = 512;
+	
+	// Messages held by a worker besides its task capacity
+	// (being unpacked, and prefetched by its consumer)
+	private static final int MESSAGES_PER_WORKER = 2;
+	
+	// Percentile of durations used for deadlines, and its multiplier
+	private static final double TIMEOUT_PERCENTILE = 0.95;
+	private static final double TIMEOUT_FACTOR = 2.0;
+	
+	// Minimum time allowed for a task (ms)
+	private static final long MIN_TIMEOUT = 1000;
+	
+	// Time allowed for a task until durations are observed (ms)
+	private static final long DEFAULT_TIMEOUT = 60000;
+	
+	// Shared Timer, which advances all trackers
+	private static Timer timer = new Timer("GridJobTaskTracker-Timer", true);
+	
 	private GridJobProfile profile;
 	private JobExecutionManager executionManager;
-
-	private ExecutorService executors = Executors.newCachedThreadPool();
 	
+	// Speculation Percentile (negative if disabled)
+	private double speculationPercentile = -1;
+
 	private boolean started;
-	private boolean stopped;
+	private volatile boolean stopped;
+	private TimerTask trackingTask;
+	
+	// Time allowed for a task until durations are observed
+	private long defaultTimeout = DEFAULT_TIMEOUT;
+	
+	// Largest number of tasks per message
+	private int packSize = 1;
+	
+	// Observed Execution Durations
+	private DurationHistogram durations = new DurationHistogram();
+	
+	// Tasks without results
+	private IntHashSet pending = new IntHashSet();
 	
-	// Average Execution Time, in Seconds
-	private int averageTaskDuration = -1;
+	// Enqueued Tasks, in order, not yet considered to be in execution
+	private IntQueue waiting = new IntQueue();
 	
-	// Enqueued Tasks
-	private Queue<Integer> enqueued = new LinkedList<Integer>();
+	// Tasks considered to be in execution, with deadlines
+	private IntHashSet inFlight = new IntHashSet();
 	
-	// Tasks which are potentially failed 
-	// (results received for tasks enqueued after)
-	private Queue<Integer> potential = new LinkedList<Integer>();
+	// Tasks in execution, not yet expected to have completed
+	private IntHashSet holding = new IntHashSet();
 	
-	// Tasks Marked as Failed and to be re-enqueued
-	private Queue<Integer> marked = new LinkedList<Integer>();
+	// Deadlines of Tasks in execution
+	private TaskTimerWheel deadlines = new TaskTimerWheel(TICK_DURATION, WHEEL_SIZE);
 	
-	// Active Worker Count (as of last update)
-	private int workerCount = 0;
+	// Straggler checks of Tasks in execution
+	private TaskTimerWheel stragglerChecks = new TaskTimerWheel(TICK_DURATION, WHEEL_SIZE);
 	
-	private int renqueued = 0; // TODO Remove
+	// Speculated Tasks, against {speculation time, estimated deadline}
+	private Map<Integer, long[]> speculated = new HashMap<Integer, long[]>();
+	
+	// Buffers, reused on each tick
+	private IntQueue elapsed = new IntQueue();
+	private IntQueue expired = new IntQueue();
+	private IntQueue stragglers = new IntQueue();
+	
+	// Speculation Stats
+	private int speculatedCount = 0;
+	private int backupWins = 0;
+	private long tailLatencySaved = 0;
+	
+	// Number of re-enqueued tasks
+	private int reEnqueued = 0;
 	
 	/**
 	 * Constructs a Task Tracker for given job.
@@ -84,6 +162,29 @@ public class GridJobTaskTracker {
 		super();
 		this.profile = profile;
 		this.executionManager = executionManager;
+		
+		// Speculative Execution Settings
+		SpeculativeExecution settings = null;
+		if (profile.getJob() != null) {
+			settings = profile.getJob().getClass().getAnnotation(SpeculativeExecution.class);
+		}
+		
+		if (settings == null) {
+			this.speculationPercentile = 0.9;
+		}
+		else if (settings.enabled()) {
+			this.speculationPercentile = settings.percentile();
+		}
+		
+		// Task Timeout, if any
+		TaskTimeout timeout = null;
+		if (profile.getJob() != null) {
+			timeout = profile.getJob().getClass().getAnnotation(TaskTimeout.class);
+		}
+		
+		if (timeout != null && timeout.value() > 0) {
+			this.defaultTimeout = Math.max(MIN_TIMEOUT, (long) (timeout.value() * TIMEOUT_FACTOR));
+		}
 	}
 	
 	/**
@@ -117,297 +218,389 @@ public class GridJobTaskTracker {
 	 * continues to monitor and re-enqueue possibly
 	 * failed jobs.
 	 */
-	public void start() {
+	public synchronized void start() {
 		
 		// Ignore all start() calls if already started
 		if (started) return;
+		started = true;
 		
-		new Thread(new Runnable() {
-
+		trackingTask = new TimerTask() {
 			@Override
 			public void run() {
 				try {
-					// Initial Startup Delay (wait for tasks to execute)
-					Thread.sleep(2000);
-				} catch (InterruptedException e) {
-					log.error("[GridJobTaskTracker] Interrupted", e);
-				}	
-				
-				// Start Task Tracker
-				GridJobTaskTracker.this.startTracking();
+					track();
+				} catch (RuntimeException e) {
+					log.warn("[GridJobTaskTracker] Exception while Tracking " + profile.getJobId(), e);
+				}
 			}
-		}).start();
+		};
+		
+		timer.schedule(trackingTask, TICK_DURATION, TICK_DURATION);
 		
+		log.debug("[GridJobTaskTracker] Started Tracking for " + profile.getJobId());
 	}
 	
 	/**
-	 * Internal method to start the tracking process.
+	 * Advances the tracking process by a tick. Invoked by the
+	 * shared timer, every {@code TICK_DURATION}.
 	 */
-	protected void startTracking() {
+	protected void track() {
 		
-		log.debug("[GridJobTaskTracker] Started Tracking for " + profile.getJobId());
+		// Track while splitting, and while executing
+		GridJobState state = profile.getFuture().getState();
+		if (state != GridJobState.INITIALIZING && state != GridJobState.EXECUTING) {
+			return;
+		}
 		
-		// Wait until average information is available
-		while (averageTaskDuration < 0 || (profile.getFuture().getState()!=GridJobState.EXECUTING)) {
+		// Tasks which workers may hold
+		int capacity = profile.getWorkerTaskCapacity();
+		int workers = profile.getWorkerCount();
+		
+		synchronized (this) {
 			
-			// If Stopped
-			if (stopped) {
-				log.debug("[GridJobTaskTracker] Stopped Tracking for " + profile.getJobId());
-				return;
-			}
+			if (stopped) return;
 			
-			try {
-				// Wait for average to be set
-				Thread.sleep(2000);
-			} catch (InterruptedException e) {
-				log.error("[GridJobTaskTracker] Interrupted", e);
-			}
+			long now = System.currentTimeMillis();
+			
+			admitWaiting(now, Math.max(1, capacity + workers * MESSAGES_PER_WORKER * packSize));
+			collectExpired(now);
+			collectStragglers(now);
 		}
 		
-		// Retrieve Worker Count
-		workerCount = profile.getWorkerCount();
+		// Speculate outside lock, as it notifies taskEnqueued()
+		while (!stragglers.isEmpty()) {
+			
+			int taskId = stragglers.remove();
+			executionManager.reEnqueueTask(profile.getJobId(), taskId);
+			
+			log.debug("[GridJobTaskTracker] Speculatively Re-enqueued " + taskId);
+		}
 		
-		// We have duration information now
-		while (!stopped) {
+		// Re-enqueue outside lock, as it notifies taskEnqueued()
+		while (!expired.isEmpty()) {
+			
+			int taskId = expired.remove();
+			executionManager.reEnqueueTask(profile.getJobId(), taskId);
 			
-			synchronized (this) {
-				renqueueMarked();
-				potentialToMarked();
-				enqueuedToPotential();
+			if (log.isTraceEnabled()) {
+				log.trace("[GridJobTaskTracker] Re-enqueued " + taskId + ", " 
+				          + (++reEnqueued) + " tasks so far");
 			}
+		}
+	}
 
-			// If this is the final stage of Job Execution (90%)
-			if (isFinalStage()) {
-				// Duplicate Tasks (Increases throughput)
-				log.trace("In Final Stage");
-				enqueuedToMarked();
-			}
+	/**
+	 * Considers waiting tasks to be in execution, in the order of 
+	 * enqueueing, while the number of tasks in execution, which are
+	 * not yet expected to have completed, is below the given limit, 
+	 * and schedules their deadlines and checks.
+	 * 
+	 * @param now current time
+	 * @param limit number of tasks workers may hold
+	 */
+	private void admitWaiting(long now, int limit) {
+		
+		long deadline = now + getTimeout();
+		long check = now + getCheckThreshold();
+		
+		while (holding.size() < limit && !waiting.isEmpty()) {
 			
-			// Update Worker Count
-			workerCount = profile.getWorkerCount();
+			int taskId = waiting.remove();
 			
-			try {
-				// Sleep for some duration, determined by average * getMultiple()
-				Thread.sleep((long) Math.floor(averageTaskDuration * getMultipler()));
-			} catch (InterruptedException e) {
-				log.error("[GridJobTaskTracker] Interrupted", e);
+			// Skip completed tasks, and tasks already in execution
+			if (!pending.contains(taskId) || !inFlight.add(taskId)) {
+				continue;
 			}
+			
+			holding.add(taskId);
+			deadlines.schedule(taskId, deadline);
+			stragglerChecks.schedule(taskId, check);
 		}
+	}
+	
+	/**
+	 * Advances the deadlines to given time, and collects tasks 
+	 * in execution of which the deadline has expired, to be
+	 * re-enqueued.
+	 * 
+	 * @param now current time
+	 */
+	private void collectExpired(long now) {
 		
-		log.debug("[GridJobTaskTracker] Stopping for Job " + profile.getJobId());
+		deadlines.advance(now, elapsed);
 		
+		while (!elapsed.isEmpty()) {
+			
+			int taskId = elapsed.remove();
+			holding.remove(taskId);
+			
+			// Ignore deadlines of tasks completed since
+			if (inFlight.remove(taskId) && pending.contains(taskId)) {
+				expired.add(taskId);
+			}
+		}
 	}
-
-	private boolean isFinalStage() {
-		return (this.profile.getWorkerCount() >= this.profile.getTaskCount());
-	}
-
+	
 	/**
-	 * Returns the sleep duration multiplier. The tracker
-	 * thread sleeps for {@code average duration * multiplier} amount of 
-	 * time (milliseconds). This multiplier is higher for tasks with lower
-	 * duration, and lower for tasks with higher duration.
+	 * Advances the checks to given time. Tasks which have exceeded 
+	 * the check threshold are no longer expected to complete, and 
+	 * are collected to be speculatively re-enqueued, if speculation 
+	 * is enabled, durations are observed, and no enqueued task awaits
+	 * a worker. Each task is speculated at most once.
 	 * 
-	 * @return multiplier
+	 * @param now current time
 	 */
-	private long getMultipler() {
+	private void collectStragglers(long now) {
 		
-		// 2 Times Delay for Durations Less Than 2 Seconds
-		if (averageTaskDuration < 2) {
-			return 2000;
-		}
-		// 1.5 Times Delay for Durations 2-4 Secs
-		else if (averageTaskDuration < 4) {
-			return 1500;
+		stragglerChecks.advance(now, elapsed);
+		
+		// Speculate only if workers are free
+		boolean speculate = speculationPercentile >= 0 
+							&& durations.getCount() > 0 
+							&& waiting.isEmpty();
+		
+		while (!elapsed.isEmpty()) {
+			
+			int taskId = elapsed.remove();
+			holding.remove(taskId);
+			
+			if (!speculate || !inFlight.contains(taskId) || speculated.containsKey(taskId)) {
+				continue;
+			}
+			
+			// Deadline, as scheduled on admission
+			long deadline = now - getCheckThreshold() + getTimeout();
+			
+			speculated.put(taskId, new long[] {now, deadline});
+			speculatedCount++;
+			stragglers.add(taskId);
 		}
-		// 1.25 Time Delay for Durations > 5 Seconds
-		else if (averageTaskDuration < 10) {
-			return 1250;
+	}
+	
+	/**
+	 * Returns the time after which a task in execution is no longer 
+	 * expected to complete, and is considered to be straggling, which 
+	 * is the speculation percentile (or the {@code TIMEOUT_PERCENTILE},
+	 * if speculation is disabled) of observed execution durations.
+	 * 
+	 * @return threshold, in milliseconds
+	 */
+	private long getCheckThreshold() {
+		
+		if (durations.getCount() == 0) {
+			return (long) (defaultTimeout / TIMEOUT_FACTOR);
 		}
-		else {
-			return 1100;
+		
+		double percentile = (speculationPercentile >= 0) ? speculationPercentile : TIMEOUT_PERCENTILE;
+		return Math.max(TICK_DURATION, durations.getPercentile(percentile));
+	}
+	
+	/**
+	 * Returns the time allowed for a task to complete, from the time it is
+	 * considered to be in execution, which is {@code TIMEOUT_FACTOR} times
+	 * the {@code TIMEOUT_PERCENTILE} of observed execution durations, or 
+	 * the default timeout, if no durations are observed.
+	 * 
+	 * @return timeout, in milliseconds
+	 */
+	private long getTimeout() {
+		
+		if (durations.getCount() == 0) {
+			return defaultTimeout;
 		}
 		
+		long percentile = durations.getPercentile(TIMEOUT_PERCENTILE);
+		return Math.max(MIN_TIMEOUT, (long) (percentile * TIMEOUT_FACTOR));
 	}
 
 	/**
-	 * Re-enqueues jobs which are marked as 
-	 * possibly failed.
+	 * Invoked to notify that a task is being enqueued. Should be
+	 * invoked before the task is sent, as its result may be received
+	 * before the send returns.
+	 * 
+	 * @param taskId TaskId of enqueued task
+	 * @return {@code true} if the task was not tracked before
 	 */
-	private synchronized void renqueueMarked() {
+	public synchronized boolean taskEnqueued(int taskId) {
 		
-		if (marked.size() == 0) return;
+		if (stopped) return false;
 		
-		Integer[] tasks = marked.toArray(new Integer[marked.size()]);
+		if (log.isTraceEnabled()) {
+			log.trace("[GridJobTaskTracker] Enqueued " + taskId);
+		}
 		
-		log.trace("Reenqueuing " + tasks.length + "tasks");
+		waiting.add(taskId);
+		return pending.add(taskId);
+	}
+	
+	/**
+	 * Invoked to notify that a range of new tasks is being enqueued, 
+	 * as a single message. Should be invoked before the message is sent.
+	 * 
+	 * @param firstTaskId TaskId of first task
+	 * @param count number of tasks
+	 */
+	public synchronized void tasksEnqueued(int firstTaskId, int count) {
 		
-		marked.clear();
+		packSize = Math.max(packSize, count);
 		
-		for (int task : tasks) {
-			executionManager.reEnqueueTask(profile.getJobId(), task);
-			log.trace("Re-enqueued " + task);
-			log.trace("Re-enqueued " + (++renqueued) + " tasks so far");
+		for (int i = 0; i < count; i++) {
+			taskEnqueued(firstTaskId + i);
 		}
-		
 	}
-
+	
 	/**
-	 * Moves the potentially failed tasks to
-	 * marked task queue.
+	 * Invoked to notify that a task notified by {@link #taskEnqueued(int)}
+	 * could not be sent. The task is no longer tracked, unless it was 
+	 * tracked before. Its waiting entry is skipped when reached.
+	 * 
+	 * @param taskId TaskId of task
+	 * @param added value returned by {@link #taskEnqueued(int)}
 	 */
-	private synchronized void potentialToMarked() {
-		
-		if (profile.getJob() instanceof SplitAggregateGridJob) {
-			
-			// For Split-Aggregate style, all tasks are enqueued in beginning.
-			// But we should only consider about the tasks which will be
-			// executed by workers.
-			int activeRange = workerCount;
-			activeRange = (potential.size() > activeRange) ? activeRange : potential.size();
-			
-			for (int i=0; i <activeRange; i++) {
-				marked.add(potential.remove());
-			}
-			
-			log.trace("Potential to Marked " + activeRange + "tasks");
-			
+	public synchronized void enqueueFailed(int taskId, boolean added) {
+		if (added) {
+			pending.remove(taskId);
 		}
-		else {
-			for (int i=0; i <potential.size(); i++) {
-				marked.add(potential.remove());
-			}
-			
-			log.trace("Potential to Marked " + potential.size() + "tasks");
+	}
+	
+	/**
+	 * Invoked to notify that a range of tasks notified by 
+	 * {@link #tasksEnqueued(int, int)} could not be sent. The tasks 
+	 * are no longer tracked.
+	 * 
+	 * @param firstTaskId TaskId of first task
+	 * @param count number of tasks
+	 */
+	public synchronized void enqueueFailed(int firstTaskId, int count) {
+		for (int i = 0; i < count; i++) {
+			pending.remove(firstTaskId + i);
 		}
-		
-		
-		
 	}
 	
 	/**
-	 * Moves the existing enqueued tasks queue to
-	 * marked queue.
+	 * Invoked to notify that a result was received
+	 * 
+	 * @param taskId taskId of result
+	 * @param executionTime duration taken to execute
 	 */
-	private synchronized void enqueuedToPotential() {
+	public void resultReceived(int taskId, long executionTime) {
 		
-		if (profile.getJob() instanceof SplitAggregateGridJob) {
+		boolean cancel = false;
+		
+		synchronized (this) {
+			
+			if (stopped) return;
 			
-			// For Split-Aggregate style, all tasks are enqueued in beginning.
-			// But we should only consider about the tasks which will be
-			// executed by workers.
-			int activeRange = workerCount;
-			activeRange = (enqueued.size()-1 > activeRange) ? activeRange : enqueued.size() -1;
+			durations.record(executionTime);
 			
-			for (int i=0; i <activeRange; i++) {
-				potential.add(enqueued.remove());
+			// Waiting entries are skipped when reached
+			if (pending.remove(taskId)) {
+				inFlight.remove(taskId);
+				holding.remove(taskId);
+				cancel = speculationCompleted(taskId, executionTime);
 			}
-			log.trace("Enqueued to Potential " + activeRange + "tasks");
 		}
-		else {
-			for (int i=0; i <enqueued.size(); i++) {
-				potential.add(enqueued.remove());
-				log.trace("Enqueued to Potential " + enqueued.size() + "tasks");
+		
+		// Cancel the other copy of a speculated task
+		if (cancel) {
+			
+			ServiceMessage message = new ServiceMessage(profile.getJobId() + "#" + taskId, 
+			                                            ServiceMessageType.TASK_CANCEL);
+			try {
+				ClusterManager.getInstance().getServiceMessageSender().sendServiceMessage(message);
+			} catch (Exception e) {
+				log.warn("[GridJobTaskTracker] Unable to cancel Task " + taskId, e);
 			}
 		}
 	}
 	
-
 	/**
-	 * Moves the existing enqueued tasks queue to
-	 * marked queue.
+	 * Updates speculation stats, if the given task was speculated. A result
+	 * which started execution after the speculation is considered to be of
+	 * the backup copy, in which case the time between the result and the 
+	 * deadline of the original copy is considered as saved.
+	 * 
+	 * @param taskId TaskId
+	 * @param executionTime execution time of result
+	 * @return {@code true} if task was speculated
 	 */
-	private synchronized void enqueuedToMarked() {
+	private boolean speculationCompleted(int taskId, long executionTime) {
 		
-		log.trace("Enqueued to Marked " + enqueued.size() + "tasks");
+		long[] speculation = speculated.remove(taskId);
 		
-		for (int i=0; i <enqueued.size(); i++) {
-			marked.add(enqueued.remove());
+		if (speculation == null) return false;
+		
+		long now = System.currentTimeMillis();
+		
+		if (now - executionTime >= speculation[0]) {
+			backupWins++;
+			tailLatencySaved += Math.max(0, speculation[1] - now);
 		}
+		
+		return true;
 	}
-
+	
 	/**
-	 * Invoked to notify that a new task was enqueued.
+	 * Returns the number of tasks which were speculatively re-enqueued.
 	 * 
-	 * @param taskId TaskId of enqueued task
+	 * @return number of speculated tasks
 	 */
-	public synchronized void taskEnqueued(int taskId) {
-		
-		if (stopped) return;
-		
-		log.trace("Enqueued " + taskId);
-		enqueued.add(taskId);
+	public synchronized int getSpeculatedCount() {
+		return speculatedCount;
 	}
 	
 	/**
-	 * Invoked to notify that a result was received
+	 * Returns the number of speculated tasks of which the backup
+	 * copy completed first.
 	 * 
-	 * @param taskId taskId of result
-	 * @param executionTime duration taken to execute
+	 * @return number of backup wins
 	 */
-	public void resultReceived(final Integer taskId, final long executionTime) {
-		
-		if (stopped) return;
-		
-		executors.execute(new Runnable() {
-
-			@Override
-			public void run() {
-				
-				
-				synchronized (GridJobTaskTracker.this) {
-				
-					// Remove from any list (enqueued, marked)
-					if (enqueued.contains(taskId)) {
-						
-						// This task is not the first item in queue
-						// Remove all tasks ahead in queue
-						// and put to potentially failed
-						// list
-//						while (! enqueued.peek().equals(taskId)) {
-//							potential.add(enqueued.remove());
-//						}
-						
-						// TODO Remove above block
-						
-						enqueued.remove(taskId);
-					}
-					if (potential.contains(taskId)) {
-						potential.remove(taskId);
-					}
-					if (marked.contains(taskId)) {
-						marked.remove(taskId);
-					}
-					
-					// Calculate Task Average Duration
-					double seconds = Math.floor(((double)(executionTime/1000)));
-					
-					if (seconds==0) seconds = 1;
-
-					if (averageTaskDuration <=0) {
-						averageTaskDuration = (int) seconds;
-					}
-					else {
-						averageTaskDuration = (int) Math.floor(((averageTaskDuration + seconds) / 2));
-					}
-				}
-			}
-		});
+	public synchronized int getBackupWins() {
+		return backupWins;
+	}
+	
+	/**
+	 * Returns the estimated tail latency saved by speculative execution,
+	 * against re-enqueueing straggling tasks on their deadlines.
+	 * 
+	 * @return tail latency saved, in milliseconds
+	 */
+	public synchronized long getTailLatencySaved() {
+		return tailLatencySaved;
 	}
 
 	/**
 	 * Stops the TaskTracker
 	 */
 	public synchronized void stop() {
+		
+		if (stopped) return;
 		this.stopped = true;
-		destory();
+		
+		if (trackingTask != null) {
+			
+			trackingTask.cancel();
+			
+			log.debug("[GridJobTaskTracker] Stopping for Job " + profile.getJobId());
+			
+			if (speculatedCount > 0) {
+				log.info("[GridJobTaskTracker] Speculative Execution for Job " + profile.getJobId() 
+				         + " : " + speculatedCount + " tasks, " + backupWins + " won by backup, ~" 
+				         + tailLatencySaved + " ms tail latency saved");
+			}
+		}
+		
+		destroy();
 	}
 	
 	/**
 	 * Destroys the tracker instance.
 	 */
-	private void destory() {
-		this.enqueued = null;
-		this.marked = null;
+	private void destroy() {
+		this.pending = new IntHashSet();
+		this.inFlight = new IntHashSet();
+		this.holding = new IntHashSet();
+		this.waiting = new IntQueue();
+		this.speculated = new HashMap<Integer, long[]>();
 	}
 }
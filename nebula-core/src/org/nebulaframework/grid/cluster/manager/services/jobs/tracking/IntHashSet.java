@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs.tracking;
+
+/**
+ * A set of primitive {@code int} values, implemented as an open addressing
+ * hash table with linear probing. Unlike a {@code Set<Integer>}, values are
+ * not boxed, and {@code add}, {@code remove} and {@code contains} run in
+ * constant time, regardless of the number of values in the set.
+ * <p>
+ * This class is not thread-safe, and it is used by 
+ * {@link GridJobTaskTracker} to keep track of TaskIds.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ */
+class IntHashSet {
+
+	private static final int INITIAL_CAPACITY = 64;
+	
+	private int[] values;
+	private boolean[] used;
+	private int size = 0;
+	
+	/**
+	 * Constructs an empty {@code IntHashSet}.
+	 */
+	public IntHashSet() {
+		this.values = new int[INITIAL_CAPACITY];
+		this.used = new boolean[INITIAL_CAPACITY];
+	}
+	
+	/**
+	 * Adds the given value to the set.
+	 * 
+	 * @param value value
+	 * @return {@code true} if the value was not in the set
+	 */
+	public boolean add(int value) {
+		
+		int i = indexOf(value);
+		if (used[i]) return false;
+		
+		values[i] = value;
+		used[i] = true;
+		size++;
+		
+		// Keep load factor below 0.5
+		if (size * 2 > values.length) {
+			resize(values.length * 2);
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Returns {@code true} if the given value is in the set.
+	 * 
+	 * @param value value
+	 * @return if exists {@code true}, {@code false} otherwise
+	 */
+	public boolean contains(int value) {
+		return used[indexOf(value)];
+	}
+	
+	/**
+	 * Removes the given value from the set.
+	 * 
+	 * @param value value
+	 * @return {@code true} if the value was in the set
+	 */
+	public boolean remove(int value) {
+		
+		int i = indexOf(value);
+		if (!used[i]) return false;
+		
+		used[i] = false;
+		size--;
+		
+		// Shift back following entries of the probe sequence, 
+		// so that lookups do not stop at the removed slot
+		int mask = values.length - 1;
+		int j = i;
+		
+		while (true) {
+			
+			j = (j + 1) & mask;
+			if (!used[j]) break;
+			
+			int home = hash(values[j]) & mask;
+			
+			// Move entry at j to i, if i lies between its home and j
+			if ((j > i && (home <= i || home > j)) || (j < i && (home <= i && home > j))) {
+				values[i] = values[j];
+				used[i] = true;
+				used[j] = false;
+				i = j;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Returns the number of values in the set.
+	 * 
+	 * @return number of values
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * Returns the values in the set, in no particular order.
+	 * 
+	 * @return values
+	 */
+	public int[] toArray() {
+		
+		int[] array = new int[size];
+		int n = 0;
+		
+		for (int i = 0; i < values.length; i++) {
+			if (used[i]) array[n++] = values[i];
+		}
+		
+		return array;
+	}
+	
+	/**
+	 * Returns the slot of the given value, or the empty slot
+	 * at which the value would be inserted.
+	 * 
+	 * @param value value
+	 * @return slot index
+	 */
+	private int indexOf(int value) {
+		
+		int mask = values.length - 1;
+		int i = hash(value) & mask;
+		
+		while (used[i] && values[i] != value) {
+			i = (i + 1) & mask;
+		}
+		
+		return i;
+	}
+	
+	/**
+	 * Re-hashes the set to the given capacity.
+	 * 
+	 * @param capacity new capacity (power of two)
+	 */
+	private void resize(int capacity) {
+		
+		int[] oldValues = values;
+		boolean[] oldUsed = used;
+		
+		values = new int[capacity];
+		used = new boolean[capacity];
+		
+		for (int i = 0; i < oldValues.length; i++) {
+			if (oldUsed[i]) {
+				int j = indexOf(oldValues[i]);
+				values[j] = oldValues[i];
+				used[j] = true;
+			}
+		}
+	}
+	
+	/**
+	 * Spreads the bits of the given value, as TaskIds are sequential.
+	 * 
+	 * @param value value
+	 * @return hash
+	 */
+	private static int hash(int value) {
+		int h = value * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs.tracking;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A first-in-first-out queue of primitive {@code int} values, backed by
+ * a growable circular array. 
+ * <p>
+ * This class is not thread-safe, and it is used by 
+ * {@link GridJobTaskTracker} to keep TaskIds in the order
+ * of enqueueing.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ */
+class IntQueue {
+
+	private static final int INITIAL_CAPACITY = 64;
+	
+	private int[] values = new int[INITIAL_CAPACITY];
+	private int head = 0;
+	private int size = 0;
+	
+	/**
+	 * Adds the given value to the tail of the queue.
+	 * 
+	 * @param value value
+	 */
+	public void add(int value) {
+		
+		if (size == values.length) {
+			
+			// Double the capacity, unwrapping the values
+			int[] newValues = new int[values.length * 2];
+			for (int i = 0; i < size; i++) {
+				newValues[i] = values[(head + i) & (values.length - 1)];
+			}
+			
+			values = newValues;
+			head = 0;
+		}
+		
+		values[(head + size) & (values.length - 1)] = value;
+		size++;
+	}
+	
+	/**
+	 * Removes and returns the value at the head of the queue.
+	 * 
+	 * @return value
+	 * @throws NoSuchElementException if the queue is empty
+	 */
+	public int remove() throws NoSuchElementException {
+		
+		if (size == 0) {
+			throw new NoSuchElementException("Queue is empty");
+		}
+		
+		int value = values[head];
+		head = (head + 1) & (values.length - 1);
+		size--;
+		
+		return value;
+	}
+	
+	/**
+	 * Returns the number of values in the queue.
+	 * 
+	 * @return number of values
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * Returns {@code true} if the queue is empty.
+	 * 
+	 * @return if empty {@code true}, {@code false} otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+}
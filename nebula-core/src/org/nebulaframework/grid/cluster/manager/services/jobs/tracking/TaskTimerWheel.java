@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs.tracking;
+
+/**
+ * A hashed timer wheel of {@code GridTask} deadlines. 
+ * <p>
+ * Time is divided into ticks of {@code tickDuration} milliseconds, and 
+ * each deadline is kept in the slot of its tick, modulo the number of slots.
+ * Scheduling a deadline takes constant time, and advancing the wheel
+ * visits only the slots of elapsed ticks. Deadlines which are more than 
+ * one revolution away remain in their slot until their tick is reached.
+ * <p>
+ * Deadlines are not cancelled. Instead, the owner is expected to ignore
+ * expired TaskIds which are no longer outstanding.
+ * <p>
+ * This class is not thread-safe.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ */
+class TaskTimerWheel {
+
+	private final long tickDuration;
+	private final long startTime;
+	private final Slot[] slots;
+	
+	// Last tick which was processed
+	private long currentTick = 0;
+	
+	/**
+	 * Constructs a {@code TaskTimerWheel}.
+	 * 
+	 * @param tickDuration duration of a tick, in milliseconds
+	 * @param wheelSize number of slots (power of two)
+	 */
+	public TaskTimerWheel(long tickDuration, int wheelSize) {
+		super();
+		
+		if (Integer.bitCount(wheelSize) != 1) {
+			throw new IllegalArgumentException("Wheel Size should be a power of two");
+		}
+		
+		this.tickDuration = tickDuration;
+		this.startTime = System.currentTimeMillis();
+		this.slots = new Slot[wheelSize];
+		
+		for (int i = 0; i < wheelSize; i++) {
+			slots[i] = new Slot();
+		}
+	}
+	
+	/**
+	 * Schedules a deadline for the given TaskId.
+	 * 
+	 * @param taskId TaskId
+	 * @param deadline deadline, as a {@code System.currentTimeMillis()} value
+	 */
+	public void schedule(int taskId, long deadline) {
+		
+		long tick = (deadline - startTime + tickDuration - 1) / tickDuration;
+		
+		// Deadlines in the past expire on next tick
+		if (tick <= currentTick) {
+			tick = currentTick + 1;
+		}
+		
+		slots[(int) (tick & (slots.length - 1))].add(taskId, tick);
+	}
+	
+	/**
+	 * Advances the wheel up to the given time, and adds the TaskIds 
+	 * of expired deadlines to the given queue.
+	 * 
+	 * @param now current time, as a {@code System.currentTimeMillis()} value
+	 * @param expired queue to which expired TaskIds are added
+	 */
+	public void advance(long now, IntQueue expired) {
+		
+		long nowTick = (now - startTime) / tickDuration;
+		
+		// Each slot needs to be visited at most once
+		long from = Math.max(currentTick + 1, nowTick - slots.length + 1);
+		
+		for (long tick = from; tick <= nowTick; tick++) {
+			slots[(int) (tick & (slots.length - 1))].expire(nowTick, expired);
+		}
+		
+		if (nowTick > currentTick) {
+			currentTick = nowTick;
+		}
+	}
+	
+	/**
+	 * A slot of the wheel, holding TaskIds and ticks of deadlines.
+	 */
+	private static class Slot {
+		
+		private int[] taskIds = new int[4];
+		private long[] ticks = new long[4];
+		private int size = 0;
+		
+		/**
+		 * Adds a deadline to the slot.
+		 * 
+		 * @param taskId TaskId
+		 * @param tick tick of deadline
+		 */
+		void add(int taskId, long tick) {
+			
+			if (size == taskIds.length) {
+				int[] newIds = new int[size * 2];
+				long[] newTicks = new long[size * 2];
+				System.arraycopy(taskIds, 0, newIds, 0, size);
+				System.arraycopy(ticks, 0, newTicks, 0, size);
+				taskIds = newIds;
+				ticks = newTicks;
+			}
+			
+			taskIds[size] = taskId;
+			ticks[size] = tick;
+			size++;
+		}
+		
+		/**
+		 * Removes deadlines of ticks up to the given tick, 
+		 * adding their TaskIds to the given queue.
+		 * 
+		 * @param nowTick current tick
+		 * @param expired queue to which expired TaskIds are added
+		 */
+		void expire(long nowTick, IntQueue expired) {
+			
+			int kept = 0;
+			
+			for (int i = 0; i < size; i++) {
+				if (ticks[i] <= nowTick) {
+					expired.add(taskIds[i]);
+				}
+				else {
+					taskIds[kept] = taskIds[i];
+					ticks[kept] = ticks[i];
+					kept++;
+				}
+			}
+			
+			size = kept;
+		}
+	}
+}
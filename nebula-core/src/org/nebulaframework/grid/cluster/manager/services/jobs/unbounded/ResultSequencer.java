@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs.unbounded;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.nebulaframework.core.job.ResultCallback;
+import org.springframework.util.Assert;
+
+/**
+ * Delivers the processed results of an {@code UnboundedGridJob} to a
+ * {@code ResultCallback}, in the order in which the results were received,
+ * while the results are processed concurrently.
+ * <p>
+ * A sequence number is issued for each result as it is received, and 
+ * each sequence number has to be either completed, with the processed
+ * result, or skipped (if the result was rejected). Processed results 
+ * are held until all results received before them are completed or 
+ * skipped.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see UnboundedJobProcessor
+ */
+public class ResultSequencer {
+
+	// Place-holder for skipped sequence numbers
+	private static final Object SKIPPED = new Object();
+	
+	private ResultCallback target;
+	
+	private long issued = 0;		// Next sequence number to issue
+	private long next = 0;			// Next sequence number to deliver
+	
+	// Processed results held for delivery, against sequence number
+	private Map<Long, Object> pending = new HashMap<Long, Object>();
+	
+	/**
+	 * Constructs a {@code ResultSequencer} which delivers results to
+	 * the given {@code ResultCallback}.
+	 * 
+	 * @param target {@code ResultCallback} to deliver results
+	 */
+	public ResultSequencer(ResultCallback target) {
+		super();
+		Assert.notNull(target);
+		this.target = target;
+	}
+
+	/**
+	 * Issues the sequence number for a received result.
+	 * 
+	 * @return sequence number
+	 */
+	public synchronized long issue() {
+		return issued++;
+	}
+	
+	/**
+	 * Completes the given sequence number with the processed result,
+	 * and delivers the results which are in order.
+	 * 
+	 * @param sequence sequence number
+	 * @param result processed result
+	 */
+	public synchronized void complete(long sequence, Serializable result) {
+		pending.put(sequence, result);
+		deliver();
+	}
+	
+	/**
+	 * Skips the given sequence number, as the result was rejected, 
+	 * and delivers the results which are in order.
+	 * 
+	 * @param sequence sequence number
+	 */
+	public synchronized void skip(long sequence) {
+		pending.put(sequence, SKIPPED);
+		deliver();
+	}
+	
+	/**
+	 * Returns the number of processed results held 
+	 * for an earlier result.
+	 * 
+	 * @return held results
+	 */
+	public synchronized int getPendingCount() {
+		return pending.size();
+	}
+	
+	/**
+	 * Delivers the results from the next sequence number 
+	 * onwards, until a sequence number which is not done.
+	 */
+	private void deliver() {
+		while (pending.containsKey(next)) {
+			Object result = pending.remove(next++);
+			if (result != SKIPPED) {
+				target.onResult((Serializable) result);
+			}
+		}
+	}
+}
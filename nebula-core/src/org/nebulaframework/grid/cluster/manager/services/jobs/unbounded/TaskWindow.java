@@ -0,0 +1,201 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs.unbounded;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.nebulaframework.grid.cluster.manager.services.jobs.GridJobProfile;
+import org.springframework.util.Assert;
+
+/**
+ * Credit based flow control for the task generation of an 
+ * {@code UnboundedGridJob}. The {@code UnboundedJobProcessor} has to 
+ * acquire a credit before generating each {@code GridTask}, and a credit 
+ * is returned as soon as a result is received for a {@code GridTask}. 
+ * Task generation therefore blocks while the window of outstanding 
+ * {@code GridTask}s is full, instead of flooding the TaskQueue.
+ * <p>
+ * The size of the window adapts to the rate at which results are 
+ * received from the workers, so that the outstanding {@code GridTask}s 
+ * are consumed within the target latency (window = result rate x target
+ * latency). While the window limits task generation, and results arrive 
+ * faster than the target latency, the window grows, and it shrinks as the
+ * TaskQueue builds up. The window is kept between two tasks per worker,
+ * to avoid idling the workers, and the target backlog.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see UnboundedJobProcessor
+ */
+public class TaskWindow {
+
+	private static Log log = LogFactory.getLog(TaskWindow.class);
+	
+	/**
+	 * Minimum size of the window (2).
+	 */
+	public static final int MIN_WINDOW = 2;
+	
+	// Period over which the rate of results is measured (ms)
+	private static final long RATE_PERIOD = 1000;
+	
+	// Weight of the latest observation of rate
+	private static final double SMOOTHING = 0.5;
+	
+	private GridJobProfile profile;
+	private long targetLatency;
+	private int targetBacklog;
+	
+	private int window;				// Current window size
+	private int outstanding = 0;	// Credits in use
+	private boolean closed = false;
+	
+	private double rate = 0;		// Results per millisecond (smoothed)
+	private long periodStart = System.currentTimeMillis();
+	private int periodResults = 0;
+	
+	/**
+	 * Constructs a {@code TaskWindow} for the {@code UnboundedGridJob}
+	 * represented by the given {@code GridJobProfile}. The window initially
+	 * allows the target backlog, until the result rate is measured.
+	 * 
+	 * @param profile {@code GridJobProfile} of job
+	 * @param targetLatency target latency of {@code GridTask}s (ms)
+	 * @param targetBacklog maximum outstanding {@code GridTask}s
+	 * 
+	 * @throws IllegalArgumentException if latency or backlog is not positive
+	 */
+	public TaskWindow(GridJobProfile profile, long targetLatency, int targetBacklog) 
+			throws IllegalArgumentException {
+		
+		super();
+		
+		Assert.notNull(profile);
+		Assert.isTrue(targetLatency > 0, "Target latency must be positive");
+		Assert.isTrue(targetBacklog > 0, "Target backlog must be positive");
+		
+		this.profile = profile;
+		this.targetLatency = targetLatency;
+		this.targetBacklog = targetBacklog;
+		this.window = targetBacklog;
+	}
+
+	/**
+	 * Acquires a credit for a new {@code GridTask}, blocking until
+	 * the window has room, or it is closed.
+	 * 
+	 * @return {@code true} if acquired, {@code false} if closed
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public synchronized boolean acquire() throws InterruptedException {
+		
+		while (!closed && outstanding >= window) {
+			wait();
+		}
+		
+		if (closed) return false;
+		
+		outstanding++;
+		return true;
+	}
+	
+	/**
+	 * Returns the credit of a {@code GridTask} for which a result 
+	 * was received, and adjusts the window to the rate of results.
+	 */
+	public synchronized void resultReceived() {
+		periodResults++;
+		adjust();
+		release();
+	}
+	
+	/**
+	 * Returns a credit, without a result (for example, if
+	 * the {@code GridTask} could not be generated).
+	 */
+	public synchronized void release() {
+		if (outstanding > 0) {
+			outstanding--;
+		}
+		notifyAll();
+	}
+	
+	/**
+	 * Closes this window, releasing the task generation
+	 * if it is waiting for a credit.
+	 */
+	public synchronized void close() {
+		closed = true;
+		notifyAll();
+	}
+	
+	/**
+	 * Updates the measured rate of results once per period, and sets the
+	 * window to the number of {@code GridTask}s consumed within the target 
+	 * latency at that rate.
+	 */
+	private void adjust() {
+		
+		long now = System.currentTimeMillis();
+		long elapsed = now - periodStart;
+		
+		if (elapsed < RATE_PERIOD) return;
+		
+		double observed = (double) periodResults / elapsed;
+		rate = (rate == 0) ? observed : SMOOTHING * observed + (1 - SMOOTHING) * rate;
+		
+		periodStart = now;
+		periodResults = 0;
+		
+		int size = (int) Math.ceil(rate * targetLatency);
+		size = Math.max(size, Math.max(MIN_WINDOW, profile.getWorkerCount() * 2));
+		size = Math.min(size, targetBacklog);
+		
+		if (size != window) {
+			log.debug("[TaskWindow] Window " + window + " -> " + size + " (" 
+			          + profile.getJobId() + ")");
+			window = size;
+		}
+	}
+	
+	/**
+	 * Returns the current size of the window.
+	 * 
+	 * @return window size
+	 */
+	public synchronized int getWindow() {
+		return window;
+	}
+	
+	/**
+	 * Returns the number of credits in use, that is, the number
+	 * of outstanding {@code GridTask}s.
+	 * 
+	 * @return credits in use
+	 */
+	public synchronized int getOutstanding() {
+		return outstanding;
+	}
+	
+	/**
+	 * Returns the measured rate of results, per second.
+	 * 
+	 * @return results per second
+	 */
+	public synchronized double getRate() {
+		return rate * 1000;
+	}
+}
@@ -14,6 +14,14 @@
 package org.nebulaframework.grid.cluster.manager.services.jobs.unbounded;
 
 import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.jms.ConnectionFactory;
 import javax.jms.JMSException;
@@ -23,19 +31,24 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.nebulaframework.core.job.GridJobState;
 import org.nebulaframework.core.job.ResultCallback;
+import org.nebulaframework.core.job.annotations.unbounded.ResultWindow;
 import org.nebulaframework.core.job.annotations.unbounded.UnboundedProcessingSettings;
 import org.nebulaframework.core.job.exceptions.InvalidResultException;
 import org.nebulaframework.core.job.exceptions.SecurityViolationException;
 import org.nebulaframework.core.job.unbounded.UnboundedGridJob;
+import org.nebulaframework.core.job.unbounded.ResultWindowAware;
 import org.nebulaframework.core.job.unbounded.UnboundedSettingsAware;
+import org.nebulaframework.core.job.unbounded.WindowedAggregate;
 import org.nebulaframework.core.task.GridTask;
 import org.nebulaframework.core.task.GridTaskResult;
+import org.nebulaframework.grid.GridTaskPreemptedException;
 import org.nebulaframework.grid.cluster.manager.ClusterManager;
 import org.nebulaframework.grid.cluster.manager.services.jobs.GridJobProfile;
 import org.nebulaframework.grid.cluster.manager.services.jobs.InternalClusterJobService;
 import org.nebulaframework.grid.cluster.manager.services.jobs.ResultCollectionSupport;
 import org.nebulaframework.grid.cluster.manager.support.CleanUpSupport;
 import org.nebulaframework.util.jms.JMSNamingSupport;
+import org.springframework.jms.JmsException;
 import org.springframework.jms.core.JmsTemplate;
 import org.springframework.jms.core.MessagePostProcessor;
 import org.springframework.jms.listener.DefaultMessageListenerContainer;
@@ -51,6 +64,15 @@ import org.springframework.util.Assert;
  * and also to retrieve results for enqueued tasks. Furthermore, it invokes 
  * the {@link ResultCallback}s for intermediate results, if such a callback 
  * is available.
+ * <p>
+ * If the {@code UnboundedGridJob} is declared thread-safe through its 
+ * processing settings, tasks are generated, and results are processed,
+ * by multiple threads, and the results may optionally be delivered to the 
+ * {@code ResultCallback} in the order in which they were received.
+ * <p>
+ * If the {@code UnboundedGridJob} is a {@link WindowedAggregate}, processed
+ * results are aggregated over windows by a {@link WindowAggregator}, and only
+ * the window aggregates are delivered to the {@code ResultCallback}.
  * 
  * @author Yohan Liyanage
  * @version 1.0
@@ -60,6 +82,9 @@ import org.springframework.util.Assert;
 public class UnboundedJobProcessor extends ResultCollectionSupport {
 
 	private static Log log = LogFactory.getLog(UnboundedJobProcessor.class);
+	
+	/** Queued results per result processor thread, before the listener processes results itself */
+	private static final int RESULTS_PER_THREAD = 4;
 
 	private UnboundedGridJob<?> job;	// GridJob
 
@@ -69,20 +94,31 @@ public class UnboundedJobProcessor extends ResultCollectionSupport {
 	private ConnectionFactory connectionFactory;
 	private InternalClusterJobService jobService;
 	private DefaultMessageListenerContainer container;
+	private TaskWindow window;
+	
+	private volatile boolean generating = true;
+	private AtomicInteger taskIds = new AtomicInteger();
+	
+	private ExecutorService resultExecutor;	// null if results are processed by listener
+	private ResultSequencer sequencer;		// null unless ordered delivery
+	private WindowAggregator windows;		// null unless WindowedAggregate
+	
+	// TaskIds of results being processed
+	private Set<Integer> processing = new HashSet<Integer>();
 	
 	
 	/* -- Default Processing Settings -- */
 	
-	/** Maximum number of tasks in TaskQueue at a given time, without slowing
-	 *  task generation
+	/** 
+	 * Target time (in milliseconds) between enqueue of a task and
+	 * receipt of its result, which determines the task window
 	 */
-	private int maxTaskConstant = 100;
+	private long targetLatency = 2000;
 	
 	/**
-	 * Factor (time) by which the task generation is slowed per task which is over 
-	 * maxTaskConstant (in milliseconds)
+	 * Maximum number of outstanding tasks at a given time
 	 */
-	private int reductionFactorConstant = 50;	
+	private int targetBacklog = 100;	
 	
 	/**
 	 * Indicates whether to stop task generation if a null task is returned
@@ -97,6 +133,27 @@ public class UnboundedJobProcessor extends ResultCollectionSupport {
 	 */
 	private boolean mutuallyExclusiveTasks = false;
 	
+	/**
+	 * Indicates whether task() and processResult() of the current 
+	 * UnboundedGridJob can be invoked concurrently
+	 */
+	private boolean threadSafe = false;
+	
+	/**
+	 * Number of task generator threads, if thread-safe
+	 */
+	private int generatorThreads = 1;
+	
+	/**
+	 * Number of result processor threads, if thread-safe
+	 */
+	private int processorThreads = 1;
+	
+	/**
+	 * Indicates whether results processed by multiple threads
+	 * are delivered to ResultCallback in received order
+	 */
+	private boolean orderedCallback = false;
 	
 	/**
 	 * Constructs a {@code UnboundedJobProcessor} which
@@ -124,6 +181,12 @@ public class UnboundedJobProcessor extends ResultCollectionSupport {
 		// Use Reflection to extract any processing instructions
 		extractProcessingSettings(job);
 		
+		this.window = new TaskWindow(profile, targetLatency, targetBacklog);
+		
+		if (job instanceof WindowedAggregate<?, ?, ?>) {
+			this.windows = createWindowAggregator(job);
+		}
+		
 		this.connectionFactory = ClusterManager.getInstance().getConnectionFactory();
 		this.jobService = ClusterManager.getInstance().getJobService();
 	}
@@ -140,10 +203,14 @@ public class UnboundedJobProcessor extends ResultCollectionSupport {
 			
 			UnboundedSettingsAware settings = (UnboundedSettingsAware) job;
 			
-			this.maxTaskConstant = settings.maxTasksInQueue();
-			this.reductionFactorConstant = settings.reductionFactor();
+			this.targetLatency = settings.targetLatency();
+			this.targetBacklog = settings.targetBacklog();
 			this.stopOnNullTask = settings.stopOnNullTask();
 			this.mutuallyExclusiveTasks = settings.mutuallyExclusiveTasks();
+			this.threadSafe = settings.threadSafe();
+			this.generatorThreads = settings.generatorThreads();
+			this.processorThreads = settings.processorThreads();
+			this.orderedCallback = settings.orderedCallback();
 			
 			return;
 		}
@@ -157,15 +224,46 @@ public class UnboundedJobProcessor extends ResultCollectionSupport {
 		if (settings==null) return;
 		
 		// If available, retrieve settings
-		this.maxTaskConstant = settings.maxTasksInQueue();
-		this.reductionFactorConstant = settings.reductionFactor();
+		this.targetLatency = settings.targetLatency();
+		this.targetBacklog = settings.targetBacklog();
 		this.stopOnNullTask = settings.stopOnNullTask();
 		this.mutuallyExclusiveTasks = settings.mutuallyExclusiveTasks();
+		this.threadSafe = settings.threadSafe();
+		this.generatorThreads = settings.generatorThreads();
+		this.processorThreads = settings.processorThreads();
+		this.orderedCallback = settings.orderedCallback();
 		
 		log.debug("[UnboundedJobProcessor] Using Custom Processing Settings from Annotation");
 		
 	}
 
+	/**
+	 * Creates the {@code WindowAggregator} for a {@code WindowedAggregate}
+	 * {@code UnboundedGridJob}, using the window settings from the 
+	 * {@link ResultWindowAware} interface or the {@link ResultWindow} 
+	 * annotation, if available.
+	 * 
+	 * @param job {@code UnboundedGridJob} job
+	 * @return {@code WindowAggregator}
+	 */
+	private WindowAggregator createWindowAggregator(UnboundedGridJob<?> job) {
+		
+		if (job instanceof ResultWindowAware) {
+			ResultWindowAware settings = (ResultWindowAware) job;
+			return new WindowAggregator(profile, settings.timeWindow(), 
+			                            settings.windowSize(), settings.windowSlide());
+		}
+		
+		ResultWindow settings = job.getClass().getAnnotation(ResultWindow.class);
+		
+		// Default, tumbling window of 100 results
+		if (settings == null) {
+			return new WindowAggregator(profile, false, 100, 0);
+		}
+		
+		return new WindowAggregator(profile, settings.time(), settings.size(), settings.slide());
+	}
+
 	/**
 	 * Starts this {@code UnboundedJobProcessor} instance by 
 	 * initializing JMS resources and starting task generation.
@@ -180,9 +278,58 @@ public class UnboundedJobProcessor extends ResultCollectionSupport {
 	 * resources.
 	 */
 	private void initialize() {
+		
+		if (windows != null) {
+			windows.start();
+		}
+		
+		initializeResultProcessors();
 		initializeResultListener();
 		initializeTaskWritier();
 	}
+	
+	/**
+	 * Creates the pool of result processor threads, if the
+	 * {@code UnboundedGridJob} is thread-safe, and more than one
+	 * thread is requested. The pool queues a few results per thread,
+	 * after which the listener thread processes results itself, which
+	 * stops consuming the ResultQueue until the pool catches up.
+	 */
+	private void initializeResultProcessors() {
+		
+		if (!threadSafe) {
+			if (generatorThreads > 1 || processorThreads > 1) {
+				log.warn("[UnboundedJobProcessor] GridJob not thread-safe, ignoring thread settings");
+			}
+			return;
+		}
+		
+		if (processorThreads <= 1) return;
+		
+		resultExecutor = new ThreadPoolExecutor(processorThreads, processorThreads, 
+		                                        0L, TimeUnit.MILLISECONDS,
+		                                        new ArrayBlockingQueue<Runnable>(processorThreads * RESULTS_PER_THREAD),
+		                                        new ThreadFactory() {
+			
+			private int count = 0;
+			
+			public synchronized Thread newThread(Runnable r) {
+				Thread t = new Thread(r, "UnboundedJobProcessor[Result]-" + (++count));
+				t.setDaemon(true);
+				return t;
+			}
+		}, new ThreadPoolExecutor.CallerRunsPolicy());
+		
+		if (orderedCallback) {
+			sequencer = new ResultSequencer(new ResultCallback() {
+				public void onResult(Serializable result) {
+					deliver(result);
+				}
+			});
+		}
+		
+		log.debug("[UnboundedJobProcessor] Processing Results on " + processorThreads + " threads");
+	}
 
 	/**
 	 * Register's {@link #onResult(GridTaskResult)} method as the listener
@@ -215,103 +362,140 @@ public class UnboundedJobProcessor extends ResultCollectionSupport {
 	
 	/**
 	 * Starts generation of {@code GridTask}s by repetitively
-	 * invoking the {@link UnboundedGridJob#task()} method.
+	 * invoking the {@link UnboundedGridJob#task()} method. Each
+	 * {@code GridTask} requires a credit from the {@link TaskWindow},
+	 * so that generation blocks while the window is full.
+	 * <p>
+	 * For thread-safe {@code UnboundedGridJob}s, tasks are generated 
+	 * by {@code generatorThreads} threads concurrently. The job is 
+	 * stopped once all generator threads have finished.
 	 */
 	private void generateTasks() {
 		log.info("[UnboundedJobProcessor] Started Generating Tasks");
 		
-		// Start on a new thread
-		new Thread(new Runnable() {
-
-			public void run() {
-
-				// Start Tracker
-				profile.getTaskTracker().start();
-				
-				// Update State
-				profile.getFuture().setState(GridJobState.EXECUTING);
-				
-				int taskId = 0;
-				while (true) {
-
-					// If Job is Canceled, Stop
-					if (isCanceled()) {
-						log.debug("[UnboundedJobProcessor] Task was cancelled. Stopping Task Generation");
-						break;
-					}
-					GridTask<?> task = null;
+		// Start Tracker
+		profile.getTaskTracker().start();
+		
+		// Update State
+		profile.getFuture().setState(GridJobState.EXECUTING);
+		
+		final int threads = threadSafe ? generatorThreads : 1;
+		final AtomicInteger active = new AtomicInteger(threads);
+		
+		for (int i = 1; i <= threads; i++) {
+			
+			// Start on a new thread
+			new Thread(new Runnable() {
+	
+				public void run() {
 					
-					try {
-						// Get next task to be enqueued
-						task = job.task();
-					} catch (SecurityException e) {
-						log.error("[UnboundedJobProcessor] Security Violation while invoking task()",e);
-						log.warn("[UnboundedJobProcessor] Stopping Task Generation");
-						
-						// Update Future
-						profile.getFuture().setState(GridJobState.FAILED);
-						profile.getFuture().setException(e);
-						
-						// Stop Job Execution
-						stopJob();
-						
-						break;
-					} catch (Exception e) {
-						log.warn("[UnboundedJobProcessor] Exception while invoking task()",e);
-						log.warn("[UnboundedJobProcessor] Stopping Task Generation");
-						
-						// Update Future
-						profile.getFuture().setState(GridJobState.FAILED);
-						profile.getFuture().setException(e);
-						
-						// Stop Job Execution
+					generate();
+					
+					// Last generator, Stop Job (Exception / Task Null)
+					if (active.decrementAndGet() == 0) {
+						waitIfNeeded();
 						stopJob();
-						
-						break;
 					}
+				}
+	
+			}, "UnboundedJobProcessor[Generator]-" + i).start();
+		}
+	}
+	
+	/**
+	 * Generates and enqueues {@code GridTask}s until the job is canceled,
+	 * the task generation is stopped by a {@code null} task, or task 
+	 * generation fails.
+	 */
+	private void generate() {
+		
+		while (generating) {
 
-					// If Task was null
-					if (task == null) {
-						if (stopOnNullTask) {
-							log.info("[UnboundedJobProcessor] Task was Null. Stopping Task Generation");
-							break;
-						}
-						else {
-							log.warn("[UnboundedJobProcessor] Task was Null. Ignoring");
-							continue;
-						}
-					}
-					
-					// Enqueue Task
-					enqueueTask(profile.getJobId(), ++taskId, task);
-					
-					if (!mutuallyExclusiveTasks) {
-						// If tasks are not mutually exclusive keep track of real task
-						profile.addTask(taskId, task);
-					}
-					else {
-						// If tasks are mutually exclusive, save memory by storing a null
-						profile.addTask(taskId, null);
-					}
-					
-					// Slow down for some duration if more than 'maxTaskConstant' tasks are 
-					// there to ensure TaskQueue won't overload
-					try {
-						if (profile.getTaskCount() > maxTaskConstant) {
-							Thread.sleep(profile.getTaskCount() * reductionFactorConstant);
-						}
-					} catch (InterruptedException e) {
-						log.error(e);
-					}
+			// If Job is Canceled, Stop
+			if (isCanceled()) {
+				log.debug("[UnboundedJobProcessor] Task was cancelled. Stopping Task Generation");
+				break;
+			}
+			
+			// Wait for a credit in Task Window
+			try {
+				if (!window.acquire()) {
+					log.debug("[UnboundedJobProcessor] Task Window closed. Stopping Task Generation");
+					break;
 				}
+			} catch (InterruptedException e) {
+				log.warn("[UnboundedJobProcessor] Interrupted while waiting for Task Window",e);
+				break;
+			}
+			
+			GridTask<?> task = null;
+			
+			try {
+				// Get next task to be enqueued
+				task = job.task();
+			} catch (SecurityException e) {
+				log.error("[UnboundedJobProcessor] Security Violation while invoking task()",e);
+				log.warn("[UnboundedJobProcessor] Stopping Task Generation");
 				
-				waitIfNeeded();
-
-				// Stop Job (Exception / Task Null)
-				stopJob();
+				// Update Future
+				profile.getFuture().setState(GridJobState.FAILED);
+				profile.getFuture().setException(e);
+				
+				stopGeneration();
+				break;
+			} catch (Exception e) {
+				log.warn("[UnboundedJobProcessor] Exception while invoking task()",e);
+				log.warn("[UnboundedJobProcessor] Stopping Task Generation");
+				
+				// Update Future
+				profile.getFuture().setState(GridJobState.FAILED);
+				profile.getFuture().setException(e);
+				
+				stopGeneration();
+				break;
 			}
 
-		}).start();
+			// If Task was null
+			if (task == null) {
+				
+				// Return unused credit
+				window.release();
+				
+				if (stopOnNullTask) {
+					log.info("[UnboundedJobProcessor] Task was Null. Stopping Task Generation");
+					stopGeneration();
+					break;
+				}
+				else {
+					log.warn("[UnboundedJobProcessor] Task was Null. Ignoring");
+					continue;
+				}
+			}
+			
+			int taskId = taskIds.incrementAndGet();
+			
+			// Track Task before Enqueue, as result may arrive immediately
+			if (!mutuallyExclusiveTasks) {
+				// If tasks are not mutually exclusive keep track of real task
+				profile.addTask(taskId, task);
+			}
+			else {
+				// If tasks are mutually exclusive, save memory by storing a null
+				profile.addTask(taskId, null);
+			}
+			
+			// Enqueue Task
+			enqueueTask(profile.getJobId(), taskId, task);
+		}
+	}
+	
+	/**
+	 * Stops task generation on all generator threads, releasing 
+	 * any generator thread which waits for a credit.
+	 */
+	private void stopGeneration() {
+		generating = false;
+		window.close();
 	}
 
 	/**
@@ -348,11 +532,17 @@ public class UnboundedJobProcessor extends ResultCollectionSupport {
 			}
 		};
 		
-		// Send GridTask as a JMS Object Message to TaskQueue
-		jmsTemplate.convertAndSend(queueName, task, postProcessor);
+		// Update Task Tracker, before sending, as the result 
+		// may arrive before send returns
+		boolean added = profile.getTaskTracker().taskEnqueued(taskId);
 		
-		// Update Task Tracker
-		profile.getTaskTracker().taskEnqueued(taskId);
+		try {
+			// Send GridTask as a JMS Object Message to TaskQueue
+			jmsTemplate.convertAndSend(queueName, task, postProcessor);
+		} catch (JmsException e) {
+			profile.getTaskTracker().enqueueFailed(taskId, added);
+			throw e;
+		}
 									
 	}
 
@@ -365,8 +555,27 @@ public class UnboundedJobProcessor extends ResultCollectionSupport {
 		
 		log.debug("Re-enqueueing Task : " + taskId);
 		
-		if (!mutuallyExclusiveTasks) {
-			enqueueTask(profile.getJobId(), taskId, job.task());
+		if (mutuallyExclusiveTasks) {
+			
+			// Real task not tracked, enqueue a new task in place
+			GridTask<?> task = job.task();
+			
+			// No more tasks, give up this task and its credit
+			if (task==null) {
+				log.debug("[Processor] Unable to re-enqueue, no task generated " + 
+				          profile.getJobId() + "|" + taskId);
+				boolean removed = false;
+				synchronized (profile) {
+					if (profile.isOutstanding(taskId)) {
+						profile.removeTask(taskId);
+						removed = true;
+					}
+				}
+				if (removed) window.release();
+				return;
+			}
+			
+			enqueueTask(profile.getJobId(), taskId, task);
 		}
 		else {
 			GridTask<?> task = profile.getTask(taskId);
@@ -389,6 +598,12 @@ public class UnboundedJobProcessor extends ResultCollectionSupport {
 	 */
 	protected void stopJob() {
 		log.info("[UnboundedJobProcessor] Stopping Job Execution");
+		
+		// Deliver last Window
+		if (windows != null) {
+			windows.flush();
+		}
+		
 		// Notify Workers
 		jobService.notifyJobEnd(profile.getJobId());
 
@@ -406,6 +621,11 @@ public class UnboundedJobProcessor extends ResultCollectionSupport {
 	/**
 	 * Invoked by the JMS Message Listener Container when a result
 	 * is available in the ResultQueue.
+	 * <p>
+	 * For thread-safe {@code UnboundedGridJob}s, results are processed
+	 * by a pool of {@code processorThreads} threads. A result is claimed
+	 * for its {@code taskId} before processing, so that a duplicate 
+	 * result is ignored while the first is being processed.
 	 * 
 	 * @param taskResult Result of Task
 	 */
@@ -416,11 +636,102 @@ public class UnboundedJobProcessor extends ResultCollectionSupport {
 
 			log.debug("[UnboundedJobProcessor] Received Result : Task "
 					+ taskResult.getTaskId());
+			
+			// Duplicate result (speculatively executed Task), ignore
+			if (!claim(taskResult.getTaskId())) {
+				log.debug("[UnboundedJobProcessor] Ignored Duplicate : Task " 
+				          + taskResult.getTaskId());
+				return;
+			}
 
 			// Update Tracker
 			profile.getTaskTracker().resultReceived(taskResult.getTaskId(), 
 			                                        taskResult.getExecutionTime());
 			
+			// Update Node Throughput
+			recordThroughput(taskResult.getWorkerId(), taskResult.getExecutionTime());
+			
+			if (resultExecutor == null) {
+				
+				// Process on calling thread
+				processResult(taskResult, -1);
+			}
+			else {
+				
+				// Process on result processor threads, in received order if required
+				final long sequence = (sequencer != null) ? sequencer.issue() : -1;
+				
+				resultExecutor.execute(new Runnable() {
+					public void run() {
+						processResult(taskResult, sequence);
+					}
+				});
+			}
+
+		} else { // Result Not Valid / Exception
+			
+			// Check for Security Violations (Fails Job)
+			if (taskResult.getException() instanceof SecurityException) {
+				
+				
+				
+				log.error("[UnboundedJobProcessor] Security Violation detected. Terminating GridJob" + 
+				          profile.getJobId());
+				
+				waitIfNeeded();
+				
+				// Fail the Job
+				profile.getFuture().fail(new SecurityViolationException("Security Violation Detected", 
+				                                                        taskResult.getException()));
+				// Stop Result Collector
+				destroy();
+				
+				return;
+			}
+			
+			// Preempted Task (not a failure of node), re-enqueue
+			if (taskResult.getException() instanceof GridTaskPreemptedException) {
+				
+				log.debug("[UnboundedJobProcessor] Task Preempted, ReEnqueueing - " 
+				          + taskResult.getTaskId());
+				
+				if (profile.isOutstanding(taskResult.getTaskId())) {
+					reEnqueueTask(taskResult.getTaskId());
+				}
+				return;
+			}
+			
+			// Update Profile
+			profile.failedTaskReceived();
+			
+			// Add Failure Trace
+			addFailureTrace(taskResult.getWorkerId());
+			
+			log.warn("[UnboundedJobProcessor] Result Failed ["
+					+ taskResult.getTaskId() + "], ReEnqueueing - "
+					+ taskResult.getException());
+
+			// Request re-enqueue of Task
+			reEnqueueTask(taskResult.getTaskId());
+		}
+	}
+
+	/**
+	 * Post processes a complete result through 
+	 * {@link UnboundedGridJob#processResult(Serializable)}, fires the 
+	 * {@code ResultCallback} with the processed result, and marks the
+	 * {@code GridTask} as complete. If the result is invalid, the 
+	 * {@code GridTask} is re-enqueued.
+	 * 
+	 * @param taskResult claimed result of Task
+	 * @param sequence sequence number for ordered delivery, or {@code -1}
+	 */
+	private void processResult(GridTaskResult taskResult, long sequence) {
+		
+		boolean delivered = false;
+		
+		try {
+			
 			// Post Process Result
 			Serializable result;
 			try {
@@ -469,50 +780,78 @@ public class UnboundedJobProcessor extends ResultCollectionSupport {
 				stopJob();
 				return;
 			}
-
+	
 			// Fire intermediate results callback
-			profile.fireCallback(result);
+			if (sequence >= 0) {
+				sequencer.complete(sequence, result);
+			}
+			else {
+				deliver(result);
+			}
+			delivered = true;
 			
 			// Clear Failure Traces
 			clearFailureTrace(taskResult.getWorkerId());
 			
 			// Task completed, remove it from TaskMap
 			// Add Dummy Place-holder for Result List
-			profile.addResultAndRemoveTask(taskResult.getTaskId(), null);
-
-		} else { // Result Not Valid / Exception
-			
-			// Check for Security Violations (Fails Job)
-			if (taskResult.getException() instanceof SecurityException) {
-				
-				
-				
-				log.error("[UnboundedJobProcessor] Security Violation detected. Terminating GridJob" + 
-				          profile.getJobId());
-				
-				waitIfNeeded();
-				
-				// Fail the Job
-				profile.getFuture().fail(new SecurityViolationException("Security Violation Detected", 
-				                                                        taskResult.getException()));
-				// Stop Result Collector
-				destroy();
-				
-				return;
+			if (profile.addResultAndRemoveTask(taskResult.getTaskId(), null) >= 0) {
+				// Return credit of Task
+				window.resultReceived();
 			}
 			
-			// Update Profile
-			profile.failedTaskReceived();
+		} finally {
 			
-			// Add Failure Trace
-			addFailureTrace(taskResult.getWorkerId());
+			// Rejected result, release its place in order
+			if (sequence >= 0 && !delivered) {
+				sequencer.skip(sequence);
+			}
 			
-			log.warn("[UnboundedJobProcessor] Result Failed ["
-					+ taskResult.getTaskId() + "], ReEnqueueing - "
-					+ taskResult.getException());
-
-			// Request re-enqueue of Task
-			reEnqueueTask(taskResult.getTaskId());
+			release(taskResult.getTaskId());
+		}
+	}
+	
+	/**
+	 * Delivers a processed result to the {@code ResultCallback}, or
+	 * to the {@code WindowAggregator} for a {@code WindowedAggregate}.
+	 * 
+	 * @param result processed result
+	 */
+	private void deliver(Serializable result) {
+		if (windows != null) {
+			windows.add(result);
+		}
+		else {
+			profile.fireCallback(result);
+		}
+	}
+	
+	/**
+	 * Claims the given {@code taskId} for processing of its result.
+	 * Returns {@code false} if the {@code GridTask} is not outstanding,
+	 * or a result is already being processed for it.
+	 * 
+	 * @param taskId {@code GridTask} Id
+	 * @return {@code true} if claimed
+	 */
+	private boolean claim(int taskId) {
+		synchronized (processing) {
+			if (processing.contains(taskId) || !profile.isOutstanding(taskId)) {
+				return false;
+			}
+			processing.add(taskId);
+			return true;
+		}
+	}
+	
+	/**
+	 * Releases the claim on given {@code taskId}.
+	 * 
+	 * @param taskId {@code GridTask} Id
+	 */
+	private void release(int taskId) {
+		synchronized (processing) {
+			processing.remove(taskId);
 		}
 	}
 
@@ -521,8 +860,18 @@ public class UnboundedJobProcessor extends ResultCollectionSupport {
 	 * avoid processing any more results.
 	 */
 	protected void destroy() {
+		
+		// Release Task Generation
+		window.close();
+		
 		if (container != null)
 			container.shutdown();
+		
+		if (resultExecutor != null)
+			resultExecutor.shutdown();
+		
+		if (windows != null)
+			windows.stop();
 	}
 
 	/**
@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.manager.services.jobs.unbounded;
+
+import java.io.Serializable;
+import java.util.LinkedList;
+import java.util.Timer;
+import java.util.TimerTask;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.nebulaframework.core.job.unbounded.WindowedAggregate;
+import org.nebulaframework.grid.cluster.manager.services.jobs.GridJobProfile;
+import org.springframework.util.Assert;
+
+/**
+ * Aggregates the processed results of a {@link WindowedAggregate}
+ * {@code UnboundedGridJob} over tumbling or sliding windows, and 
+ * delivers the aggregate of each window to the {@code ResultCallback}
+ * of the {@code GridJob}.
+ * <p>
+ * Results are accumulated into the current pane, which spans one slide
+ * of the window. Once the pane closes (after {@code slide} results, or
+ * {@code slide} milliseconds for time based windows, by a shared timer
+ * thread), the window made of the latest {@code size / slide} panes is 
+ * delivered, if it received any results. Until the first window is full,
+ * sliding windows are delivered with the panes received so far. Tumbling 
+ * windows consist of a single pane.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see WindowedAggregate
+ * @see UnboundedJobProcessor
+ */
+public class WindowAggregator {
+
+	private static Log log = LogFactory.getLog(WindowAggregator.class);
+	
+	// Shared Timer for Time based Windows
+	private static Timer timer = new Timer("WindowAggregator-Slide", true);
+	
+	private GridJobProfile profile;
+	private WindowedAggregate<Serializable, Serializable, ?> aggregate;
+	
+	private boolean time;
+	private long slide;
+	private int panesPerWindow;
+	
+	// Closed panes of current window, oldest first
+	private LinkedList<Pane> panes = new LinkedList<Pane>();
+	private Pane current;
+	private TimerTask slideTask;
+	
+	private long windows = 0;	// Delivered Windows
+	
+	/**
+	 * Constructs a {@code WindowAggregator} for the {@code WindowedAggregate}
+	 * {@code UnboundedGridJob} of the given {@code GridJobProfile}.
+	 * 
+	 * @param profile {@code GridJobProfile} of job
+	 * @param time {@code true} if windows are time based
+	 * @param size size of window, results or milliseconds
+	 * @param slide slide of window, or zero for tumbling windows
+	 * 
+	 * @throws IllegalArgumentException if size and slide are not valid, 
+	 * or the job is not a {@code WindowedAggregate}
+	 */
+	@SuppressWarnings("unchecked")
+	public WindowAggregator(GridJobProfile profile, boolean time, long size, long slide) 
+			throws IllegalArgumentException {
+		
+		super();
+		
+		Assert.notNull(profile);
+		Assert.isTrue(profile.getJob() instanceof WindowedAggregate, "GridJob is not a WindowedAggregate");
+		Assert.isTrue(size > 0, "Window size must be positive");
+		Assert.isTrue(slide >= 0 && slide <= size, "Window slide must be between zero and size");
+		
+		if (slide == 0) slide = size;
+		Assert.isTrue(size % slide == 0, "Window size must be a multiple of slide");
+		
+		this.profile = profile;
+		this.aggregate = (WindowedAggregate<Serializable, Serializable, ?>) profile.getJob();
+		this.time = time;
+		this.slide = slide;
+		this.panesPerWindow = (int) (size / slide);
+		this.current = new Pane(aggregate.initial());
+		
+		log.debug("[WindowAggregator] Windows for Job {" + profile.getJobId() + "} | " 
+		          + (time ? "Time" : "Count") + " | Size : " + size + " | Slide : " + slide);
+	}
+	
+	/**
+	 * Starts the timer which closes panes, for time based windows.
+	 */
+	public synchronized void start() {
+		
+		if (!time || slideTask != null) return;
+		
+		slideTask = new TimerTask() {
+			@Override
+			public void run() {
+				try {
+					closePane();
+				} catch (RuntimeException e) {
+					log.warn("[WindowAggregator] Unable to close Window", e);
+				}
+			}
+		};
+		
+		timer.scheduleAtFixedRate(slideTask, slide, slide);
+	}
+	
+	/**
+	 * Accumulates the given processed result into the current pane,
+	 * and closes the pane if it is complete.
+	 * 
+	 * @param result processed result
+	 */
+	public synchronized void add(Serializable result) {
+		
+		try {
+			current.state = aggregate.accumulate(current.state, result);
+			current.count++;
+		} catch (RuntimeException e) {
+			log.warn("[WindowAggregator] Exception while accumulating Result", e);
+			return;
+		}
+		
+		if (!time && current.count >= slide) {
+			closePane();
+		}
+	}
+	
+	/**
+	 * Stops the timer, and delivers the window of the current 
+	 * pane, if it received any results.
+	 */
+	public synchronized void flush() {
+		
+		stop();
+		
+		if (current.count > 0) {
+			closePane();
+		}
+	}
+	
+	/**
+	 * Stops the timer which closes panes.
+	 */
+	public synchronized void stop() {
+		if (slideTask != null) {
+			slideTask.cancel();
+			slideTask = null;
+		}
+	}
+	
+	/**
+	 * Returns the number of windows delivered.
+	 * 
+	 * @return delivered windows
+	 */
+	public synchronized long getWindowCount() {
+		return windows;
+	}
+	
+	/**
+	 * Closes the current pane, and delivers the window ending
+	 * with the pane, if the window received any results.
+	 */
+	private synchronized void closePane() {
+		
+		panes.addLast(current);
+		current = new Pane(aggregate.initial());
+		
+		// Drop panes which left the window
+		while (panes.size() > panesPerWindow) {
+			panes.removeFirst();
+		}
+		
+		deliver();
+	}
+	
+	/**
+	 * Delivers the aggregate of the window made of the current
+	 * panes, if it received any results.
+	 */
+	private void deliver() {
+		
+		long count = 0;
+		for (Pane pane : panes) {
+			count += pane.count;
+		}
+		
+		if (count == 0) return;
+		
+		Serializable window;
+		try {
+			
+			if (panes.size() == 1) {
+				window = aggregate.finish(panes.getFirst().state);
+			}
+			else {
+				Serializable state = aggregate.initial();
+				for (Pane pane : panes) {
+					state = aggregate.merge(state, pane.state);
+				}
+				window = aggregate.finish(state);
+			}
+			
+		} catch (RuntimeException e) {
+			log.warn("[WindowAggregator] Exception while aggregating Window", e);
+			return;
+		}
+		
+		windows++;
+		profile.fireCallback(window);
+	}
+	
+	/**
+	 * Aggregation state of one slide of a window.
+	 */
+	private static class Pane {
+		
+		private Serializable state;
+		private long count = 0;
+		
+		Pane(Serializable state) {
+			this.state = state;
+		}
+	}
+}
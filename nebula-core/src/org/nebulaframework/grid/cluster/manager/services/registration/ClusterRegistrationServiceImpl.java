@@ -13,7 +13,9 @@
  */
 package org.nebulaframework.grid.cluster.manager.services.registration;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -25,6 +27,7 @@ import org.nebulaframework.deployment.classloading.node.exporter.GridNodeClassEx
 import org.nebulaframework.grid.cluster.manager.ClusterManager;
 import org.nebulaframework.grid.cluster.node.GridNodeProfile;
 import org.nebulaframework.grid.cluster.node.delegate.GridNodeDelegate;
+import org.nebulaframework.grid.cluster.node.services.job.execution.JobLeaseServiceSupport;
 import org.nebulaframework.grid.cluster.registration.Registration;
 import org.nebulaframework.grid.cluster.registration.RegistrationImpl;
 import org.nebulaframework.grid.service.event.ServiceEventsSupport;
@@ -100,6 +103,12 @@ public class ClusterRegistrationServiceImpl implements
 		GridNodeDelegate delegate = new GridNodeDelegate(nodeId, profile);
 		delegate.setClassExporter(GridNodeClassExporterSupport
 				.createServiceProxy(nodeId, connectionFactory));
+		
+		// Nodes which execute GridJobs accept Job Leases
+		if (profile.getJobSlots() > 0) {
+			delegate.setJobLeaseService(JobLeaseServiceSupport
+					.createServiceProxy(nodeId, connectionFactory));
+		}
 		synchronized (this) {
 			this.clusterNodes.put(nodeId, delegate);	
 		}
@@ -164,6 +173,13 @@ public class ClusterRegistrationServiceImpl implements
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized List<GridNodeDelegate> getGridNodeDelegates() {
+		return new ArrayList<GridNodeDelegate>(clusterNodes.values());
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
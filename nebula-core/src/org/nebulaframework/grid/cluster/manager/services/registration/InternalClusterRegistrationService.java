@@ -13,6 +13,7 @@
  */
 package org.nebulaframework.grid.cluster.manager.services.registration;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.nebulaframework.grid.cluster.node.delegate.GridNodeDelegate;
@@ -49,6 +50,14 @@ public interface InternalClusterRegistrationService extends
 	 * @throws IllegalArgumentException if no such node exists
 	 */
 	public GridNodeDelegate getGridNodeDelegate(UUID nodeId);
+	
+	/**
+	 * Returns a snapshot of the {@code GridNodeDelegate}s of all 
+	 * {@code GridNode}s registered with this Cluster.
+	 * 
+	 * @return {@code GridNodeDelegate}s of registered nodes
+	 */
+	public List<GridNodeDelegate> getGridNodeDelegates();
 
 	/**
 	 * Returns the total number of GridNodes registered with this
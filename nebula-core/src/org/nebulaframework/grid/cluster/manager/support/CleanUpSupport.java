@@ -13,8 +13,13 @@
  */
 package org.nebulaframework.grid.cluster.manager.support;
 
+import java.util.Timer;
+import java.util.TimerTask;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.nebulaframework.grid.cluster.manager.services.jobs.ResultCallbackDispatcher;
+import org.nebulaframework.grid.cluster.manager.services.jobs.store.ResultStore;
 import org.nebulaframework.grid.service.event.ServiceEvent;
 import org.nebulaframework.grid.service.event.ServiceEventsSupport;
 import org.nebulaframework.grid.service.event.ServiceHookCallback;
@@ -38,6 +43,9 @@ public class CleanUpSupport {
 
 	private static Log log = LogFactory.getLog(CleanUpSupport.class);
 	
+	// Shared Timer for delayed Clean Up
+	private static Timer timer = new Timer("CleanUpSupport-Timer", true);
+	
 	/**
 	 * Removes specified Queue when the given job is finished
 	 * 
@@ -60,6 +68,54 @@ public class CleanUpSupport {
 		ServiceEventsSupport.addServiceHook(createJobEndEvent(jobId), createRemoveQueueCallback(queueName , container));
 	}
 	
+	/**
+	 * Shuts down the given container, and removes specified queue,
+	 * after the given delay once the given job is finished. This allows
+	 * clients to access the queue for a while after the job has ended.
+	 * 
+	 * @param jobId GridJob Id
+	 * @param queueName Queue to be removed
+	 * @param container Message Listener Container
+	 * @param delay delay after job end (ms)
+	 */
+	public static void removeQueueWhenFinished(String jobId, String queueName, 
+			DefaultMessageListenerContainer container, final long delay) {
+		
+		final ServiceHookCallback callback = createRemoveQueueCallback(queueName , container);
+		
+		ServiceEventsSupport.addServiceHook(createJobEndEvent(jobId), new ServiceHookCallback() {
+			public void onServiceEvent(final ServiceMessage message) {
+				timer.schedule(new TimerTask() {
+					public void run() {
+						try {
+							callback.onServiceEvent(message);
+						} catch (RuntimeException e) {
+							log.warn("[CleanUpSupport] Unable to remove Queue", e);
+						}
+					}
+				}, delay);
+			}
+		});
+	}
+	
+	/**
+	 * Removes specified queue after the given delay.
+	 * 
+	 * @param queueName Queue to be removed
+	 * @param delay delay (ms)
+	 */
+	public static void removeQueueLater(final String queueName, long delay) {
+		timer.schedule(new TimerTask() {
+			public void run() {
+				try {
+					JMSResourceSupport.removeQueue(queueName);
+				} catch (RuntimeException e) {
+					log.warn("[CleanUpSupport] Unable to remove Queue " + queueName, e);
+				}
+			}
+		}, delay);
+	}
+	
 	/**
 	 * Removes specified Topic when the given job is finished
 	 * 
@@ -80,6 +136,36 @@ public class CleanUpSupport {
 		ServiceEventsSupport.addServiceHook(createJobEndEvent(jobId), createShutdownContainerCallback(container));
 	}
 	
+	/**
+	 * Disposes the given {@code ResultStore} when the specified job is finished.
+	 * 
+	 * @param jobId Job Id
+	 * @param store ResultStore to be disposed
+	 */
+	public static void disposeResultStoreWhenFinished(String jobId, final ResultStore store) {
+		ServiceEventsSupport.addServiceHook(createJobEndEvent(jobId), new ServiceHookCallback() {
+			public void onServiceEvent(ServiceMessage message) {
+				store.dispose();
+			}
+		});
+	}
+	
+	/**
+	 * Closes the given {@code ResultCallbackDispatcher} when the specified 
+	 * job is finished. The dispatcher delivers any buffered results, and
+	 * removes its callback queue once they are acknowledged.
+	 * 
+	 * @param jobId Job Id
+	 * @param dispatcher ResultCallbackDispatcher to be closed
+	 */
+	public static void closeDispatcherWhenFinished(String jobId, final ResultCallbackDispatcher dispatcher) {
+		ServiceEventsSupport.addServiceHook(createJobEndEvent(jobId), new ServiceHookCallback() {
+			public void onServiceEvent(ServiceMessage message) {
+				dispatcher.close();
+			}
+		});
+	}
+	
 	/**
 	 * Removes the specified Queue when the given node has left the Grid.
 	 * 
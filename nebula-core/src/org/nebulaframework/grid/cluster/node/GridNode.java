@@ -20,6 +20,7 @@ import javax.jms.ConnectionFactory;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.nebulaframework.benchmark.scimark2.ScimarkCalibration;
 import org.nebulaframework.deployment.classloading.node.exporter.GridNodeClassExporterSupport;
 import org.nebulaframework.grid.Grid;
 import org.nebulaframework.grid.ID;
@@ -27,6 +28,8 @@ import org.nebulaframework.grid.cluster.manager.ClusterManager;
 import org.nebulaframework.grid.cluster.manager.services.facade.ClusterManagerServicesFacade;
 import org.nebulaframework.grid.cluster.node.services.heartbeat.HeartBeatInvoker;
 import org.nebulaframework.grid.cluster.node.services.job.execution.JobExecutionService;
+import org.nebulaframework.grid.cluster.node.services.job.execution.JobLeaseService;
+import org.nebulaframework.grid.cluster.node.services.job.execution.JobLeaseServiceSupport;
 import org.nebulaframework.grid.cluster.node.services.job.execution.TaskExecutor;
 import org.nebulaframework.grid.cluster.node.services.job.submission.JobSubmissionService;
 import org.nebulaframework.grid.cluster.node.services.message.ServiceMessagesSupport;
@@ -85,6 +88,7 @@ public class GridNode implements InitializingBean{
 	private ClusterManagerServicesFacade servicesFacade;
 	private JobExecutionService jobExecutionService;
 	private JobSubmissionService jobSubmissionService;
+	private boolean calibration = true;
 	
 	
 	/**
@@ -273,6 +277,22 @@ public class GridNode implements InitializingBean{
 		this.jobExecutionService = jobExecutionService;
 	}
 
+	/**
+	 * Sets whether the compute capacity of this {@code GridNode} is 
+	 * calibrated at start-up, using the SciMark2 kernels, for worker
+	 * nodes. Enabled by default. The calibrated score is cached on
+	 * disk, so that restarts skip the calibration.
+	 * <p>
+	 * <i>Spring Injected</i>
+	 * 
+	 * @param calibration if enabled {@code true}, {@code false} otherwise
+	 * 
+	 * @see ScimarkCalibration
+	 */
+	public void setCalibration(boolean calibration) {
+		this.calibration = calibration;
+	}
+
 	/**
 	 * Returns the {@code JobSubmissionService} of this {@code GridNode}.
 	 * {@code JobSubmissionService} is used by the local node to submit new
@@ -392,12 +412,32 @@ public class GridNode implements InitializingBean{
 	 */
 	public void afterPropertiesSet() throws Exception {
 		
+		// Advertise Job Execution Slots
+		if (jobExecutionService != null) {
+			profile.setJobSlots(jobExecutionService.getJobSlots());
+			profile.setTaskCapacity(jobExecutionService.getTaskCapacity());
+		}
+		
+		// Calibrate Compute Capacity
+		if (jobExecutionService != null && calibration) {
+			try {
+				profile.setMflops(ScimarkCalibration.getScore());
+			} catch (RuntimeException e) {
+				log.warn("Unable to calibrate Node", e);
+			}
+		}
+		
 		// Register in Cluster
 		getNodeRegistrationService().register();
 		
 		// Start Class Exporter Service
 		GridNodeClassExporterSupport.startService();
 		
+		// Start Job Lease Service
+		if (jobExecutionService instanceof JobLeaseService) {
+			JobLeaseServiceSupport.startService((JobLeaseService) jobExecutionService);
+		}
+		
 		// Start Heart Beat Service
 		new HeartBeatInvoker().start();
 	}
@@ -448,6 +488,9 @@ public class GridNode implements InitializingBean{
 			log.warn("[GridNode] Exception while shutting down",e);
 		}
 		
+		if (jobExecutionService != null) {
+			jobExecutionService.shutdown();
+		}
 	}
 
 	/**
@@ -470,6 +513,10 @@ public class GridNode implements InitializingBean{
 		TaskExecutor.resetExecutors();
 		ServiceEventsSupport.destroySingleton();
 		
+		if (jobExecutionService != null) {
+			jobExecutionService.shutdown();
+		}
+		
 		disconnected = true;
 		
 		log.info("[GridNode] Disconnected from " + clusterUrl);
@@ -80,4 +80,46 @@ public interface GridNodeProfile {
 	 * @return Java Vendor Name
 	 */ 
 	public String getJavaVendor();
+	
+	/**
+	 * Returns the number of {@code GridJob}s which the
+	 * node is able to execute concurrently. Zero for 
+	 * nodes which do not execute {@code GridJob}s.
+	 * 
+	 * @return number of job execution slots
+	 */
+	public int getJobSlots();
+	
+	/**
+	 * Returns the number of {@code GridTask}s of a {@code GridJob}
+	 * which the node may hold at once, in execution or prefetched.
+	 * Zero for nodes which do not execute {@code GridJob}s.
+	 * 
+	 * @return number of {@code GridTask}s
+	 */
+	public int getTaskCapacity();
+	
+	/**
+	 * Returns the number of processors available
+	 * to the node.
+	 * 
+	 * @return number of processors
+	 */
+	public int getProcessors();
+	
+	/**
+	 * Returns the maximum heap size of the node.
+	 * 
+	 * @return maximum heap size, in bytes
+	 */
+	public long getMaxMemory();
+	
+	/**
+	 * Returns the compute capacity of the node, calibrated 
+	 * at start-up, as the SciMark2 composite score summed over
+	 * the processors of the node. Zero if not calibrated.
+	 * 
+	 * @return compute capacity, in MFLOPS
+	 */
+	public double getMflops();
 }
\ No newline at end of file
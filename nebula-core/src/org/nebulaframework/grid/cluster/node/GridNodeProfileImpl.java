@@ -35,13 +35,21 @@ public class GridNodeProfileImpl implements Serializable, GridNodeProfile {
 	private String OS;				// Operating System
 	private String javaVersion;		// Java Version
 	private String javaVendor;		// Java Vendor
+	private int jobSlots;			// Job Execution Slots
+	private int taskCapacity;		// Tasks held per Job
+	private int processors;			// Available Processors
+	private long maxMemory;			// Max Heap Size (bytes)
+	private double mflops;			// Calibrated Capacity (MFLOPS)
 	
 	/**
-	 * Constructor.
+	 * Constructor. The processors and maximum heap size 
+	 * are obtained from the JVM.
 	 * 
 	 */
 	public GridNodeProfileImpl() {
 		super();
+		this.processors = Runtime.getRuntime().availableProcessors();
+		this.maxMemory = Runtime.getRuntime().maxMemory();
 	}
 
 	
@@ -202,4 +210,68 @@ public class GridNodeProfileImpl implements Serializable, GridNodeProfile {
 		javaVendor = vendor;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public int getJobSlots() {
+		return jobSlots;
+	}
+
+	/**
+	 * Sets the number of {@code GridJob}s which the
+	 * node is able to execute concurrently.
+	 * 
+	 * @param jobSlots job execution slots
+	 */
+	public void setJobSlots(int jobSlots) {
+		this.jobSlots = jobSlots;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public int getTaskCapacity() {
+		return taskCapacity;
+	}
+
+	/**
+	 * Sets the number of {@code GridTask}s of a {@code GridJob}
+	 * which the node may hold at once, in execution or prefetched.
+	 * 
+	 * @param taskCapacity number of {@code GridTask}s
+	 */
+	public void setTaskCapacity(int taskCapacity) {
+		this.taskCapacity = taskCapacity;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int getProcessors() {
+		return processors;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getMaxMemory() {
+		return maxMemory;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public double getMflops() {
+		return mflops;
+	}
+
+	/**
+	 * Sets the calibrated compute capacity of the node.
+	 * 
+	 * @param mflops compute capacity, in MFLOPS
+	 */
+	public void setMflops(double mflops) {
+		this.mflops = mflops;
+	}
+
 }
@@ -19,6 +19,7 @@ import java.util.UUID;
 import org.nebulaframework.deployment.classloading.node.exporter.GridNodeClassExporter;
 import org.nebulaframework.grid.cluster.manager.ClusterManager;
 import org.nebulaframework.grid.cluster.node.GridNodeProfile;
+import org.nebulaframework.grid.cluster.node.services.job.execution.JobLeaseService;
 
 /**
  * Represents a {@code GridNode} at the {@code ClusterManager}. This class is used by 
@@ -40,6 +41,7 @@ public class GridNodeDelegate {
 	private UUID nodeId;
 	private GridNodeProfile profile;
 	private GridNodeClassExporter classExporter;
+	private JobLeaseService jobLeaseService;
 
 
 	/**
@@ -82,6 +84,14 @@ public class GridNodeDelegate {
 	 * 
 	 * @return {@code UUID} nodeId
 	 */
+	public JobLeaseService getJobLeaseService() {
+		return jobLeaseService;
+	}
+
+	public void setJobLeaseService(JobLeaseService jobLeaseService) {
+		this.jobLeaseService = jobLeaseService;
+	}
+
 	public UUID getNodeId() {
 		return nodeId;
 	}
@@ -39,6 +39,8 @@ public interface JobExecutionService {
 	 * 	<li> {@code ServiceMessageType.JOB_START} </li>
 	 * 	<li> {@code ServiceMessageType.JOB_END} </li>
 	 * 	<li> {@code ServiceMessageType.JOB_CANCEL} </li>
+	 * 	<li> {@code ServiceMessageType.TASK_CANCEL} </li>
+	 * 	<li> {@code ServiceMessageType.JOB_PREEMPT} </li>
 	 * </ul>
 	 * 
 	 * @param message {@link ServiceMessage} incoming message
@@ -53,4 +55,27 @@ public interface JobExecutionService {
 	 * @return Job Name
 	 */
 	String getJobName(String jobId);
+	
+	/**
+	 * Returns the number of {@code GridJob}s which this
+	 * service is able to execute concurrently.
+	 * 
+	 * @return number of job execution slots
+	 */
+	int getJobSlots();
+	
+	/**
+	 * Returns the number of {@code GridTask}s of a {@code GridJob}
+	 * which this service may hold at once, in execution or prefetched.
+	 * 
+	 * @return number of {@code GridTask}s
+	 */
+	int getTaskCapacity();
+	
+	/**
+	 * Stops the periodic activities of this service. Invoked
+	 * when the {@code GridNode} shuts down, or is disconnected
+	 * from the Cluster.
+	 */
+	void shutdown();
 }
@@ -14,14 +14,18 @@
 
 package org.nebulaframework.grid.cluster.node.services.job.execution;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Timer;
+import java.util.TimerTask;
 
 import javax.jms.ConnectionFactory;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.nebulaframework.core.job.archive.GridArchive;
 import org.nebulaframework.core.job.deploy.GridJobInfo;
 import org.nebulaframework.core.job.exceptions.GridJobPermissionDeniedException;
 import org.nebulaframework.deployment.classloading.service.ClassLoadingService;
@@ -29,6 +33,7 @@ import org.nebulaframework.deployment.classloading.service.ClassLoadingServiceSu
 import org.nebulaframework.grid.cluster.node.GridNode;
 import org.nebulaframework.grid.service.message.ServiceMessage;
 import org.nebulaframework.grid.service.message.ServiceMessageType;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Required;
 import org.springframework.util.Assert;
@@ -49,6 +54,22 @@ import org.springframework.util.Assert;
  * The implementation relies on {@link TaskExecutor} to carry out the execution
  * of tasks, once registered for a {@code GridJob} at the {@code ClusterManager}.
  * <p>
+ * A {@code GridNode} may participate in several {@code GridJob}s at once. The
+ * execution threads of the node ({@link #setExecutionThreads(int)}) are treated
+ * as a budget of slots, which is shared among the active {@code GridJob}s, in
+ * proportion to the weight of each {@code GridJob} (refer to 
+ * {@link GridJobInfo#getWeight()}). Each active {@code GridJob} is given at least 
+ * one slot, and the number of concurrently executed {@code GridJob}s is limited
+ * by {@link #setMaxConcurrentJobs(int)}. The shares are re-computed every
+ * {@link #REBALANCE_INTERVAL}, and slots which a {@code GridJob} is unable to 
+ * use, as it has fewer runnable {@code GridTask}s than its share, are given 
+ * to the {@code GridJob}s with a backlog. The total of the shares never
+ * exceeds the number of execution threads.
+ * <p>
+ * {@code GridJob}s are either leased to this node by the {@code ClusterManager}
+ * through the {@link JobLeaseService}, or requested by the node itself, upon
+ * {@code JOB_START} notifications, and whenever an execution slot is released.
+ * <p>
  * Furthermore, {@code JobExecutionServiceImpl} also maintains a
  * {@code ClassLoadingService}, which is a service proxy to the
  * {@link ClassLoadingService} of {@code ClusterManager}, which is used to load
@@ -71,16 +92,38 @@ import org.springframework.util.Assert;
  * @author Yohan
  *
  */
-public class JobExecutionServiceImpl implements JobExecutionService, InitializingBean {
+public class JobExecutionServiceImpl implements JobExecutionService, JobLeaseService, 
+		InitializingBean, DisposableBean {
 
 	private static Log log = LogFactory.getLog(JobExecutionServiceImpl.class);
+	
+	/**
+	 * Interval (ms) at which execution threads are re-distributed
+	 * among the active {@code GridJob}s.
+	 */
+	public static final long REBALANCE_INTERVAL = 1000L;
+	
+	// Shared Timer for re-distribution of execution threads
+	private static Timer timer = new Timer("JobExecution-Rebalance", true);
+	
+	// Re-distribution Task of this service, if scheduled
+	private TimerTask rebalanceTask;
 
-	private boolean idle = true; // Idle = No active Job
-	private String currentJobId; // JobId, if exists
+	// Active Jobs, JobId against Weight
+	private Map<String, Integer> activeJobs = new LinkedHashMap<String, Integer>();
 
 	private GridNode node; // Owner Node
 	private ConnectionFactory connectionFactory; // JMS ConnectionFactory
 	private ClassLoadingService classLoadingService; // Service Proxy
+	
+	// # of Task Execution Threads (Slots), shared by Jobs
+	private int executionThreads = Runtime.getRuntime().availableProcessors();
+	
+	// Max # of Concurrently Executed Jobs
+	private int maxConcurrentJobs = executionThreads;
+	
+	// # of Tasks Prefetched per Job
+	private int prefetchSize = executionThreads;
 
 	private Map<String, String> jobNames = new HashMap<String, String>();
 	
@@ -116,6 +159,84 @@ public class JobExecutionServiceImpl implements JobExecutionService, Initializin
 		this.connectionFactory = connectionFactory;
 	}
 
+	/**
+	 * Sets the number of concurrent threads used to execute {@code GridTask}s
+	 * at this node, which is shared among the active {@code GridJob}s. By default, 
+	 * this is the number of processors available to the JVM, so that a single 
+	 * {@code GridNode} utilizes all processors of the host.
+	 * <p>
+	 * <i>Spring Injected</i>
+	 * 
+	 * @param executionThreads number of execution threads
+	 * @throws IllegalArgumentException if {@code executionThreads} is less than 1
+	 */
+	public synchronized void setExecutionThreads(int executionThreads) throws IllegalArgumentException {
+		Assert.isTrue(executionThreads > 0, "Execution threads should be at least 1");
+		this.executionThreads = executionThreads;
+	}
+	
+	/**
+	 * Returns the number of concurrent threads used to execute 
+	 * {@code GridTask}s at this node.
+	 * 
+	 * @return number of execution threads
+	 */
+	public synchronized int getExecutionThreads() {
+		return executionThreads;
+	}
+	
+	/**
+	 * Sets the maximum number of {@code GridJob}s which may be executed
+	 * concurrently at this node. As each active {@code GridJob} requires
+	 * at least one execution thread, the effective limit is never higher
+	 * than the number of execution threads. By default, this is 
+	 * the number of processors available to the JVM.
+	 * <p>
+	 * <i>Spring Injected</i>
+	 * 
+	 * @param maxConcurrentJobs maximum number of concurrent jobs
+	 * @throws IllegalArgumentException if {@code maxConcurrentJobs} is less than 1
+	 */
+	public synchronized void setMaxConcurrentJobs(int maxConcurrentJobs) throws IllegalArgumentException {
+		Assert.isTrue(maxConcurrentJobs > 0, "Concurrent jobs should be at least 1");
+		this.maxConcurrentJobs = maxConcurrentJobs;
+	}
+	
+	/**
+	 * Returns the maximum number of {@code GridJob}s which may be executed
+	 * concurrently at this node.
+	 * 
+	 * @return maximum number of concurrent jobs
+	 */
+	public synchronized int getMaxConcurrentJobs() {
+		return maxConcurrentJobs;
+	}
+
+	/**
+	 * Sets the number of {@code GridTask}s which are received and 
+	 * de-serialized ahead of execution, for each active {@code GridJob}.
+	 * By default, this is the number of processors available to the JVM.
+	 * <p>
+	 * <i>Spring Injected</i>
+	 * 
+	 * @param prefetchSize number of {@code GridTask}s to prefetch
+	 * @throws IllegalArgumentException if {@code prefetchSize} is less than 1
+	 */
+	public synchronized void setPrefetchSize(int prefetchSize) throws IllegalArgumentException {
+		Assert.isTrue(prefetchSize > 0, "Prefetch size should be at least 1");
+		this.prefetchSize = prefetchSize;
+	}
+	
+	/**
+	 * Returns the number of {@code GridTask}s which are received and 
+	 * de-serialized ahead of execution, for each active {@code GridJob}.
+	 * 
+	 * @return number of {@code GridTask}s to prefetch
+	 */
+	public synchronized int getPrefetchSize() {
+		return prefetchSize;
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * <p>
@@ -132,12 +253,22 @@ public class JobExecutionServiceImpl implements JobExecutionService, Initializin
 		} else if (message.getType()==ServiceMessageType.JOB_CANCEL) {
 			// Job Terminated
 			terminateJob(message.getMessage());
+		} else if (message.getType()==ServiceMessageType.TASK_CANCEL) {
+			// Task Cancelled (jobId#taskId)
+			String[] parts = message.getMessage().split("#");
+			cancelTask(parts[0], Integer.parseInt(parts[1]));
+		} else if (message.getType()==ServiceMessageType.JOB_PREEMPT) {
+			// Slot Preempted (jobId#nodeId)
+			String[] parts = message.getMessage().split("#");
+			if (node.getId().toString().equals(parts[1])) {
+				preemptJob(parts[0]);
+			}
 		}
 	}
 
 	/**
 	 * Handler method for new job notifications. The method attempts to register
-	 * for the new job, if this {@code GridNode} is in {@code idle} state.
+	 * for the new job, if this {@code GridNode} has a free execution slot.
 	 * Otherwise, it ignores the notification.
 	 * <p>
 	 * If registration is successful, it starts {@code TaskExecutor} instance
@@ -153,21 +284,18 @@ public class JobExecutionServiceImpl implements JobExecutionService, Initializin
 			return;
 		}
 
-		if (idle) {
+		// Already participating
+		if (activeJobs.containsKey(jobId)) {
+			log.debug("[JobExecution] Ignored New Job | Active {"+ jobId + "}");
+			return;
+		}
+		
+		if (hasFreeSlot()) {
 			// Request for Job
 			try {
 				GridJobInfo jobInfo = node.getServicesFacade().requestJob(jobId, node.getProfile());
 
-				jobNames.put(jobId, jobInfo.getJobName());
-				
-				// Start it
-				if (jobInfo.isArchived()) {	// Archived Job
-					startNewArchivedJob(jobId, jobInfo.getArchive());
-				} else {					// Normal Job
-					startNewJob(jobId);
-				}
-				
-				
+				startJob(jobInfo);
 
 			} catch (GridJobPermissionDeniedException e) {
 				// Permission Denied
@@ -181,6 +309,51 @@ public class JobExecutionServiceImpl implements JobExecutionService, Initializin
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The lease is accepted if this {@code GridNode} has a free execution
+	 * slot, or if it already participates in the {@code GridJob}.
+	 */
+	public synchronized boolean acceptLease(GridJobInfo jobInfo) {
+		
+		// Initialize the ClassLoading Service
+		if (!initalizeService()) {
+			log.debug("[JobExecution] Refused Lease as ClassLoadingService not initialized");
+			return false;
+		}
+		
+		// Already participating
+		if (activeJobs.containsKey(jobInfo.getJobId())) {
+			return true;
+		}
+		
+		if (!hasFreeSlot()) {
+			log.debug("[JobExecution] BUSY : Refused Lease {"+ jobInfo.getJobId() + "}");
+			return false;
+		}
+		
+		log.debug("[JobExecution] Accepted Lease {"+ jobInfo.getJobId() + "}");
+		startJob(jobInfo);
+		return true;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The execution slot is released as on preemption, so that the
+	 * {@code GridTask}s taken by this node are re-enqueued.
+	 */
+	public void revokeLease(String jobId) {
+		log.debug("[JobExecution] Lease Revoked {"+ jobId + "}");
+		preemptJob(jobId);
+	}
+
+	/**
+	 * Requests the next available {@code GridJob}s from the {@code ClusterManager},
+	 * until the execution slots of this node are utilized, or no more
+	 * {@code GridJob}s are available.
+	 */
 	protected synchronized void requestNextJob() {
 		
 		// Initialize the ClassLoading Service
@@ -189,25 +362,172 @@ public class JobExecutionServiceImpl implements JobExecutionService, Initializin
 			return;
 		}
 		
-		if (idle) {
+		while (hasFreeSlot()) {
 			// Request for Job
 			GridJobInfo jobInfo = node.getServicesFacade().requestNextJob(node.getProfile());
 			
 			// If no job, do nothing
 			if (jobInfo == null) {
-				log.info("[JobExecution] Idle as no active GridJobs");
+				if (activeJobs.isEmpty()) {
+					log.info("[JobExecution] Idle as no active GridJobs");
+				}
 				return;
 			}
 			
-			jobNames.put(jobInfo.getJobId(), jobInfo.getJobName());
+			startJob(jobInfo);
+		} 
+	}
+	
+	/**
+	 * Starts execution of the {@code GridJob} denoted by the given 
+	 * {@code GridJobInfo}, and re-distributes the execution slots 
+	 * among the active {@code GridJob}s.
+	 * 
+	 * @param jobInfo {@code GridJobInfo} of Job
+	 */
+	private void startJob(GridJobInfo jobInfo) {
+		
+		String jobId = jobInfo.getJobId();
+		
+		jobNames.put(jobId, jobInfo.getJobName());
+		
+		// Update state
+		activeJobs.put(jobId, jobInfo.getWeight());
+		
+		// Start it
+		if (jobInfo.isArchived()) {	// Archived Job
+			startNewArchivedJob(jobInfo);
+		} else {					// Normal Job
+			startNewJob(jobInfo);
+		}
+		
+		rebalance();
+	}
+	
+	/**
+	 * Returns {@code true} if this node is able to join
+	 * another {@code GridJob}.
+	 * 
+	 * @return if free slot available {@code true}, {@code false} otherwise
+	 */
+	private boolean hasFreeSlot() {
+		return activeJobs.size() < getJobSlots();
+	}
+	
+	/**
+	 * Returns the number of execution threads allocated for the
+	 * given active {@code GridJob} (refer to {@link #getShares()}).
+	 * 
+	 * @param jobId JobId
+	 * @return number of execution threads for the Job
+	 */
+	private int getShare(String jobId) {
+		
+		Integer share = getShares().get(jobId);
+		
+		if (share == null) {
+			return executionThreads;
+		}
+		return share;
+	}
+	
+	/**
+	 * Computes the number of execution threads allocated for each
+	 * active {@code GridJob}. Each {@code GridJob} is given one thread,
+	 * and the remaining threads are given one at a time to the 
+	 * {@code GridJob} with the lowest share in proportion to its weight,
+	 * first among the {@code GridJob}s with more runnable {@code GridTask}s
+	 * than their share, and then among all {@code GridJob}s. 
+	 * 
+	 * @return shares against JobId
+	 */
+	private Map<String, Integer> getShares() {
+		
+		Map<String, Integer> shares = new HashMap<String, Integer>();
+		Map<String, Integer> backlogs = new HashMap<String, Integer>();
+		
+		int free = executionThreads;
+		
+		for (String jobId : activeJobs.keySet()) {
+			shares.put(jobId, 1);
+			backlogs.put(jobId, TaskExecutor.getBacklog(jobId));
+			free--;
+		}
+		
+		// Jobs with backlog, then all jobs
+		free = distribute(shares, backlogs, free);
+		distribute(shares, null, free);
+		
+		return shares;
+	}
+	
+	/**
+	 * Gives the given number of free execution threads, one at a time, to
+	 * the {@code GridJob} with the lowest share in proportion to its weight.
+	 * If backlogs are given, only {@code GridJob}s with a backlog larger than
+	 * their share are considered.
+	 * 
+	 * @param shares shares against JobId
+	 * @param backlogs runnable {@code GridTask}s against JobId, or {@code null}
+	 * @param free number of free execution threads
+	 * @return number of execution threads left
+	 */
+	private int distribute(Map<String, Integer> shares, Map<String, Integer> backlogs, int free) {
+		
+		while (free > 0) {
+			
+			String selected = null;
 			
-			// Start it
-			if (jobInfo.isArchived()) {	// Archived Job
-				startNewArchivedJob(jobInfo.getJobId(), jobInfo.getArchive());
-			} else {					// Normal Job
-				startNewJob(jobInfo.getJobId());
+			for (Map.Entry<String, Integer> entry : activeJobs.entrySet()) {
+				
+				String jobId = entry.getKey();
+				int share = shares.get(jobId);
+				
+				// Skip, if no backlog
+				if (backlogs != null && backlogs.get(jobId) <= share) continue;
+				
+				// Compare share / weight
+				if (selected == null 
+						|| share * activeJobs.get(selected) < shares.get(selected) * entry.getValue()) {
+					selected = jobId;
+				}
 			}
-		} 
+			
+			if (selected == null) break;
+			
+			shares.put(selected, shares.get(selected) + 1);
+			free--;
+		}
+		
+		return free;
+	}
+	
+	/**
+	 * Re-distributes the execution threads of this node among
+	 * the active {@code GridJob}s, according to the weight and 
+	 * the backlog of each {@code GridJob}.
+	 */
+	private synchronized void rebalance() {
+		for (Map.Entry<String, Integer> entry : getShares().entrySet()) {
+			TaskExecutor.setConcurrency(entry.getKey(), entry.getValue());
+		}
+	}
+	
+	/**
+	 * Removes the given {@code GridJob} from the active {@code GridJob}s,
+	 * and requests for further {@code GridJob}s to utilize the released 
+	 * execution slots.
+	 * 
+	 * @param jobId JobId of Job
+	 */
+	private void finishJob(String jobId) {
+		
+		// Update state
+		activeJobs.remove(jobId);
+		jobNames.remove(jobId);
+		
+		rebalance();
+		requestNextJob();
 	}
 	
 	/**
@@ -215,39 +535,34 @@ public class JobExecutionServiceImpl implements JobExecutionService, Initializin
 	 * This type of {@code GridJob}s rely on Node-based Class Loading,
 	 * if the classes are not available locally (more likely).
 	 * 
-	 * @param jobId JobId of new Job
+	 * @param jobInfo {@code GridJobInfo} of new Job
 	 */
-	protected void startNewJob(String jobId) {
+	protected void startNewJob(GridJobInfo jobInfo) {
+		
+		String jobId = jobInfo.getJobId();
 
 		log.info("[JobExecution] Starting Non-Archive Job {" + jobId + "}");
 
-		// Update state
-		this.idle = false;
-		this.currentJobId = jobId;
-
 		// Start TaskExecutor
-		TaskExecutor.startForJob(jobId, node, connectionFactory,
-									classLoadingService, null);
+		TaskExecutor.startForJob(jobInfo, node, connectionFactory,
+									classLoadingService, getShare(jobId), prefetchSize);
 	}
 
 	/**
 	 * Starts {@code TaskExecutor} for the given <i>archived</i> Job.
 	 * This type of {@code GridJob}s rely on GridArchive Class Loading.
 	 * 
-	 * @param jobId JobId of new Job
+	 * @param jobInfo {@code GridJobInfo} of new Job
 	 */
-	protected void startNewArchivedJob(String jobId,
-			GridArchive archive) {
+	protected void startNewArchivedJob(GridJobInfo jobInfo) {
+		
+		String jobId = jobInfo.getJobId();
 
 		log.info("[JobExecution] Starting Archived Job {" + jobId + "}");
 
-		// Update state
-		this.idle = false;
-		this.currentJobId = jobId;
-
 		// Start TaskExecutor
-		TaskExecutor.startForJob(jobId, node, connectionFactory,
-									classLoadingService, archive);
+		TaskExecutor.startForJob(jobInfo, node, connectionFactory,
+									classLoadingService, getShare(jobId), prefetchSize);
 	}
 
 	/**
@@ -260,21 +575,15 @@ public class JobExecutionServiceImpl implements JobExecutionService, Initializin
 	 */
 	protected synchronized void endJob(String jobId) {
 		
-		//If the notification is for current Job
-		if ((this.currentJobId != null) && (this.currentJobId.equals(jobId))) {
+		//If the notification is for an active Job
+		if (activeJobs.containsKey(jobId)) {
 			
 			log.info("[JobExecution] Stopping Job Execution {" + jobId + "}");
 			
 			// Stop TaskExecutor
 			TaskExecutor.stopForJob(jobId);
 			
-			// Update state
-			this.currentJobId = null;
-			this.idle = true;
-			
-			jobNames.remove(jobId);
-			
-			requestNextJob();
+			finishJob(jobId);
 			
 		} else {	// Log & ignore
 			log.debug("[JobExecution] Ignored Job End | N/A {" + jobId + "}");
@@ -293,35 +602,78 @@ public class JobExecutionServiceImpl implements JobExecutionService, Initializin
 	 */
 	protected synchronized void terminateJob(String jobId) {
 		
-		//If the notification is for current Job
-		if ((this.currentJobId != null) && (this.currentJobId.equals(jobId))) {
+		//If the notification is for an active Job
+		if (activeJobs.containsKey(jobId)) {
 			
 			log.info("[JobExecution] Terminating Job Execution {" + jobId + "}");
 			
 			// Stop Task Executor
 			TaskExecutor.stopForJob(jobId);
 			
-			// Update state
-			this.currentJobId = null;
-			this.idle = true;
+			finishJob(jobId);
+			
+		} else { // Log & ignore
+			log.debug("[JobExecution] Ignored Job Termination | N/A {" + jobId + "}");
+		}
+	}
+
+	/**
+	 * Releases the execution slot of a specified Job (if executed by this
+	 * service), by stopping the {@code TaskExecutor} instance for the Job,
+	 * which reports the abandoned {@code GridTask}s to be re-enqueued. The
+	 * released slot is used to request the next {@code GridJob}, which is
+	 * the preempting {@code GridJob} of higher priority.
+	 * <p>
+	 * This is invoked when the {@code ClusterManager} preempts the execution
+	 * slot of this node, in favor of a {@code GridJob} of higher priority.
+	 * 
+	 * @param jobId JobId of preempted {@code GridJob}
+	 */
+	protected synchronized void preemptJob(String jobId) {
+		
+		//If the notification is for an active Job
+		if (activeJobs.containsKey(jobId)) {
+			
+			log.info("[JobExecution] Preempted Job Execution {" + jobId + "}");
 			
-			jobNames.remove(jobId);
+			// Stop Task Executor, and report abandoned Tasks
+			TaskExecutor.preemptForJob(jobId);
 			
-			requestNextJob();
+			finishJob(jobId);
 			
 		} else { // Log & ignore
-			log.debug("[JobExecution] Ignored Job Termination | N/A {" + jobId + "}");
+			log.debug("[JobExecution] Ignored Job Preemption | N/A {" + jobId + "}");
 		}
 	}
 
 	/**
-	 * Returns the Current Job Id for the {@link JobExecutionService}.
-	 * May return {@code null} if no active job.
+	 * Cancels the given {@code GridTask} of a specified Job (if executed by 
+	 * this service), by discarding it if prefetched, or interrupting it if 
+	 * in execution. The {@code GridTask} is discarded if received afterwards.
+	 * <p>
+	 * This is invoked when a result has been received for a {@code GridTask}
+	 * which was executed speculatively on more than one {@code GridNode}.
 	 * 
-	 * @return {@code String} current JobId or {@code null}, if none.
+	 * @param jobId JobId of {@code GridJob}
+	 * @param taskId TaskId of cancelled {@code GridTask}
 	 */
-	public String getCurrentJobId() {
-		return currentJobId;
+	protected synchronized void cancelTask(String jobId, int taskId) {
+		
+		//If the notification is for an active Job
+		if (activeJobs.containsKey(jobId)) {
+			TaskExecutor.cancelTask(jobId, taskId);
+		}
+	}
+	
+	/**
+	 * Returns the JobIds of active {@code GridJob}s of the 
+	 * {@link JobExecutionService}. May return an empty list if 
+	 * no active jobs.
+	 * 
+	 * @return {@code List} of active JobIds
+	 */
+	public synchronized List<String> getActiveJobIds() {
+		return new ArrayList<String>(activeJobs.keySet());
 	}
 
 	/**
@@ -331,7 +683,7 @@ public class JobExecutionServiceImpl implements JobExecutionService, Initializin
 	 * @return {@code true} if not active, {@code false} otherwise.
 	 */
 	public synchronized boolean isIdle() {
-		return idle;
+		return activeJobs.isEmpty();
 	}
 
 	/**
@@ -345,6 +697,20 @@ public class JobExecutionServiceImpl implements JobExecutionService, Initializin
 		return this.jobNames.get(jobId);
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized int getJobSlots() {
+		return Math.min(maxConcurrentJobs, executionThreads);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized int getTaskCapacity() {
+		return executionThreads + prefetchSize;
+	}
+	
 	/**
 	 * Initializes the {@code ClassLoadingService} proxy. This method creates a
 	 * proxy object which is used to communicate with the
@@ -407,6 +773,22 @@ public class JobExecutionServiceImpl implements JobExecutionService, Initializin
 		Assert.notNull(node);
 		Assert.notNull(connectionFactory);
 		
+		// Periodic re-distribution of execution threads (once)
+		if (rebalanceTask == null) {
+			
+			rebalanceTask = new TimerTask() {
+				public void run() {
+					try {
+						rebalance();
+					} catch (RuntimeException e) {
+						log.warn("[JobExecution] Exception while re-distributing Threads", e);
+					}
+				}
+			};
+			
+			timer.schedule(rebalanceTask, REBALANCE_INTERVAL, REBALANCE_INTERVAL);
+		}
+		
 		// Wait until initialized and request 
 		// for next available job
 		new Thread(new Runnable() {
@@ -448,5 +830,25 @@ public class JobExecutionServiceImpl implements JobExecutionService, Initializin
 			}
 		}).start();
 	}
+	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Cancels the periodic re-distribution of execution threads.
+	 */
+	public synchronized void shutdown() {
+		if (rebalanceTask != null) {
+			rebalanceTask.cancel();
+			rebalanceTask = null;
+		}
+	}
+	
+	/**
+	 * Invoked by Spring Container when destroyed. Shuts down
+	 * this service (refer to {@link #shutdown()}).
+	 */
+	public void destroy() {
+		shutdown();
+	}
 
 }
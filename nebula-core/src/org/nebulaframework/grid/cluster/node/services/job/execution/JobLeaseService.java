@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.node.services.job.execution;
+
+import org.nebulaframework.core.job.deploy.GridJobInfo;
+
+/**
+ * {@code JobLeaseService} allows the {@code ClusterManager} to assign
+ * a {@code GridJob} directly to an idle {@code GridNode} (a <i>lease</i>),
+ * instead of broadcasting a {@code JOB_START} {@code ServiceMessage}
+ * and letting each idle {@code GridNode} request the {@code GridJob}.
+ * <p>
+ * The service is remote enabled at each {@code GridNode} through
+ * {@link JobLeaseServiceSupport}.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see JobLeaseServiceSupport
+ */
+public interface JobLeaseService {
+
+	/**
+	 * Invoked by the {@code ClusterManager} to lease the {@code GridJob}
+	 * denoted by the given {@code GridJobInfo} to this {@code GridNode}. 
+	 * The {@code ClusterManager} has already registered the node as a
+	 * worker of the {@code GridJob}.
+	 * <p>
+	 * If the lease is refused, the {@code ClusterManager} releases
+	 * the registration of the node.
+	 * 
+	 * @param jobInfo {@code GridJobInfo} of leased {@code GridJob}
+	 * @return if accepted {@code true}, {@code false} otherwise
+	 */
+	boolean acceptLease(GridJobInfo jobInfo);
+	
+	/**
+	 * Invoked by the {@code ClusterManager} to revoke the lease of the 
+	 * {@code GridJob} denoted by the given JobId, if the lease was not
+	 * replied in time. The {@code ClusterManager} has already released 
+	 * the registration of the node, and therefore the node should stop 
+	 * executing the {@code GridJob}, if it accepted the lease.
+	 * 
+	 * @param jobId JobId of leased {@code GridJob}
+	 */
+	void revokeLease(String jobId);
+}
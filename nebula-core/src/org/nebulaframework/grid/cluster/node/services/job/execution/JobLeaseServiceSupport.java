@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.node.services.job.execution;
+
+import java.util.UUID;
+
+import javax.jms.ConnectionFactory;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.nebulaframework.grid.cluster.manager.support.CleanUpSupport;
+import org.nebulaframework.grid.cluster.node.GridNode;
+import org.nebulaframework.util.jms.JMSRemotingSupport;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+
+/**
+ * Provides support methods which assists the {@code GridNode} to remote 
+ * enable its {@link JobLeaseService}, and the {@code ClusterManager} to 
+ * create proxies for the {@code JobLeaseService} of each {@code GridNode},
+ * using JMS (Spring JMS API).
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see JobLeaseService
+ */
+public class JobLeaseServiceSupport {
+
+	private static Log log = LogFactory.getLog(JobLeaseServiceSupport.class);
+	
+	/**
+	 * Time to wait for a {@code GridNode} to reply to a lease, 
+	 * in milliseconds (5 seconds).
+	 */
+	public static final long LEASE_TIMEOUT = 5000;
+
+	/**
+	 * Remote enables the given {@code JobLeaseService} of the local 
+	 * {@code GridNode}, and starts the remote service.
+	 * 
+	 * @param service {@code JobLeaseService} of local {@code GridNode}
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if any argument is {@code null}
+	 */
+	public static void startService(JobLeaseService service)
+			throws IllegalArgumentException {
+
+		UUID nodeId = GridNode.getInstance().getId();
+		ConnectionFactory cf = GridNode.getInstance().getConnectionFactory();
+		String queueName = getLeaseQueueName(nodeId);
+
+		DefaultMessageListenerContainer container = JMSRemotingSupport
+				.createService(cf, queueName, service, JobLeaseService.class);
+
+		// CleanUpHook
+		CleanUpSupport.shutdownContainerWhenNodeLeft(nodeId.toString(), container);
+
+		log.debug("[JobLeaseService] Service Started");
+	}
+
+	/**
+	 * Returns the JMS QueueName for the {@code JobLeaseService} of the 
+	 * given {@code GridNode}.
+	 * 
+	 * @param nodeId
+	 *            Node Id of {@code GridNode}
+	 * 
+	 * @return JMS QueueName for {@code JobLeaseService}
+	 */
+	private static String getLeaseQueueName(UUID nodeId) {
+		return "nebula.node." + nodeId + ".lease.queue";
+	}
+
+	/**
+	 * Creates an returns a proxy object which can be used to access the
+	 * {@code JobLeaseService} of a given {@code GridNode}. Invocations
+	 * which are not replied within {@link #LEASE_TIMEOUT} fail.
+	 * 
+	 * @param nodeId
+	 *            Node Id of target {@code GridNode}
+	 * @param cf
+	 *            JMS {@code ConnectionFactory}
+	 * 
+	 * @return The {@code JobLeaseService} Service Proxy
+	 */
+	public static JobLeaseService createServiceProxy(UUID nodeId,
+			ConnectionFactory cf) throws IllegalArgumentException {
+
+		String queueName = getLeaseQueueName(nodeId);
+
+		// Return Proxy Object
+		JobLeaseService proxy = JMSRemotingSupport.createProxy(cf, queueName,
+				JobLeaseService.class, LEASE_TIMEOUT);
+
+		// CleanUp Hook
+		CleanUpSupport.removeQueueWhenNodeLeft(nodeId.toString(), queueName);
+
+		return proxy;
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.node.services.job.execution;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.jms.Session;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.nebulaframework.core.job.deploy.GridJobInfo;
+import org.nebulaframework.core.task.GridTaskResultBatch;
+import org.nebulaframework.core.task.GridTaskResultImpl;
+import org.nebulaframework.util.io.IOSupport;
+
+/**
+ * {@code ResultBatcher} coalesces {@code GridTaskResult}s of a {@code GridJob}
+ * into {@link GridTaskResultBatch}es, for {@code GridJob}s which have enabled
+ * result batching.
+ * <p>
+ * A batch is sent by the owner {@link TaskExecutor} once it reaches the maximum
+ * number of results, or the maximum size of serialized result data, or once 
+ * the first result of the batch has waited for the maximum linger time,
+ * whichever occurs first. Size based batches are sent using the {@code Session}
+ * of the execution thread which completed the batch, and linger based batches
+ * are sent by a shared timer thread.
+ * <p>
+ * To avoid serializing each result twice, the size of a batch is estimated
+ * from the average serialized size of a sample of its results (one in
+ * {@link #SAMPLE_INTERVAL}).
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see GridJobInfo#isResultBatching()
+ * @see GridTaskResultBatch
+ */
+public class ResultBatcher {
+
+	private static Log log = LogFactory.getLog(ResultBatcher.class);
+	
+	// Shared Timer for Linger Flushes
+	private static Timer timer = new Timer("ResultBatcher-Linger", true);
+	
+	/**
+	 * Interval (in results) at which the serialized size of a 
+	 * result is measured, to estimate the size of batches.
+	 */
+	public static final int SAMPLE_INTERVAL = 16;
+	
+	private TaskExecutor executor;
+	private String jobId;
+	
+	private int maxResults;
+	private int maxBytes;
+	private long maxLinger;
+	
+	private List<GridTaskResultImpl> results = new ArrayList<GridTaskResultImpl>();
+	private long bytes = 0;
+	private TimerTask lingerTask;
+	
+	// Size Estimation
+	private AtomicLong added = new AtomicLong(0);
+	private long sampledBytes = 0;
+	private long samples = 0;
+	
+	/**
+	 * Constructs a {@code ResultBatcher} for the given {@code TaskExecutor},
+	 * using the batching settings of the given {@code GridJobInfo}.
+	 * 
+	 * @param executor owner {@code TaskExecutor}
+	 * @param jobInfo {@code GridJobInfo} of {@code GridJob}
+	 */
+	ResultBatcher(TaskExecutor executor, GridJobInfo jobInfo) {
+		super();
+		this.executor = executor;
+		this.jobId = jobInfo.getJobId();
+		this.maxResults = jobInfo.getBatchMaxResults();
+		this.maxBytes = jobInfo.getBatchMaxBytes();
+		this.maxLinger = jobInfo.getBatchMaxLinger();
+		
+		log.debug("[ResultBatcher] Batching Results of Job {" + jobId + "} | Max Results : " 
+		          + maxResults + " | Max Bytes : " + maxBytes + " | Max Linger : " + maxLinger);
+	}
+	
+	/**
+	 * Adds the given result to the current batch, and sends the batch
+	 * if it reaches the maximum number of results or size.
+	 * 
+	 * @param result {@code GridTaskResult} to add
+	 * @param session JMS {@code Session} of the invoking execution thread, 
+	 * or {@code null}
+	 */
+	public void add(GridTaskResultImpl result, Session session) {
+		
+		// Measure size of sampled results, if required
+		long size = -1;
+		if (maxBytes > 0 && added.getAndIncrement() % SAMPLE_INTERVAL == 0) {
+			size = sizeOf(result);
+		}
+		
+		List<GridTaskResultImpl> batch = null;
+		
+		synchronized (this) {
+			
+			results.add(result);
+			
+			if (size >= 0) {
+				sampledBytes += size;
+				samples++;
+			}
+			
+			if (samples > 0) {
+				bytes += sampledBytes / samples;
+			}
+			
+			// Start Linger Timer for first result
+			if (results.size() == 1) {
+				scheduleLinger();
+			}
+			
+			// Check limits
+			if (results.size() >= maxResults || (maxBytes > 0 && bytes >= maxBytes)) {
+				batch = drain();
+			}
+		}
+		
+		if (batch != null) {
+			executor.sendBatch(new GridTaskResultBatch(jobId, batch), session);
+		}
+	}
+	
+	/**
+	 * Sends any results of the current batch immediately.
+	 */
+	public void flush() {
+		
+		List<GridTaskResultImpl> batch = null;
+		
+		synchronized (this) {
+			if (results.isEmpty()) return;
+			batch = drain();
+		}
+		
+		executor.sendBatch(new GridTaskResultBatch(jobId, batch), null);
+	}
+	
+	/**
+	 * Removes and returns the results of the current batch, and
+	 * cancels the linger timer.
+	 * 
+	 * @return results of batch
+	 */
+	private List<GridTaskResultImpl> drain() {
+		
+		if (lingerTask != null) {
+			lingerTask.cancel();
+			lingerTask = null;
+		}
+		
+		List<GridTaskResultImpl> batch = results;
+		results = new ArrayList<GridTaskResultImpl>();
+		bytes = 0;
+		
+		return batch;
+	}
+	
+	/**
+	 * Schedules a linger flush for the current batch.
+	 */
+	private void scheduleLinger() {
+		
+		lingerTask = new TimerTask() {
+			@Override
+			public void run() {
+				try {
+					flush();
+				} catch (RuntimeException e) {
+					log.warn("[ResultBatcher] Unable to send Result Batch", e);
+				}
+			}
+		};
+		
+		timer.schedule(lingerTask, Math.max(1, maxLinger));
+	}
+	
+	/**
+	 * Returns the serialized size of the given result, or -1
+	 * if it cannot be determined.
+	 * 
+	 * @param result {@code GridTaskResult}
+	 * @return size in bytes
+	 */
+	private long sizeOf(GridTaskResultImpl result) {
+		try {
+			return IOSupport.serializeToBytes(result).length;
+		} catch (IOException e) {
+			log.debug("[ResultBatcher] Unable to determine size of result", e);
+			return -1;
+		}
+	}
+}
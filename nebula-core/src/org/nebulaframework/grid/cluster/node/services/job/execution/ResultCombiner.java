@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.node.services.job.execution;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.UUID;
+
+import javax.jms.Session;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.nebulaframework.core.job.deploy.GridJobInfo;
+import org.nebulaframework.core.job.splitaggregate.Combiner;
+import org.nebulaframework.core.task.GridTaskPartialResult;
+import org.nebulaframework.core.task.GridTaskResultImpl;
+import org.nebulaframework.util.io.IOSupport;
+
+/**
+ * {@code ResultCombiner} partially aggregates the {@code GridTaskResult}s of
+ * a {@code GridJob} executed by a {@link TaskExecutor}, using the {@link Combiner}
+ * of the {@code GridJob}, for {@code GridJob}s which have enabled result combining.
+ * <p>
+ * The partial aggregation state is sent as a {@link GridTaskPartialResult}, 
+ * along with the TaskIds it covers, once the first result of the state has
+ * waited for the combine interval, or when the owner {@code TaskExecutor} 
+ * runs out of {@code GridTask}s, whichever occurs first. Only successful
+ * results are combined.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see GridJobInfo#isCombining()
+ * @see GridTaskPartialResult
+ */
+public class ResultCombiner {
+
+	private static Log log = LogFactory.getLog(ResultCombiner.class);
+	
+	// Shared Timer for Interval Flushes
+	private static Timer timer = new Timer("ResultCombiner-Interval", true);
+	
+	private TaskExecutor executor;
+	private String jobId;
+	private UUID workerId;
+	private long interval;
+	
+	private Combiner<Serializable, Serializable> combiner;
+	
+	private Serializable state;
+	private int[] taskIds = new int[16];
+	private int count = 0;
+	private long executionTime = 0;
+	private TimerTask intervalTask;
+	
+	/**
+	 * Constructs a {@code ResultCombiner} for the given {@code TaskExecutor},
+	 * using the combining settings of the given {@code GridJobInfo}.
+	 * 
+	 * @param executor owner {@code TaskExecutor}
+	 * @param jobInfo {@code GridJobInfo} of {@code GridJob}
+	 * @param workerId Node Id of owner {@code GridNode}
+	 * @param classLoader {@code ClassLoader} of {@code GridJob}
+	 * @throws IOException if {@code Combiner} cannot be de-serialized
+	 * @throws ClassNotFoundException if {@code Combiner} class cannot be found
+	 */
+	@SuppressWarnings("unchecked")
+	ResultCombiner(TaskExecutor executor, GridJobInfo jobInfo, UUID workerId,
+			ClassLoader classLoader) throws IOException, ClassNotFoundException {
+		super();
+		this.executor = executor;
+		this.jobId = jobInfo.getJobId();
+		this.workerId = workerId;
+		this.interval = jobInfo.getCombineInterval();
+		this.combiner = (Combiner<Serializable, Serializable>) IOSupport
+			.deserializeFromBytes(jobInfo.getCombiner(), classLoader);
+		
+		log.debug("[ResultCombiner] Combining Results of Job {" + jobId + "} | Interval : " + interval);
+	}
+	
+	/**
+	 * Accumulates the given (successful) result into the partial 
+	 * aggregation state.
+	 * 
+	 * @param result {@code GridTaskResult} to combine
+	 * @return {@code false} if the result could not be combined, in 
+	 * which case it should be sent as it is
+	 */
+	public synchronized boolean add(GridTaskResultImpl result) {
+		
+		try {
+			if (count == 0) {
+				state = combiner.initial();
+			}
+			state = combiner.accumulate(state, result.getResult());
+		} catch (RuntimeException e) {
+			log.warn("[ResultCombiner] Unable to combine Result of Task " + result.getTaskId(), e);
+			return false;
+		}
+		
+		// Record TaskId
+		if (count == taskIds.length) {
+			int[] expanded = new int[count * 2];
+			System.arraycopy(taskIds, 0, expanded, 0, count);
+			taskIds = expanded;
+		}
+		taskIds[count++] = result.getTaskId();
+		executionTime += result.getExecutionTime();
+		
+		// Start Interval Timer for first result
+		if (count == 1) {
+			scheduleInterval();
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Sends the current partial aggregation state immediately, if any.
+	 * 
+	 * @param session JMS {@code Session} of the invoking execution thread, 
+	 * or {@code null}
+	 */
+	public void flush(Session session) {
+		
+		GridTaskPartialResult partial = null;
+		
+		synchronized (this) {
+			if (count == 0) return;
+			
+			if (intervalTask != null) {
+				intervalTask.cancel();
+				intervalTask = null;
+			}
+			
+			int[] ids = new int[count];
+			System.arraycopy(taskIds, 0, ids, 0, count);
+			
+			partial = new GridTaskPartialResult(jobId, workerId, ids, state, executionTime);
+			
+			state = null;
+			count = 0;
+			executionTime = 0;
+		}
+		
+		executor.sendPartial(partial, session);
+	}
+	
+	/**
+	 * Schedules an interval flush for the current partial aggregation state.
+	 */
+	private void scheduleInterval() {
+		
+		intervalTask = new TimerTask() {
+			@Override
+			public void run() {
+				try {
+					flush(null);
+				} catch (RuntimeException e) {
+					log.warn("[ResultCombiner] Unable to send Partial Result", e);
+				}
+			}
+		};
+		
+		timer.schedule(intervalTask, Math.max(1, interval));
+	}
+}
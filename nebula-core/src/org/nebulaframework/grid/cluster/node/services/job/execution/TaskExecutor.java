@@ -14,28 +14,52 @@
 
 package org.nebulaframework.grid.cluster.node.services.job.execution;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.jms.Connection;
 import javax.jms.ConnectionFactory;
+import javax.jms.Destination;
 import javax.jms.JMSException;
 import javax.jms.Message;
-import javax.jms.MessageListener;
+import javax.jms.MessageProducer;
 import javax.jms.ObjectMessage;
+import javax.jms.Session;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.nebulaframework.core.job.GridJob;
 import org.nebulaframework.core.job.archive.GridArchive;
+import org.nebulaframework.core.job.deploy.GridJobInfo;
+import org.nebulaframework.core.task.CancellationToken;
 import org.nebulaframework.core.task.ExecutionTimeAware;
 import org.nebulaframework.core.task.GridTask;
+import org.nebulaframework.core.task.GridTaskPack;
+import org.nebulaframework.core.task.GridTaskPartialResult;
+import org.nebulaframework.core.task.GridTaskResultBatch;
 import org.nebulaframework.core.task.GridTaskResultImpl;
+import org.nebulaframework.core.task.TimeoutAware;
 import org.nebulaframework.deployment.classloading.GridArchiveClassLoader;
 import org.nebulaframework.deployment.classloading.GridNodeClassLoader;
 import org.nebulaframework.deployment.classloading.service.ClassLoadingService;
+import org.nebulaframework.grid.GridExecutionException;
+import org.nebulaframework.grid.GridTaskPreemptedException;
 import org.nebulaframework.grid.cluster.node.GridNode;
 import org.nebulaframework.grid.service.event.ServiceEventsSupport;
 import org.nebulaframework.grid.service.event.ServiceHookCallback;
@@ -44,6 +68,8 @@ import org.nebulaframework.grid.service.message.ServiceMessageType;
 import org.nebulaframework.util.jms.JMSNamingSupport;
 import org.springframework.jms.core.JmsTemplate;
 import org.springframework.jms.listener.DefaultMessageListenerContainer;
+import org.springframework.jms.listener.SessionAwareMessageListener;
+import org.springframework.jms.support.JmsUtils;
 
 /**
  * {@code TaskExecutor} executes {@code GridTask}s for a given {@code GridJob}.
@@ -75,6 +101,62 @@ import org.springframework.jms.listener.DefaultMessageListenerContainer;
  * the {@code GridTask} as the {@code contextClassLoader} so that it will be
  * utilized for necessary Class Loading during the execution of Task.
  * <p>
+ * Task execution is pipelined. A single consumer thread receives
+ * {@code GridTask}s from the {@code TaskQueue} and de-serializes them ahead of
+ * execution, into a bounded look-ahead buffer of {@code prefetch} tasks. A
+ * number of execution threads (by default, one per available processor) takes
+ * {@code GridTask}s from the buffer and executes them, so that a single
+ * {@code GridNode} is able to utilize all processors of the host, without
+ * waiting for the broker round trip or de-serialization between tasks. The
+ * number of execution threads scales down when the {@code TaskQueue} drains,
+ * and may be changed while executing, using
+ * {@link #setConcurrency(String, int)}, which allows several
+ * {@code TaskExecutor}s to share the processors of a {@code GridNode}. Each
+ * execution thread owns its own JMS {@code Session} to write results, created
+ * on a JMS {@code Connection} shared by the execution threads.
+ * <p>
+ * A message of the {@code TaskQueue} may carry a range of {@code GridTask}s
+ * ({@link GridTaskPack}), in which case the {@code GridTask}s are unpacked
+ * into the look-ahead buffer, and executed individually.
+ * <p>
+ * If result batching is enabled for the {@code GridJob}, results are
+ * coalesced by a {@link ResultBatcher} and sent as 
+ * {@link GridTaskResultBatch}es. If result combining is enabled, successful
+ * results are partially aggregated by a {@link ResultCombiner} and sent as
+ * {@link GridTaskPartialResult}s, whenever the look-ahead buffer runs empty
+ * or the combine interval elapses.
+ * <p>
+ * Prefetched {@code GridTask}s are discarded if the {@code GridJob} ends or
+ * is canceled. As any {@code GridTask} which is not returned by a node is
+ * re-enqueued by the {@code ClusterManager}, prefetched tasks lost due to a
+ * node failure will be executed elsewhere.
+ * <p>
+ * A {@code GridTask} may be cancelled individually ({@link #cancelTask(String, int)}),
+ * if it was executed speculatively on more than one {@code GridNode}, and a
+ * result has been received by the {@code ClusterManager}. A cancelled
+ * {@code GridTask} is removed from the look-ahead buffer, its execution 
+ * thread is interrupted if in execution, its result is discarded, and it
+ * is discarded if received afterwards.
+ * <p>
+ * Each {@code GridTask} in execution is given a {@link CancellationToken},
+ * bound to its execution thread. All {@code GridTask}s in execution are
+ * cancelled when the {@code TaskExecutor} is stopped (on {@code JOB_END} or
+ * {@code JOB_CANCEL}), and a {@code GridTask} is cancelled when it exceeds
+ * the task timeout of the {@code GridJob} ({@link GridJobInfo#getTaskTimeout()}),
+ * or its own timeout ({@link TimeoutAware}), in which case it is reported as
+ * failed. A {@code GridTask} which neither blocks nor polls its 
+ * {@code CancellationToken} runs until it returns.
+ * <p>
+ * If the execution slot of the {@code GridJob} is preempted by a 
+ * {@code GridJob} of higher priority ({@link #preemptForJob(String)}), the 
+ * {@code TaskExecutor} is stopped, and the prefetched {@code GridTask}s and
+ * {@code GridTask}s in execution are reported as preempted 
+ * ({@link GridTaskPreemptedException}), so that they are re-enqueued by the
+ * {@code ClusterManager} without delay. {@code GridTask}s which were 
+ * received from the {@code TaskQueue}, but not prefetched due to the 
+ * preemption (such as the rest of a {@code GridTaskPack}), are reported 
+ * as well.
+ * <p>
  * Also, {@code TaskExecutor} keeps a reference of each active
  * {@code TaskExecutor} instance, against the {@code JobId} so that the
  * allocated resources could be released at the end of Job Execution.
@@ -95,42 +177,79 @@ public class TaskExecutor {
 
 	public static final int CONSECUTIVE_FAILURES_THRESHOLD = 3;
 	
+	// Idle time of an execution thread before released (ms)
+	private static final long IDLE_THREAD_TIMEOUT = 1000;
+	
+	// Shared Timer for Task Timeouts
+	private static Timer watchdog = new Timer("TaskExecutor-Watchdog", true);
+	
+	// Timeouts cancelled since last purge of Timer
+	private static AtomicInteger cancelledTimeouts = new AtomicInteger(0);
+	private static final int PURGE_THRESHOLD = 1000;
+	
 	// Active TaskExecutors, against JobId
 	private static Map<String, TaskExecutor> executors = new HashMap<String, TaskExecutor>();
 
 	private GridNode node; // Owner Node
 	private ConnectionFactory connectionFactory;
+	private Connection connection; // Shared by Execution Threads
+	private Object connectionMutex = new Object(); // Guards connection
 	private String jobId; // JobID of Instance
 	private JmsTemplate jmsTemplate; // Sending Results
 	private DefaultMessageListenerContainer container; // Receiving Tasks
+	private ResultBatcher batcher; // Batching Results, if enabled
+	private ResultCombiner combiner; // Combining Results, if enabled
+	private ClassLoader classLoader; // Job ClassLoader
+	
+	private int concurrency; // Max # of Execution Threads
+	private int threads = 0; // # of Execution Threads
+	private int idleThreads = 0; // # of Idle Execution Threads
+	
+	private BlockingQueue<PrefetchedTask> prefetched; // Look-ahead Buffer
+	private Map<Integer, CancellationToken> running = new HashMap<Integer, CancellationToken>(); // Tasks in Execution
+	private long taskTimeout; // Task Timeout (ms), zero for none
+	private Set<Integer> cancelled = Collections.synchronizedSet(new HashSet<Integer>()); // Cancelled Tasks
+	private volatile boolean stopped = false;
+	private volatile boolean preempted = false; // Execution Slot Preempted
 
-	private int taskCount = 0; // # of Tasks Executed
+	private AtomicInteger taskCount = new AtomicInteger(0); // # of Tasks Executed
 	
-	private int consecFails = 0;
+	private AtomicInteger consecFails = new AtomicInteger(0);
 	
 
 	/**
-	 * Constructs a TaskExecutor for given {@code JobId}, Owner
+	 * Constructs a TaskExecutor for given {@code GridJob}, Owner
 	 * {@code GridNode} and JMS {@code ConnectionFactory}.
 	 * <p>
 	 * Note that the constructor is <b>private</b>. Thus, no external
 	 * instantiation is allowed.
 	 * 
-	 * @param jobId
-	 *            JobId of {@code GridJob}
+	 * @param jobInfo
+	 *            {@code GridJobInfo} of {@code GridJob}
 	 * @param node
 	 *            {@code GridNode} owner
 	 * @param connectionFactory
 	 *            JMS {@code ConnectionFactory}
+	 * @param concurrency
+	 *            number of concurrent execution threads
+	 * @param prefetch
+	 *            number of {@code GridTask}s to prefetch
 	 */
-	private TaskExecutor(String jobId, GridNode node,
-			ConnectionFactory connectionFactory) {
+	private TaskExecutor(GridJobInfo jobInfo, GridNode node,
+			ConnectionFactory connectionFactory, int concurrency, int prefetch) {
 
 		super();
 
 		this.node = node;
 		this.connectionFactory = connectionFactory;
-		this.jobId = jobId;
+		this.jobId = jobInfo.getJobId();
+		this.concurrency = concurrency;
+		this.prefetched = new LinkedBlockingQueue<PrefetchedTask>(Math.max(1, prefetch));
+		this.taskTimeout = jobInfo.getTaskTimeout();
+		
+		if (jobInfo.isResultBatching()) {
+			this.batcher = new ResultBatcher(this, jobInfo);
+		}
 
 		log.debug("[TaskExecutor] Created for Job {" + jobId + "}");
 	}
@@ -152,29 +271,35 @@ public class TaskExecutor {
 	 * Furthermore, it also configures and attaches the proper custom
 	 * {@code ClassLoader} to the thread context.
 	 * 
-	 * @param jobId
-	 *            JobId of {@code GridJob}
+	 * @param jobInfo
+	 *            {@code GridJobInfo} of {@code GridJob}, including 
+	 *            {@code GridArchive}, if exists
 	 * @param node
 	 *            Owner {@code GridNode}
 	 * @param connectionFactory
 	 *            JMS {@code ConnectionFactory}
 	 * @param classLoadingService
 	 *            Proxy for {@code ClusterManager}s {@code ClassLoadingService}
-	 * @param archive
-	 *            {@code GridArchive}, if exists, or {@code null} otherwise.
+	 * @param concurrency
+	 *            number of concurrent task execution threads
+	 * @param prefetch
+	 *            number of {@code GridTask}s to prefetch
 	 */
-	public static void startForJob(final String jobId, final GridNode node,
+	public static void startForJob(final GridJobInfo jobInfo, final GridNode node,
 			final ConnectionFactory connectionFactory,
 			final ClassLoadingService classLoadingService,
-			final GridArchive archive) {
+			final int concurrency, final int prefetch) {
 
+		final String jobId = jobInfo.getJobId();
+		final GridArchive archive = jobInfo.getArchive();
+		
 		new Thread(new Runnable() {
 
 			public void run() {
 
 				// Create Executor
-				TaskExecutor executor = new TaskExecutor(jobId, node,
-						connectionFactory);
+				TaskExecutor executor = new TaskExecutor(jobInfo, node,
+						connectionFactory, concurrency, prefetch);
 				
 				// Put to active executors Map
 				synchronized (TaskExecutor.class) {
@@ -186,6 +311,11 @@ public class TaskExecutor {
 				// Set ClassLoader as Thread Context Class Loader
 				Thread.currentThread().setContextClassLoader(loader);
 				
+				// Create Combiner, if enabled (requires Job ClassLoader)
+				if (jobInfo.isCombining()) {
+					executor.initializeCombiner(jobInfo, loader);
+				}
+				
 				// Start Executor
 				executor.start(loader);
 				
@@ -213,6 +343,75 @@ public class TaskExecutor {
 		}).start();
 	}
 
+	/**
+	 * Changes the maximum number of concurrent task execution threads
+	 * of the {@code TaskExecutor} for the given {@code GridJob}. Has no
+	 * effect if no such {@code TaskExecutor} exists.
+	 * 
+	 * @param jobId
+	 *            {@code GridJob} Identifier
+	 * @param concurrency
+	 *            number of threads
+	 */
+	public static void setConcurrency(String jobId, int concurrency) {
+		
+		TaskExecutor executor = null;
+		
+		synchronized (TaskExecutor.class) {
+			executor = TaskExecutor.executors.get(jobId);
+		}
+		
+		if (executor != null) {
+			executor.setConcurrency(concurrency);
+		}
+	}
+	
+	/**
+	 * Returns the number of {@code GridTask}s which are in execution or
+	 * prefetched by the {@code TaskExecutor} for the given {@code GridJob},
+	 * or zero if no such {@code TaskExecutor} exists.
+	 * 
+	 * @param jobId
+	 *            {@code GridJob} Identifier
+	 * @return number of runnable {@code GridTask}s
+	 */
+	public static int getBacklog(String jobId) {
+		
+		TaskExecutor executor = null;
+		
+		synchronized (TaskExecutor.class) {
+			executor = TaskExecutor.executors.get(jobId);
+		}
+		
+		if (executor != null) {
+			return executor.getBacklog();
+		}
+		return 0;
+	}
+	
+	/**
+	 * Cancels the given {@code GridTask} of the {@code TaskExecutor} for 
+	 * the given {@code GridJob}. Has no effect if no such {@code TaskExecutor}
+	 * exists.
+	 * 
+	 * @param jobId
+	 *            {@code GridJob} Identifier
+	 * @param taskId
+	 *            TaskId of {@code GridTask}
+	 */
+	public static void cancelTask(String jobId, int taskId) {
+		
+		TaskExecutor executor = null;
+		
+		synchronized (TaskExecutor.class) {
+			executor = TaskExecutor.executors.get(jobId);
+		}
+		
+		if (executor != null) {
+			executor.cancelTask(taskId);
+		}
+	}
+	
 	/**
 	 * Creates the ClassLoader to be used for remote class loading.
 	 * 
@@ -283,6 +482,34 @@ public class TaskExecutor {
 		}
 	}
 
+	/**
+	 * Stops the {@code TaskExecutor} for the given {@code GridJob}, as its
+	 * execution slot has been preempted, and reports the abandoned 
+	 * {@code GridTask}s to the {@code ClusterManager}.
+	 * 
+	 * @param jobId
+	 *            {@code GridJob} Identifier
+	 * @throws IllegalArgumentException
+	 *             if no {@code TaskExecutor} exists for the {@code GridJob}
+	 */
+	public static void preemptForJob(final String jobId) throws IllegalArgumentException {
+		
+		TaskExecutor executor = null;
+		
+		synchronized (TaskExecutor.class) {
+			executor = TaskExecutor.executors.get(jobId);
+		}
+		
+		if (executor == null) {
+			throw new IllegalArgumentException(
+					"No TaskExecutor found for JobId " + jobId);
+		}
+		
+		List<Integer> abandoned = executor.abandonTasks();
+		stopForJob(jobId);
+		executor.reportPreempted(abandoned);
+	}
+	
 	/**
 	 * Starts execution of this {@code TaskExecutor} instance. Initializes the
 	 * ResultQueue writing facilities ({@code JmsTemplate}) and
@@ -292,32 +519,91 @@ public class TaskExecutor {
 	 */
 	protected void start(ClassLoader loader) {
 
+		this.classLoader = loader;
+		
 		// Create Local Listeners for ResultQueue and TaskQueue
 		// (Order is important)
 		initializeResultQueueWriter(); // First
 		initializeTaskQueueListener(); // Second
 		
-		log.debug("[TaskExecutor] Started Job {" + jobId + "}");
+		log.debug("[TaskExecutor] Started Job {" + jobId + "} | Threads : " + concurrency);
+	}
+
+	/**
+	 * Creates the {@link ResultCombiner} of this {@code TaskExecutor}. If
+	 * the {@code Combiner} of the {@code GridJob} cannot be de-serialized,
+	 * results are sent without combining.
+	 * 
+	 * @param jobInfo {@code GridJobInfo} of {@code GridJob}
+	 * @param loader {@code ClassLoader} of {@code GridJob}
+	 */
+	private void initializeCombiner(GridJobInfo jobInfo, ClassLoader loader) {
+		try {
+			this.combiner = new ResultCombiner(this, jobInfo, node.getId(), loader);
+		} catch (IOException e) {
+			log.warn("[TaskExecutor] Unable to create Combiner, combining disabled", e);
+		} catch (ClassNotFoundException e) {
+			log.warn("[TaskExecutor] Unable to create Combiner, combining disabled", e);
+		}
 	}
 
 	/**
 	 * Stops execution of this {@code TaskExecutor} instance. The
 	 * {@code MessageListenerContainer} will be shutdown, thus stopping
-	 * listening to new Tasks, and the {@code TaskExecutor} instance will be
-	 * removed from the active {@code TaskExecutor}s Map.
+	 * listening to new Tasks, any prefetched Tasks will be discarded, 
+	 * any Tasks in execution will be cancelled, and the {@code TaskExecutor}
+	 * instance will be removed from the active {@code TaskExecutor}s Map.
 	 */
 	protected void stop() {
 		
+		// Discard Prefetched Tasks
+		stopped = true;
+		List<PrefetchedTask> drained = new ArrayList<PrefetchedTask>();
+		prefetched.drainTo(drained);
+		
+		List<Integer> taskIds = new ArrayList<Integer>();
+		for (PrefetchedTask prefetchedTask : drained) {
+			taskIds.add(prefetchedTask.getTaskId());
+		}
+		discarded(taskIds);
+		
+		// Cancel Tasks in Execution
+		synchronized (running) {
+			for (CancellationToken token : running.values()) {
+				token.cancel();
+			}
+		}
+		
+		// Send Pending Results
+		if (batcher != null) {
+			try {
+				batcher.flush();
+			} catch (RuntimeException e) {
+				log.debug("[TaskExecutor] Unable to send pending results", e);
+			}
+		}
+		
+		// Send Pending Partial Result
+		if (combiner != null) {
+			try {
+				combiner.flush(null);
+			} catch (RuntimeException e) {
+				log.debug("[TaskExecutor] Unable to send pending partial result", e);
+			}
+		}
+		
 		// Shutdown Container
 		new Thread(new Runnable() {
 
 			@Override
 			public void run() {
 				
-				if (container == null) return;
+				if (container != null) {
+					container.shutdown();
+					container = null;
+				}
 				
-				container.shutdown();
-				container = null;
+				closeConnection();
 			}
 			
 		}).start();
@@ -331,18 +617,178 @@ public class TaskExecutor {
 				
 				// Log
 				log.debug("[TaskExecutor] Stopped Job {" + jobId + "}");
-				log.debug("[TaskExecutor] Stats : Executed " + taskCount + " tasks");
+				log.debug("[TaskExecutor] Stats : Executed " + taskCount.get() + " tasks");
 			}
 		}
 
 
 	}
 
+	/**
+	 * Stops taking {@code GridTask}s from the look-ahead buffer, and
+	 * returns the TaskIds of the prefetched {@code GridTask}s, and of
+	 * the {@code GridTask}s in execution.
+	 * 
+	 * @return TaskIds of abandoned {@code GridTask}s
+	 */
+	private List<Integer> abandonTasks() {
+		
+		preempted = true;
+		stopped = true;
+		
+		List<Integer> taskIds = new ArrayList<Integer>();
+		List<PrefetchedTask> drained = new ArrayList<PrefetchedTask>();
+		prefetched.drainTo(drained);
+		
+		for (PrefetchedTask prefetchedTask : drained) {
+			taskIds.add(prefetchedTask.getTaskId());
+		}
+		
+		synchronized (running) {
+			taskIds.addAll(running.keySet());
+		}
+		
+		return taskIds;
+	}
+	
+	/**
+	 * Invoked for {@code GridTask}s which were received from the
+	 * {@code TaskQueue}, but discarded as the {@code TaskExecutor} is
+	 * stopped. If the execution slot was preempted, the {@code GridTask}s 
+	 * are reported as preempted, as no other node received them.
+	 * 
+	 * @param taskIds TaskIds of discarded {@code GridTask}s
+	 */
+	private void discarded(List<Integer> taskIds) {
+		if (preempted && !taskIds.isEmpty()) {
+			reportPreempted(taskIds);
+		}
+	}
+	
+	/**
+	 * Reports the given {@code GridTask}s as preempted to the 
+	 * {@code ResultQueue}, so that they are re-enqueued. Any
+	 * {@code GridTask} which fails to be reported is re-enqueued
+	 * by the {@code ClusterManager} once timed out.
+	 * 
+	 * @param taskIds TaskIds of abandoned {@code GridTask}s
+	 */
+	private void reportPreempted(List<Integer> taskIds) {
+		
+		log.debug("[TaskExecutor] Preempted Job {" + jobId + "} | Abandoned " 
+		          + taskIds.size() + " tasks");
+		
+		for (int taskId : taskIds) {
+			
+			GridTaskResultImpl taskResult = new GridTaskResultImpl(jobId, taskId, node.getId());
+			taskResult.setException(new GridTaskPreemptedException("Execution Slot Preempted"));
+			
+			try {
+				send(taskResult, null);
+			} catch (Exception e) {
+				log.warn("[TaskExecutor] Unable to report Preempted Task " + taskId, e);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Changes the maximum number of concurrent task execution threads 
+	 * of this {@code TaskExecutor}. Surplus threads are released once
+	 * they finish their current {@code GridTask}.
+	 * 
+	 * @param concurrency number of threads
+	 */
+	protected synchronized void setConcurrency(int concurrency) {
+		
+		if (concurrency < 1 || this.concurrency == concurrency) return;
+		
+		this.concurrency = concurrency;
+		log.debug("[TaskExecutor] Job {" + jobId + "} | Threads : " + concurrency);
+	}
+	
+	/**
+	 * Creates a JMS {@code Session} for an execution thread, on the
+	 * {@code Connection} shared by the execution threads, which is
+	 * created on first use. Returns {@code null} if stopped.
+	 * 
+	 * @return JMS {@code Session}, or {@code null} if stopped
+	 * @throws JMSException if unable to create
+	 */
+	private Session createSession() throws JMSException {
+		
+		synchronized (connectionMutex) {
+			
+			if (stopped) return null;
+			
+			if (connection == null) {
+				connection = connectionFactory.createConnection();
+			}
+			return connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+		}
+	}
+	
+	/**
+	 * Closes the {@code Connection} shared by the execution threads,
+	 * along with any remaining {@code Session}s.
+	 */
+	private void closeConnection() {
+		synchronized (connectionMutex) {
+			JmsUtils.closeConnection(connection);
+			connection = null;
+		}
+	}
+	
+	/**
+	 * Returns the number of {@code GridTask}s in execution or in the
+	 * look-ahead buffer of this {@code TaskExecutor}.
+	 * 
+	 * @return number of runnable {@code GridTask}s
+	 */
+	protected synchronized int getBacklog() {
+		return (threads - idleThreads) + prefetched.size();
+	}
+	
+	/**
+	 * Cancels the given {@code GridTask}. The {@code GridTask} is removed
+	 * from the look-ahead buffer, its execution thread is interrupted if 
+	 * in execution, and it will be discarded if received afterwards.
+	 * 
+	 * @param taskId TaskId of {@code GridTask}
+	 */
+	protected void cancelTask(int taskId) {
+		
+		cancelled.add(taskId);
+		
+		// Remove from Look-ahead Buffer
+		Iterator<PrefetchedTask> it = prefetched.iterator();
+		while (it.hasNext()) {
+			if (it.next().getTaskId() == taskId) {
+				it.remove();
+			}
+		}
+		
+		// Interrupt, if in execution
+		synchronized (running) {
+			CancellationToken token = running.get(taskId);
+			if (token != null) {
+				token.cancel();
+			}
+		}
+		
+		log.debug("[TaskExecutor] Cancelled Task " + taskId);
+	}
+	
 	/**
 	 * Initializes the {@code TaskQueueListener} for this {@code TaskExecutor}.
 	 * Creates a {@link TaskMessageListener} and attaches it to a
 	 * {@code DefaultMessageListenerContainer}, which in turn listens to the
-	 * {@code TaskQueue}.
+	 * {@code TaskQueue} using a single consumer thread, which fills the 
+	 * look-ahead buffer.
+	 * <p>
+	 * The consumer thread is created by the container from the calling
+	 * thread, and thus inherits the job's context {@code ClassLoader},
+	 * which is required for de-serialization.
 	 * <p>
 	 * <b>Precondition :</b>Requires that
 	 * {@link #initializeResultQueueWriter()} is invoked before
@@ -353,7 +799,7 @@ public class TaskExecutor {
 	 *             If {@link #initializeResultQueueWriter()} is not invoked
 	 *             before invoking this method (precondition failure).
 	 */
-	private void initializeTaskQueueListener() throws IllegalStateException {
+	private synchronized void initializeTaskQueueListener() throws IllegalStateException {
 
 		// Check if initializeResultQueueWriter() has been invoked
 		if (this.jmsTemplate == null) {
@@ -384,20 +830,22 @@ public class TaskExecutor {
 	/**
 	 * Executes the given {@code GridTask} and returns the result to
 	 * {@code ResultQueue}, wrapped in a {@code GridTaskResult}. This method
-	 * is invoked by the {@link TaskMessageListener} when a {@code GridTask}
-	 * arrives.
+	 * is invoked by the execution threads ({@link TaskExecutionWorker}) for 
+	 * each {@code GridTask} taken from the look-ahead buffer.
 	 * 
 	 * @param taskId
 	 *            Task Id of {@code GridTask}
 	 * @param task
 	 *            {@code GridTask} to be executed
+	 * @param session
+	 *            JMS {@code Session} of the execution thread
 	 */
-	protected void onTask(int taskId, GridTask<? extends Serializable> task) {
+	protected void onTask(int taskId, GridTask<? extends Serializable> task, Session session) {
 
 		log.debug("[TaskExecutor] Start Runing Task " + taskId);
 
 		// Update Stats
-		taskCount++;
+		taskCount.incrementAndGet();
 
 		// Create Result Wrapper
 		GridTaskResultImpl taskResult = new GridTaskResultImpl(jobId, taskId,
@@ -406,6 +854,18 @@ public class TaskExecutor {
 		// Execution Start Time
 		long start = System.currentTimeMillis();
 		
+		// Bind Cancellation Token
+		CancellationToken token = new CancellationToken(Thread.currentThread());
+		CancellationToken.bind(token);
+		
+		synchronized (running) {
+			running.put(taskId, token);
+		}
+		
+		// Cancel on Timeout, if any
+		long timeout = (task instanceof TimeoutAware) ? ((TimeoutAware) task).getTimeout() : taskTimeout;
+		TimerTask timeoutTask = scheduleTimeout(token, timeout);
+		
 		try {
 			
 			// Execute Task
@@ -415,36 +875,35 @@ public class TaskExecutor {
 			taskResult.setResult(result);
 			
 			// Reset Consecutive Failure Count
-			consecFails = 0;
+			consecFails.set(0);
 			
 		} catch (Exception e) {
-
-			log.warn("[TaskExecutor] Exception while executing GridTask", e);
-
-			// Exception, send exception details instead of result
-			taskResult.setException(e);
-
-			// Update consecutive failures, and check for limit
-			consecFails++;
 			
-			// Fire Local Event
-			ServiceMessage message = new ServiceMessage(jobId, ServiceMessageType.LOCAL_TASKFAILED);
-			ServiceEventsSupport.fireServiceEvent(message);
-			
-			if (consecFails > CONSECUTIVE_FAILURES_THRESHOLD) {
-				try {
-					
-					// If we are above consecutive failure threshold,
-					// slow down result production
-					Thread.sleep(500 * (consecFails - CONSECUTIVE_FAILURES_THRESHOLD));
-					
-				} catch (InterruptedException ie) {
-					log.warn("Interrupted", ie);
-				}
+			if (token.isTimedOut()) {
+				// Report Timeout as Failure
+				taskFailed(taskResult, new GridExecutionException("GridTask timed out after " 
+				                                                  + timeout + " ms", e));
+			} else if (token.isCancelled()) {
+				// Cancelled, result will be discarded
+				log.debug("[TaskExecutor] Cancelled Task " + taskId + " in execution");
+			} else {
+				taskFailed(taskResult, e);
 			}
 			
 		} finally {
 			
+			if (timeoutTask != null) {
+				cancelTimeout(timeoutTask);
+			}
+			
+			synchronized (running) {
+				running.remove(taskId);
+			}
+			
+			// Clear interruption of cancellation, if any
+			CancellationToken.unbind();
+			Thread.interrupted();
+			
 			// Set Execution Time
 			long duration = System.currentTimeMillis() - start;
 			taskResult.setExecutionTime(duration);
@@ -456,8 +915,20 @@ public class TaskExecutor {
 			
 			log.debug("[TaskExecutor] Sending Result for Task " + taskId + " | Duration : " + duration);
 			
-			// Send the result to ResultQueue
-			sendResult(taskResult);
+			// Send the result to ResultQueue (or combine / batch it)
+			if (cancelled.contains(taskId) || (token.isCancelled() && !token.isTimedOut())) {
+				log.debug("[TaskExecutor] Discarded Result of Cancelled Task " + taskId);
+			} else if (combiner != null && taskResult.isComplete() && combiner.add(taskResult)) {
+				log.debug("[TaskExecutor] Combined Result for Task " + taskId);
+			} else if (batcher != null) {
+				batcher.add(taskResult, session);
+			} else {
+				try {
+					send(taskResult, session);
+				} catch (JMSException e) {
+					log.warn("[TaskExecutor] Unable to send Result for Task " + taskId, e);
+				}
+			}
 			
 			// Fire Local Event
 			ServiceMessage doneMessage = new ServiceMessage(jobId, ServiceMessageType.LOCAL_TASKDONE);
@@ -472,42 +943,392 @@ public class TaskExecutor {
 	}
 
 	/**
-	 * Sends the given {@code GridTaskResult} to {@code ResultQueue}.
+	 * Updates the given result wrapper with the given exception, and 
+	 * slows down result production if the number of consecutive failures
+	 * is above {@link #CONSECUTIVE_FAILURES_THRESHOLD}.
+	 * 
+	 * @param taskResult result wrapper
+	 * @param e exception of execution
+	 */
+	private void taskFailed(GridTaskResultImpl taskResult, Exception e) {
+		
+		log.warn("[TaskExecutor] Exception while executing GridTask", e);
+
+		// Exception, send exception details instead of result
+		taskResult.setException(e);
+
+		// Update consecutive failures, and check for limit
+		int fails = consecFails.incrementAndGet();
+		
+		// Fire Local Event
+		ServiceMessage message = new ServiceMessage(jobId, ServiceMessageType.LOCAL_TASKFAILED);
+		ServiceEventsSupport.fireServiceEvent(message);
+		
+		if (fails > CONSECUTIVE_FAILURES_THRESHOLD) {
+			try {
+				
+				// If we are above consecutive failure threshold,
+				// slow down result production
+				Thread.sleep(500 * (fails - CONSECUTIVE_FAILURES_THRESHOLD));
+				
+			} catch (InterruptedException ie) {
+				log.warn("Interrupted", ie);
+			}
+		}
+	}
+	
+	/**
+	 * Schedules the cancellation of the given {@code CancellationToken}
+	 * once the given timeout elapses.
+	 * 
+	 * @param token {@code CancellationToken} of {@code GridTask}
+	 * @param timeout timeout in milliseconds, zero for none
+	 * @return {@code TimerTask} of timeout, or {@code null} if no timeout
+	 */
+	private TimerTask scheduleTimeout(final CancellationToken token, long timeout) {
+		
+		if (timeout <= 0) return null;
+		
+		TimerTask timeoutTask = new TimerTask() {
+
+			@Override
+			public void run() {
+				token.timeout();
+			}
+		};
+		
+		watchdog.schedule(timeoutTask, timeout);
+		return timeoutTask;
+	}
+	
+	/**
+	 * Cancels the given timeout, and purges cancelled timeouts
+	 * from the {@code Timer} periodically.
+	 * 
+	 * @param timeoutTask {@code TimerTask} of timeout
+	 */
+	private void cancelTimeout(TimerTask timeoutTask) {
+		
+		timeoutTask.cancel();
+		
+		if (cancelledTimeouts.incrementAndGet() >= PURGE_THRESHOLD) {
+			cancelledTimeouts.set(0);
+			watchdog.purge();
+		}
+	}
+	
+	/**
+	 * Sends the given {@code GridTaskResultBatch} to {@code ResultQueue}.
+	 * This method is invoked by the {@link ResultBatcher} of this 
+	 * {@code TaskExecutor}.
+	 * 
+	 * @param batch
+	 *            Batch of Results
+	 * @param session
+	 *            JMS {@code Session} of the execution thread, or {@code null}
+	 */
+	void sendBatch(GridTaskResultBatch batch, Session session) {
+		
+		log.debug("[TaskExecutor] Sending Result Batch | Size : " + batch.size());
+		
+		try {
+			send(batch, session);
+		} catch (JMSException e) {
+			log.warn("[TaskExecutor] Unable to send Result Batch", e);
+		}
+	}
+	
+	/**
+	 * Sends the given {@code GridTaskPartialResult} to {@code ResultQueue}.
+	 * This method is invoked by the {@link ResultCombiner} of this 
+	 * {@code TaskExecutor}.
+	 * 
+	 * @param partial
+	 *            Partial Result
+	 * @param session
+	 *            JMS {@code Session} of the execution thread, or {@code null}
+	 */
+	void sendPartial(GridTaskPartialResult partial, Session session) {
+		
+		log.debug("[TaskExecutor] Sending Partial Result | Tasks : " + partial.size());
+		
+		try {
+			send(partial, session);
+		} catch (JMSException e) {
+			log.warn("[TaskExecutor] Unable to send Partial Result", e);
+		}
+	}
+	
+	/**
+	 * Sends the given result object ({@code GridTaskResult}, 
+	 * {@code GridTaskResultBatch} or {@code GridTaskPartialResult}) 
+	 * to {@code ResultQueue}, using
+	 * the given {@code Session} of the execution thread. The message conversion
+	 * and destination resolution strategies of the {@code JmsTemplate} are
+	 * reused, but no shared {@code Session} is involved, which allows
+	 * execution threads to send results concurrently.
+	 * <p>
+	 * If no {@code Session} is given, the {@code JmsTemplate} is used.
 	 * 
 	 * @param result
-	 *            Result of {@code GridTask}
+	 *            Result object
+	 * @param session
+	 *            JMS {@code Session} of the execution thread, or {@code null}
+	 * @throws JMSException if sending fails
 	 */
-	private void sendResult(GridTaskResultImpl result) {
-		jmsTemplate.convertAndSend(result);
+	private void send(Serializable result, Session session) throws JMSException {
+		
+		if (session == null) {
+			jmsTemplate.convertAndSend(result);
+			return;
+		}
+		
+		Destination destination = jmsTemplate.getDestinationResolver()
+			.resolveDestinationName(session, jmsTemplate.getDefaultDestinationName(), false);
+		
+		MessageProducer producer = session.createProducer(destination);
+		try {
+			producer.send(jmsTemplate.getMessageConverter().toMessage(result, session));
+		} finally {
+			JmsUtils.closeMessageProducer(producer);
+		}
 	}
 
 	/**
-	 * Internal class which implements {@code javax.jms.MessageListener}
+	 * Places the given de-serialized {@code GridTask} into the look-ahead 
+	 * buffer, blocking while the buffer is full, and starts a new execution 
+	 * thread if no idle execution thread is available and the number of 
+	 * threads is below {@code concurrency}. If the {@code TaskExecutor} is
+	 * stopped meanwhile, the {@code GridTask} is discarded.
+	 * 
+	 * @param taskId
+	 *            Task Id of {@code GridTask}
+	 * @param task
+	 *            {@code GridTask} to be executed
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	protected void prefetch(int taskId, GridTask<?> task) throws InterruptedException {
+		
+		// Discard, if cancelled
+		if (cancelled.contains(taskId)) {
+			log.debug("[TaskExecutor] Discarded Cancelled Task " + taskId);
+			return;
+		}
+		
+		PrefetchedTask prefetchedTask = new PrefetchedTask(taskId, task);
+		
+		// Wait for space in buffer, unless stopped
+		while (!prefetched.offer(prefetchedTask, IDLE_THREAD_TIMEOUT, TimeUnit.MILLISECONDS)) {
+			if (stopped) {
+				discarded(Collections.singletonList(taskId));
+				return;
+			}
+		}
+		
+		// Stopped meanwhile, take back unless taken already
+		if (stopped) {
+			if (prefetched.remove(prefetchedTask)) {
+				discarded(Collections.singletonList(taskId));
+			}
+			return;
+		}
+		
+		startThreadIfNeeded();
+	}
+	
+	/**
+	 * Starts a new execution thread, if there are prefetched {@code GridTask}s,
+	 * but no idle execution thread is available and the number of threads is 
+	 * below {@code concurrency}.
+	 */
+	private synchronized void startThreadIfNeeded() {
+		
+		if (stopped || prefetched.isEmpty()) return;
+		
+		if (idleThreads == 0 && threads < concurrency) {
+			threads++;
+			Thread thread = new Thread(new TaskExecutionWorker(), "TaskExecutor-" + jobId + "-" + threads);
+			thread.setContextClassLoader(classLoader);
+			thread.start();
+		}
+	}
+
+	/**
+	 * Internal class which implements {@code SessionAwareMessageListener}
 	 * interface to act as the message listener for Task Messages. Provides
 	 * mechanisms to extract the {@code taskId} from the incoming Message.
 	 * <p>
-	 * Once meta-data have been extracted, the {@code onMessage} method will
-	 * then invoke {@code onTask} method of the respective {@code TaskExecutor}
-	 * for the {@code GridJob}, thus executing the Task.
+	 * Once meta-data have been extracted and the {@code GridTask} has been
+	 * de-serialized, the {@code onMessage} method places it in the look-ahead
+	 * buffer of the {@code TaskExecutor}, to be picked by an execution thread.
+	 * The {@code GridTask}s of a {@code GridTaskPack} are placed in the 
+	 * buffer one by one, against their individual Task Ids.
+	 * As the buffer is bounded, the listener blocks while the buffer is full,
+	 * which keeps the remaining {@code GridTask}s available at the 
+	 * {@code TaskQueue} for other nodes.
+	 * <p>
+	 * The message is consumed even if the {@code TaskExecutor} is stopped,
+	 * in which case the {@code GridTask}s which were not prefetched are
+	 * discarded (refer to {@link TaskExecutor#discarded(List)}).
 	 * 
 	 * @author Yohan Liyanage
 	 * @version 1.0
 	 */
-	private class TaskMessageListener implements MessageListener {
+	private class TaskMessageListener implements SessionAwareMessageListener {
 
-		public void onMessage(Message message) {
+		public void onMessage(Message message, Session session) {
+			
+			int taskId = 0;
+			int count = 0; // # of Tasks in Message
+			int next = 0;  // # of Tasks handed to Buffer
+			
 			try {
-				int taskId = message.getIntProperty("taskId");
-				GridTask<?> task = (GridTask<?>) ((ObjectMessage) message)
-						.getObject();
-
-				// Do Execution
-				TaskExecutor.this.onTask(taskId, task);
+				taskId = message.getIntProperty("taskId");
+				count = message.propertyExists("taskCount") ? message.getIntProperty("taskCount") : 1;
+				
+				// Discard, if stopped
+				if (stopped) return;
+				
+				Serializable payload = ((ObjectMessage) message).getObject();
+				
+				if (payload instanceof GridTaskPack) {
+					
+					// Unpack, and place each Task in Buffer
+					for (GridTask<?> task : ((GridTaskPack) payload).getTasks()) {
+						if (stopped) return;
+						TaskExecutor.this.prefetch(taskId + next, task);
+						next++;
+					}
+				} else {
+					// Place in Buffer
+					TaskExecutor.this.prefetch(taskId, (GridTask<?>) payload);
+					next++;
+				}
+				
 			} catch (JMSException e) {
 				log.warn("[TaskExecutor-Listener] Exception while reading TaskMessage",
 								e);
+			} catch (InterruptedException e) {
+				log.warn("[TaskExecutor-Listener] Interrupted while prefetching", e);
+			} finally {
+				
+				// Tasks consumed, but not prefetched
+				if (stopped && next < count) {
+					List<Integer> taskIds = new ArrayList<Integer>();
+					for (int i = next; i < count; i++) {
+						taskIds.add(taskId + i);
+					}
+					discarded(taskIds);
+				}
 			}
 		}
 	}
+	
+	/**
+	 * Internal class which represents an execution thread of the 
+	 * {@code TaskExecutor}. Each execution thread owns a JMS {@code Session}
+	 * which is used to write results, and takes {@code GridTask}s from the 
+	 * look-ahead buffer until the {@code TaskExecutor} is stopped, it remains 
+	 * idle for {@link TaskExecutor#IDLE_THREAD_TIMEOUT}, or the number of 
+	 * threads exceeds {@code concurrency}.
+	 * 
+	 * @author Yohan Liyanage
+	 * @version 1.0
+	 */
+	private class TaskExecutionWorker implements Runnable {
+
+		public void run() {
+			
+			Session session = null;
+			
+			try {
+				
+				// Create Session for Results
+				try {
+					session = createSession();
+				} catch (JMSException e) {
+					log.debug("[TaskExecutor] Unable to create Session, using JmsTemplate", e);
+				}
+				
+				while (!stopped) {
+					
+					PrefetchedTask prefetchedTask = null;
+					
+					synchronized (TaskExecutor.this) {
+						// Release Surplus Thread
+						if (threads > concurrency) break;
+						idleThreads++;
+					}
+					
+					try {
+						prefetchedTask = prefetched.poll(IDLE_THREAD_TIMEOUT, TimeUnit.MILLISECONDS);
+					} finally {
+						synchronized (TaskExecutor.this) {
+							idleThreads--;
+						}
+					}
+					
+					// Release Idle Thread
+					if (prefetchedTask == null) break;
+					
+					// Discard, if stopped
+					if (stopped) {
+						discarded(Collections.singletonList(prefetchedTask.getTaskId()));
+						break;
+					}
+					
+					// Discard, if cancelled meanwhile
+					if (cancelled.contains(prefetchedTask.getTaskId())) continue;
+					
+					onTask(prefetchedTask.getTaskId(), prefetchedTask.getTask(), session);
+					
+					// Send Partial Result, if no more Tasks to combine
+					if (combiner != null && prefetched.isEmpty()) {
+						combiner.flush(session);
+					}
+				}
+				
+			} catch (InterruptedException e) {
+				log.debug("[TaskExecutor] Execution Thread Interrupted");
+			} finally {
+				
+				synchronized (TaskExecutor.this) {
+					threads--;
+					
+					// Replace, if a Task arrived meanwhile
+					startThreadIfNeeded();
+				}
+				
+				JmsUtils.closeSession(session);
+			}
+		}
+	}
+	
+	/**
+	 * Internal class which holds a de-serialized {@code GridTask}
+	 * in the look-ahead buffer, along with its {@code taskId}.
+	 * 
+	 * @author Yohan Liyanage
+	 * @version 1.0
+	 */
+	private static class PrefetchedTask {
+		
+		private int taskId;
+		private GridTask<? extends Serializable> task;
+		
+		public PrefetchedTask(int taskId, GridTask<? extends Serializable> task) {
+			super();
+			this.taskId = taskId;
+			this.task = task;
+		}
+
+		public int getTaskId() {
+			return taskId;
+		}
+
+		public GridTask<? extends Serializable> getTask() {
+			return task;
+		}
+	}
 
 }
@@ -18,6 +18,7 @@ import java.io.Serializable;
 import java.util.Map;
 
 import org.nebulaframework.core.job.GridJob;
+import org.nebulaframework.core.job.JobPriority;
 import org.nebulaframework.core.job.ResultCallback;
 import org.nebulaframework.core.job.archive.GridArchive;
 import org.nebulaframework.core.job.exceptions.GridJobRejectionException;
@@ -114,6 +115,28 @@ public interface JobSubmissionService {
 	 */
 	public GridJobFuture submitJob(GridJob<?,?> job, ResultCallback callback) throws GridJobRejectionException;
 	
+	/**
+	 * Submits the given {@code GridJob} to the Grid through {@code ClusterManager}, 
+	 * with the given scheduling priority and deadline, and attaches the given 
+	 * {@code ResultCallback} to obtain intermediate results, if given. 
+	 * The given priority and deadline override the {@code Priority} and 
+	 * {@code Deadline} annotations of the {@code GridJob} class.
+	 * If successful, returns a (proxy) reference to {@code GridJobFuture} for the Job.
+	 * If failed to submit, it throws an unchecked {@code GridJobRejectionException}.
+	 * 
+	 * @param job {@code GridJob} Job to submit
+	 * @param callback {@code ResultCallback} object, or {@code null}
+	 * @param priority scheduling priority
+	 * @param deadline time within which the Job is expected to finish, 
+	 * in milliseconds after submission, or zero for no deadline
+	 * 
+	 * @return {@code GridJobFuture} proxy
+	 * 
+	 * @throws GridJobRejectionException if submission failed
+	 */
+	public GridJobFuture submitJob(GridJob<?,?> job, ResultCallback callback, 
+			JobPriority priority, long deadline) throws GridJobRejectionException;
+	
 	/**
 	 * Submits the given {@code GridArchive} to the Grid through {@code ClusterManager}.
 	 * <p>
@@ -19,13 +19,13 @@ import java.io.Serializable;
 import java.lang.reflect.Constructor;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 import javax.jms.ConnectionFactory;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.nebulaframework.core.job.GridJob;
+import org.nebulaframework.core.job.JobPriority;
 import org.nebulaframework.core.job.ResultCallback;
 import org.nebulaframework.core.job.annotations.AnnotatedJobSupport;
 import org.nebulaframework.core.job.archive.GridArchive;
@@ -36,7 +36,10 @@ import org.nebulaframework.core.job.future.InternalGridJobFuture;
 import org.nebulaframework.core.job.splitaggregate.SplitAggregateGridJob;
 import org.nebulaframework.grid.cluster.manager.services.facade.ClusterManagerServicesFacade;
 import org.nebulaframework.grid.cluster.node.GridNode;
-import org.nebulaframework.util.hashing.SHA1Generator;
+import org.nebulaframework.grid.service.event.ServiceEventsSupport;
+import org.nebulaframework.grid.service.event.ServiceHookCallback;
+import org.nebulaframework.grid.service.message.ServiceMessage;
+import org.nebulaframework.grid.service.message.ServiceMessageType;
 import org.nebulaframework.util.io.IOSupport;
 import org.nebulaframework.util.jms.JMSNamingSupport;
 import org.nebulaframework.util.jms.JMSRemotingSupport;
@@ -64,9 +67,18 @@ import org.springframework.beans.factory.annotation.Required;
 public class JobSubmissionServiceImpl implements JobSubmissionService {
 
 	private static Log log = LogFactory.getLog(JobSubmissionServiceImpl.class);
+	
+	/**
+	 * Maximum time (ms) to wait for a reply from the remote 
+	 * {@code GridJobFuture} service.
+	 */
+	public static final long FUTURE_TIMEOUT = 30000L;
 
 	private GridNode node;
 	private ConnectionFactory connectionFactory;
+	
+	// Routes results to callbacks of submitted jobs
+	private ResultCallbackRouter callbackRouter;
 
 	/**
 	 * Constructs a {@code  JobSubmissionServiceImpl} for the given
@@ -119,6 +131,16 @@ public class JobSubmissionServiceImpl implements JobSubmissionService {
 		return submitJob(job, null, callback);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public GridJobFuture submitJob(GridJob<?, ?> job, ResultCallback callback,
+			JobPriority priority, long deadline) throws GridJobRejectionException {
+
+		// Delegate to overloaded version
+		return submitJob(job, null, callback, priority, deadline);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -238,12 +260,38 @@ public class JobSubmissionServiceImpl implements JobSubmissionService {
 	 */
 	protected GridJobFuture submitJob(GridJob<?, ?> job, GridArchive archive,
 			ResultCallback callback) throws GridJobRejectionException {
+		return submitJob(job, archive, callback, null, 0);
+	}
+	
+	/**
+	 * Internal method which submits the Job through Services Facade reference,
+	 * with the given scheduling priority and deadline. If submitted successfully, 
+	 * it creates a proxy to the {@link GridJobFuture} for the submitted Job, 
+	 * and returns it. The actual {@code GridJobFuture} resides in the 
+	 * {@code ClusterManager}.
+	 * 
+	 * @param job
+	 *            GridJob to be submitted
+	 * @param archive
+	 *            Archive, if applicable. This may be <tt>null</tt>
+	 * @param callback
+	 *            ResultCallback, if applicable. This may be <tt>null</tt>
+	 * @param priority
+	 *            Scheduling priority. If <tt>null</tt>, the annotated priority is used
+	 * @param deadline
+	 *            Deadline (ms after submission). If zero, the annotated deadline is used
+	 * 
+	 * @return GridJobFuture for the submitted job
+	 */
+	protected GridJobFuture submitJob(GridJob<?, ?> job, GridArchive archive,
+			ResultCallback callback, JobPriority priority, long deadline) 
+			throws GridJobRejectionException {
 
 		
 		String resultCallbackQueue = null;
 		if (callback != null) {
-			// Expose Callback as Service, and Create Proxy
-			resultCallbackQueue = exposeCallback(callback);
+			// Register Callback to receive results
+			resultCallbackQueue = getCallbackRouter().register(callback);
 		}
 
 		
@@ -264,40 +312,45 @@ public class JobSubmissionServiceImpl implements JobSubmissionService {
 				.getServicesFacade()
 				.submitJob(this.node.getId(), 
 				           job.getClass().getName(), 
-				           serialData, archive, resultCallbackQueue);
+				           serialData, archive, resultCallbackQueue,
+				           priority, deadline);
 
 
 		log.info("[JobSubmission] Submitted GridJob " + job.getClass().getName());
 		
+		// Remove Callback route, once finished
+		if (resultCallbackQueue != null) {
+			final String queueName = resultCallbackQueue;
+			ServiceEventsSupport.addServiceHook(new ServiceHookCallback() {
+				public void onServiceEvent(ServiceMessage message) {
+					getCallbackRouter().unregisterLater(queueName);
+				}
+			}, jobId, ServiceMessageType.JOB_CANCEL, ServiceMessageType.JOB_END);
+		}
+		
 		// Create local proxy to interface remote service
 		String queueName = JMSNamingSupport.getFutureQueueName(jobId);
 		InternalGridJobFuture future = JMSRemotingSupport
-				.createProxy(connectionFactory, queueName, InternalGridJobFuture.class);
+				.createProxy(connectionFactory, queueName, InternalGridJobFuture.class, FUTURE_TIMEOUT);
 
 		// Return Proxy
-		return new GridJobFutureClientProxy(future);
+		return new GridJobFutureClientProxy(future, getCallbackRouter());
 	}
 
 	/**
-	 * Exposes the given {@code ResultCallback} object to be a
-	 * JMS Remote service using Spring JMS Remoting API.
+	 * Returns the {@code ResultCallbackRouter} which receives the
+	 * results of {@code GridJob}s submitted by this {@code GridNode},
+	 * creating it on first use.
 	 * 
-	 * @param callback {@code ResultCallback} to be remote enabled
-	 * 
-	 * @return JMS Queue Name to be used for communications
+	 * @return ResultCallbackRouter
 	 */
-	private String exposeCallback(ResultCallback callback) {
-
-		// Generate QueueName [nebula.job.callback.<SHA1>]
-		String queueName = "nebula.job.callback."
-				+ SHA1Generator.generate("" + this.node.getClusterId()
-						+ this.node.getId() + UUID.randomUUID());
-
-		ConnectionFactory cf = GridNode.getInstance().getConnectionFactory();
-		JMSRemotingSupport.createService(cf, queueName, callback,
-											ResultCallback.class);
-
-		return queueName;
+	protected synchronized ResultCallbackRouter getCallbackRouter() {
+		if (callbackRouter == null) {
+			callbackRouter = new ResultCallbackRouter(this.node.getClusterId(), 
+			                                          this.node.getId(), 
+			                                          this.node.getConnectionFactory());
+		}
+		return callbackRouter;
 	}
 
 
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.node.services.job.submission;
+
+import java.io.Serializable;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.nebulaframework.core.job.BatchResultCallback;
+import org.nebulaframework.core.job.ResultCallback;
+import org.springframework.util.Assert;
+
+/**
+ * Receives batches of intermediate results, sent by the 
+ * {@code ClusterManager} to the callback queue of a submitted 
+ * {@code GridJob}, and passes them to the {@link ResultCallback} 
+ * given at submission.
+ * <p>
+ * If the {@code ResultCallback} is a {@link BatchResultCallback}, 
+ * each batch is passed to {@link BatchResultCallback#onResults(List)}.
+ * Otherwise, {@link ResultCallback#onResult(Serializable)} is invoked
+ * for each result.
+ * <p>
+ * Batches are handed to the {@code ResultCallback} on a shared pool of
+ * threads, one batch at a time and in arrival order, so that a slow 
+ * {@code ResultCallback} delays only its own results.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see JobSubmissionServiceImpl
+ */
+public class ResultCallbackListener {
+
+	private static Log log = LogFactory.getLog(ResultCallbackListener.class);
+	
+	// Shared Executor for all Callbacks
+	private static ExecutorService executor = Executors.newCachedThreadPool();
+	
+	private ResultCallback callback;
+	
+	// Batches pending for the callback, in arrival order
+	private LinkedList<Runnable> pending = new LinkedList<Runnable>();
+	private boolean running = false;
+	
+	/**
+	 * Constructs a {@code ResultCallbackListener} for
+	 * the given {@code ResultCallback}.
+	 * 
+	 * @param callback {@code ResultCallback}
+	 */
+	public ResultCallbackListener(ResultCallback callback) {
+		super();
+		Assert.notNull(callback);
+		this.callback = callback;
+	}
+
+	/**
+	 * Invoked by the {@link ResultCallbackRouter} when a batch
+	 * of results arrives to the callback queue. The batch is
+	 * passed to the {@code ResultCallback} asynchronously, after
+	 * any earlier batches, and the given {@code Runnable} (if any)
+	 * is run once it has been processed.
+	 * 
+	 * @param results batch of results
+	 * @param processed invoked once processed (can be {@code null})
+	 */
+	public void dispatch(final List<Serializable> results, final Runnable processed) {
+		
+		Runnable task = new Runnable() {
+			public void run() {
+				onResults(results);
+				if (processed != null) processed.run();
+			}
+		};
+		
+		synchronized (pending) {
+			pending.add(task);
+			
+			// Already being processed
+			if (running) return;
+			running = true;
+		}
+		
+		executor.execute(new Runnable() {
+			public void run() {
+				processPending();
+			}
+		});
+	}
+	
+	/**
+	 * Processes pending batches in order, until none are left.
+	 */
+	private void processPending() {
+		while (true) {
+			Runnable task = null;
+			synchronized (pending) {
+				task = pending.poll();
+				if (task == null) {
+					running = false;
+					return;
+				}
+			}
+			
+			try {
+				task.run();
+			} catch (RuntimeException e) {
+				log.warn("[ResultCallback] Exception while processing Result Batch", e);
+			}
+		}
+	}
+
+	/**
+	 * Passes the given batch of results to the {@code ResultCallback}.
+	 * 
+	 * @param results batch of results
+	 */
+	private void onResults(List<Serializable> results) {
+		
+		if (callback instanceof BatchResultCallback) {
+			try {
+				((BatchResultCallback) callback).onResults(results);
+			} catch (RuntimeException e) {
+				log.warn("[ResultCallback] Exception in Callback", e);
+			}
+			return;
+		}
+		
+		for (Serializable result : results) {
+			try {
+				callback.onResult(result);
+			} catch (RuntimeException e) {
+				log.warn("[ResultCallback] Exception in Callback", e);
+			}
+		}
+	}
+}
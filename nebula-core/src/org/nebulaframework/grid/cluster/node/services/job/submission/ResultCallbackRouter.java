@@ -0,0 +1,238 @@
+/*
+ * Copyright (C) 2008 Yohan Liyanage. 
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); 
+ * you may not use this file except in compliance with the License. 
+ * You may obtain a copy of the License at 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the License is distributed on an "AS IS" BASIS, 
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. 
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package org.nebulaframework.grid.cluster.node.services.job.submission;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.jms.ConnectionFactory;
+import javax.jms.Destination;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+import javax.jms.ObjectMessage;
+import javax.jms.Queue;
+import javax.jms.Session;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.nebulaframework.core.job.ResultCallback;
+import org.nebulaframework.util.hashing.SHA1Generator;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.MessageCreator;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+import org.springframework.util.Assert;
+
+/**
+ * Routes result batches, sent by the {@code ClusterManager} to the 
+ * callback queues of a {@code GridNode}, to the registered 
+ * {@link ResultCallback}s.
+ * <p>
+ * Each registered {@code ResultCallback} is given its own JMS Queue,
+ * named under a common prefix for the {@code GridNode}. A single 
+ * Message Listener Container consumes all such queues through an
+ * ActiveMQ wildcard destination, and dispatches each batch by its
+ * destination name. This allows any number of {@code GridJob}s to 
+ * be tracked without creating a container (and its consumer threads)
+ * per {@code GridJob} or per callback.
+ * <p>
+ * Callbacks are not invoked on the consumer thread of the container.
+ * Each {@link ResultCallbackListener} processes its batches in order on
+ * a shared pool, so that a slow callback does not delay the results of
+ * other {@code GridJob}s.
+ * <p>
+ * Once a batch is processed (or discarded), it is acknowledged to the 
+ * {@code ClusterManager}, if the batch requests so through its 
+ * {@code JMSReplyTo}, which limits the number of batches sent ahead of
+ * the callback.
+ * 
+ * @author Yohan Liyanage
+ * @version 1.0
+ * 
+ * @see ResultCallbackListener
+ */
+public class ResultCallbackRouter implements MessageListener {
+
+	private static Log log = LogFactory.getLog(ResultCallbackRouter.class);
+	
+	// Time (ms) a route is kept after a job finishes, for in-flight batches
+	public static final long ROUTE_EXPIRY = 30000L;
+	
+	// Shared Timer for Route Expiry
+	private static Timer timer = new Timer("ResultCallbackRouter-Expiry", true);
+	
+	private String prefix;
+	private DefaultMessageListenerContainer container;
+	private JmsTemplate ackTemplate;
+	
+	// Routes : QueueName -> Listener
+	private Map<String, ResultCallbackListener> routes = new ConcurrentHashMap<String, ResultCallbackListener>();
+
+	/**
+	 * Constructs a {@code ResultCallbackRouter} for the callback 
+	 * queues of the given {@code GridNode}, and starts consuming them.
+	 * 
+	 * @param clusterId Cluster Id of {@code GridNode}
+	 * @param nodeId Id of {@code GridNode}
+	 * @param connectionFactory JMS {@code ConnectionFactory}
+	 */
+	public ResultCallbackRouter(UUID clusterId, UUID nodeId, ConnectionFactory connectionFactory) {
+		super();
+		
+		Assert.notNull(connectionFactory);
+		
+		// Queue Name Prefix [nebula.job.callback.<SHA1>.]
+		this.prefix = "nebula.job.callback." 
+						+ SHA1Generator.generate("" + clusterId + nodeId) + ".";
+		
+		container = new DefaultMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.setDestinationName(prefix + ">");
+		container.setMessageListener(this);
+		container.afterPropertiesSet();
+		
+		// One-way, Non-persistent Acknowledgements
+		ackTemplate = new JmsTemplate(connectionFactory);
+		ackTemplate.setExplicitQosEnabled(true);
+		ackTemplate.setDeliveryPersistent(false);
+		
+		log.debug("[ResultCallbackRouter] Listening on " + prefix + ">");
+	}
+
+	/**
+	 * Registers the given {@code ResultCallback}, and returns the
+	 * name of the JMS Queue on which results are to be sent to it.
+	 * 
+	 * @param callback {@code ResultCallback}
+	 * 
+	 * @return JMS Queue Name for the callback
+	 */
+	public String register(ResultCallback callback) {
+		
+		String queueName = prefix + SHA1Generator.generate("" + UUID.randomUUID());
+		routes.put(queueName, new ResultCallbackListener(callback));
+		
+		return queueName;
+	}
+	
+	/**
+	 * Removes the route for the given callback queue. Batches 
+	 * arriving afterwards on the queue are discarded.
+	 * 
+	 * @param queueName JMS Queue Name of callback
+	 */
+	public void unregister(String queueName) {
+		routes.remove(queueName);
+	}
+	
+	/**
+	 * Removes the route for the given callback queue after
+	 * {@link #ROUTE_EXPIRY}, allowing batches which are already 
+	 * in-flight to be delivered.
+	 * 
+	 * @param queueName JMS Queue Name of callback
+	 */
+	public void unregisterLater(final String queueName) {
+		timer.schedule(new TimerTask() {
+			public void run() {
+				unregister(queueName);
+			}
+		}, ROUTE_EXPIRY);
+	}
+	
+	/**
+	 * Returns the number of active routes.
+	 * 
+	 * @return number of routes
+	 */
+	public int getRouteCount() {
+		return routes.size();
+	}
+	
+	/**
+	 * Invoked by the Message Listener Container for each result
+	 * batch arriving on any of the callback queues.
+	 * 
+	 * @param message JMS Message
+	 */
+	@SuppressWarnings("unchecked")
+	public void onMessage(Message message) {
+		try {
+			String queueName = ((Queue) message.getJMSDestination()).getQueueName();
+			ResultCallbackListener listener = routes.get(queueName);
+			
+			// Acknowledgement, if requested
+			Runnable ack = null;
+			final Destination replyTo = message.getJMSReplyTo();
+			if (replyTo != null) {
+				final String jobId = message.getJMSCorrelationID();
+				final long batch = message.getLongProperty("batch");
+				ack = new Runnable() {
+					public void run() {
+						acknowledge(replyTo, jobId, batch);
+					}
+				};
+			}
+			
+			if (listener == null) {
+				log.debug("[ResultCallbackRouter] No route for " + queueName + ", discarding");
+				if (ack != null) ack.run();
+			}
+			else {
+				// Acknowledged once processed by callback
+				listener.dispatch((List<Serializable>) ((ObjectMessage) message).getObject(), ack);
+			}
+			
+		} catch (JMSException e) {
+			log.warn("[ResultCallbackRouter] Exception while reading Result Batch", e);
+		}
+	}
+	
+	/**
+	 * Acknowledges the given result batch to the {@code ClusterManager}.
+	 * 
+	 * @param replyTo acknowledgement destination of batch
+	 * @param jobId JobId of batch
+	 * @param batch sequence number of batch
+	 */
+	private void acknowledge(Destination replyTo, final String jobId, final long batch) {
+		
+		try {
+			ackTemplate.send(replyTo, new MessageCreator() {
+				public Message createMessage(Session session) throws JMSException {
+					Message ack = session.createMessage();
+					ack.setJMSCorrelationID(jobId);
+					ack.setLongProperty("batch", batch);
+					return ack;
+				}
+			});
+		} catch (Exception e) {
+			log.warn("[ResultCallbackRouter] Unable to acknowledge Result Batch", e);
+		}
+	}
+	
+	/**
+	 * Stops consuming callback queues, and removes all routes.
+	 */
+	public void shutdown() {
+		container.shutdown();
+		routes.clear();
+	}
+}
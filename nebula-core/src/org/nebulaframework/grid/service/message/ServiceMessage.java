@@ -85,15 +85,17 @@ public class ServiceMessage implements Serializable {
 
 	/**
 	 * Returns true if this message is a Job related message.
-	 * That is, message types {@code JOB_START}, {@code JOB_END} 
-	 * and {@code JOB_CANCEL}.
+	 * That is, message types {@code JOB_START}, {@code JOB_END}, 
+	 * {@code JOB_CANCEL}, {@code TASK_CANCEL} and {@code JOB_PREEMPT}.
 	 * 
 	 * @return if job related, {@code true}, otherwise {@code false}
 	 */
 	public boolean isJobMessage() {
 		return (type == ServiceMessageType.JOB_START)
 				|| (type == ServiceMessageType.JOB_END)
-				|| (type == ServiceMessageType.JOB_CANCEL);
+				|| (type == ServiceMessageType.JOB_CANCEL)
+				|| (type == ServiceMessageType.TASK_CANCEL)
+				|| (type == ServiceMessageType.JOB_PREEMPT);
 	}
 
 	/**
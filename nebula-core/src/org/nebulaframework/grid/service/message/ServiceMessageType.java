@@ -40,6 +40,19 @@ public enum ServiceMessageType {
 	 */
 	JOB_CANCEL,
 	
+	/**
+	 * Cancellation of a {@code GridTask} of an executing {@code GridJob},
+	 * of which a result has already been received.
+	 */
+	TASK_CANCEL,
+	
+	/**
+	 * Preemption of the execution slot of a {@code GridNode}, 
+	 * allocated for a {@code GridJob}, in favor of a {@code GridJob}
+	 * of higher priority.
+	 */
+	JOB_PREEMPT,
+	
 	/**
 	 * A {@code GridNode} has been banned from participating for a 
 	 * {@code GridJob}.
@@ -61,4 +61,14 @@ public class JMSNamingSupport {
 		return "nebula.grid.heartbeat.queue";
 	}
 	
+	/**
+	 * Returns the Name of the Queue on which submitters acknowledge
+	 * the result batches delivered to their {@code ResultCallback}s.
+	 * 
+	 * @return String Callback Acknowledgement Queue Name
+	 */
+	public static String getCallbackAckQueueName() {
+		return "nebula.grid.callback.ack.queue";
+	}
+	
 }
@@ -54,6 +54,36 @@ public class JMSRemotingSupport {
 		// Return Proxy
 		return (T) proxyFactory.getObject();
 	}
+	
+	/**
+	 * Creates and returns a proxy object which can be
+	 * used to consume a remote service, which fails
+	 * invocations which are not replied within the 
+	 * given timeout.
+	 * 
+	 * @param <T> Type of Service Interface
+	 * @param cf JMS Connection Factory
+	 * @param queueName Name of JMS Queue used for communication
+	 * @param serviceClass Service Interface Class
+	 * @param receiveTimeout Reply Timeout in milliseconds
+	 * @return Proxy for the remote service
+	 */
+	@SuppressWarnings("unchecked")
+	/* Ignore Unchecked Cast */
+	public static <T> T createProxy(ConnectionFactory cf, String queueName,
+			Class<T> serviceClass, long receiveTimeout) {
+		
+		// Create Proxy Factory Instance
+		JmsInvokerProxyFactoryBean proxyFactory = new JmsInvokerProxyFactoryBean();
+		proxyFactory.setConnectionFactory(cf);
+		proxyFactory.setQueueName(queueName);
+		proxyFactory.setServiceInterface(serviceClass);
+		proxyFactory.setReceiveTimeout(receiveTimeout);
+		proxyFactory.afterPropertiesSet();
+
+		// Return Proxy
+		return (T) proxyFactory.getObject();
+	}
 
 	/**
 	 * Remote enables a given object as a remote JMS Service
@@ -21,7 +21,7 @@ import org.nebulaframework.core.job.annotations.unbounded.UnboundedProcessingSet
 import org.nebulaframework.core.job.unbounded.UnboundedGridJob;
 import org.nebulaframework.core.task.GridTask;
 
-@UnboundedProcessingSettings(maxTasksInQueue=20,reductionFactor=500, stopOnNullTask=false, mutuallyExclusiveTasks=true)
+@UnboundedProcessingSettings(targetBacklog=20,targetLatency=5000, stopOnNullTask=false, mutuallyExclusiveTasks=true)
 public class BuddhabrotJob implements UnboundedGridJob<BuddhabrotResult> {
 
 	private static final long serialVersionUID = 8997815059325788647L;
@@ -14,6 +14,7 @@
 
 package test.mandelbrot;
 
+import org.nebulaframework.core.task.CancellationToken;
 import org.nebulaframework.core.task.GridTask;
 import org.nebulaframework.grid.GridExecutionException;
 
@@ -65,7 +66,7 @@ public class MandelbrotTask implements GridTask<MandelbrotResult> {
 		}
 	}
 
-	private MandelbrotResult processMandelbrot() {
+	private MandelbrotResult processMandelbrot() throws GridExecutionException {
 	       double x, y, xx, a, b;
 	        int end = start + lines;
 
@@ -83,6 +84,10 @@ public class MandelbrotTask implements GridTask<MandelbrotResult> {
 	        int k = 0;
 
 	        for (int i = start; i < end; i++, k++) {
+	            
+	            // Stop, if cancelled (once per scan line)
+	            CancellationToken.checkCancelled();
+	            
 	            a = x1;
 	            for (int j = 0; j < width; j++) {
 	                long n = 0;